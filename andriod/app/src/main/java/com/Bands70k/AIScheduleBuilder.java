@@ -2,7 +2,6 @@ package com.Bands70k;
 
 import android.util.Log;
 
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -35,6 +34,8 @@ public class AIScheduleBuilder {
     private Set<EventData> selectedMeetAndGreetSet = new HashSet<>();
     private Set<EventData> selectedUnofficialSet = new HashSet<>();
     private int candidateIndex = 0;
+    /** Candidates plus existing attended; chosen is always a subset, so overlap queries filter by chosen. */
+    private EventOverlapIndex overlapIndex = new EventOverlapIndex(new ArrayList<EventData>());
 
     public AIScheduleBuilder(boolean markAllMustMeetAndGreets, boolean markAllMustClinics,
                              int eventYear, Integer latestShowCutoffHalfHours) {
@@ -84,12 +85,10 @@ public class AIScheduleBuilder {
                 candidateIndex++;
             } else {
                 // Resolve Must conflict: remove overlapping (except <=15 min), add chosen
-                Set<EventData> newChosen = new HashSet<>();
-                for (EventData e : chosen) {
-                    if (e.equals(resolutionChosenEvent)) { newChosen.add(e); continue; }
-                    if (!overlaps(resolutionChosenEvent, e)) { newChosen.add(e); continue; }
-                    if (overlapDurationSeconds(resolutionChosenEvent, e) <= SHORT_OVERLAP_THRESHOLD_SECONDS) {
-                        newChosen.add(e);
+                Set<EventData> newChosen = new HashSet<>(chosen);
+                for (EventData e : chosenOverlapping(resolutionChosenEvent)) {
+                    if (overlapDurationSeconds(resolutionChosenEvent, e) > SHORT_OVERLAP_THRESHOLD_SECONDS) {
+                        newChosen.remove(e);
                     }
                 }
                 chosen = newChosen;
@@ -106,10 +105,7 @@ public class AIScheduleBuilder {
                 continue;
             }
 
-            List<EventData> overlapping = new ArrayList<>();
-            for (EventData c : chosen) {
-                if (overlaps(event, c)) overlapping.add(c);
-            }
+            List<EventData> overlapping = chosenOverlapping(event);
 
             // Diagnostic: log every candidate decision (especially when overlapping or band name of interest)
             boolean logThis = overlapping.size() > 0 || (event.bandName != null && event.bandName.contains("T.H.E.M"));
@@ -258,24 +254,27 @@ public class AIScheduleBuilder {
         candidates.sort((a, b) -> Double.compare(a.timeIndex, b.timeIndex));
         allCandidates = candidates;
         chosen = new HashSet<>(existingAttended);
+        List<EventData> indexed = new ArrayList<>(candidates);
+        indexed.addAll(existingAttended);
+        overlapIndex = new EventOverlapIndex(indexed);
         candidateIndex = 0;
 
         return nextStep(null, false);
     }
 
     /**
-     * Midnight-wrap: if an event's end is earlier than its start on the same calendar day
-     * (e.g. 23:15–00:00 or 23:45–01:30), treat end as next day (+24h) so overnight events overlap correctly.
+     * Chosen events overlapping {@code event} (same day, midnight-wrapped as in {@link EventOverlapIndex}),
+     * in start order. Events equal to {@code event} are left out.
      */
-    private boolean overlaps(EventData a, EventData b) {
-        String dayA = normalizedCalendarDay(a.date);
-        String dayB = normalizedCalendarDay(b.date);
-        if (dayA != null && dayB != null && !dayA.equals(dayB)) return false;
-        double endA = a.endTimeIndex;
-        if (a.timeIndex > endA) endA += 86400;
-        double endB = b.endTimeIndex;
-        if (b.timeIndex > endB) endB += 86400;
-        return a.timeIndex < endB && b.timeIndex < endA;
+    private List<EventData> chosenOverlapping(EventData event) {
+        List<EventData> overlapping = new ArrayList<>();
+        Set<EventData> seen = new HashSet<>();
+        for (EventData o : overlapIndex.overlapping(event)) {
+            // The index may hold equal copies (candidate and existing attended); chosen holds one.
+            if (o.equals(event) || !chosen.contains(o) || !seen.add(o)) continue;
+            overlapping.add(o);
+        }
+        return overlapping;
     }
 
     /**
@@ -302,20 +301,7 @@ public class AIScheduleBuilder {
     }
 
     private String normalizedCalendarDay(String dateString) {
-        if (dateString == null || dateString.isEmpty()) return null;
-        try {
-            SimpleDateFormat in = new SimpleDateFormat("M/d/yyyy", Locale.US);
-            java.util.Date d = in.parse(dateString);
-            if (d == null) {
-                in = new SimpleDateFormat("MM/dd/yyyy", Locale.US);
-                d = in.parse(dateString);
-            }
-            if (d != null) {
-                SimpleDateFormat out = new SimpleDateFormat("yyyy-MM-dd", Locale.US);
-                return out.format(d);
-            }
-        } catch (Exception ignored) { }
-        return dateString;
+        return EventOverlapIndex.normalizedDay(dateString);
     }
 
     private boolean isMeetAndGreet(EventData event) {
@@ -0,0 +1,101 @@
+package com.Bands70k;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Works out which local alerts to cancel and which to add, given the alerts already registered with the
+ * AlarmManager (the persisted request-code -> key map of {@link scheduleAlertHandler}) and the alerts the
+ * current schedule, ranks and preferences call for.
+ *
+ * Registered keys embed the minutes-before-show preference, so changing it changes every key and
+ * rebuilds everything, while marking one band Must See adds only that band's alerts.
+ */
+final class AlertPlanner {
+
+    /** Tells whether an alarm recorded as registered still exists (alarms do not survive a reboot). */
+    interface RegistrationCheck {
+        boolean isRegistered(int requestCode, String key);
+    }
+
+    /** An alert the current data calls for. */
+    static final class Alert {
+        final String key;
+        final String message;
+        final int delaySeconds;
+
+        Alert(String key, String message, int delaySeconds) {
+            this.key = key;
+            this.message = message;
+            this.delaySeconds = delaySeconds;
+        }
+    }
+
+    /** The delta to apply, plus the request codes that stay as they are. */
+    static final class Diff {
+        final Map<Integer, String> keep = new HashMap<>();
+        final Map<Integer, String> cancel = new HashMap<>();
+        final List<String> add = new ArrayList<>();
+
+        boolean isEmpty() {
+            return cancel.isEmpty() && add.isEmpty();
+        }
+    }
+
+    private AlertPlanner() {}
+
+    /**
+     * The key an alert is registered under: the stable event key plus the lead time, which decides both
+     * when the alarm fires and what its message says.
+     */
+    static String registeredKey(String eventKey, int minutesBefore) {
+        return eventKey + "|" + minutesBefore + "min";
+    }
+
+    /**
+     * @param registered Request code -> key of the alarms registered by earlier passes.
+     * @param desiredKeys Keys of the alerts that should be registered now, in scheduling order.
+     * @param check Used for alarms that would be kept; null trusts the persisted map.
+     */
+    static Diff diff(Map<Integer, String> registered, Collection<String> desiredKeys, RegistrationCheck check) {
+        Diff diff = new Diff();
+        Set<String> wanted = new HashSet<>(desiredKeys);
+        Set<String> kept = new HashSet<>();
+
+        for (Map.Entry<Integer, String> entry : registered.entrySet()) {
+            String key = entry.getValue();
+            if (!wanted.contains(key) || kept.contains(key)) {
+                // No longer wanted, or a duplicate registration of the same alert.
+                diff.cancel.put(entry.getKey(), key);
+            } else if (check != null && !check.isRegistered(entry.getKey(), key)) {
+                // Lost (reboot, force stop): forget the stale record and register it again.
+                diff.cancel.put(entry.getKey(), key);
+            } else {
+                diff.keep.put(entry.getKey(), key);
+                kept.add(key);
+            }
+        }
+
+        Set<String> added = new HashSet<>();
+        for (String key : desiredKeys) {
+            if (!kept.contains(key) && added.add(key)) {
+                diff.add.add(key);
+            }
+        }
+        return diff;
+    }
+
+    /** The lowest request code above {@code after} that no kept alarm uses. */
+    static int nextFreeRequestCode(int after, Set<Integer> inUse) {
+        int code = after + 1;
+        while (inUse.contains(code)) {
+            code++;
+        }
+        return code;
+    }
+}
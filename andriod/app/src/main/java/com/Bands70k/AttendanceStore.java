@@ -0,0 +1,417 @@
+package com.Bands70k;
+
+import android.util.Log;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamException;
+import java.io.RandomAccessFile;
+import java.io.UTFDataFormatException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * On-disk attendance map for one profile: a binary snapshot ("showsAttended.data") plus an append-only journal
+ * ("showsAttended.data.journal") with one small record per change.
+ *
+ * {@link #put} appends a single checksummed record instead of rewriting the whole map; {@link #sync} fsyncs the
+ * journal and is meant to be called once per batch of puts. Once the journal has {@link #COMPACT_AFTER_RECORDS}
+ * records it is folded into a new snapshot.
+ *
+ * Crash safety: snapshots are written to a temp file, fsynced and renamed into place. Snapshot and journal both
+ * carry an epoch, and a journal is only replayed over the snapshot with the same epoch, so a journal left behind by
+ * a crash during compaction or {@link #replaceAll} is ignored rather than replayed over newer data. Replay stops at
+ * the first torn or corrupt record (the tail of an interrupted append). Snapshots written by older versions with
+ * ObjectOutputStream are still read, and are replaced by the binary format on the next compaction.
+ *
+ * One instance per file ({@link #forFile}); all methods are synchronized.
+ */
+final class AttendanceStore {
+
+    private static final String TAG = "AttendanceStore";
+
+    static final String JOURNAL_SUFFIX = ".journal";
+
+    /** Journal records before the next put compacts into a new snapshot. */
+    static final int COMPACT_AFTER_RECORDS = 512;
+
+    private static final int SNAPSHOT_MAGIC = 0x37304B41; // "70KA"
+    private static final int JOURNAL_MAGIC = 0x37304B4A; // "70KJ"
+    private static final int VERSION = 1;
+    /** First two bytes of a java.io serialization stream (0xACED). */
+    private static final int JAVA_SERIALIZATION_MAGIC = 0xACED;
+    private static final int MAX_RECORD_BYTES = 64 * 1024;
+
+    private static final Map<String, AttendanceStore> stores = new HashMap<String, AttendanceStore>();
+
+    private final File snapshotFile;
+    private final File journalFile;
+
+    private Map<String, String> data;
+    private long epoch;
+    private int journalRecords;
+    private FileOutputStream journalOut;
+    private boolean journalDirty;
+
+    /**
+     * The snapshot exists but its contents cannot be parsed (unknown format, truncated body, bad legacy stream),
+     * as opposed to an I/O error reading it, which may go away on the next attempt.
+     */
+    static final class CorruptSnapshotException extends IOException {
+        CorruptSnapshotException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    private AttendanceStore(File snapshotFile) {
+        this.snapshotFile = snapshotFile;
+        this.journalFile = new File(snapshotFile.getPath() + JOURNAL_SUFFIX);
+    }
+
+    /** The store for {@code snapshotFile}, shared by every caller in the process. */
+    static AttendanceStore forFile(File snapshotFile) {
+        String key = snapshotFile.getAbsolutePath();
+        synchronized (stores) {
+            AttendanceStore store = stores.get(key);
+            if (store == null) {
+                store = new AttendanceStore(snapshotFile);
+                stores.put(key, store);
+            }
+            return store;
+        }
+    }
+
+    /** Drops the cached store for {@code snapshotFile}, e.g. after its profile directory was deleted. */
+    static void evict(File snapshotFile) {
+        AttendanceStore store;
+        synchronized (stores) {
+            store = stores.remove(snapshotFile.getAbsolutePath());
+        }
+        if (store != null) {
+            synchronized (store) {
+                store.closeJournal();
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of the stored map (snapshot with the journal replayed). Reads from disk once per process;
+     * after a failure the next call reads again.
+     * @throws CorruptSnapshotException If the snapshot exists but its contents are not a valid attendance file.
+     * @throws IOException If the snapshot or journal could not be read; the caller decides how to recover.
+     */
+    synchronized Map<String, String> load() throws IOException {
+        ensureLoaded();
+        return new HashMap<String, String>(data);
+    }
+
+    /** Single lookup without copying the map. Reads from disk once per process. */
+    synchronized String get(String key, String defaultValue) throws IOException {
+        ensureLoaded();
+        String value = data.get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    /** Records one change: an O(1) journal append, or a compaction every {@link #COMPACT_AFTER_RECORDS} changes. */
+    synchronized void put(String key, String value) throws IOException {
+        ensureLoaded();
+        data.put(key, value);
+        if (journalRecords >= COMPACT_AFTER_RECORDS) {
+            writeSnapshot(data);
+            return;
+        }
+        appendRecord(key, value);
+    }
+
+    /** Replaces the whole map (clear, restore, migration, profile import) with a new snapshot. */
+    synchronized void replaceAll(Map<String, String> newData) throws IOException {
+        Map<String, String> copy = new HashMap<String, String>(newData);
+        if (data == null) {
+            // Keep the epoch moving forward past any journal already on disk.
+            epoch = Math.max(readSnapshotEpoch(), readJournalEpoch());
+        }
+        writeSnapshot(copy);
+        data = copy;
+    }
+
+    /** Flushes journal appends to the storage device. Cheap when nothing was appended since the last call. */
+    synchronized void sync() {
+        if (!journalDirty || journalOut == null) {
+            return;
+        }
+        try {
+            journalOut.getFD().sync();
+            journalDirty = false;
+        } catch (IOException e) {
+            Log.w(TAG, "Journal fsync failed for " + snapshotFile.getName() + ": " + e.getMessage());
+        }
+    }
+
+    /** Number of records in the current journal (for logging and tests). */
+    synchronized int getJournalRecordCount() {
+        return journalRecords;
+    }
+
+    private void ensureLoaded() throws IOException {
+        if (data != null) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        Map<String, String> loaded = new HashMap<String, String>();
+        epoch = readSnapshot(loaded);
+        journalRecords = 0;
+        if (journalFile.exists()) {
+            long validLength = replayJournal(loaded);
+            if (validLength >= 0 && validLength < journalFile.length()) {
+                Log.w(TAG, "Dropping torn journal tail for " + snapshotFile.getName() + " at byte " + validLength);
+                truncate(journalFile, validLength);
+            } else if (validLength < 0) {
+                // Journal from another epoch (crash during compaction) or unreadable header: the snapshot wins.
+                journalFile.delete();
+            }
+        }
+        data = loaded;
+        Log.d(TAG, "Loaded " + loaded.size() + " entries for " + snapshotFile.getName() + " (" + journalRecords
+                + " journal records) in " + (System.currentTimeMillis() - start) + "ms");
+    }
+
+    /** Reads the snapshot into {@code into}. @return The snapshot's epoch (0 when missing or legacy). */
+    private long readSnapshot(Map<String, String> into) throws IOException {
+        if (!snapshotFile.exists() || snapshotFile.length() == 0) {
+            return 0;
+        }
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(snapshotFile)));
+        try {
+            return readSnapshotContents(in, into);
+        } catch (EOFException | UTFDataFormatException | ObjectStreamException e) {
+            throw new CorruptSnapshotException("Truncated or corrupt attendance file", e);
+        } finally {
+            in.close();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static long readSnapshotContents(DataInputStream in, Map<String, String> into) throws IOException {
+        in.mark(8);
+        int magic = in.readInt();
+        if ((magic >>> 16) == JAVA_SERIALIZATION_MAGIC) {
+            in.reset();
+            ObjectInputStream legacy = new ObjectInputStream(in);
+            try {
+                Map<String, String> map = (Map<String, String>) legacy.readObject();
+                if (map != null) {
+                    into.putAll(map);
+                }
+            } catch (ClassNotFoundException | ClassCastException e) {
+                throw new CorruptSnapshotException("Unreadable legacy attendance file", e);
+            }
+            return 0;
+        }
+        if (magic != SNAPSHOT_MAGIC || in.readInt() != VERSION) {
+            throw new CorruptSnapshotException("Unknown attendance file format", null);
+        }
+        long snapshotEpoch = in.readLong();
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            String key = in.readUTF();
+            into.put(key, in.readBoolean() ? in.readUTF() : null);
+        }
+        return snapshotEpoch;
+    }
+
+    private long readSnapshotEpoch() {
+        try {
+            return readSnapshot(new HashMap<String, String>());
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private long readJournalEpoch() {
+        if (!journalFile.exists()) {
+            return 0;
+        }
+        try {
+            DataInputStream in = new DataInputStream(new FileInputStream(journalFile));
+            try {
+                return in.readInt() == JOURNAL_MAGIC ? in.readLong() : 0;
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Applies journal records to {@code into}.
+     * @return Length of the valid prefix, or -1 if the journal belongs to another epoch or has no valid header.
+     */
+    private long replayJournal(Map<String, String> into) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(journalFile)));
+        try {
+            long valid;
+            try {
+                if (in.readInt() != JOURNAL_MAGIC || in.readLong() != epoch) {
+                    return -1;
+                }
+            } catch (EOFException e) {
+                return -1;
+            }
+            valid = 12;
+            CRC32 crc = new CRC32();
+            byte[] payload = new byte[256];
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                if (length <= 0 || length > MAX_RECORD_BYTES) {
+                    break;
+                }
+                if (payload.length < length) {
+                    payload = new byte[Math.max(length, payload.length * 2)];
+                }
+                int checksum;
+                try {
+                    in.readFully(payload, 0, length);
+                    checksum = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                crc.reset();
+                crc.update(payload, 0, length);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                DataInputStream record = new DataInputStream(new ByteArrayInputStream(payload, 0, length));
+                String key = record.readUTF();
+                into.put(key, record.readBoolean() ? record.readUTF() : null);
+                journalRecords++;
+                valid += 4 + length + 4;
+            }
+            return valid;
+        } finally {
+            in.close();
+        }
+    }
+
+    private void appendRecord(String key, String value) throws IOException {
+        if (journalOut == null) {
+            boolean fresh = !journalFile.exists() || journalFile.length() == 0;
+            File parent = journalFile.getParentFile();
+            if (parent != null && !parent.exists()) {
+                //noinspection ResultOfMethodCallIgnored
+                parent.mkdirs();
+            }
+            journalOut = new FileOutputStream(journalFile, true);
+            if (fresh) {
+                DataOutputStream header = new DataOutputStream(journalOut);
+                header.writeInt(JOURNAL_MAGIC);
+                header.writeLong(epoch);
+                header.flush();
+                journalRecords = 0;
+            }
+        }
+
+        ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream(64);
+        DataOutputStream payload = new DataOutputStream(payloadBytes);
+        payload.writeUTF(key);
+        payload.writeBoolean(value != null);
+        if (value != null) {
+            payload.writeUTF(value);
+        }
+        payload.flush();
+        byte[] body = payloadBytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(body, 0, body.length);
+
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream(body.length + 8);
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        record.writeInt(body.length);
+        record.write(body);
+        record.writeInt((int) crc.getValue());
+        record.flush();
+        // One write() per record so a crash leaves at most one torn record at the tail.
+        journalOut.write(recordBytes.toByteArray());
+        journalRecords++;
+        journalDirty = true;
+    }
+
+    /** Writes {@code map} as the snapshot for the next epoch and starts an empty journal. */
+    private void writeSnapshot(Map<String, String> map) throws IOException {
+        long nextEpoch = epoch + 1;
+        File parent = snapshotFile.getParentFile();
+        if (parent != null && !parent.exists()) {
+            //noinspection ResultOfMethodCallIgnored
+            parent.mkdirs();
+        }
+        File temp = new File(snapshotFile.getPath() + ".tmp");
+        FileOutputStream fos = new FileOutputStream(temp);
+        try {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos));
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(nextEpoch);
+            out.writeInt(map.size());
+            for (Map.Entry<String, String> entry : map.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeBoolean(entry.getValue() != null);
+                if (entry.getValue() != null) {
+                    out.writeUTF(entry.getValue());
+                }
+            }
+            out.flush();
+            fos.getFD().sync();
+        } finally {
+            fos.close();
+        }
+        if (!temp.renameTo(snapshotFile)) {
+            snapshotFile.delete();
+            if (!temp.renameTo(snapshotFile)) {
+                temp.delete();
+                throw new IOException("Could not move attendance snapshot into place");
+            }
+        }
+
+        // The old journal now belongs to the previous epoch and is ignored even if this delete is lost.
+        closeJournal();
+        journalFile.delete();
+        epoch = nextEpoch;
+        journalRecords = 0;
+        Log.d(TAG, "Compacted " + map.size() + " entries into " + snapshotFile.getName() + " (epoch " + epoch + ")");
+    }
+
+    private void closeJournal() {
+        if (journalOut != null) {
+            try {
+                journalOut.close();
+            } catch (IOException ignored) {
+            }
+            journalOut = null;
+        }
+        journalDirty = false;
+    }
+
+    private static void truncate(File file, long length) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.setLength(length);
+        } finally {
+            raf.close();
+        }
+    }
+}
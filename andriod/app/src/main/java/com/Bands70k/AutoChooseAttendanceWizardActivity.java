@@ -981,6 +981,8 @@ public class AutoChooseAttendanceWizardActivity extends AppCompatActivity {
         }
         showsAttended attendedHandle = staticVariables.attendedHandler;
         String yearStr = String.valueOf(eventYear);
+        // One overlap index for the whole write; the event list does not change while it runs
+        EventOverlapIndex eventsIndex = events != null ? new EventOverlapIndex(events) : null;
         android.util.Log.d("AIWizard", "writeAndFinish toMark.size()=" + toMark.size());
         for (EventData event : toMark) {
             if (event.startTime == null || event.startTime.isEmpty()) {
@@ -992,7 +994,7 @@ public class AutoChooseAttendanceWizardActivity extends AppCompatActivity {
             String index = event.bandName + ":" + event.location + ":" + event.startTime + ":" + et + ":" + yearStr;
             android.util.Log.d("AIWizard", "WRITE index=" + index);
             attendedHandle.addShowsAttendedWithStatus(event.bandName, event.location, event.startTime, et, yearStr,
-                    staticVariables.sawAllStatus, event.day, events);
+                    staticVariables.sawAllStatus, event.day, eventsIndex);
         }
         AIScheduleStorage.clearBackup(eventYear);
         AIScheduleStorage.setHasRunAI(eventYear, true);
@@ -72,6 +72,11 @@ public class BandDescriptionTranslator {
     private SharedPreferences preferences;
     private LanguageIdentifier languageIdentifier;
     private Map<String, Translator> translators;
+    private TranslationBatch bulkBatch;
+    
+    // ML Kit runs one model per language on-device; a few requests in flight keep it busy without queueing
+    // every paragraph of every band at once.
+    private static final int MAX_PARAGRAPHS_IN_FLIGHT = 3;
     
     private BandDescriptionTranslator(Context context) {
         this.context = context.getApplicationContext();
@@ -432,8 +437,8 @@ public class BandDescriptionTranslator {
             Log.d(TAG, "Chunk " + i + ": [" + paragraphChunks.get(i).substring(0, Math.min(100, paragraphChunks.get(i).length())) + "]");
         }
         
-        // Step 2 & 3: Translate each chunk and reconstruct
-        translateChunksSequentially(paragraphChunks, targetLanguageCode, bandName, 0, new ArrayList<>(), callback, showToast);
+        // Step 2 & 3: Translate each chunk (reusing cached paragraphs) and reconstruct
+        translateChunksWithCache(paragraphChunks, targetLanguageCode, bandName, callback, showToast);
     }
     
     /**
@@ -496,55 +501,64 @@ public class BandDescriptionTranslator {
     }
     
     /**
-     * Translates chunks sequentially and reconstructs with paragraph formatting
+     * Translates the chunks of one band through the paragraph cache, so only paragraphs that were never
+     * translated (or changed since) reach ML Kit, and reconstructs them with paragraph formatting
      */
-        private void translateChunksSequentially(List<String> chunks, String targetLanguageCode, String bandName,
-                                            int currentIndex, List<String> translatedChunks, TranslationCallback callback, boolean showToast) {
-        if (currentIndex >= chunks.size()) {
-            // All chunks translated - assemble with double newlines between segments
-            StringBuilder result = new StringBuilder();
-            Log.d(TAG, "Assembling " + translatedChunks.size() + " translated chunks with double newlines");
-            
-            for (int i = 0; i < translatedChunks.size(); i++) {
-                if (i > 0) {
-                    result.append("\n\n"); // Add double carriage returns between each segment
-                    Log.d(TAG, "Added double newlines between chunks " + (i-1) + " and " + i);
-                }
-                result.append(translatedChunks.get(i));
-                Log.d(TAG, "Added chunk " + i + ": " + translatedChunks.get(i).substring(0, Math.min(100, translatedChunks.get(i).length())));
-            }
-            
-            String assembledResult = result.toString();
-            Log.d(TAG, "Before cleanup: " + assembledResult.replace("\n", "[\\n]").substring(0, Math.min(200, assembledResult.length())));
-            
-            // Clean up excessive carriage returns - shrink more than 2 continuous returns down to 2
-            String cleanedResult = assembledResult.replaceAll("\n{3,}", "\n\n");
-            
-            Log.d(TAG, "After cleanup: " + cleanedResult.replace("\n", "[\\n]").substring(0, Math.min(200, cleanedResult.length())));
-            Log.d(TAG, "Chunk translation complete for " + bandName + ", " + chunks.size() + " chunks assembled");
-            Log.d(TAG, "Cleaned up excessive newlines: " + assembledResult.length() + " -> " + cleanedResult.length() + " chars");
-            
-            // Cache the final result to filesystem
-            cacheTranslation(bandName, targetLanguageCode, cleanedResult);
-            
-            // Return the properly formatted result
-            callback.onTranslationComplete(cleanedResult);
+    private void translateChunksWithCache(List<String> chunks, String targetLanguageCode, String bandName,
+                                          TranslationCallback callback, boolean showToast) {
+        TranslationCache cache = getParagraphCache(targetLanguageCode);
+        List<String> cachedChunks = getCachedParagraphs(cache, chunks);
+        if (cachedChunks != null) {
+            Log.d(TAG, "All " + chunks.size() + " chunks for " + bandName + " found in paragraph cache");
+            deliverAssembledTranslation(cachedChunks, targetLanguageCode, bandName, callback);
             return;
         }
-        
-        String currentChunk = chunks.get(currentIndex);
-        Log.d(TAG, "Translating chunk " + (currentIndex + 1) + "/" + chunks.size() + ": " + 
-              currentChunk.substring(0, Math.min(100, currentChunk.length())));
-        
-        // Translate current chunk using ML Kit
+
         String mlKitLanguageCode = LANGUAGE_CODE_MAP.get(targetLanguageCode.toLowerCase());
-        TranslatorOptions options = new TranslatorOptions.Builder()
-            .setSourceLanguage(TranslateLanguage.ENGLISH)
-            .setTargetLanguage(mlKitLanguageCode)
+        Translator translator = getTranslator(mlKitLanguageCode);
+        TranslationBatch batch = new TranslationBatch(cache, createEngine(translator), MAX_PARAGRAPHS_IN_FLIGHT, null,
+            new TranslationBatch.Listener() {
+                @Override
+                public void onBandTranslated(String name, List<String> translatedChunks, int failures) {
+                    if (failures > 0 && failures == translatedChunks.size()) {
+                        // Nothing could be translated (model missing at sea?) - an older whole-band translation
+                        // still beats English.
+                        String fallback = getCachedTranslation(bandName, targetLanguageCode);
+                        if (fallback != null) {
+                            Log.d(TAG, "All chunks failed for " + bandName + ", using cached band translation");
+                            callback.onTranslationComplete(fallback);
+                            return;
+                        }
+                    }
+                    deliverAssembledTranslation(translatedChunks, targetLanguageCode, bandName, callback);
+                }
+
+                @Override
+                public void onProgress(int completedBands, int totalBands) {
+                }
+
+                @Override
+                public void onFinished(boolean cancelled) {
+                    cache.persistLater();
+                }
+            });
+        batch.add(bandName, chunks);
+
+        // Check the model once for the whole description, not once per chunk
+        prepareModel(translator, mlKitLanguageCode, targetLanguageCode, showToast, batch::start);
+    }
+
+    /**
+     * Makes sure the ML Kit model is present, then runs {@code next} whether or not the download worked
+     * (chunks that cannot be translated are left in English).
+     * @param showToast whether to show toast messages for download progress (only for user-initiated translations)
+     */
+    private void prepareModel(Translator translator, String mlKitLanguageCode, String targetLanguageCode,
+                              boolean showToast, Runnable next) {
+        DownloadConditions conditions = new DownloadConditions.Builder()
+            .requireWifi() // Download only on WiFi for large models
             .build();
-        
-        Translator translator = Translation.getClient(options);
-        
+
         // Check if model is already available before showing download message
         RemoteModelManager modelManager = RemoteModelManager.getInstance();
         com.google.mlkit.nl.translate.TranslateRemoteModel model = 
@@ -557,76 +571,106 @@ public class BandDescriptionTranslator {
                     String downloadMessage = getLocalizedDownloadingModelMessage(targetLanguageCode);
                     android.widget.Toast.makeText(context, downloadMessage, android.widget.Toast.LENGTH_LONG).show();
                 }
-                
-                // Proceed with download if needed
-                DownloadConditions conditions = new DownloadConditions.Builder()
-                    .requireWifi() // Download only on WiFi for large models
-                    .build();
                     
                 translator.downloadModelIfNeeded(conditions)
                     .addOnSuccessListener(unused -> {
                         // Show completion message only if model was actually downloaded
-                        if (showToast && !isDownloaded && currentIndex == 0 && context != null) {
+                        if (showToast && !isDownloaded && context != null) {
                             String completeMessage = getLocalizedModelDownloadCompleteMessage(targetLanguageCode);
                             android.widget.Toast.makeText(context, completeMessage, android.widget.Toast.LENGTH_SHORT).show();
                         }
-                        Log.d(TAG, "Translation model ready for chunk " + (currentIndex + 1));
-                // Now translate the chunk
-                translator.translate(currentChunk)
-                    .addOnSuccessListener(translatedChunk -> {
-                        Log.d(TAG, "Successfully translated chunk " + (currentIndex + 1) + ": " + 
-                              translatedChunk.substring(0, Math.min(100, translatedChunk.length())));
-                        
-                        translatedChunks.add(translatedChunk.trim());
-                        
-                        // Continue with next chunk
-                        translateChunksSequentially(chunks, targetLanguageCode, bandName, currentIndex + 1, translatedChunks, callback, showToast);
+                        Log.d(TAG, "Translation model ready for " + targetLanguageCode);
+                        next.run();
                     })
                     .addOnFailureListener(e -> {
-                        Log.e(TAG, "Failed to translate chunk " + (currentIndex + 1) + ": " + e.getMessage());
-                        
-                        // Add untranslated chunk and continue
-                        translatedChunks.add(currentChunk);
-                        translateChunksSequentially(chunks, targetLanguageCode, bandName, currentIndex + 1, translatedChunks, callback, showToast);
+                        Log.e(TAG, "Failed to download translation model: " + e.getMessage());
+                        next.run();
                     });
-                })
-                .addOnFailureListener(e -> {
-                    Log.e(TAG, "Failed to download translation model for chunk " + (currentIndex + 1) + ": " + e.getMessage());
-                    
-                    // Add untranslated chunk and continue
-                    translatedChunks.add(currentChunk);
-                    translateChunksSequentially(chunks, targetLanguageCode, bandName, currentIndex + 1, translatedChunks, callback, showToast);
-                });
             })
             .addOnFailureListener(e -> {
-                Log.e(TAG, "Failed to check if model is downloaded for chunk " + (currentIndex + 1) + ": " + e.getMessage());
+                Log.e(TAG, "Failed to check if model is downloaded: " + e.getMessage());
                 
                 // Fallback: proceed without toast message
-                DownloadConditions conditions = new DownloadConditions.Builder()
-                    .requireWifi()
-                    .build();
-                    
                 translator.downloadModelIfNeeded(conditions)
-                    .addOnSuccessListener(unused -> {
-                        Log.d(TAG, "Translation model ready for chunk " + (currentIndex + 1));
-                        translator.translate(currentChunk)
-                            .addOnSuccessListener(translatedChunk -> {
-                                translatedChunks.add(translatedChunk.trim());
-                                translateChunksSequentially(chunks, targetLanguageCode, bandName, currentIndex + 1, translatedChunks, callback, showToast);
-                            })
-                            .addOnFailureListener(ex -> {
-                                Log.e(TAG, "Failed to translate chunk " + (currentIndex + 1) + ": " + ex.getMessage());
-                                translatedChunks.add(currentChunk);
-                                translateChunksSequentially(chunks, targetLanguageCode, bandName, currentIndex + 1, translatedChunks, callback, showToast);
-                            });
-                    })
+                    .addOnSuccessListener(unused -> next.run())
                     .addOnFailureListener(ex -> {
-                        Log.e(TAG, "Failed to download translation model for chunk " + (currentIndex + 1) + ": " + ex.getMessage());
-                        translatedChunks.add(currentChunk);
-                        translateChunksSequentially(chunks, targetLanguageCode, bandName, currentIndex + 1, translatedChunks, callback, showToast);
+                        Log.e(TAG, "Failed to download translation model: " + ex.getMessage());
+                        next.run();
                     });
             });
     }
+
+    /**
+     * Assembles translated chunks with double newlines between segments, caches the band translation and
+     * returns it
+     */
+    private void deliverAssembledTranslation(List<String> translatedChunks, String targetLanguageCode, String bandName,
+                                             TranslationCallback callback) {
+        String cleanedResult = assembleChunks(translatedChunks);
+        Log.d(TAG, "Chunk translation complete for " + bandName + ", " + translatedChunks.size() + " chunks assembled");
+
+        // Cache the final result to filesystem
+        cacheTranslation(bandName, targetLanguageCode, cleanedResult);
+        callback.onTranslationComplete(cleanedResult);
+    }
+
+    private String assembleChunks(List<String> translatedChunks) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < translatedChunks.size(); i++) {
+            if (i > 0) {
+                result.append("\n\n"); // Add double carriage returns between each segment
+            }
+            result.append(translatedChunks.get(i));
+        }
+        // Clean up excessive carriage returns - shrink more than 2 continuous returns down to 2
+        return result.toString().replaceAll("\n{3,}", "\n\n");
+    }
+
+    /**
+     * Returns the translations of every chunk from the paragraph cache, or null if any chunk is missing
+     */
+    private List<String> getCachedParagraphs(TranslationCache cache, List<String> chunks) {
+        List<String> translated = new ArrayList<>(chunks.size());
+        for (String chunk : chunks) {
+            String cached = cache.get(TranslationCache.keyFor(chunk));
+            if (cached == null) {
+                return null;
+            }
+            translated.add(cached);
+        }
+        return translated;
+    }
+
+    private TranslationCache getParagraphCache(String languageCode) {
+        return TranslationCache.forLanguage(new File(context.getFilesDir(), "translations"), languageCode);
+    }
+
+    /**
+     * One ML Kit client per target language, closed in {@link #cleanup()}
+     */
+    private Translator getTranslator(String mlKitLanguageCode) {
+        synchronized (translators) {
+            Translator translator = translators.get(mlKitLanguageCode);
+            if (translator == null) {
+                TranslatorOptions options = new TranslatorOptions.Builder()
+                    .setSourceLanguage(TranslateLanguage.ENGLISH)
+                    .setTargetLanguage(mlKitLanguageCode)
+                    .build();
+                translator = Translation.getClient(options);
+                translators.put(mlKitLanguageCode, translator);
+            }
+            return translator;
+        }
+    }
+
+    private TranslationBatch.Engine createEngine(Translator translator) {
+        return (paragraph, paragraphCallback) -> translator.translate(paragraph)
+            .addOnSuccessListener(paragraphCallback::onParagraphTranslated)
+            .addOnFailureListener(e -> {
+                Log.e(TAG, "Failed to translate chunk: " + e.getMessage());
+                paragraphCallback.onParagraphTranslated(null);
+            });
+    }
     
     /**
      * Interface for translation completion callback
@@ -667,212 +711,12 @@ public class BandDescriptionTranslator {
             return;
         }
         
-        // Check if we have a cached translation (for offline use)
-        String cachedTranslation = getCachedTranslation(bandName, targetLanguageCode);
-        if (cachedTranslation != null) {
-            Log.d(TAG, "Using cached offline translation for " + bandName);
-            callback.onTranslationComplete(cachedTranslation);
-            return;
-        }
-        
-
-        
+        // Cached paragraphs (for offline use) are checked chunk by chunk, so an edited description only
+        // translates what changed; the whole-band file is the fallback when nothing can be translated.
         // Use proper chunking approach: split into paragraph chunks, translate each, reconstruct
         translateTextInParagraphChunks(text, targetLanguageCode, bandName, callback, true); // Show toast for user-initiated translations
     }
     
-    /**
-     * Translates text with proper paragraph preservation using segmentation approach
-     */
-    private void translateWithParagraphPreservation(String text, String targetLanguageCode, String bandName, TranslationCallback callback) {
-        Log.d(TAG, "Starting paragraph preservation translation for " + bandName);
-        Log.d(TAG, "Original text preview: " + text.substring(0, Math.min(300, text.length())).replace("\n", "\\n"));
-        
-        // Step 1: Try different paragraph splitting strategies
-        String[] segments = null;
-        String separator = null;
-        
-        // First try double newlines
-        if (text.contains("\n\n")) {
-            segments = text.split("\\n\\n");
-            separator = "\n\n";
-            Log.d(TAG, "Using double newline separator, found " + segments.length + " segments");
-        } 
-        // Then try single newlines (common in many text formats)
-        else if (text.contains("\n")) {
-            // Split by single newlines and group into logical paragraphs
-            String[] lines = text.split("\\n");
-            segments = groupConsecutiveNonEmptyLines(lines);
-            separator = "\n\n"; // We'll use double newlines in output for better readability
-            Log.d(TAG, "Using single newline grouping, found " + segments.length + " paragraph groups");
-        }
-        
-        if (segments == null || segments.length <= 1) {
-            // No paragraph breaks found, use regular translation
-            Log.d(TAG, "No paragraph structure detected, using regular translation");
-            performTranslationWithFallback(text, targetLanguageCode, bandName, callback);
-            return;
-        }
-        
-        // Step 2: Translate each segment individually and Step 3: Reconstruct with formatting
-        translateSegmentsSequentially(segments, targetLanguageCode, bandName, 0, new ArrayList<>(), separator, callback);
-    }
-    
-    /**
-     * Groups consecutive non-empty lines into logical paragraphs
-     */
-    private String[] groupConsecutiveNonEmptyLines(String[] lines) {
-        List<String> paragraphs = new ArrayList<>();
-        StringBuilder currentParagraph = new StringBuilder();
-        
-        for (String line : lines) {
-            String trimmedLine = line.trim();
-            
-            if (trimmedLine.isEmpty()) {
-                // Empty line - end current paragraph if it exists
-                if (currentParagraph.length() > 0) {
-                    paragraphs.add(currentParagraph.toString().trim());
-                    currentParagraph = new StringBuilder();
-                }
-            } else {
-                // Non-empty line - add to current paragraph
-                if (currentParagraph.length() > 0) {
-                    currentParagraph.append("\n"); // Preserve line breaks within paragraphs
-                }
-                currentParagraph.append(trimmedLine);
-            }
-        }
-        
-        // Add final paragraph if exists
-        if (currentParagraph.length() > 0) {
-            paragraphs.add(currentParagraph.toString().trim());
-        }
-        
-        Log.d(TAG, "Grouped " + lines.length + " lines into " + paragraphs.size() + " paragraphs");
-        return paragraphs.toArray(new String[0]);
-    }
-    
-    /**
-     * Translates text segments sequentially and reconstructs with original paragraph formatting
-     */
-    private void translateSegmentsSequentially(String[] segments, String targetLanguageCode, String bandName, 
-                                             int currentIndex, List<String> translatedSegments, String separator, TranslationCallback callback) {
-        if (currentIndex >= segments.length) {
-            // All segments translated - reconstruct with paragraph formatting
-            StringBuilder result = new StringBuilder();
-            for (int i = 0; i < translatedSegments.size(); i++) {
-                if (i > 0) {
-                    result.append(separator); // Re-insert paragraph breaks between segments
-                }
-                result.append(translatedSegments.get(i));
-            }
-            
-            String finalResult = result.toString();
-            Log.d(TAG, "Paragraph preservation complete for " + bandName + ", final length: " + finalResult.length());
-            
-            // Cache the result and return
-            cacheTranslation(bandName, targetLanguageCode, finalResult);
-            callback.onTranslationComplete(finalResult);
-            return;
-        }
-        
-        String currentSegment = segments[currentIndex].trim();
-        
-        // Skip empty segments but maintain position
-        if (currentSegment.isEmpty()) {
-            translatedSegments.add("");
-            translateSegmentsSequentially(segments, targetLanguageCode, bandName, currentIndex + 1, translatedSegments, separator, callback);
-            return;
-        }
-        
-        Log.d(TAG, "Translating segment " + (currentIndex + 1) + "/" + segments.length + ": " + 
-              currentSegment.substring(0, Math.min(100, currentSegment.length())));
-        
-        // Translate current segment using ML Kit
-        String mlKitLanguageCode = LANGUAGE_CODE_MAP.get(targetLanguageCode.toLowerCase());
-        TranslatorOptions options = new TranslatorOptions.Builder()
-            .setSourceLanguage(TranslateLanguage.ENGLISH)
-            .setTargetLanguage(mlKitLanguageCode)
-            .build();
-        
-        Translator translator = Translation.getClient(options);
-        
-        translator.translate(currentSegment)
-            .addOnSuccessListener(translatedSegment -> {
-                Log.d(TAG, "Successfully translated segment " + (currentIndex + 1) + ": " + 
-                      translatedSegment.substring(0, Math.min(100, translatedSegment.length())));
-                
-                translatedSegments.add(translatedSegment.trim());
-                
-                // Continue with next segment
-                translateSegmentsSequentially(segments, targetLanguageCode, bandName, currentIndex + 1, translatedSegments, separator, callback);
-            })
-            .addOnFailureListener(e -> {
-                Log.e(TAG, "Failed to translate segment " + (currentIndex + 1) + ": " + e.getMessage());
-                
-                // Add untranslated segment and continue
-                translatedSegments.add(currentSegment);
-                translateSegmentsSequentially(segments, targetLanguageCode, bandName, currentIndex + 1, translatedSegments, separator, callback);
-            });
-    }
-    
-    /**
-     * Translates paragraphs one by one to preserve structure
-     */
-    private void translateParagraphsSequentially(String[] paragraphs, String targetLanguageCode, String bandName, 
-                                               int currentIndex, StringBuilder result, TranslationCallback callback) {
-        if (currentIndex >= paragraphs.length) {
-            // All paragraphs translated, return result without language marker
-            String finalResult = result.toString();
-            cacheTranslation(bandName, targetLanguageCode, finalResult);
-            callback.onTranslationComplete(finalResult);
-            return;
-        }
-        
-        String currentParagraph = paragraphs[currentIndex].trim();
-        
-        // Skip empty paragraphs but preserve spacing
-        if (currentParagraph.isEmpty()) {
-            if (result.length() > 0) {
-                result.append("\n\n");
-            }
-            translateParagraphsSequentially(paragraphs, targetLanguageCode, bandName, currentIndex + 1, result, callback);
-            return;
-        }
-        
-        // Translate current paragraph
-        String mlKitLanguageCode = LANGUAGE_CODE_MAP.get(targetLanguageCode.toLowerCase());
-        TranslatorOptions options = new TranslatorOptions.Builder()
-            .setSourceLanguage(TranslateLanguage.ENGLISH)
-            .setTargetLanguage(mlKitLanguageCode)
-            .build();
-        
-        Translator translator = Translation.getClient(options);
-        
-        translator.translate(currentParagraph)
-            .addOnSuccessListener(translatedParagraph -> {
-                // Add paragraph with proper spacing - always use double newlines between paragraphs
-                if (result.length() > 0) {
-                    result.append("\n\n");
-                }
-                result.append(translatedParagraph.trim());
-                
-                Log.d(TAG, "Translated paragraph " + currentIndex + ": " + translatedParagraph.substring(0, Math.min(100, translatedParagraph.length())));
-                
-                // Continue with next paragraph
-                translateParagraphsSequentially(paragraphs, targetLanguageCode, bandName, currentIndex + 1, result, callback);
-            })
-            .addOnFailureListener(e -> {
-                Log.e(TAG, "Failed to translate paragraph " + currentIndex + ": " + e.getMessage());
-                // Add untranslated paragraph and continue
-                if (result.length() > 0) {
-                    result.append("\n\n");
-                }
-                result.append(currentParagraph);
-                translateParagraphsSequentially(paragraphs, targetLanguageCode, bandName, currentIndex + 1, result, callback);
-            });
-    }
-    
     /**
      * Performs translation with offline fallback
      */
@@ -1048,70 +892,96 @@ public class BandDescriptionTranslator {
     }
     
     /**
-     * Performs bulk translation for offline caching
+     * Performs bulk translation for offline caching.
+     * Paragraphs are shared across bands through the paragraph cache and translated with a bounded number of
+     * requests in flight; the batch stops sending new requests once the app returns to the foreground.
      */
     private void performBulkTranslation(Translator translator, Map<String, String> bandDescriptions, String targetLanguage, BulkTranslationCallback callback) {
-        String[] bandNames = bandDescriptions.keySet().toArray(new String[0]);
-        int total = bandNames.length;
-        int[] completed = {0};
-        
-        Log.d(TAG, "Starting bulk translation of " + total + " bands to " + targetLanguage);
+        // SAFETY CHECK: Stop bulk translation if app comes back to foreground
+        if (!Bands70k.isAppInBackground()) {
+            Log.d("TranslationCache", "BLOCKED: App returned to foreground, stopping bulk translation");
+            callback.onError("Bulk translation stopped - app returned to foreground");
+            return;
+        }
         
-        for (String bandName : bandNames) {
-            // SAFETY CHECK: Stop bulk translation if app comes back to foreground
-            if (!Bands70k.isAppInBackground()) {
-                Log.d("TranslationCache", "BLOCKED: App returned to foreground, stopping bulk translation");
-                callback.onError("Bulk translation stopped - app returned to foreground");
-                return;
-            }
-            
-            String description = bandDescriptions.get(bandName);
-            if (description == null || description.trim().isEmpty()) {
-                completed[0]++;
-                callback.onProgress(completed[0], total);
-                if (completed[0] >= total) {
-                    callback.onComplete();
-                }
-                continue;
-            }
-            
-            // Check if already cached
-            if (getCachedTranslation(bandName, targetLanguage) != null) {
-                completed[0]++;
-                callback.onProgress(completed[0], total);
-                if (completed[0] >= total) {
-                    callback.onComplete();
-                }
-                continue;
-            }
-            
-            // Translate and cache using chunk-based approach
-            translateTextInParagraphChunks(description, targetLanguage, bandName, new TranslationCallback() {
+        TranslationCache cache = getParagraphCache(targetLanguage);
+        TranslationBatch batch = new TranslationBatch(cache, createEngine(translator), MAX_PARAGRAPHS_IN_FLIGHT,
+            Bands70k::isAppInBackground, new TranslationBatch.Listener() {
                 @Override
-                public void onTranslationComplete(String translatedText) {
-                    // Translation is already cached by translateTextInParagraphChunks
-                    completed[0]++;
-                    Log.d(TAG, "Cached translation for " + bandName + " (" + completed[0] + "/" + total + ")");
-                    callback.onProgress(completed[0], total);
-                        
-                    if (completed[0] >= total) {
-                        Log.d(TAG, "Bulk translation complete!");
-                        callback.onComplete();
+                public void onBandTranslated(String bandName, List<String> translatedChunks, int failures) {
+                    if (failures == 0) {
+                        cacheTranslation(bandName, targetLanguage, assembleChunks(translatedChunks));
+                    } else {
+                        Log.e(TAG, "Failed to cache translation for " + bandName + ": " + failures + " chunks untranslated");
                     }
                 }
                 
                 @Override
-                public void onTranslationError(String error) {
-                    Log.e(TAG, "Failed to cache translation for " + bandName + ": " + error);
-                    completed[0]++;
-                    callback.onProgress(completed[0], total);
-                        
-                    if (completed[0] >= total) {
+                public void onProgress(int completed, int total) {
+                    callback.onProgress(completed, total);
+                }
+                
+                @Override
+                public void onFinished(boolean cancelled) {
+                    cache.persistLater();
+                    synchronized (BandDescriptionTranslator.this) {
+                        if (bulkBatch != null && bulkBatch.isFinished()) {
+                            bulkBatch = null;
+                        }
+                    }
+                    if (cancelled) {
+                        Log.d("TranslationCache", "BLOCKED: App returned to foreground, stopping bulk translation");
+                        callback.onError("Bulk translation stopped - app returned to foreground");
+                    } else {
                         Log.d(TAG, "Bulk translation complete!");
                         callback.onComplete();
                     }
                 }
             });
+        int total = 0;
+        for (Map.Entry<String, String> entry : bandDescriptions.entrySet()) {
+            String description = entry.getValue();
+            if (description == null || description.trim().isEmpty()) {
+                continue;
+            }
+            List<String> chunks = splitIntoParagraphChunks(description);
+            if (!chunks.isEmpty()) {
+                batch.add(entry.getKey(), chunks);
+                total++;
+            }
+        }
+        Log.d(TAG, "Starting bulk translation of " + total + " bands to " + targetLanguage);
+        if (total == 0) {
+            callback.onComplete();
+            return;
+        }
+        
+        synchronized (this) {
+            if (bulkBatch != null) {
+                bulkBatch.cancel();
+            }
+            bulkBatch = batch;
+        }
+        batch.start();
+    }
+    
+    /**
+     * Stops a running bulk translation from sending new requests (called when the app returns to the foreground)
+     */
+    public static void cancelBulkTranslation() {
+        BandDescriptionTranslator translator;
+        synchronized (BandDescriptionTranslator.class) {
+            translator = instance;
+        }
+        if (translator == null) {
+            return;
+        }
+        TranslationBatch batch;
+        synchronized (translator) {
+            batch = translator.bulkBatch;
+        }
+        if (batch != null) {
+            batch.cancel();
         }
     }
     
@@ -0,0 +1,243 @@
+package com.Bands70k;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.util.DisplayMetrics;
+import android.util.Log;
+import android.util.LruCache;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.List;
+
+/**
+ * Decoded band images for the details screen.
+ *
+ * Two tiers sit in front of the downloaded image files in {@link FileHandler70k#baseImageDirectory}:
+ * - an in-memory LRU of decoded bitmaps, keyed by file path and modification time so a re-downloaded image
+ *   never returns the old bitmap; its budget is a share of the heap, larger on large displays
+ *   ({@link DeviceSizeManager});
+ * - downsampled copies in the "thumbs" subdirectory, written by {@link ImageHandler} right after a download,
+ *   so a memory miss is one small decode instead of a bounds pass plus a full-size decode.
+ *
+ * Cached bitmaps are shared: callers display them but never recycle them.
+ */
+final class BandImageCache {
+
+    private static final String TAG = "BandImageCache";
+
+    private static final String THUMB_DIRECTORY = "thumbs";
+    /** Upper bound for decoded images, as the details screen used before. */
+    private static final int MAX_DIMENSION = 2048;
+    private static final int MIN_CACHE_BYTES = 4 * 1024 * 1024;
+
+    private static LruCache<String, Bitmap> memoryCache;
+
+    private BandImageCache() {}
+
+    private static synchronized LruCache<String, Bitmap> memory() {
+        if (memoryCache == null) {
+            long maxHeap = Runtime.getRuntime().maxMemory();
+            Context context = Bands70k.getAppContext();
+            boolean largeDisplay = context != null && DeviceSizeManager.isLargeDisplay(context);
+            // Tablets show bigger logos; give them a bigger share of the heap.
+            int budget = (int) Math.max(MIN_CACHE_BYTES, maxHeap / (largeDisplay ? 6 : 8));
+            Log.d(TAG, "Memory cache budget " + (budget / 1024) + "KB (large display: " + largeDisplay + ")");
+            memoryCache = new LruCache<String, Bitmap>(budget) {
+                @Override
+                protected int sizeOf(String key, Bitmap value) {
+                    return value.getAllocationByteCount();
+                }
+            };
+        }
+        return memoryCache;
+    }
+
+    private static String keyFor(File source) {
+        return source.getAbsolutePath() + "@" + source.lastModified();
+    }
+
+    /** The decoded image if it is already in memory; safe to call on the UI thread. */
+    static Bitmap getCached(File source) {
+        if (source == null || !source.exists()) {
+            return null;
+        }
+        return memory().get(keyFor(source));
+    }
+
+    /**
+     * Returns the decoded image for {@code source} from memory, the downsampled copy, or the file itself, in
+     * that order. Decodes on the calling thread; call from a background thread unless {@link #getCached} hit.
+     */
+    static Bitmap load(File source) {
+        if (source == null || !source.exists() || source.length() == 0) {
+            return null;
+        }
+        String key = keyFor(source);
+        Bitmap bitmap = memory().get(key);
+        if (bitmap != null) {
+            return bitmap;
+        }
+
+        File thumbnail = thumbnailFor(source);
+        if (thumbnail.exists() && thumbnail.lastModified() >= source.lastModified()) {
+            BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inPreferredConfig = Bitmap.Config.RGB_565;
+            bitmap = BitmapFactory.decodeFile(thumbnail.getAbsolutePath(), options);
+        }
+        if (bitmap == null) {
+            bitmap = decodeSampled(source, targetDimension());
+        }
+        if (bitmap != null) {
+            memory().put(key, bitmap);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Writes the downsampled copy of a freshly downloaded image. Images already within the display size get
+     * none (they decode in one pass anyway) and any stale copy is removed.
+     */
+    static void writeThumbnail(File source) {
+        File thumbnail = thumbnailFor(source);
+        try {
+            int target = targetDimension();
+            BitmapFactory.Options bounds = new BitmapFactory.Options();
+            bounds.inJustDecodeBounds = true;
+            BitmapFactory.decodeFile(source.getAbsolutePath(), bounds);
+            if (bounds.outWidth <= 0 || bounds.outHeight <= 0
+                    || Math.max(bounds.outWidth, bounds.outHeight) <= target) {
+                thumbnail.delete();
+                return;
+            }
+
+            Bitmap scaled = decodeSampled(source, target);
+            if (scaled == null) {
+                return;
+            }
+            File directory = thumbnail.getParentFile();
+            if (directory != null && !directory.exists()) {
+                directory.mkdirs();
+            }
+            File part = new File(thumbnail.getPath() + ".part");
+            FileOutputStream out = new FileOutputStream(part);
+            try {
+                scaled.compress(Bitmap.CompressFormat.PNG, 100, out);
+            } finally {
+                out.close();
+            }
+            if (!part.renameTo(thumbnail)) {
+                part.delete();
+            }
+            Log.d(TAG, "Thumbnail for " + source.getName() + ": " + bounds.outWidth + "x" + bounds.outHeight
+                    + " -> " + scaled.getWidth() + "x" + scaled.getHeight());
+            scaled.recycle();
+        } catch (Exception | OutOfMemoryError e) {
+            Log.w(TAG, "Could not write thumbnail for " + source.getName() + ": " + e);
+            thumbnail.delete();
+        }
+    }
+
+    /** Removes the downsampled copy when its source image is deleted. */
+    static void deleteThumbnail(File source) {
+        thumbnailFor(source).delete();
+    }
+
+    /**
+     * Loads the cached images of {@code bandNames} into memory on a background thread, so swiping to them
+     * shows the image without a decode. Never downloads.
+     */
+    static void prefetch(final List<String> bandNames) {
+        if (bandNames == null || bandNames.isEmpty()) {
+            return;
+        }
+        ThreadManager.getInstance().executeGeneral(new Runnable() {
+            @Override
+            public void run() {
+                for (String bandName : bandNames) {
+                    try {
+                        java.net.URI imageUri = new ImageHandler(bandName).getImage();
+                        if (imageUri != null && load(new File(imageUri)) != null) {
+                            Log.d(TAG, "Prefetched image for " + bandName);
+                        }
+                    } catch (Exception | OutOfMemoryError e) {
+                        Log.w(TAG, "Prefetch failed for " + bandName + ": " + e);
+                    }
+                }
+            }
+        });
+    }
+
+    /** Drops decoded images when the system is short on memory. */
+    static void trimMemory(int level) {
+        if (memoryCache == null) {
+            return;
+        }
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE) {
+            memoryCache.evictAll();
+        } else if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+            memoryCache.trimToSize(memoryCache.maxSize() / 2);
+        }
+    }
+
+    /** Frees every decoded image; used to recover from an OutOfMemoryError while decoding. */
+    static void clearMemory() {
+        if (memoryCache != null) {
+            memoryCache.evictAll();
+        }
+    }
+
+    private static File thumbnailFor(File source) {
+        return new File(new File(source.getParentFile(), THUMB_DIRECTORY), source.getName());
+    }
+
+    /** Longest display side, capped at {@link #MAX_DIMENSION}: logos never need more pixels than the screen. */
+    private static int targetDimension() {
+        Context context = Bands70k.getAppContext();
+        if (context == null) {
+            return MAX_DIMENSION;
+        }
+        DisplayMetrics metrics = context.getResources().getDisplayMetrics();
+        int longest = Math.max(metrics.widthPixels, metrics.heightPixels);
+        return longest > 0 ? Math.min(MAX_DIMENSION, longest) : MAX_DIMENSION;
+    }
+
+    /** Bounds pass, power-of-two subsampling to at most {@code target}, then an exact scale if still larger. */
+    private static Bitmap decodeSampled(File source, int target) {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        BitmapFactory.decodeFile(source.getAbsolutePath(), options);
+        if (options.outWidth <= 0 || options.outHeight <= 0) {
+            Log.w(TAG, "Invalid image dimensions for " + source.getName()
+                    + " (" + options.outWidth + "x" + options.outHeight + ")");
+            return null;
+        }
+
+        int longest = Math.max(options.outWidth, options.outHeight);
+        int sampleSize = 1;
+        while (longest / (sampleSize * 2) >= target) {
+            sampleSize *= 2;
+        }
+        options.inJustDecodeBounds = false;
+        options.inSampleSize = sampleSize;
+        options.inPreferredConfig = Bitmap.Config.RGB_565; // Use less memory
+        Bitmap bitmap = BitmapFactory.decodeFile(source.getAbsolutePath(), options);
+        if (bitmap == null) {
+            return null;
+        }
+
+        int decodedLongest = Math.max(bitmap.getWidth(), bitmap.getHeight());
+        if (decodedLongest > target) {
+            float scale = (float) target / decodedLongest;
+            Bitmap scaled = Bitmap.createScaledBitmap(bitmap, Math.max(1, Math.round(bitmap.getWidth() * scale)),
+                    Math.max(1, Math.round(bitmap.getHeight() * scale)), true);
+            if (scaled != bitmap) {
+                bitmap.recycle();
+            }
+            bitmap = scaled;
+        }
+        return bitmap;
+    }
+}
@@ -9,16 +9,13 @@ import android.os.StrictMode;
 import android.util.Log;
 
 import java.io.BufferedReader;
-import java.io.DataInputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.MalformedURLException;
-import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -35,11 +32,12 @@ import static com.Bands70k.staticVariables.staticVariablesInitialize;
  */
 public class BandInfo {
 
-    private static Map<String, Map> bandData = new HashMap<String, Map>();
+    // Replaced as a whole (copy-on-write) after each parse so concurrent readers never see a half-built map.
+    private static volatile Map<String, BandRecord> bandData = new HashMap<String, BandRecord>();
     //private ArrayList<String> bandNames = new ArrayList<String>();
     private static String selectedBand;
 
-    public static Map<String, scheduleTimeTracker> scheduleRecords;
+    public static volatile Map<String, scheduleTimeTracker> scheduleRecords;
 
     /**
      * Returns true if the schedule contains any Unofficial Event or Cruiser Organized events.
@@ -47,19 +45,7 @@ public class BandInfo {
      */
     public static boolean hasUnofficialEventsInSchedule() {
         if (scheduleRecords == null || scheduleRecords.isEmpty()) return false;
-        for (scheduleTimeTracker tracker : scheduleRecords.values()) {
-            if (tracker != null && tracker.scheduleByTime != null) {
-                for (scheduleHandler sh : tracker.scheduleByTime.values()) {
-                    if (sh != null) {
-                        String type = sh.getShowType();
-                        if (staticVariables.unofficalEvent.equals(type) || staticVariables.unofficalEventOld.equals(type)) {
-                            return true;
-                        }
-                    }
-                }
-            }
-        }
-        return false;
+        return ScheduleEventIndex.forRecords(scheduleRecords).hasUnofficialEvents();
     }
 
     /**
@@ -74,69 +60,19 @@ public class BandInfo {
         boolean hideExpired = staticVariables.preferences != null && staticVariables.preferences.getHideExpiredEvents();
         long now = System.currentTimeMillis();
         boolean sawAnyCurrentEvent = false;
-        for (scheduleTimeTracker tracker : scheduleRecords.values()) {
-            if (tracker == null || tracker.scheduleByTime == null) {
+        ScheduleEventIndex index = ScheduleEventIndex.forRecords(scheduleRecords);
+        for (int slot = 0; slot < index.size; slot++) {
+            if (hideExpired && !index.isUpcoming(slot, now)) {
                 continue;
             }
-            for (Map.Entry<Long, scheduleHandler> entry : tracker.scheduleByTime.entrySet()) {
-                Long timeIndex = entry.getKey();
-                scheduleHandler sh = entry.getValue();
-                if (sh == null || timeIndex == null) {
-                    continue;
-                }
-                if (hideExpired) {
-                    long endTime = sh.getEpochEnd();
-                    if (timeIndex > endTime) {
-                        endTime = endTime + (3600000L * 24);
-                    }
-                    long bufferEndTime = endTime + 600000L;
-                    if (bufferEndTime <= now) {
-                        continue;
-                    }
-                }
-                String type = sh.getShowType();
-                if (type == null || type.isEmpty()) {
-                    return false;
-                }
-                sawAnyCurrentEvent = true;
-                if (!staticVariables.unofficalEvent.equals(type) && !staticVariables.unofficalEventOld.equals(type)) {
-                    return false;
-                }
+            sawAnyCurrentEvent = true;
+            if (!index.isUnofficial(slot)) {
+                return false;
             }
         }
         return sawAnyCurrentEvent;
     }
 
-    /**
-     * True if a main-list index string is a time-keyed schedule row (show / unofficial / etc.),
-     * as opposed to a band-with-no-visible-events row (e.g. {@code "BandName:"} or plain {@code "BandName"}).
-     * Matches iOS list row shape for filter-badge math.
-     */
-    public static boolean isScheduleEventRowListIndex(String item) {
-        if (item == null || item.isEmpty()) {
-            return false;
-        }
-        String[] parts = item.split(":", -1);
-        if (parts.length < 2) {
-            return false;
-        }
-        try {
-            long t = Long.parseLong(parts[0].trim());
-            if (t > 0) {
-                return true;
-            }
-        } catch (NumberFormatException ignored) {
-        }
-        try {
-            long t = Long.parseLong(parts[1].trim());
-            if (t > 0) {
-                return true;
-            }
-        } catch (NumberFormatException ignored) {
-        }
-        return false;
-    }
-
     /** Schedule view + only unofficial/cruiser types in imported data → band-centric counts (matches iOS). */
     public static boolean filterCountsUseBandSlotsForScheduleView() {
         return staticVariables.preferences != null
@@ -339,8 +275,8 @@ public class BandInfo {
      */
     public static String getOfficalWebLink(String bandName){
 
-        if (getBandDetailsData(bandName, "officalSite") != null){
-            return "http://" + getBandDetailsData(bandName, "officalSite");
+        if (getBandRecord(bandName).officalSite != null){
+            return "http://" + getBandRecord(bandName).officalSite;
         } else {
             return " ";
         }
@@ -354,7 +290,7 @@ public class BandInfo {
     public static String getImageUrl(String bandName){
 
         // Priority 1: Artist images from band CSV (more reliable)
-        String artistImageUrl = getBandDetailsData(bandName, "imageUrl");
+        String artistImageUrl = getBandRecord(bandName).imageUrl;
         if (artistImageUrl != null && !artistImageUrl.trim().isEmpty()) {
             Log.d("ImageUrlIs1", bandName + " artist image: https://" + artistImageUrl);
             return "https://" + artistImageUrl;
@@ -378,8 +314,8 @@ public class BandInfo {
      * @return The Wikipedia URL or blank if not available.
      */
     public static String getWikipediaWebLink(String bandName){
-        if (getBandDetailsData(bandName, "wikipedia") != null) {
-            return getBandDetailsData(bandName, "wikipedia");
+        if (getBandRecord(bandName).wikipedia != null) {
+            return getBandRecord(bandName).wikipedia;
         } else {
             return " ";
         }
@@ -391,8 +327,8 @@ public class BandInfo {
      * @return The YouTube URL or blank if not available.
      */
     public static String getYouTubeWebLink(String bandName){
-        if (getBandDetailsData(bandName, "youtube") != null) {
-            return getBandDetailsData(bandName, "youtube");
+        if (getBandRecord(bandName).youtube != null) {
+            return getBandRecord(bandName).youtube;
         } else {
             return " ";
         }
@@ -404,8 +340,8 @@ public class BandInfo {
      * @return The Metal Archives URL or blank if not available.
      */
     public static String getMetalArchivesWebLink(String bandName){
-        if (getBandDetailsData(bandName, "metalArchives") != null) {
-            return getBandDetailsData(bandName, "metalArchives");
+        if (getBandRecord(bandName).metalArchives != null) {
+            return getBandRecord(bandName).metalArchives;
         } else {
             return " ";
         }
@@ -417,19 +353,19 @@ public class BandInfo {
     }
 
     public static boolean hasOfficalWebLink(String bandName) {
-        return isNonEmptyWebLink(getBandDetailsData(bandName, "officalSite"));
+        return isNonEmptyWebLink(getBandRecord(bandName).officalSite);
     }
 
     public static boolean hasMetalArchivesWebLink(String bandName) {
-        return isNonEmptyWebLink(getBandDetailsData(bandName, "metalArchives"));
+        return isNonEmptyWebLink(getBandRecord(bandName).metalArchives);
     }
 
     public static boolean hasWikipediaWebLink(String bandName) {
-        return isNonEmptyWebLink(getBandDetailsData(bandName, "wikipedia"));
+        return isNonEmptyWebLink(getBandRecord(bandName).wikipedia);
     }
 
     public static boolean hasYouTubeWebLink(String bandName) {
-        return isNonEmptyWebLink(getBandDetailsData(bandName, "youtube"));
+        return isNonEmptyWebLink(getBandRecord(bandName).youtube);
     }
 
     public static boolean hasAnyWebLink(String bandName) {
@@ -445,9 +381,9 @@ public class BandInfo {
      * @return The country or blank if not available.
      */
     public static String getCountry(String bandName){
-        String city = getBandDetailsData(bandName, "city");
-        String state = getBandDetailsData(bandName, "state");
-        String country = getBandDetailsData(bandName, "country");
+        String city = getBandRecord(bandName).city;
+        String state = getBandRecord(bandName).state;
+        String country = getBandRecord(bandName).country;
         return formatBandLocation(city, state, country);
     }
 
@@ -483,8 +419,8 @@ public class BandInfo {
      * @return The genre or blank if not available.
      */
     public static String getGenre(String bandName){
-        if (getBandDetailsData(bandName, "genre") != null) {
-            return getBandDetailsData(bandName, "genre");
+        if (getBandRecord(bandName).genre != null) {
+            return getBandRecord(bandName).genre;
         } else {
             return " ";
         }
@@ -496,8 +432,8 @@ public class BandInfo {
      * @return The prior years as a string or blank if not available.
      */
     public static String getPriorYears(String bandName){
-        if (getBandDetailsData(bandName, "priorYears") != null) {
-            String priorYears = getBandDetailsData(bandName, "priorYears");
+        if (getBandRecord(bandName).priorYears != null) {
+            String priorYears = getBandRecord(bandName).priorYears;
             priorYears = priorYears.replaceAll(" ", ", ");
             return priorYears;
 
@@ -511,7 +447,7 @@ public class BandInfo {
      * @return The note or blank if not available.
      */
     public static String getNote(String bandName){
-        String note = getBandDetailsData(bandName, "note");
+        String note = getBandRecord(bandName).note;
         if (note != null && !note.trim().isEmpty()) {
             return note;
         } else {
@@ -520,25 +456,13 @@ public class BandInfo {
     }
 
     /**
-     * Helper method to get band details data by key.
+     * Helper method to get the lineup record for a band.
      * @param bandName The name of the band.
-     * @param key The key to look up.
-     * @return The value for the key or blank if not available.
+     * @return The band's record, or an all-blank record if the band is not in the lineup file.
      */
-    private static String getBandDetailsData (String bandName, String key){
-
-        String data = "";
-        Map<String, Map> detailedData = bandData.get(bandName);
-
-        //Log.d("Here is the map", detailedData.toString());
-
-        if (detailedData != null){
-            if (detailedData.get(key) != null) {
-                data = String.valueOf(detailedData.get(key));
-            }
-        }
-
-        return data;
+    private static BandRecord getBandRecord(String bandName){
+        BandRecord record = bandData.get(bandName);
+        return record != null ? record : BandRecord.EMPTY;
     }
 
     /**
@@ -579,7 +503,6 @@ public class BandInfo {
     public ArrayList<String> DownloadBandFile(){
 
         getDownloadtUrls();
-        CacheHashManager cacheManager = CacheHashManager.getInstance();
 
         System.out.println("in DownloadBandFile " +  isRunningInTestHarness());
         if ((OnlineStatus.isOnline() == true && Looper.myLooper() != Looper.getMainLooper())
@@ -608,35 +531,13 @@ public class BandInfo {
             
             System.out.println("inside DownloadBandFile " + artistUrl);
             
-            // Create temp file for hash comparison
-            File tempBandInfo = new File(showBands.newRootDir + FileHandler70k.directoryName + "70kbandInfo.csv.temp");
-            boolean downloadSuccessful = false;
-            
             try {
-                URL u = new URL(artistUrl);
-                java.net.HttpURLConnection connection = (java.net.HttpURLConnection) u.openConnection();
-                connection.setInstanceFollowRedirects(true);
-                HttpConnectionHelper.applyTimeouts(connection);
-                InputStream is = connection.getInputStream();
-
-                DataInputStream dis = new DataInputStream(is);
-
-                byte[] buffer = new byte[1024];
-                int length;
-
-                // Download to temp file first
-                FileOutputStream fos = new FileOutputStream(tempBandInfo);
-                while ((length = dis.read(buffer)) > 0) {
-                    fos.write(buffer, 0, length);
+                boolean dataChanged = ConditionalDownloader.fetchIfChanged(artistUrl, FileHandler70k.bandInfo, "bandInfo", false);
+                if (dataChanged) {
+                    Log.i("BandInfo", "Band data has changed, processed new file");
+                } else {
+                    Log.i("BandInfo", "Band data unchanged, using cached version");
                 }
-                fos.close();
-                dis.close();
-                is.close();
-                try { connection.disconnect(); } catch (Exception ignored) {}
-                
-                downloadSuccessful = true;
-                Log.d("BandInfo", "Successfully downloaded band data to temp file");
-
             } catch (MalformedURLException mue) {
                 Log.e("SYNC getUpdate", "malformed url error", mue);
             } catch (IOException ioe) {
@@ -646,21 +547,6 @@ public class BandInfo {
             } catch (Exception generalError) {
                 Log.e("General Exception", "Downloading bandData", generalError);
             }
-            
-            // Process temp file only if download was successful and content changed
-            if (downloadSuccessful) {
-                boolean dataChanged = cacheManager.processIfChanged(tempBandInfo, FileHandler70k.bandInfo, "bandInfo");
-                if (dataChanged) {
-                    Log.i("BandInfo", "Band data has changed, processed new file");
-                } else {
-                    Log.i("BandInfo", "Band data unchanged, using cached version");
-                }
-            } else {
-                // Clean up temp file on download failure
-                if (tempBandInfo.exists()) {
-                    tempBandInfo.delete();
-                }
-            }
         }
 
         ArrayList<String> bandNames = ParseBandCSV();
@@ -674,39 +560,47 @@ public class BandInfo {
      */
     public ArrayList<String> ParseBandCSV(){
 
-        ArrayList<String> bandNames = new ArrayList<String>();
+        final ArrayList<String> bandNames = new ArrayList<String>();
+        final Map<String, BandRecord> parsed = new HashMap<String, BandRecord>();
+
+        File file = FileHandler70k.bandInfo;
+        String sourceHash = CacheHashManager.getInstance().getCachedHash("bandInfo");
+        if (loadBandSnapshot(file, sourceHash, bandNames)) {
+            Log.d("BandInfo", "Loaded band snapshot: " + bandNames.size() + " bands");
+            return bandNames;
+        }
 
         try {
-            File file = FileHandler70k.bandInfo;
             if (file.exists()) {
                 BufferedReader br = new BufferedReader(new FileReader(file));
-                String line;
-
-                while ((line = br.readLine()) != null) {
-                    try {
-                        String[] RowData = line.split(",");
-                        Map<String, String> bandDetails = new HashMap<String, String>();
-
-                        bandDetails = addToBandDetails("officalSite", RowData, 1, bandDetails);
-                        bandDetails = addToBandDetails("imageUrl", RowData, 2, bandDetails);
-                        bandDetails = addToBandDetails("youtube", RowData, 3, bandDetails);
-                        bandDetails = addToBandDetails("metalArchives", RowData, 4, bandDetails);
-                        bandDetails = addToBandDetails("wikipedia", RowData, 5, bandDetails);
-
-                        bandDetails = addToBandDetails("country", RowData, 6, bandDetails);
-                        bandDetails = addToBandDetails("genre", RowData, 7, bandDetails);
-                        bandDetails = addToBandDetails("note", RowData, 8, bandDetails);
-                        bandDetails = addToBandDetails("priorYears", RowData, 9, bandDetails);
-                        bandDetails = addToBandDetails("city", RowData, 10, bandDetails);
-                        bandDetails = addToBandDetails("state", RowData, 11, bandDetails);
-                        if (!RowData[0].contains("bandName")) {
-                            bandData.put(RowData[0], bandDetails);
-                            bandNames.add(RowData[0]);
+                try {
+                    new CSVTokenizer(br).parse(new CSVTokenizer.RowHandler() {
+                        private final String[] rowData = new String[BandRecord.COLUMN_COUNT];
+
+                        @Override
+                        public void onField(int column, char[] chars, int start, int length) {
+                            if (column == 0) {
+                                Arrays.fill(rowData, "");
+                            }
+                            if (column < rowData.length) {
+                                rowData[column] = CSVTokenizer.fieldString(chars, start, length);
+                            }
                         }
-                    } catch (Exception error) {
-                        Log.d("error", "Encountered an unknown error" + error.getMessage());
-                    }
+
+                        @Override
+                        public void onRowEnd(int row, int fieldCount) {
+                            String bandName = rowData[0];
+                            if (!bandName.contains("bandName")) {
+                                parsed.put(bandName, new BandRecord(rowData));
+                                bandNames.add(bandName);
+                            }
+                        }
+                    });
+                } finally {
+                    br.close();
                 }
+                publishBandData(parsed);
+                writeBandSnapshot(file, sourceHash, bandNames);
             }
 
         } catch (IOException e) {
@@ -720,26 +614,120 @@ public class BandInfo {
         return bandNames;
     }
 
-
     /**
-     * Helper method to add a value to the band details map.
-     * @param variable The variable name.
-     * @param data The data array.
-     * @param index The index in the data array.
-     * @param bandDetails The band details map.
-     * @return The updated band details map.
+     * Restores bandData and the band name list from the binary snapshot of the lineup file, if it is current.
+     * @return True if the snapshot was used.
      */
-    private Map<String, String> addToBandDetails(String variable, String[] data, Integer index, Map<String, String> bandDetails){
+    private static boolean loadBandSnapshot(File file, String sourceHash, List<String> bandNames) {
+        ParsedDataSnapshot.Reader reader = ParsedDataSnapshot.Reader.open(FileHandler70k.bandInfoSnapshot, file, sourceHash);
+        if (reader == null) {
+            return false;
+        }
+        try {
+            int count = reader.readInt();
+            List<String> names = new ArrayList<String>(count);
+            Map<String, BandRecord> records = new HashMap<String, BandRecord>();
+            for (int i = 0; i < count; i++) {
+                String bandName = reader.readString();
+                names.add(bandName);
+                records.put(bandName, BandRecord.readFrom(reader));
+            }
+            if (!reader.isAtEnd()) {
+                return false;
+            }
+            publishBandData(records);
+            bandNames.addAll(names);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            Log.w("BandInfo", "Band snapshot unreadable, parsing CSV: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /** Merges freshly parsed records into a copy of bandData and swaps it in with one assignment. */
+    private static synchronized void publishBandData(Map<String, BandRecord> records) {
+        Map<String, BandRecord> merged = new HashMap<String, BandRecord>(bandData);
+        merged.putAll(records);
+        bandData = merged;
+    }
+
+    private static void writeBandSnapshot(File file, String sourceHash, List<String> bandNames) {
+        if (sourceHash == null) {
+            return;
+        }
+        try {
+            ParsedDataSnapshot.Writer writer = new ParsedDataSnapshot.Writer();
+            writer.writeInt(bandNames.size());
+            for (String bandName : bandNames) {
+                writer.writeString(bandName);
+                getBandRecord(bandName).writeTo(writer);
+            }
+            writer.commit(FileHandler70k.bandInfoSnapshot, file, sourceHash);
+        } catch (IOException e) {
+            Log.w("BandInfo", "Could not build band snapshot: " + e.getMessage());
+        }
+    }
 
-        String value = "";
+    /**
+     * One row of the artist lineup CSV. Columns are fixed by position:
+     * bandName, officalSite, imageUrl, youtube, metalArchives, wikipedia, country, genre, note, priorYears,
+     * city, state. Missing trailing columns are blank.
+     */
+    static final class BandRecord {
+        static final int COLUMN_COUNT = 12;
+        static final BandRecord EMPTY = new BandRecord(new String[COLUMN_COUNT]);
+
+        final String officalSite;
+        final String imageUrl;
+        final String youtube;
+        final String metalArchives;
+        final String wikipedia;
+        final String country;
+        final String genre;
+        final String note;
+        final String priorYears;
+        final String city;
+        final String state;
+
+        BandRecord(String[] row) {
+            officalSite = column(row, 1);
+            imageUrl = column(row, 2);
+            youtube = column(row, 3);
+            metalArchives = column(row, 4);
+            wikipedia = column(row, 5);
+            country = column(row, 6);
+            genre = column(row, 7);
+            note = column(row, 8);
+            priorYears = column(row, 9);
+            city = column(row, 10);
+            state = column(row, 11);
+        }
 
-        if (data.length > index){
-            value = data[index];
+        void writeTo(ParsedDataSnapshot.Writer writer) throws IOException {
+            writer.writeString(officalSite);
+            writer.writeString(imageUrl);
+            writer.writeString(youtube);
+            writer.writeString(metalArchives);
+            writer.writeString(wikipedia);
+            writer.writeString(country);
+            writer.writeString(genre);
+            writer.writeString(note);
+            writer.writeString(priorYears);
+            writer.writeString(city);
+            writer.writeString(state);
         }
 
-        bandDetails.put(variable, value);
+        static BandRecord readFrom(ParsedDataSnapshot.Reader reader) throws IOException {
+            String[] row = new String[COLUMN_COUNT];
+            for (int column = 1; column < COLUMN_COUNT; column++) {
+                row[column] = reader.readString();
+            }
+            return new BandRecord(row);
+        }
 
-        return bandDetails;
+        private static String column(String[] row, int index) {
+            String value = row[index];
+            return value != null ? value : "";
+        }
     }
 }
-
@@ -104,6 +104,9 @@ public class Bands70k extends Application implements Application.ActivityLifecyc
                 SQLiteProfileManager.warmUp();
                 StartupTracker.markStep(this, "app:asyncInit:sqliteProfileWarmUp:done");
                 
+                // Catch the festival tables up with the cached CSVs (no-op when the hashes are already imported).
+                FestivalDataStore.getInstance().refreshAsync();
+                
                 // Give some time for essential services to initialize if needed
                 Thread.sleep(500); // Much shorter delay, only if absolutely necessary
                 
@@ -303,6 +306,7 @@ public class Bands70k extends Application implements Application.ActivityLifecyc
             
             ImageHandler imageHandler = ImageHandler.getInstance();
             imageHandler.cancelBackgroundTask();
+            BandDescriptionTranslator.cancelBulkTranslation();
             
             // Start 30-second timer for foreground downloads
             ForegroundDownloadManager.onAppForegrounded();
@@ -370,6 +374,13 @@ public class Bands70k extends Application implements Application.ActivityLifecyc
         Log.d("AppLifecycle", "Activity destroyed: " + activity.getClass().getSimpleName());
     }
     
+    @Override
+    public void onTrimMemory(int level) {
+        super.onTrimMemory(level);
+        Log.d("AppLifecycle", "onTrimMemory level " + level);
+        BandImageCache.trimMemory(level);
+    }
+
     @Override
     public void onTerminate() {
         // Clean up network state receiver
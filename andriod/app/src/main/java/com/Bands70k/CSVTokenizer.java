@@ -0,0 +1,142 @@
+package com.Bands70k;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single-pass RFC 4180 CSV reader used by the band, schedule and description map parsers.
+ *
+ * Reads the file through one reusable char buffer and hands each field to a {@link RowHandler} as a slice of
+ * a reusable field buffer, so callers only create Strings for the columns they keep. Handles quoted fields
+ * with embedded commas, line breaks and doubled quotes, and LF / CRLF / CR line endings. A blank line is
+ * reported as a row with one empty field, matching what the old split(",") / parseCSVLine readers saw.
+ */
+final class CSVTokenizer {
+
+    interface RowHandler {
+        /**
+         * One field of the current row. {@code chars} is reused; copy out anything kept past this call.
+         */
+        void onField(int column, char[] chars, int start, int length);
+
+        /** Called after the last field of each row. {@code row} counts from 0 and includes the header. */
+        void onRowEnd(int row, int fieldCount);
+    }
+
+    /** Collects each row into a reused list of Strings, for parsers that look columns up by header index. */
+    abstract static class RowCollector implements RowHandler {
+        private final List<String> fields = new ArrayList<>();
+
+        @Override
+        public void onField(int column, char[] chars, int start, int length) {
+            fields.add(fieldString(chars, start, length));
+        }
+
+        @Override
+        public void onRowEnd(int row, int fieldCount) {
+            onRow(row, fields);
+            fields.clear();
+        }
+
+        /** {@code fields} is cleared after this returns. */
+        abstract void onRow(int row, List<String> fields);
+    }
+
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final char[] buffer = new char[READ_BUFFER_SIZE];
+    private char[] field = new char[256];
+    private int fieldLength;
+
+    CSVTokenizer(Reader reader) {
+        this.reader = reader;
+    }
+
+    /** Returns the field as a String, sharing one instance for empty fields. */
+    static String fieldString(char[] chars, int start, int length) {
+        return length == 0 ? "" : new String(chars, start, length);
+    }
+
+    /**
+     * Reads to the end of the input, calling {@code handler} for every field and row. Does not close the reader.
+     * @return The number of rows read, including the header.
+     */
+    int parse(RowHandler handler) throws IOException {
+        int row = 0;
+        int column = 0;
+        boolean inQuotes = false;
+        boolean afterClosingQuote = false;
+        boolean previousWasCR = false;
+        boolean rowPending = false;
+        fieldLength = 0;
+
+        int read;
+        while ((read = reader.read(buffer, 0, buffer.length)) != -1) {
+            for (int i = 0; i < read; i++) {
+                char c = buffer[i];
+                if (previousWasCR) {
+                    previousWasCR = false;
+                    if (c == '\n') {
+                        continue;
+                    }
+                }
+                if (inQuotes) {
+                    if (c == '"') {
+                        inQuotes = false;
+                        afterClosingQuote = true;
+                    } else {
+                        append(c);
+                    }
+                    continue;
+                }
+                if (c == '"') {
+                    if (afterClosingQuote) {
+                        // "" inside a quoted field is a literal quote.
+                        append('"');
+                        inQuotes = true;
+                        afterClosingQuote = false;
+                    } else if (fieldLength == 0) {
+                        inQuotes = true;
+                    } else {
+                        append(c);
+                    }
+                    rowPending = true;
+                    continue;
+                }
+                afterClosingQuote = false;
+                if (c == ',') {
+                    handler.onField(column++, field, 0, fieldLength);
+                    fieldLength = 0;
+                    rowPending = true;
+                } else if (c == '\n' || c == '\r') {
+                    handler.onField(column, field, 0, fieldLength);
+                    handler.onRowEnd(row++, column + 1);
+                    fieldLength = 0;
+                    column = 0;
+                    rowPending = false;
+                    previousWasCR = c == '\r';
+                } else {
+                    append(c);
+                    rowPending = true;
+                }
+            }
+        }
+        if (rowPending || inQuotes) {
+            handler.onField(column, field, 0, fieldLength);
+            handler.onRowEnd(row++, column + 1);
+        }
+        return row;
+    }
+
+    private void append(char c) {
+        if (fieldLength == field.length) {
+            char[] grown = new char[field.length * 2];
+            System.arraycopy(field, 0, grown, 0, fieldLength);
+            field = grown;
+        }
+        field[fieldLength++] = c;
+    }
+}
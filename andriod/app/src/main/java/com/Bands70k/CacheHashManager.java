@@ -21,6 +21,12 @@ public class CacheHashManager {
     
     private static final String PREFS_NAME = "CacheHashes";
     private static final String TAG = "CacheHashManager";
+
+    // Suffixes for the per-data-type HTTP validator entries stored next to the hash.
+    private static final String VALIDATOR_URL = ".validatorUrl";
+    private static final String VALIDATOR_HASH = ".validatorHash";
+    private static final String VALIDATOR_ETAG = ".etag";
+    private static final String VALIDATOR_LAST_MODIFIED = ".lastModified";
     
     private static CacheHashManager instance;
     private SharedPreferences hashPrefs;
@@ -30,6 +36,11 @@ public class CacheHashManager {
             hashPrefs = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
         }
     }
+
+    /** For tests: a manager backed by {@code hashPrefs} instead of the app's "CacheHashes" prefs. */
+    CacheHashManager(SharedPreferences hashPrefs) {
+        this.hashPrefs = hashPrefs;
+    }
     
     /**
      * Gets the singleton instance of CacheHashManager.
@@ -125,6 +136,9 @@ public class CacheHashManager {
         
         hashPrefs.edit().putString(dataType, hash).apply();
         Log.d(TAG, "Saved hash for " + dataType + ": " + hash.substring(0, 8) + "...");
+        
+        // Lineup / schedule changes are imported into the festival tables in the background
+        FestivalDataStore.getInstance().onSourceHashSaved(dataType);
     }
     
     /**
@@ -153,6 +167,7 @@ public class CacheHashManager {
     
     /**
      * Processes a temp file if it has changed, moving it to the final location and updating the hash.
+     * A missing final file always counts as changed, so a stale cached hash cannot leave it unwritten.
      * @param tempFile The temporary file to check.
      * @param finalFile The final destination file.
      * @param dataType The type of data for hash storage.
@@ -164,7 +179,11 @@ public class CacheHashManager {
             return false;
         }
         
-        if (hasFileChanged(tempFile, dataType)) {
+        boolean finalMissing = !finalFile.exists();
+        if (finalMissing) {
+            Log.d(TAG, finalFile.getName() + " is missing, writing " + dataType + " regardless of cached hash");
+        }
+        if (finalMissing || hasFileChanged(tempFile, dataType)) {
             // File has changed: replace final with temp. Use copy-then-delete so we don't lose
             // data if renameTo() fails (e.g. on Android when temp and final are on different storage).
             if (finalFile.exists()) {
@@ -209,6 +228,70 @@ public class CacheHashManager {
         }
     }
     
+    /**
+     * Saves the HTTP validators (ETag / Last-Modified) the server sent for a data type, tied to the URL they
+     * came from and the content hash cached right now. Null values are stored as absent.
+     * @param dataType The type of data.
+     * @param url The URL the validators belong to.
+     * @param etag The ETag response header, or null.
+     * @param lastModified The Last-Modified response header, or null.
+     */
+    public void saveValidators(String dataType, String url, String etag, String lastModified) {
+        if (hashPrefs == null) {
+            return;
+        }
+        String hash = hashPrefs.getString(dataType, null);
+        if (hash == null || (etag == null && lastModified == null)) {
+            clearValidators(dataType);
+            return;
+        }
+        hashPrefs.edit()
+                .putString(dataType + VALIDATOR_URL, url)
+                .putString(dataType + VALIDATOR_HASH, hash)
+                .putString(dataType + VALIDATOR_ETAG, etag)
+                .putString(dataType + VALIDATOR_LAST_MODIFIED, lastModified)
+                .apply();
+        Log.d(TAG, "Saved validators for " + dataType + " (etag=" + (etag != null) + ", lastModified=" + (lastModified != null) + ")");
+    }
+
+    /**
+     * Gets the saved ETag and Last-Modified for a data type, if they were saved for {@code url} and the
+     * content hash has not changed since (e.g. a QR import replacing the schedule invalidates them).
+     * @return {etag, lastModified} (either may be null), or null if there are no usable validators.
+     */
+    public String[] getValidators(String dataType, String url) {
+        if (hashPrefs == null) {
+            return null;
+        }
+        String hash = hashPrefs.getString(dataType, null);
+        if (hash == null
+                || !hash.equals(hashPrefs.getString(dataType + VALIDATOR_HASH, null))
+                || url == null || !url.equals(hashPrefs.getString(dataType + VALIDATOR_URL, null))) {
+            return null;
+        }
+        String etag = hashPrefs.getString(dataType + VALIDATOR_ETAG, null);
+        String lastModified = hashPrefs.getString(dataType + VALIDATOR_LAST_MODIFIED, null);
+        if (etag == null && lastModified == null) {
+            return null;
+        }
+        return new String[]{etag, lastModified};
+    }
+
+    /**
+     * Clears the saved HTTP validators for a data type.
+     * @param dataType The type of data.
+     */
+    public void clearValidators(String dataType) {
+        if (hashPrefs != null) {
+            hashPrefs.edit()
+                    .remove(dataType + VALIDATOR_URL)
+                    .remove(dataType + VALIDATOR_HASH)
+                    .remove(dataType + VALIDATOR_ETAG)
+                    .remove(dataType + VALIDATOR_LAST_MODIFIED)
+                    .apply();
+        }
+    }
+
     /**
      * Clears all cached hashes. Useful for testing or forcing refresh.
      */
@@ -226,6 +309,7 @@ public class CacheHashManager {
     public void clearHash(String dataType) {
         if (hashPrefs != null) {
             hashPrefs.edit().remove(dataType).apply();
+            clearValidators(dataType);
             Log.i(TAG, "Cleared cached hash for " + dataType);
         }
     }
@@ -0,0 +1,109 @@
+package com.Bands70k;
+
+import android.util.Log;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+/**
+ * Downloads a data file (pointer, lineup, schedule, description map) only when the server has a new version.
+ *
+ * The ETag / Last-Modified sent with the last download are kept in the "CacheHashes" prefs next to the
+ * file's hash (see {@link CacheHashManager#saveValidators}). When they are present, still match the cached
+ * hash and the local file exists, the request carries If-None-Match / If-Modified-Since and a 304 means
+ * "unchanged" without writing anything to disk. A 200 is streamed to a temp file and compared by hash as
+ * before ({@link CacheHashManager#processIfChanged}), which also covers servers that send no validators.
+ */
+public final class ConditionalDownloader {
+
+    private static final String TAG = "ConditionalDownloader";
+
+    private ConditionalDownloader() {}
+
+    /**
+     * Fetches {@code url} into {@code target} if it changed on the server.
+     * @param url The URL to download.
+     * @param target The local copy (replaced only when the content changed).
+     * @param dataType The CacheHashes key for the file (e.g. "bandInfo", "scheduleInfo").
+     * @param revalidate True to ask intermediate caches to revalidate with the origin (Cache-Control: no-cache),
+     *                   for files that are replaced in place under the same URL.
+     * @return True if {@code target} was replaced with new content; false if the server copy is unchanged.
+     * @throws IOException On network or disk errors; {@code target} is left untouched.
+     */
+    public static boolean fetchIfChanged(String url, File target, String dataType, boolean revalidate) throws IOException {
+        CacheHashManager cacheManager = CacheHashManager.getInstance();
+        String[] validators = target.exists() ? cacheManager.getValidators(dataType, url) : null;
+
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        File temp = new File(target.getPath() + ".temp");
+        boolean received = false;
+        try {
+            connection.setInstanceFollowRedirects(true);
+            HttpConnectionHelper.applyTimeouts(connection);
+            if (revalidate) {
+                connection.setUseCaches(false);
+                connection.setRequestProperty("Cache-Control", "no-cache");
+                connection.setRequestProperty("Pragma", "no-cache");
+            }
+            if (validators != null) {
+                if (validators[0] != null) {
+                    connection.setRequestProperty("If-None-Match", validators[0]);
+                }
+                if (validators[1] != null) {
+                    connection.setRequestProperty("If-Modified-Since", validators[1]);
+                }
+            }
+
+            long requestStartMs = System.currentTimeMillis();
+            int status = connection.getResponseCode();
+            long latencyMs = System.currentTimeMillis() - requestStartMs;
+            if (status == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                Log.i(TAG, dataType + " not modified (304), keeping " + target.getName());
+                NetworkQuality.get().recordDownloadSuccess(latencyMs, System.currentTimeMillis());
+                return false;
+            }
+            if (status < 200 || status >= 300) {
+                throw new IOException("HTTP " + status + " for " + dataType);
+            }
+
+            InputStream is = connection.getInputStream();
+            FileOutputStream fos = new FileOutputStream(temp);
+            try {
+                byte[] buffer = new byte[8192];
+                int length;
+                while ((length = is.read(buffer)) > 0) {
+                    fos.write(buffer, 0, length);
+                }
+            } finally {
+                fos.close();
+                is.close();
+            }
+
+            NetworkQuality.get().recordDownloadSuccess(latencyMs, System.currentTimeMillis());
+            received = true;
+
+            boolean changed = cacheManager.processIfChanged(temp, target, dataType);
+            String etag = connection.getHeaderField("ETag");
+            String lastModified = connection.getHeaderField("Last-Modified");
+            cacheManager.saveValidators(dataType, url, etag, lastModified);
+            Log.i(TAG, dataType + " downloaded (" + (changed ? "changed" : "unchanged by hash")
+                    + (etag == null && lastModified == null ? ", no validators" : "") + ")");
+            return changed;
+        } catch (IOException e) {
+            // Only network failures count against the link, not disk errors after the body arrived
+            if (!received) {
+                NetworkQuality.get().recordDownloadFailure();
+            }
+            throw e;
+        } finally {
+            if (temp.exists()) {
+                temp.delete();
+            }
+            try { connection.disconnect(); } catch (Exception ignored) {}
+        }
+    }
+}
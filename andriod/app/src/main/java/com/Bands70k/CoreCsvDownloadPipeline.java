@@ -0,0 +1,157 @@
+package com.Bands70k;
+
+import android.os.SystemClock;
+import android.util.Log;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Downloads and parses the three core CSVs (band, schedule, descriptionMap) concurrently once the pointer URLs
+ * are resolved, so a refresh takes as long as the slowest file instead of the sum of all three.
+ *
+ * Each file is a {@link Stage} that downloads and then parses its own file. The schedule and description map
+ * stages are queued on {@link ThreadManager#executeNetwork}; the calling thread runs the band stage and then
+ * "steals" any stage the pool has not started yet. Since callers may themselves be on the (2-thread) network
+ * pool, waiting only on stages that are already running keeps this from deadlocking when the pool is busy.
+ * When {@link NetworkQuality} is below GOOD nothing is queued, so the calling thread runs the stages one at a
+ * time instead of three downloads competing on a slow link (offline, each stage falls back to its cached file).
+ *
+ * Timings of the last run are kept for {@link #getLastRunSummary()}.
+ */
+final class CoreCsvDownloadPipeline {
+
+    private static final String TAG = "CORE_CSV";
+
+    private static volatile String lastRunSummary = "";
+
+    private CoreCsvDownloadPipeline() {}
+
+    /** One file of the pipeline; runs at most once, on whichever thread claims it first. */
+    static final class Stage implements Runnable {
+        final String name;
+        private final Runnable work;
+        private final AtomicBoolean claimed = new AtomicBoolean(false);
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile long startMs;
+        private volatile long elapsedMs = -1;
+
+        Stage(String name, Runnable work) {
+            this.name = name;
+            this.work = work;
+        }
+
+        @Override
+        public void run() {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            startMs = SystemClock.elapsedRealtime();
+            try {
+                work.run();
+            } catch (Exception e) {
+                Log.e(TAG, "Stage " + name + " failed: " + e.getMessage(), e);
+            } finally {
+                elapsedMs = SystemClock.elapsedRealtime() - startMs;
+                Log.d(TAG, "Stage " + name + " finished in " + elapsedMs + "ms on " + Thread.currentThread().getName());
+                done.countDown();
+            }
+        }
+
+        /** Runs the stage here if nobody has started it yet, otherwise waits for it. */
+        void runOrAwait() throws InterruptedException {
+            run();
+            done.await();
+        }
+    }
+
+    /**
+     * Runs the pipeline on the calling (background) thread and returns when every stage is finished.
+     * The pointer file must already be on disk.
+     */
+    static void run() {
+        final long pipelineStartMs = SystemClock.elapsedRealtime();
+
+        // Resolve the pointer once; every stage reads the URLs it set.
+        staticVariables.lookupUrls();
+        final BandInfo bandInfo = new BandInfo();
+        String scheduleUrl = staticVariables.scheduleURL;
+        if (scheduleUrl == null || scheduleUrl.trim().isEmpty()) {
+            bandInfo.getDownloadtUrls();
+            scheduleUrl = staticVariables.scheduleURL;
+        }
+        final String resolvedScheduleUrl = scheduleUrl;
+        final long pointerMs = SystemClock.elapsedRealtime() - pipelineStartMs;
+
+        Stage bandStage = new Stage("bandInfo", new Runnable() {
+            @Override
+            public void run() {
+                bandInfo.DownloadBandFile();
+            }
+        });
+
+        Stage scheduleStage = new Stage("schedule", new Runnable() {
+            @Override
+            public void run() {
+                if (resolvedScheduleUrl == null || resolvedScheduleUrl.trim().isEmpty()) {
+                    Log.w(TAG, "Schedule URL empty — skipping schedule download");
+                    return;
+                }
+                scheduleInfo scheduleData = new scheduleInfo();
+                Map<String, scheduleTimeTracker> records = scheduleData.DownloadScheduleFile(resolvedScheduleUrl);
+                if (records != null) {
+                    if (scheduleInfo.getLastScheduleDataChanged()) {
+                        scheduleInfo.setLastPreviousEventKeysForWizard(scheduleInfo.collectEventKeys(BandInfo.scheduleRecords));
+                    }
+                    // Publish the fully built map in one assignment; readers never see a partial parse.
+                    BandInfo.scheduleRecords = records;
+                }
+            }
+        });
+
+        Stage descriptionStage = new Stage("descriptionMap", new Runnable() {
+            @Override
+            public void run() {
+                CustomerDescriptionHandler descHandler = CustomerDescriptionHandler.getInstance();
+                descHandler.getDescriptionMapFile();
+                descHandler.getDescriptionMap();
+            }
+        });
+
+        Stage[] stages = {bandStage, scheduleStage, descriptionStage};
+        NetworkQuality.Level quality = OnlineStatus.currentNetworkQuality();
+        if (NetworkQuality.get().parallelism(stages.length) == stages.length) {
+            ThreadManager threadManager = ThreadManager.getInstance();
+            threadManager.executeNetwork(scheduleStage);
+            threadManager.executeNetwork(descriptionStage);
+        } else {
+            Log.d(TAG, "Network quality " + quality + ", running core CSV stages one at a time");
+        }
+        try {
+            for (Stage stage : stages) {
+                stage.runOrAwait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Log.w(TAG, "Core CSV pipeline interrupted");
+        }
+
+        long totalMs = SystemClock.elapsedRealtime() - pipelineStartMs;
+        StringBuilder summary = new StringBuilder();
+        summary.append("pointer=").append(pointerMs).append("ms");
+        long slowestMs = 0;
+        for (Stage stage : stages) {
+            summary.append(", ").append(stage.name).append('=').append(stage.elapsedMs).append("ms");
+            slowestMs = Math.max(slowestMs, stage.elapsedMs);
+        }
+        summary.append(", total=").append(totalMs).append("ms (slowest file ").append(slowestMs).append("ms)");
+        lastRunSummary = summary.toString();
+        Log.i(TAG, "Core CSV pipeline complete: " + lastRunSummary);
+    }
+
+    /** Per-stage timings of the last completed run, e.g. for pull-to-refresh latency logging. */
+    static String getLastRunSummary() {
+        return lastRunSummary;
+    }
+}
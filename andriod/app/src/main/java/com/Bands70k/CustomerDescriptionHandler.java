@@ -7,12 +7,9 @@ import android.os.SystemClock;
 import android.util.Log;
 
 import java.io.BufferedReader;
-import java.io.DataInputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
@@ -20,6 +17,7 @@ import java.net.URL;
 import java.sql.Date;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -202,60 +200,14 @@ public class CustomerDescriptionHandler {
         Log.d("70K_NOTE_DEBUG", "getDescriptionMapFile using URL: " + descriptionMapURL);
         Log.d("70K_NOTE_DEBUG", "eventYear: " + staticVariables.eventYear + ", eventYearRaw: " + staticVariables.eventYearRaw);
         Log.d("70K_NOTE_DEBUG", "eventYearIndex: " + staticVariables.eventYearIndex);
-        CacheHashManager cacheManager = CacheHashManager.getInstance();
 
         if (OnlineStatus.isOnline() == true && Looper.myLooper() != Looper.getMainLooper()) {
             
-            // Create temp file for hash comparison
-            File tempDescriptionMap = new File(showBands.newRootDir + FileHandler70k.directoryName + "70kbandDescriptionMap.csv.temp");
-            boolean downloadSuccessful = false;
-            
             try {
-
-                URL u = new URL(descriptionMapURL);
-                
-                // Handle HTTP redirects properly for Dropbox URLs
-                HttpURLConnection connection = (HttpURLConnection) u.openConnection();
-                connection.setInstanceFollowRedirects(true);
-                HttpConnectionHelper.applyTimeouts(connection);
-                
-                InputStream is = connection.getInputStream();
-                DataInputStream dis = new DataInputStream(is);
-
-                byte[] buffer = new byte[1024];
-                int length;
-
-                // Download to temp file first
-                FileOutputStream fos = new FileOutputStream(tempDescriptionMap);
-                while ((length = dis.read(buffer)) > 0) {
-                    fos.write(buffer, 0, length);
-                }
-                fos.close();
-                dis.close();
-                is.close();
-                
-                downloadSuccessful = true;
-                Log.d("descriptionMapFile", "Description map downloaded to temp file");
-
-            } catch (MalformedURLException mue) {
-                Log.e("SYNC getUpdate", "descriptionMapFile malformed url error", mue);
-            } catch (IOException ioe) {
-                Log.e("SYNC getUpdate", "descriptionMapFile io error", ioe);
-            } catch (SecurityException se) {
-                Log.e("SYNC getUpdate", "descriptionMapFile security error", se);
-            } catch (Exception generalError) {
-                Log.e("General Exception", "Downloading descriptionMapFile", generalError);
-            }
-            
-            // Process temp file only if download was successful and content changed
-            if (downloadSuccessful) {
-                Log.d("70K_NOTE_DEBUG", "Download successful, checking if content changed");
-                Log.d("70K_NOTE_DEBUG", "Temp file size: " + tempDescriptionMap.length() + " bytes");
                 Log.d("70K_NOTE_DEBUG", "Existing file size: " + (FileHandler70k.descriptionMapFile.exists() ? FileHandler70k.descriptionMapFile.length() : 0) + " bytes");
-                
-                boolean dataChanged = cacheManager.processIfChanged(tempDescriptionMap, FileHandler70k.descriptionMapFile, "descriptionMap");
-                Log.d("70K_NOTE_DEBUG", "processIfChanged returned: " + dataChanged);
-                
+                boolean dataChanged = ConditionalDownloader.fetchIfChanged(descriptionMapURL, FileHandler70k.descriptionMapFile, "descriptionMap", false);
+                Log.d("70K_NOTE_DEBUG", "fetchIfChanged returned: " + dataChanged);
+
                 if (dataChanged) {
                     Log.i("CustomerDescriptionHandler", "Description map data has changed, processed new file");
                     Log.d("70K_NOTE_DEBUG", "Final file size after processing: " + FileHandler70k.descriptionMapFile.length() + " bytes");
@@ -264,13 +216,15 @@ public class CustomerDescriptionHandler {
                     staticVariables.descriptionMapModData.clear();
                 } else {
                     Log.i("CustomerDescriptionHandler", "Description map data unchanged, using cached version");
-                    Log.d("70K_NOTE_DEBUG", "File was not updated due to hash comparison");
-                }
-            } else {
-                // Clean up temp file on download failure
-                if (tempDescriptionMap.exists()) {
-                    tempDescriptionMap.delete();
                 }
+            } catch (MalformedURLException mue) {
+                Log.e("SYNC getUpdate", "descriptionMapFile malformed url error", mue);
+            } catch (IOException ioe) {
+                Log.e("SYNC getUpdate", "descriptionMapFile io error", ioe);
+            } catch (SecurityException se) {
+                Log.e("SYNC getUpdate", "descriptionMapFile security error", se);
+            } catch (Exception generalError) {
+                Log.e("General Exception", "Downloading descriptionMapFile", generalError);
             }
 
             Log.d("descriptionMapFile", "descriptionMapFile processing completed!");
@@ -292,61 +246,15 @@ public class CustomerDescriptionHandler {
         Log.d("70K_NOTE_DEBUG", "eventYear: " + staticVariables.eventYear + ", eventYearRaw: " + staticVariables.eventYearRaw);
         Log.d("70K_NOTE_DEBUG", "eventYearIndex: " + staticVariables.eventYearIndex);
 
-        CacheHashManager cacheManager = CacheHashManager.getInstance();
-
         if (OnlineStatus.isOnline() == true) {
             
-            // Create temp file for hash comparison
-            File tempDescriptionMap = new File(showBands.newRootDir + FileHandler70k.directoryName + "70kbandDescriptionMap.csv.temp");
-            boolean downloadSuccessful = false;
-            
             try {
                 Log.d("70K_NOTE_DEBUG", "Downloading description map immediately from: " + descriptionMapURL);
-                
-                URL u = new URL(descriptionMapURL);
-                
-                // Handle HTTP redirects properly for Dropbox URLs
-                HttpURLConnection connection = (HttpURLConnection) u.openConnection();
-                connection.setInstanceFollowRedirects(true);
-                HttpConnectionHelper.applyTimeouts(connection);
-                
-                InputStream is = connection.getInputStream();
-                DataInputStream dis = new DataInputStream(is);
+                Log.d("70K_NOTE_DEBUG", "Existing file size: " + (FileHandler70k.descriptionMapFile.exists() ? FileHandler70k.descriptionMapFile.length() : 0) + " bytes");
 
-                byte[] buffer = new byte[1024];
-                int length;
+                boolean dataChanged = ConditionalDownloader.fetchIfChanged(descriptionMapURL, FileHandler70k.descriptionMapFile, "descriptionMap", false);
+                Log.d("70K_NOTE_DEBUG", "fetchIfChanged (immediate) returned: " + dataChanged);
 
-                // Download to temp file first
-                FileOutputStream fos = new FileOutputStream(tempDescriptionMap);
-                while ((length = dis.read(buffer)) > 0) {
-                    fos.write(buffer, 0, length);
-                }
-                fos.close();
-                dis.close();
-                is.close();
-                
-                downloadSuccessful = true;
-                Log.d("70K_NOTE_DEBUG", "Description map downloaded to temp file successfully");
-
-            } catch (MalformedURLException mue) {
-                Log.e("70K_NOTE_DEBUG", "descriptionMapFile malformed url error", mue);
-            } catch (IOException ioe) {
-                Log.e("70K_NOTE_DEBUG", "descriptionMapFile io error", ioe);
-            } catch (SecurityException se) {
-                Log.e("70K_NOTE_DEBUG", "descriptionMapFile security error", se);
-            } catch (Exception generalError) {
-                Log.e("70K_NOTE_DEBUG", "Error downloading descriptionMapFile immediately", generalError);
-            }
-            
-            // Process temp file only if download was successful and content changed
-            if (downloadSuccessful) {
-                Log.d("70K_NOTE_DEBUG", "Download successful (immediate), checking if content changed");
-                Log.d("70K_NOTE_DEBUG", "Temp file size: " + tempDescriptionMap.length() + " bytes");
-                Log.d("70K_NOTE_DEBUG", "Existing file size: " + (FileHandler70k.descriptionMapFile.exists() ? FileHandler70k.descriptionMapFile.length() : 0) + " bytes");
-                
-                boolean dataChanged = cacheManager.processIfChanged(tempDescriptionMap, FileHandler70k.descriptionMapFile, "descriptionMap");
-                Log.d("70K_NOTE_DEBUG", "processIfChanged (immediate) returned: " + dataChanged);
-                
                 if (dataChanged) {
                     Log.i("70K_NOTE_DEBUG", "Description map data has changed, processed new file");
                     Log.d("70K_NOTE_DEBUG", "Final file size after processing: " + FileHandler70k.descriptionMapFile.length() + " bytes");
@@ -355,13 +263,15 @@ public class CustomerDescriptionHandler {
                     staticVariables.descriptionMapModData.clear();
                 } else {
                     Log.i("70K_NOTE_DEBUG", "Description map data unchanged, using cached version");
-                    Log.d("70K_NOTE_DEBUG", "File was not updated due to hash comparison (immediate)");
-                }
-            } else {
-                // Clean up temp file on download failure
-                if (tempDescriptionMap.exists()) {
-                    tempDescriptionMap.delete();
                 }
+            } catch (MalformedURLException mue) {
+                Log.e("70K_NOTE_DEBUG", "descriptionMapFile malformed url error", mue);
+            } catch (IOException ioe) {
+                Log.e("70K_NOTE_DEBUG", "descriptionMapFile io error", ioe);
+            } catch (SecurityException se) {
+                Log.e("70K_NOTE_DEBUG", "descriptionMapFile security error", se);
+            } catch (Exception generalError) {
+                Log.e("70K_NOTE_DEBUG", "Error downloading descriptionMapFile immediately", generalError);
             }
         } else {
             Log.d("70K_NOTE_DEBUG", "Not online, cannot download description map file immediately");
@@ -414,38 +324,11 @@ public class CustomerDescriptionHandler {
         try {
             File file = FileHandler70k.descriptionMapFile;
 
-            BufferedReader br = new BufferedReader(new FileReader(file));
-            String line;
-            int lineCount = 0;
-            int processedCount = 0;
-            
-            // Read all lines into a list first to ensure we get everything
-            java.util.List<String> allLines = new java.util.ArrayList<>();
-            while ((line = br.readLine()) != null) {
-                allLines.add(line);
-            }
-            br.close();
-            
-            // Keep logging lightweight; this can run during startup.
-            Log.d("CustomerDescriptionHandler", "Description map: read " + allLines.size() + " lines from file");
-
-            // Now process all the lines
-            for (String currentLine : allLines) {
-                lineCount++;
-                String[] rowData = currentLine.split(",");
-                if (!"Band".equals(rowData[0])) {
-                    processedCount++;
-                    String normalizedBandName = normalizeBandName(rowData[0]);
-                    descriptionMapData.put(normalizedBandName, rowData[1]);
-                    if (rowData.length > 2){
-                        staticVariables.descriptionMapModData.put(normalizedBandName, rowData[2]);
-                    }
-                }
-            }
-            
+            int[] counts = parseDescriptionMapFile(file);
+
             Log.d(
                 "CustomerDescriptionHandler",
-                "Description map: parsed " + processedCount + " bands (" + lineCount + " lines). Map size=" + descriptionMapData.size()
+                "Description map: parsed " + counts[1] + " bands (" + counts[0] + " lines). Map size=" + descriptionMapData.size()
             );
         } catch (FileNotFoundException fnfe) {
             Log.e("General Exception", "Description map file not found, attempting to download it", fnfe);
@@ -455,37 +338,11 @@ public class CustomerDescriptionHandler {
             try {
                 File file = FileHandler70k.descriptionMapFile;
                 if (file.exists()) {
-                    BufferedReader br = new BufferedReader(new FileReader(file));
-                    String line;
-                    int retryLineCount = 0;
-                    int retryProcessedCount = 0;
-                    
-                    // Read all lines into a list first to ensure we get everything
-                    java.util.List<String> allLines = new java.util.ArrayList<>();
-                    while ((line = br.readLine()) != null) {
-                        allLines.add(line);
-                    }
-                    br.close();
-                    
-                    Log.d("CustomerDescriptionHandler", "Description map (retry): read " + allLines.size() + " lines from file");
-
-                    // Now process all the lines
-                    for (String currentLine : allLines) {
-                        retryLineCount++;
-                        String[] rowData = currentLine.split(",");
-                        if (!"Band".equals(rowData[0])) {
-                            retryProcessedCount++;
-                            String normalizedBandName = normalizeBandName(rowData[0]);
-                            descriptionMapData.put(normalizedBandName, rowData[1]);
-                            if (rowData.length > 2){
-                                staticVariables.descriptionMapModData.put(normalizedBandName, rowData[2]);
-                            }
-                        }
-                    }
-                    
+                    int[] counts = parseDescriptionMapFile(file);
+
                     Log.d(
                         "CustomerDescriptionHandler",
-                        "Description map (retry): parsed " + retryProcessedCount + " bands (" + retryLineCount + " lines). Map size=" + descriptionMapData.size()
+                        "Description map (retry): parsed " + counts[1] + " bands (" + counts[0] + " lines). Map size=" + descriptionMapData.size()
                     );
                 }
             } catch (Exception retryError) {
@@ -691,6 +548,36 @@ public class CustomerDescriptionHandler {
         Log.d("70K_NOTE_DEBUG", "reloadDescriptionMapFromDisk: loaded " + descriptionMapData.size() + " entries");
     }
 
+    /**
+     * Reads Band,URL[,Date] rows from the description map file into descriptionMapData and
+     * staticVariables.descriptionMapModData.
+     * @return {rows read, bands added}
+     */
+    private int[] parseDescriptionMapFile(File file) throws IOException {
+        final int[] counts = new int[2];
+        BufferedReader br = new BufferedReader(new FileReader(file));
+        try {
+            new CSVTokenizer(br).parse(new CSVTokenizer.RowCollector() {
+                @Override
+                void onRow(int row, List<String> rowData) {
+                    counts[0]++;
+                    if (rowData.size() < 2 || "Band".equals(rowData.get(0))) {
+                        return;
+                    }
+                    counts[1]++;
+                    String normalizedBandName = normalizeBandName(rowData.get(0));
+                    descriptionMapData.put(normalizedBandName, rowData.get(1));
+                    if (rowData.size() > 2 && !rowData.get(2).isEmpty()) {
+                        staticVariables.descriptionMapModData.put(normalizedBandName, rowData.get(2));
+                    }
+                }
+            });
+        } finally {
+            br.close();
+        }
+        return counts;
+    }
+
     /**
      * Reads the description map file without triggering any downloads.
      * Only reads the existing file if it exists.
@@ -702,27 +589,8 @@ public class CustomerDescriptionHandler {
         }
 
         try {
-            File file = FileHandler70k.descriptionMapFile;
-            BufferedReader br = new BufferedReader(new FileReader(file));
-            String line;
-
-            while ((line = br.readLine()) != null) {
-                String[] rowData = line.split(",");
-                if (!"Band".equals(rowData[0])) {
-                    String normalizedBandName = normalizeBandName(rowData[0]);
-                    Log.d("descriptionMapFile", "Adding " + normalizedBandName + "-" + rowData[1]);
-                    // SKILTRON DEBUG: Log if this is Skiltron
-                    if (rowData[0].toLowerCase().contains("skiltron")) {
-                        Log.d("SKILTRON_DEBUG", "Found Skiltron in CSV! Raw: '" + rowData[0] + "' Normalized: '" + normalizedBandName + "' URL: " + rowData[1]);
-                    }
-                    descriptionMapData.put(normalizedBandName, rowData[1]);
-                    if (rowData.length > 2){
-                        Log.d("descriptionMapFile", "Date value is " + rowData[2]);
-                        staticVariables.descriptionMapModData.put(normalizedBandName, rowData[2]);
-                    }
-                }
-            }
-            br.close();
+            int[] counts = parseDescriptionMapFile(FileHandler70k.descriptionMapFile);
+            Log.d("descriptionMapFile", "Read " + counts[1] + " bands from description map file");
         } catch (Exception e) {
             Log.e("70K_NOTE_DEBUG", "Error reading description map file", e);
         }
@@ -874,13 +742,37 @@ public class CustomerDescriptionHandler {
             connection.setInstanceFollowRedirects(true);
             HttpConnectionHelper.applyTimeouts(connection);
             
-            BufferedReader in = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-            String line;
+            // Only timeouts, dropped connections and server errors say anything about the link. A 4xx (e.g. a 404
+            // for a band without a note) is a normal round trip, as in ImageFetchEngine.
+            long requestStartMs = System.currentTimeMillis();
+            int status;
             String bandNote = "";
-            while ((line = in.readLine()) != null) {
-                bandNote += line + "\n";
+            try {
+                status = connection.getResponseCode();
+                if (status >= 500 || status == HttpURLConnection.HTTP_CLIENT_TIMEOUT || status == 429) {
+                    NetworkQuality.get().recordDownloadFailure();
+                    connection.disconnect();
+                    Log.d("70K_NOTE_DEBUG", "Note download for " + bandName + " failed with HTTP " + status);
+                    return;
+                }
+                long latencyMs = System.currentTimeMillis() - requestStartMs;
+                if (status >= 400) {
+                    NetworkQuality.get().recordDownloadSuccess(latencyMs, System.currentTimeMillis());
+                    connection.disconnect();
+                    Log.d("70K_NOTE_DEBUG", "No note for " + bandName + " (HTTP " + status + ")");
+                    return;
+                }
+                BufferedReader in = new BufferedReader(new InputStreamReader(connection.getInputStream()));
+                String line;
+                while ((line = in.readLine()) != null) {
+                    bandNote += line + "\n";
+                }
+                in.close();
+                NetworkQuality.get().recordDownloadSuccess(latencyMs, System.currentTimeMillis());
+            } catch (IOException e) {
+                NetworkQuality.get().recordDownloadFailure();
+                throw e;
             }
-            in.close();
 
             bandNote = this.removeSpecialCharsFromString(bandNote);
 
@@ -920,6 +812,16 @@ public class CustomerDescriptionHandler {
      * @param bandName The name of the band.
      */
     public void loadNoteFromURL(String bandName){
+        loadNoteFromURL(bandName, false);
+    }
+
+    /**
+     * Loads the note for a band from a remote URL.
+     * @param bandName The name of the band.
+     * @param knownStale True when the caller already checked (e.g. with {@link NoteCacheIndex}) that there is
+     *                   no custom note and no cached note for the current date, so the per-band probes are skipped.
+     */
+    void loadNoteFromURL(String bandName, boolean knownStale){
 
         if (Looper.myLooper() == Looper.getMainLooper()) {
             Log.w("70K_NOTE_DEBUG", "loadNoteFromURL on UI thread — skipping network download");
@@ -937,20 +839,22 @@ public class CustomerDescriptionHandler {
             // Note: Date is now embedded in the filename itself (bandName.note-DATE)
             // No need for separate changeFileFlag file anymore - fileExists() handles cache invalidation
             
-            File bandCustNoteFile = new File(showBands.newRootDir + FileHandler70k.directoryName + bandName + ".note_cust");
-            // PATCH: If a custom note exists, do NOT overwrite with default note from server
-            if (bandCustNoteFile.exists()) {
-                Log.d("70K_NOTE_DEBUG", "Custom note exists for " + bandName + ", skipping default note download and overwrite.");
-                return;
-            }
-            
-            // Check if we have a cached note with the current date
-            // fileExists() automatically cleans up obsolete cache and returns true only if current date cache exists
-            if (bandNoteHandler.fileExists() == true) {
-                Log.d("70K_NOTE_DEBUG", "getDescription, cached note exists with current date for " + bandName + ", skipping download");
-                return;
-            } else {
-                Log.d("70K_NOTE_DEBUG", "getDescription, no cached note with current date for " + bandName + ", downloading");
+            if (!knownStale) {
+                File bandCustNoteFile = new File(showBands.newRootDir + FileHandler70k.directoryName + bandName + ".note_cust");
+                // PATCH: If a custom note exists, do NOT overwrite with default note from server
+                if (bandCustNoteFile.exists()) {
+                    Log.d("70K_NOTE_DEBUG", "Custom note exists for " + bandName + ", skipping default note download and overwrite.");
+                    return;
+                }
+
+                // Check if we have a cached note with the current date
+                // fileExists() automatically cleans up obsolete cache and returns true only if current date cache exists
+                if (bandNoteHandler.fileExists() == true) {
+                    Log.d("70K_NOTE_DEBUG", "getDescription, cached note exists with current date for " + bandName + ", skipping download");
+                    return;
+                } else {
+                    Log.d("70K_NOTE_DEBUG", "getDescription, no cached note with current date for " + bandName + ", downloading");
+                }
             }
             String normalizedBandName = normalizeBandName(bandName);
             if (descriptionMapData.containsKey(normalizedBandName) == false) {
@@ -1087,6 +991,13 @@ public class CustomerDescriptionHandler {
                     if (isCancelled()) {
                         break;
                     }
+
+                    // Offline or behind a captive portal every remaining request would just time out
+                    NetworkQuality.Level quality = OnlineStatus.currentNetworkQuality();
+                    if (NetworkQuality.get().parallelism(1) == 0) {
+                        Log.d("AsyncTask", "Network quality " + quality + ", stopping bulk note downloads");
+                        break;
+                    }
                     
                     Log.d("AsyncTask", "Downloading NoteData for " + bandName);
                     descriptionHandler.loadNoteFromURL(bandName);
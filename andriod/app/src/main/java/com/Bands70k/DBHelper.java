@@ -9,16 +9,21 @@ import android.util.Log;
  * DBHelper
  * SQLite database helper for the 70K Bands app
  * Manages database creation and version upgrades
+ *
+ * Version 2 adds the festival tables read by {@link FestivalDataStore} (lineup, schedule, venues, and a
+ * per-profile copy of rankings and attendance) and opens the database in WAL mode, so list queries on
+ * one connection are not blocked by an import writing on another.
  */
 public class DBHelper extends SQLiteOpenHelper {
     private static final String TAG = "DBHelper";
     
     // Database Info
     private static final String DATABASE_NAME = "70kBands.db";
-    private static final int DATABASE_VERSION = 1;
+    private static final int DATABASE_VERSION = 2;
     
     public DBHelper(Context context) {
         super(context, DATABASE_NAME, null, DATABASE_VERSION);
+        setWriteAheadLoggingEnabled(true);
     }
     
     @Override
@@ -27,6 +32,7 @@ public class DBHelper extends SQLiteOpenHelper {
         
         // Create the shared_profiles table
         createSharedProfilesTable(db);
+        createFestivalTables(db);
         
         Log.d(TAG, "Database created successfully");
     }
@@ -38,6 +44,9 @@ public class DBHelper extends SQLiteOpenHelper {
         // Ensure shared_profiles table exists (for upgrades from version before profiles)
         createSharedProfilesTable(db);
         
+        // Version 2: festival tables (filled from the CSVs on the next hash check)
+        createFestivalTables(db);
+        
         Log.d(TAG, "Database upgrade completed");
     }
     
@@ -76,5 +85,78 @@ public class DBHelper extends SQLiteOpenHelper {
         db.execSQL(createTable);
         Log.d(TAG, "✅ shared_profiles table created/verified with camelCase columns");
     }
+    
+    /**
+     * Creates the festival data tables and their indexes if they don't exist.
+     * Column names must match FestivalDataStore constants.
+     * Events and bands are keyed per year; rankings and attendance per profile (Default or a shared profile's userId).
+     */
+    static void createFestivalTables(SQLiteDatabase db) {
+        db.execSQL("CREATE TABLE IF NOT EXISTS festival_sources (" +
+                "dataType TEXT NOT NULL, " +
+                "year INTEGER NOT NULL, " +
+                "hash TEXT NOT NULL, " +
+                "PRIMARY KEY (dataType, year))");
+        
+        db.execSQL("CREATE TABLE IF NOT EXISTS festival_bands (" +
+                "year INTEGER NOT NULL, " +
+                "bandName TEXT NOT NULL, " +
+                "country TEXT, " +
+                "genre TEXT, " +
+                "noteworthy TEXT, " +
+                "priorYears TEXT, " +
+                "signature TEXT NOT NULL, " +
+                "PRIMARY KEY (year, bandName))");
+        db.execSQL("CREATE INDEX IF NOT EXISTS idx_festival_bands_band ON festival_bands (bandName)");
+        
+        db.execSQL("CREATE TABLE IF NOT EXISTS festival_venues (" +
+                "venueId INTEGER PRIMARY KEY AUTOINCREMENT, " +
+                "name TEXT NOT NULL UNIQUE)");
+        
+        db.execSQL("CREATE TABLE IF NOT EXISTS festival_events (" +
+                "eventId INTEGER PRIMARY KEY AUTOINCREMENT, " +
+                "year INTEGER NOT NULL, " +
+                "rowKey TEXT NOT NULL, " +
+                "bandName TEXT NOT NULL, " +
+                "venueId INTEGER NOT NULL REFERENCES festival_venues (venueId), " +
+                "date TEXT, " +
+                "day TEXT, " +
+                "startTime TEXT, " +
+                "endTime TEXT, " +
+                "startEpoch INTEGER, " +
+                "endEpoch INTEGER, " +
+                "eventType TEXT, " +
+                "notes TEXT, " +
+                "descriptionUrl TEXT, " +
+                "imageUrl TEXT, " +
+                "attendanceStart TEXT, " +
+                "attendanceType TEXT, " +
+                "signature TEXT NOT NULL, " +
+                "UNIQUE (year, rowKey))");
+        db.execSQL("CREATE INDEX IF NOT EXISTS idx_festival_events_year_day_start ON festival_events (year, day, startEpoch)");
+        db.execSQL("CREATE INDEX IF NOT EXISTS idx_festival_events_band ON festival_events (bandName)");
+        db.execSQL("CREATE INDEX IF NOT EXISTS idx_festival_events_venue ON festival_events (venueId)");
+        
+        db.execSQL("CREATE TABLE IF NOT EXISTS festival_rankings (" +
+                "profileKey TEXT NOT NULL, " +
+                "bandName TEXT NOT NULL, " +
+                "ranking TEXT NOT NULL, " +
+                "PRIMARY KEY (profileKey, bandName))");
+        db.execSQL("CREATE INDEX IF NOT EXISTS idx_festival_rankings_band ON festival_rankings (bandName)");
+        
+        db.execSQL("CREATE TABLE IF NOT EXISTS festival_attendance (" +
+                "profileKey TEXT NOT NULL, " +
+                "storageKey TEXT NOT NULL, " +
+                "year INTEGER NOT NULL, " +
+                "bandName TEXT NOT NULL, " +
+                "location TEXT NOT NULL, " +
+                "startTime TEXT NOT NULL, " +
+                "eventType TEXT NOT NULL, " +
+                "scheduleDay TEXT, " +
+                "status TEXT NOT NULL, " +
+                "PRIMARY KEY (profileKey, storageKey))");
+        db.execSQL("CREATE INDEX IF NOT EXISTS idx_festival_attendance_event ON festival_attendance (profileKey, year, bandName)");
+        
+        Log.d(TAG, "✅ festival tables created/verified");
+    }
 }
-
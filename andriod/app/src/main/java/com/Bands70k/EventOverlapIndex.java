@@ -0,0 +1,209 @@
+package com.Bands70k;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Overlap and lookup index over a fixed set of {@link EventData}, shared by {@link AIScheduleBuilder}
+ * and {@link showsAttended}'s attendance conflict clearing.
+ *
+ * Events are bucketed by normalized calendar day. Each bucket is sorted by start time and keeps the running
+ * maximum end time, so the events overlapping an interval are found with a binary search plus a backwards walk
+ * that stops once no earlier event can still be running. Overnight events (end before start) end the next day,
+ * as in the builders' own overlap checks. Events without a date are checked against every day.
+ *
+ * A second map goes from attendance identity (band, location, normalized start time, event type, year) to
+ * events, so an attendance key resolves to its EventData without scanning the schedule.
+ */
+final class EventOverlapIndex {
+
+    private static final double SECONDS_PER_DAY = 86400;
+
+    /** Raw schedule date to normalized day; the set of distinct dates is small. */
+    private static final Map<String, String> NORMALIZED_DAYS = new ConcurrentHashMap<>();
+
+    private final Map<String, DayBucket> byDay = new HashMap<>();
+    private final DayBucket undated;
+    private final Map<String, List<EventData>> byIdentity = new HashMap<>();
+
+    EventOverlapIndex(Collection<EventData> events) {
+        Map<String, List<EventData>> grouped = new HashMap<>();
+        List<EventData> noDay = new ArrayList<>();
+        for (EventData event : events) {
+            if (event == null) continue;
+            String day = normalizedDay(event.date);
+            if (day == null) {
+                noDay.add(event);
+            } else {
+                List<EventData> list = grouped.get(day);
+                if (list == null) {
+                    list = new ArrayList<>();
+                    grouped.put(day, list);
+                }
+                list.add(event);
+            }
+
+            String key = identityKey(event.bandName, event.location, event.startTime, event.eventType,
+                    String.valueOf(event.eventYear));
+            if (key != null) {
+                List<EventData> same = byIdentity.get(key);
+                if (same == null) {
+                    same = new ArrayList<>(1);
+                    byIdentity.put(key, same);
+                }
+                same.add(event);
+            }
+        }
+        for (Map.Entry<String, List<EventData>> entry : grouped.entrySet()) {
+            byDay.put(entry.getKey(), new DayBucket(entry.getValue()));
+        }
+        undated = new DayBucket(noDay);
+    }
+
+    /**
+     * Events overlapping {@code event} on the same day, in start-time order; {@code event} itself is not included.
+     * If either side has no date, the events are compared by time only.
+     */
+    List<EventData> overlapping(EventData event) {
+        List<EventData> out = new ArrayList<>();
+        double start = event.timeIndex;
+        double end = wrappedEnd(event);
+        String day = normalizedDay(event.date);
+        if (day == null) {
+            for (DayBucket bucket : byDay.values()) {
+                bucket.collect(start, end, event, out);
+            }
+        } else {
+            DayBucket bucket = byDay.get(day);
+            if (bucket != null) {
+                bucket.collect(start, end, event, out);
+            }
+        }
+        undated.collect(start, end, event, out);
+        return out;
+    }
+
+    /**
+     * Finds the event an attendance entry refers to. When several share the identity (same band, stage and time
+     * on different days), prefers the one whose schedule day equals {@code scheduleDay}, otherwise the first.
+     */
+    EventData findEvent(String band, String location, String startTime, String eventType, String year,
+                        String scheduleDay) {
+        List<EventData> candidates = byIdentity.get(identityKey(band, location, startTime, eventType, year));
+        if (candidates == null || candidates.isEmpty()) return null;
+        if (scheduleDay != null && !scheduleDay.trim().isEmpty()) {
+            for (EventData e : candidates) {
+                if (scheduleDay.equals(e.day)) {
+                    return e;
+                }
+            }
+        }
+        return candidates.get(0);
+    }
+
+    /**
+     * Normalized calendar day (yyyy-MM-dd) for a schedule date, or null when there is none.
+     * Dates that do not parse as M/d/yyyy are returned unchanged.
+     */
+    static String normalizedDay(String dateString) {
+        if (dateString == null || dateString.isEmpty()) return null;
+        String cached = NORMALIZED_DAYS.get(dateString);
+        if (cached == null) {
+            cached = parseDay(dateString);
+            NORMALIZED_DAYS.put(dateString, cached);
+        }
+        return cached;
+    }
+
+    private static String parseDay(String dateString) {
+        try {
+            SimpleDateFormat in = new SimpleDateFormat("M/d/yyyy", Locale.US);
+            java.util.Date d = in.parse(dateString);
+            if (d == null) {
+                in = new SimpleDateFormat("MM/dd/yyyy", Locale.US);
+                d = in.parse(dateString);
+            }
+            if (d != null) {
+                SimpleDateFormat out = new SimpleDateFormat("yyyy-MM-dd", Locale.US);
+                return out.format(d);
+            }
+        } catch (Exception ignored) { }
+        return dateString;
+    }
+
+    private static double wrappedEnd(EventData event) {
+        double end = event.endTimeIndex;
+        if (event.timeIndex > end) end += SECONDS_PER_DAY;
+        return end;
+    }
+
+    private static String identityKey(String band, String location, String startTime, String eventType, String year) {
+        if (band == null || location == null || startTime == null || year == null) return null;
+        String type = eventType != null ? eventType : "";
+        if (staticVariables.unofficalEventOld.equals(type)) {
+            type = staticVariables.unofficalEvent;
+        }
+        return band + '\u0001' + location + '\u0001' + showsAttended.normalizeTimeForIndex(startTime)
+                + '\u0001' + type + '\u0001' + year;
+    }
+
+    /** One day's events sorted by start, with the running maximum end for early termination. */
+    private static final class DayBucket {
+        private final EventData[] events;
+        private final double[] starts;
+        private final double[] ends;
+        private final double[] maxEndThrough;
+
+        DayBucket(List<EventData> dayEvents) {
+            events = dayEvents.toArray(new EventData[0]);
+            Arrays.sort(events, new Comparator<EventData>() {
+                @Override
+                public int compare(EventData a, EventData b) {
+                    return Double.compare(a.timeIndex, b.timeIndex);
+                }
+            });
+            starts = new double[events.length];
+            ends = new double[events.length];
+            maxEndThrough = new double[events.length];
+            double maxEnd = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < events.length; i++) {
+                starts[i] = events[i].timeIndex;
+                ends[i] = wrappedEnd(events[i]);
+                maxEnd = Math.max(maxEnd, ends[i]);
+                maxEndThrough[i] = maxEnd;
+            }
+        }
+
+        /** Adds events with start < end and end > start, skipping {@code self}; keeps start order. */
+        void collect(double start, double end, EventData self, List<EventData> out) {
+            // First index whose start is >= end: nothing from there on can overlap.
+            int lo = 0;
+            int hi = starts.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (starts[mid] < end) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            int first = lo;
+            for (int i = lo - 1; i >= 0 && maxEndThrough[i] > start; i--) {
+                first = i;
+            }
+            for (int i = first; i < lo; i++) {
+                if (ends[i] > start && events[i] != self) {
+                    out.add(events[i]);
+                }
+            }
+        }
+    }
+}
@@ -91,13 +91,9 @@ public final class EventTypeConfig {
     public static Set<String> getEventTypesInScheduleExcludingShow() {
         LinkedHashSet<String> used = new LinkedHashSet<>();
         if (BandInfo.scheduleRecords == null) return used;
-        for (scheduleTimeTracker tracker : BandInfo.scheduleRecords.values()) {
-            if (tracker == null || tracker.scheduleByTime == null) continue;
-            for (scheduleHandler sh : tracker.scheduleByTime.values()) {
-                if (sh == null) continue;
-                String canonical = normalize(sh.getShowType());
-                if (isFilterableNonShow(canonical)) used.add(canonical);
-            }
+        ScheduleEventIndex index = ScheduleEventIndex.current();
+        for (int t = 0; t < index.typeNames.length; t++) {
+            if (index.typeIsFilterableNonShow[t]) used.add(normalize(index.typeNames[t]));
         }
 
         // Keep deterministic menu order.
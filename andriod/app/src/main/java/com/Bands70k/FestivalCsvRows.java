@@ -0,0 +1,243 @@
+package com.Bands70k;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Rows of the lineup and schedule CSVs as {@link FestivalDataStore} stores them, and the insert / update /
+ * delete delta between a new file and what is already stored for a year.
+ *
+ * Every row has a key that stays the same when other columns are edited (band name; band + venue + date +
+ * start + type for events, with "#2", "#3"... for exact repeats) and a signature of all stored columns, so a
+ * changed CSV only touches the rows that changed.
+ */
+final class FestivalCsvRows {
+
+    private static final char SEPARATOR = '\u001F';
+
+    /** One stored row: a stable key and a signature of every stored column. */
+    abstract static class Row {
+        String key;
+        String signature;
+
+        abstract String[] values();
+
+        final void seal(String key) {
+            this.key = key;
+            StringBuilder builder = new StringBuilder();
+            for (String value : values()) {
+                builder.append(value).append(SEPARATOR);
+            }
+            this.signature = builder.toString();
+        }
+    }
+
+    static final class BandRow extends Row {
+        String bandName;
+        String country;
+        String genre;
+        String noteworthy;
+        String priorYears;
+
+        @Override
+        String[] values() {
+            return new String[]{bandName, country, genre, noteworthy, priorYears};
+        }
+    }
+
+    static final class EventRow extends Row {
+        String bandName;
+        String location;
+        String date;
+        String day;
+        String startTime;
+        String endTime;
+        String eventType;
+        String notes;
+        String descriptionUrl;
+        String imageUrl;
+        /** Epoch millis, or 0 when the date or time does not parse (e.g. "TBD"). */
+        long startEpoch;
+        long endEpoch;
+
+        @Override
+        String[] values() {
+            return new String[]{bandName, location, date, day, startTime, endTime, eventType, notes,
+                    descriptionUrl, imageUrl, String.valueOf(startEpoch), String.valueOf(endEpoch)};
+        }
+    }
+
+    /** What to write so the stored rows match the new file. */
+    static final class Delta<T extends Row> {
+        final List<T> inserts = new ArrayList<>();
+        final List<T> updates = new ArrayList<>();
+        final List<String> deletes = new ArrayList<>();
+
+        boolean isEmpty() {
+            return inserts.isEmpty() && updates.isEmpty() && deletes.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return "+" + inserts.size() + " ~" + updates.size() + " -" + deletes.size();
+        }
+    }
+
+    private FestivalCsvRows() {
+    }
+
+    /**
+     * @param storedSignatures Key to signature of the rows stored for the year.
+     */
+    static <T extends Row> Delta<T> delta(Map<String, String> storedSignatures, List<T> rows) {
+        Delta<T> delta = new Delta<>();
+        Set<String> seen = new HashSet<>();
+        for (T row : rows) {
+            seen.add(row.key);
+            String stored = storedSignatures.get(row.key);
+            if (stored == null) {
+                delta.inserts.add(row);
+            } else if (!stored.equals(row.signature)) {
+                delta.updates.add(row);
+            }
+        }
+        for (String key : storedSignatures.keySet()) {
+            if (!seen.contains(key)) {
+                delta.deletes.add(key);
+            }
+        }
+        return delta;
+    }
+
+    /** Lineup rows by header name; a band listed twice keeps its first row. Does not close the reader. */
+    static List<BandRow> readBands(Reader reader) throws IOException {
+        final List<BandRow> rows = new ArrayList<>();
+        final Set<String> names = new HashSet<>();
+        new CSVTokenizer(reader).parse(new HeaderRowCollector() {
+            @Override
+            void onDataRow(List<String> fields) {
+                String bandName = field(fields, "bandName").trim();
+                if (bandName.isEmpty() || !names.add(bandName)) {
+                    return;
+                }
+                BandRow row = new BandRow();
+                row.bandName = bandName;
+                row.country = field(fields, "country");
+                row.genre = field(fields, "genre");
+                row.noteworthy = field(fields, "noteworthy");
+                row.priorYears = field(fields, "priorYears");
+                row.seal(bandName);
+                rows.add(row);
+            }
+        });
+        return rows;
+    }
+
+    /** Schedule rows with a band name, in file order. Does not close the reader. */
+    static List<EventRow> readSchedule(Reader reader) throws IOException {
+        final List<EventRow> rows = new ArrayList<>();
+        final Map<String, Integer> repeats = new HashMap<>();
+        final ScheduleDateTimeParser timeParser = new ScheduleDateTimeParser();
+        new CSVTokenizer(reader).parse(new HeaderRowCollector() {
+            @Override
+            String normalizeHeader(String header) {
+                if ("Venue".equalsIgnoreCase(header)) return staticVariables.schedLocationRow;
+                if ("Start".equalsIgnoreCase(header)) return staticVariables.schedStartTimeRow;
+                if ("End".equalsIgnoreCase(header)) return staticVariables.schedEndTimeRow;
+                return header;
+            }
+
+            @Override
+            void onDataRow(List<String> fields) {
+                EventRow row = new EventRow();
+                row.bandName = field(fields, staticVariables.schedBandRow).trim();
+                if (row.bandName.isEmpty()) {
+                    return;
+                }
+                row.location = field(fields, staticVariables.schedLocationRow).trim();
+                row.date = field(fields, staticVariables.schedDateRow).trim();
+                row.day = field(fields, staticVariables.schedDayRow).trim();
+                row.startTime = field(fields, staticVariables.schedStartTimeRow).trim();
+                row.endTime = field(fields, staticVariables.schedEndTimeRow).trim();
+                row.eventType = field(fields, staticVariables.schedTypeRow).trim();
+                row.notes = field(fields, staticVariables.schedNotesRow);
+                row.descriptionUrl = field(fields, staticVariables.schedDescriptionURLRow).trim();
+                row.imageUrl = field(fields, staticVariables.schedImageURLRow).trim();
+                row.startEpoch = epoch(timeParser.parse(row.date, row.startTime));
+                row.endEpoch = endEpoch(row.startEpoch, timeParser.parse(row.date, row.endTime));
+
+                String key = row.bandName + SEPARATOR + row.location + SEPARATOR + row.date + SEPARATOR
+                        + row.startTime + SEPARATOR + row.eventType;
+                Integer seen = repeats.get(key);
+                repeats.put(key, seen == null ? 1 : seen + 1);
+                row.seal(seen == null ? key : key + "#" + (seen + 1));
+                rows.add(row);
+            }
+        });
+        return rows;
+    }
+
+    private static long epoch(Date date) {
+        return date != null ? date.getTime() : 0L;
+    }
+
+    /** An end time before the start is past midnight, so it rolls to the next day (as the schedule grid does). */
+    private static long endEpoch(long startEpoch, Date end) {
+        if (end == null) {
+            return 0L;
+        }
+        if (startEpoch != 0L && end.getTime() < startEpoch) {
+            Calendar calendar = Calendar.getInstance();
+            calendar.setTime(end);
+            calendar.add(Calendar.HOUR_OF_DAY, 24);
+            return calendar.getTimeInMillis();
+        }
+        return end.getTime();
+    }
+
+    /** Maps the first non-blank row to column indexes and hands every later non-blank row to {@link #onDataRow}. */
+    private abstract static class HeaderRowCollector extends CSVTokenizer.RowCollector {
+        private final Map<String, Integer> columns = new HashMap<>();
+
+        String normalizeHeader(String header) {
+            return header;
+        }
+
+        abstract void onDataRow(List<String> fields);
+
+        final String field(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= fields.size()) {
+                return "";
+            }
+            String value = fields.get(index);
+            return value != null ? value : "";
+        }
+
+        @Override
+        void onRow(int row, List<String> fields) {
+            if (fields.size() == 1 && fields.get(0).trim().isEmpty()) {
+                return;
+            }
+            if (columns.isEmpty()) {
+                for (int i = 0; i < fields.size(); i++) {
+                    String header = fields.get(i).trim();
+                    if (!header.isEmpty() && header.charAt(0) == '\uFEFF') {
+                        header = header.substring(1).trim();
+                    }
+                    columns.put(normalizeHeader(header), i);
+                }
+                return;
+            }
+            onDataRow(fields);
+        }
+    }
+}
@@ -0,0 +1,602 @@
+package com.Bands70k;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.util.Log;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * FestivalDataStore
+ * Lineup, schedule, rankings and attendance in the 70kBands.db tables created by {@link DBHelper}.
+ *
+ * The CSVs, rankings files and attendance stores stay the source of truth; this is an indexed copy of them
+ * so screens can ask for "the events to list", "what I attended in 2024" or "a day by venue" without
+ * joining heap maps. It is kept current by:
+ * - {@link CacheHashManager#saveCachedHash}: a new lineup or schedule hash imports the file for the current
+ *   event year, writing only the rows that changed (see {@link FestivalCsvRows}).
+ * - rankStore, showsAttended and SharedPreferencesManager: rankings and attendance per profile.
+ *
+ * All writes run on the file executor, in order. Queries run on the calling thread and return empty results
+ * on the UI thread or before the database has opened (see {@link SQLiteProfileManager#getDatabaseIfReady}).
+ */
+final class FestivalDataStore {
+
+    private static final String TAG = "FestivalDataStore";
+
+    static final String SOURCE_BANDS = "bandInfo";
+    static final String SOURCE_SCHEDULE = "scheduleInfo";
+
+    // Table and column names (must match DBHelper.createFestivalTables)
+    private static final String TABLE_SOURCES = "festival_sources";
+    private static final String TABLE_BANDS = "festival_bands";
+    private static final String TABLE_VENUES = "festival_venues";
+    private static final String TABLE_EVENTS = "festival_events";
+    private static final String TABLE_RANKINGS = "festival_rankings";
+    private static final String TABLE_ATTENDANCE = "festival_attendance";
+    private static final String COL_DATA_TYPE = "dataType";
+    private static final String COL_YEAR = "year";
+    private static final String COL_HASH = "hash";
+    private static final String COL_BAND_NAME = "bandName";
+    private static final String COL_SIGNATURE = "signature";
+    private static final String COL_ROW_KEY = "rowKey";
+    private static final String COL_VENUE_ID = "venueId";
+    private static final String COL_NAME = "name";
+    private static final String COL_PROFILE_KEY = "profileKey";
+    private static final String COL_RANKING = "ranking";
+    private static final String COL_STORAGE_KEY = "storageKey";
+    private static final String COL_STATUS = "status";
+
+    private static final String EVENT_SELECT = "SELECT e.eventId, e.year, e.bandName, v.name, e.date, e.day, "
+            + "e.startTime, e.endTime, e.startEpoch, e.endEpoch, e.eventType, e.notes, "
+            + "COALESCE(r.ranking, '" + staticVariables.unknownKey + "') AS ranking, "
+            // A day-suffixed key (colliding rows) beats the plain key for the same show.
+            + "(SELECT a.status FROM festival_attendance a WHERE a.profileKey = ? AND a.year = e.year "
+            + "AND a.bandName = e.bandName AND a.location = v.name AND a.startTime = e.attendanceStart "
+            + "AND a.eventType = e.attendanceType AND (a.scheduleDay IS NULL OR a.scheduleDay = e.day) "
+            + "ORDER BY a.scheduleDay IS NULL LIMIT 1) AS status "
+            + "FROM festival_events e "
+            + "JOIN festival_venues v ON v.venueId = e.venueId "
+            + "LEFT JOIN festival_rankings r ON r.profileKey = ? AND r.bandName = e.bandName "
+            + "WHERE e.year = ?";
+    private static final String EVENT_ORDER = " ORDER BY e.startEpoch, v.name, e.bandName";
+
+    private static FestivalDataStore instance;
+
+    /** Sources with an import already queued; a burst of hash saves imports once. */
+    private final Set<String> importsQueued = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+    /** One schedule row with the profile's ranking and attendance for the band / show. */
+    static final class Event {
+        long eventId;
+        int year;
+        String bandName;
+        String venue;
+        String date;
+        String day;
+        String startTime;
+        String endTime;
+        long startEpoch;
+        long endEpoch;
+        String eventType;
+        String notes;
+        /** staticVariables.mustSeeKey etc., or unknownKey. */
+        String ranking;
+        /** staticVariables.sawAllStatus etc., or null if never marked. */
+        String attendance;
+    }
+
+    /** Filters for {@link #eventsForList}; null (or false) means no filter on that field. */
+    static final class EventFilter {
+        String day;
+        Set<String> venues;
+        Set<String> eventTypes;
+        /** Ranking keys to keep; use staticVariables.unknownKey for unranked bands. */
+        Set<String> rankings;
+        boolean attendedOnly;
+    }
+
+    private FestivalDataStore() {
+    }
+
+    static synchronized FestivalDataStore getInstance() {
+        if (instance == null) {
+            instance = new FestivalDataStore();
+        }
+        return instance;
+    }
+
+    // ---------------------------------------------------------------------------------------------
+    // Lineup and schedule
+    // ---------------------------------------------------------------------------------------------
+
+    /**
+     * Called when CacheHashManager saves a hash; a lineup or schedule change is imported in the background.
+     * @param dataType The CacheHashes key ("bandInfo", "scheduleInfo", ...).
+     */
+    void onSourceHashSaved(String dataType) {
+        if (SOURCE_BANDS.equals(dataType) || SOURCE_SCHEDULE.equals(dataType)) {
+            refreshAsync(dataType);
+        }
+    }
+
+    /** Imports the lineup and schedule if they changed since the last import (e.g. first launch after upgrade). */
+    void refreshAsync() {
+        refreshAsync(SOURCE_BANDS);
+        refreshAsync(SOURCE_SCHEDULE);
+    }
+
+    private void refreshAsync(final String dataType) {
+        if (!importsQueued.add(dataType)) {
+            return;
+        }
+        ThreadManager.getInstance().executeFile(() -> {
+            importsQueued.remove(dataType);
+            try {
+                importIfChanged(dataType);
+            } catch (Exception e) {
+                Log.e(TAG, "❌ Import of " + dataType + " failed", e);
+            }
+        });
+    }
+
+    /**
+     * Brings the stored rows for the current event year in line with the file, unless the file's hash is the
+     * one already imported. Background threads only.
+     */
+    void importIfChanged(String dataType) throws IOException {
+        int year = currentYear();
+        File file = SOURCE_BANDS.equals(dataType) ? FileHandler70k.bandInfo : FileHandler70k.schedule;
+        String hash = CacheHashManager.getInstance().getCachedHash(dataType);
+        if (year <= 0 || hash == null || !file.exists()) {
+            return;
+        }
+        SQLiteDatabase db = SQLiteProfileManager.getInstance().getDatabaseIfReady();
+        if (db == null) {
+            Log.d(TAG, "Database not ready, skipping import of " + dataType);
+            return;
+        }
+        if (hash.equals(importedHash(db, dataType, year))) {
+            Log.d(TAG, dataType + " " + year + " already imported");
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        FestivalCsvRows.Delta<?> delta;
+        BufferedReader reader = new BufferedReader(new FileReader(file));
+        try {
+            db.beginTransaction();
+            try {
+                if (SOURCE_BANDS.equals(dataType)) {
+                    delta = applyBands(db, year, FestivalCsvRows.readBands(reader));
+                } else {
+                    delta = applyEvents(db, year, FestivalCsvRows.readSchedule(reader));
+                }
+                ContentValues source = new ContentValues();
+                source.put(COL_DATA_TYPE, dataType);
+                source.put(COL_YEAR, year);
+                source.put(COL_HASH, hash);
+                db.insertWithOnConflict(TABLE_SOURCES, null, source, SQLiteDatabase.CONFLICT_REPLACE);
+                db.setTransactionSuccessful();
+            } finally {
+                db.endTransaction();
+            }
+        } finally {
+            reader.close();
+        }
+        Log.d(TAG, "✅ Imported " + dataType + " " + year + ": " + delta + " rows in "
+                + (System.currentTimeMillis() - start) + "ms");
+    }
+
+    private static String importedHash(SQLiteDatabase db, String dataType, int year) {
+        Cursor cursor = db.query(TABLE_SOURCES, new String[]{COL_HASH}, COL_DATA_TYPE + " = ? AND " + COL_YEAR + " = ?",
+                new String[]{dataType, String.valueOf(year)}, null, null, null);
+        try {
+            return cursor.moveToFirst() ? cursor.getString(0) : null;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    private static Map<String, String> storedSignatures(SQLiteDatabase db, String table, String keyColumn, int year) {
+        Map<String, String> signatures = new HashMap<>();
+        Cursor cursor = db.query(table, new String[]{keyColumn, COL_SIGNATURE}, COL_YEAR + " = ?",
+                new String[]{String.valueOf(year)}, null, null, null);
+        try {
+            while (cursor.moveToNext()) {
+                signatures.put(cursor.getString(0), cursor.getString(1));
+            }
+        } finally {
+            cursor.close();
+        }
+        return signatures;
+    }
+
+    private static FestivalCsvRows.Delta<FestivalCsvRows.BandRow> applyBands(
+            SQLiteDatabase db, int year, List<FestivalCsvRows.BandRow> rows) {
+        FestivalCsvRows.Delta<FestivalCsvRows.BandRow> delta =
+                FestivalCsvRows.delta(storedSignatures(db, TABLE_BANDS, COL_BAND_NAME, year), rows);
+        String where = COL_YEAR + " = ? AND " + COL_BAND_NAME + " = ?";
+        for (FestivalCsvRows.BandRow row : delta.inserts) {
+            db.insertOrThrow(TABLE_BANDS, null, bandValues(year, row));
+        }
+        for (FestivalCsvRows.BandRow row : delta.updates) {
+            db.update(TABLE_BANDS, bandValues(year, row), where, new String[]{String.valueOf(year), row.key});
+        }
+        for (String key : delta.deletes) {
+            db.delete(TABLE_BANDS, where, new String[]{String.valueOf(year), key});
+        }
+        return delta;
+    }
+
+    private static ContentValues bandValues(int year, FestivalCsvRows.BandRow row) {
+        ContentValues values = new ContentValues();
+        values.put(COL_YEAR, year);
+        values.put(COL_BAND_NAME, row.bandName);
+        values.put("country", row.country);
+        values.put("genre", row.genre);
+        values.put("noteworthy", row.noteworthy);
+        values.put("priorYears", row.priorYears);
+        values.put(COL_SIGNATURE, row.signature);
+        return values;
+    }
+
+    private static FestivalCsvRows.Delta<FestivalCsvRows.EventRow> applyEvents(
+            SQLiteDatabase db, int year, List<FestivalCsvRows.EventRow> rows) {
+        FestivalCsvRows.Delta<FestivalCsvRows.EventRow> delta =
+                FestivalCsvRows.delta(storedSignatures(db, TABLE_EVENTS, COL_ROW_KEY, year), rows);
+        Map<String, Long> venueIds = new HashMap<>();
+        String where = COL_YEAR + " = ? AND " + COL_ROW_KEY + " = ?";
+        for (FestivalCsvRows.EventRow row : delta.inserts) {
+            db.insertOrThrow(TABLE_EVENTS, null, eventValues(db, venueIds, year, row));
+        }
+        for (FestivalCsvRows.EventRow row : delta.updates) {
+            db.update(TABLE_EVENTS, eventValues(db, venueIds, year, row), where, new String[]{String.valueOf(year), row.key});
+        }
+        for (String key : delta.deletes) {
+            db.delete(TABLE_EVENTS, where, new String[]{String.valueOf(year), key});
+        }
+        return delta;
+    }
+
+    private static ContentValues eventValues(SQLiteDatabase db, Map<String, Long> venueIds, int year,
+                                             FestivalCsvRows.EventRow row) {
+        ContentValues values = new ContentValues();
+        values.put(COL_YEAR, year);
+        values.put(COL_ROW_KEY, row.key);
+        values.put(COL_BAND_NAME, row.bandName);
+        values.put(COL_VENUE_ID, venueId(db, venueIds, row.location));
+        values.put("date", row.date);
+        values.put("day", row.day);
+        values.put("startTime", row.startTime);
+        values.put("endTime", row.endTime);
+        values.put("startEpoch", row.startEpoch);
+        values.put("endEpoch", row.endEpoch);
+        values.put("eventType", row.eventType);
+        values.put("notes", row.notes);
+        values.put("descriptionUrl", row.descriptionUrl);
+        values.put("imageUrl", row.imageUrl);
+        // Same normalization as attendance storage keys, so the attendance join is a plain equality.
+        values.put("attendanceStart", showsAttended.normalizeTimeForIndex(row.startTime));
+        values.put("attendanceType", AttendanceIndexKeys.normalizedEventTypeForKey(row.eventType));
+        values.put(COL_SIGNATURE, row.signature);
+        return values;
+    }
+
+    private static long venueId(SQLiteDatabase db, Map<String, Long> venueIds, String name) {
+        Long id = venueIds.get(name);
+        if (id != null) {
+            return id;
+        }
+        Cursor cursor = db.query(TABLE_VENUES, new String[]{COL_VENUE_ID}, COL_NAME + " = ?", new String[]{name},
+                null, null, null);
+        try {
+            if (cursor.moveToFirst()) {
+                id = cursor.getLong(0);
+            }
+        } finally {
+            cursor.close();
+        }
+        if (id == null) {
+            ContentValues values = new ContentValues();
+            values.put(COL_NAME, name);
+            id = db.insertOrThrow(TABLE_VENUES, null, values);
+        }
+        venueIds.put(name, id);
+        return id;
+    }
+
+    // ---------------------------------------------------------------------------------------------
+    // Rankings and attendance per profile
+    // ---------------------------------------------------------------------------------------------
+
+    /** Makes the stored rankings of {@code profileKey} equal {@code rankings} (band to ranking); pass a copy. */
+    void syncRankingsAsync(final String profileKey, final Map<String, String> rankings) {
+        ThreadManager.getInstance().executeFile(() -> {
+            SQLiteDatabase db = SQLiteProfileManager.getInstance().getDatabaseIfReady();
+            if (db == null || profileKey == null) {
+                return;
+            }
+            Map<String, String> normalized = new HashMap<>();
+            for (Map.Entry<String, String> entry : rankings.entrySet()) {
+                normalized.put(entry.getKey(), rankingKey(entry.getValue()));
+            }
+            try {
+                int changed = replaceProfileRows(db, TABLE_RANKINGS, COL_BAND_NAME, COL_RANKING, profileKey, normalized);
+                Log.d(TAG, "Synced rankings for profile '" + profileKey + "': " + changed + " changed");
+            } catch (Exception e) {
+                Log.e(TAG, "❌ Ranking sync failed for profile '" + profileKey + "'", e);
+            }
+        });
+    }
+
+    /** Makes the stored attendance of {@code profileKey} equal {@code attendance} (storage key to status); pass a copy. */
+    void syncAttendanceAsync(final String profileKey, final Map<String, String> attendance) {
+        ThreadManager.getInstance().executeFile(() -> {
+            SQLiteDatabase db = SQLiteProfileManager.getInstance().getDatabaseIfReady();
+            if (db == null || profileKey == null) {
+                return;
+            }
+            try {
+                int changed = replaceProfileRows(db, TABLE_ATTENDANCE, COL_STORAGE_KEY, COL_STATUS, profileKey, attendance);
+                Log.d(TAG, "Synced attendance for profile '" + profileKey + "': " + changed + " changed");
+            } catch (Exception e) {
+                Log.e(TAG, "❌ Attendance sync failed for profile '" + profileKey + "'", e);
+            }
+        });
+    }
+
+    /** Records one attendance change (null status removes it). */
+    void putAttendanceAsync(final String profileKey, final String storageKey, final String status) {
+        ThreadManager.getInstance().executeFile(() -> {
+            SQLiteDatabase db = SQLiteProfileManager.getInstance().getDatabaseIfReady();
+            if (db == null || profileKey == null) {
+                return;
+            }
+            try {
+                if (status == null) {
+                    db.delete(TABLE_ATTENDANCE, COL_PROFILE_KEY + " = ? AND " + COL_STORAGE_KEY + " = ?",
+                            new String[]{profileKey, storageKey});
+                } else {
+                    putProfileRow(db, TABLE_ATTENDANCE, COL_STORAGE_KEY, COL_STATUS, profileKey, storageKey, status);
+                }
+            } catch (Exception e) {
+                Log.e(TAG, "❌ Attendance change failed for " + storageKey, e);
+            }
+        });
+    }
+
+    /** Drops a deleted profile's rankings and attendance. */
+    void deleteProfileAsync(final String profileKey) {
+        ThreadManager.getInstance().executeFile(() -> {
+            SQLiteDatabase db = SQLiteProfileManager.getInstance().getDatabaseIfReady();
+            if (db == null) {
+                return;
+            }
+            try {
+                String[] args = {profileKey};
+                int rankings = db.delete(TABLE_RANKINGS, COL_PROFILE_KEY + " = ?", args);
+                int attendance = db.delete(TABLE_ATTENDANCE, COL_PROFILE_KEY + " = ?", args);
+                Log.d(TAG, "Deleted profile '" + profileKey + "': " + rankings + " rankings, " + attendance + " attendance rows");
+            } catch (Exception e) {
+                Log.e(TAG, "❌ Delete failed for profile '" + profileKey + "'", e);
+            }
+        });
+    }
+
+    /**
+     * Writes the difference between the stored (key, value) rows of a profile and {@code wanted}.
+     * @return The number of rows inserted, updated or deleted.
+     */
+    private static int replaceProfileRows(SQLiteDatabase db, String table, String keyColumn, String valueColumn,
+                                          String profileKey, Map<String, String> wanted) {
+        Map<String, String> stored = new HashMap<>();
+        Cursor cursor = db.query(table, new String[]{keyColumn, valueColumn}, COL_PROFILE_KEY + " = ?",
+                new String[]{profileKey}, null, null, null);
+        try {
+            while (cursor.moveToNext()) {
+                stored.put(cursor.getString(0), cursor.getString(1));
+            }
+        } finally {
+            cursor.close();
+        }
+
+        int changed = 0;
+        db.beginTransaction();
+        try {
+            for (Map.Entry<String, String> entry : wanted.entrySet()) {
+                if (entry.getValue() == null || entry.getValue().equals(stored.get(entry.getKey()))) {
+                    continue;
+                }
+                if (putProfileRow(db, table, keyColumn, valueColumn, profileKey, entry.getKey(), entry.getValue())) {
+                    changed++;
+                }
+            }
+            for (String key : stored.keySet()) {
+                if (!wanted.containsKey(key)) {
+                    db.delete(table, COL_PROFILE_KEY + " = ? AND " + keyColumn + " = ?", new String[]{profileKey, key});
+                    changed++;
+                }
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+        return changed;
+    }
+
+    /** @return False if the key could not be stored (an attendance key that does not parse). */
+    private static boolean putProfileRow(SQLiteDatabase db, String table, String keyColumn, String valueColumn,
+                                         String profileKey, String key, String value) {
+        ContentValues values = new ContentValues();
+        values.put(COL_PROFILE_KEY, profileKey);
+        values.put(keyColumn, key);
+        values.put(valueColumn, value);
+        if (TABLE_ATTENDANCE.equals(table)) {
+            showsAttended.ParsedAttendanceKey parsed = showsAttended.parseAttendanceStorageKey(key);
+            if (parsed == null) {
+                return false;
+            }
+            try {
+                values.put(COL_YEAR, Integer.parseInt(parsed.yearPlain));
+            } catch (NumberFormatException e) {
+                return false;
+            }
+            values.put(COL_BAND_NAME, parsed.band);
+            values.put("location", parsed.location);
+            values.put("startTime", parsed.startTime);
+            values.put("eventType", AttendanceIndexKeys.normalizedEventTypeForKey(parsed.eventType));
+            values.put("scheduleDay", parsed.scheduleDaySuffix);
+        }
+        db.insertWithOnConflict(table, null, values, SQLiteDatabase.CONFLICT_REPLACE);
+        return true;
+    }
+
+    /** Rankings files hold keys, but very old ones hold the icons; store the key. */
+    private static String rankingKey(String ranking) {
+        if (ranking == null) {
+            return staticVariables.unknownKey;
+        }
+        if (ranking.equals(staticVariables.mustSeeIcon)) {
+            return staticVariables.mustSeeKey;
+        }
+        if (ranking.equals(staticVariables.mightSeeIcon) || ranking.equals(staticVariables.oldMightSeeIcon)) {
+            return staticVariables.mightSeeKey;
+        }
+        if (ranking.equals(staticVariables.wontSeeIcon)) {
+            return staticVariables.wontSeeKey;
+        }
+        return ranking;
+    }
+
+    // ---------------------------------------------------------------------------------------------
+    // Queries (background threads)
+    // ---------------------------------------------------------------------------------------------
+
+    /** Events of {@code year} passing {@code filter} (null for all), by start time, with {@code profileKey}'s marks. */
+    List<Event> eventsForList(int year, String profileKey, EventFilter filter) {
+        StringBuilder sql = new StringBuilder(EVENT_SELECT);
+        List<String> args = new ArrayList<>();
+        args.add(profileKey);
+        args.add(profileKey);
+        args.add(String.valueOf(year));
+        if (filter != null) {
+            if (filter.day != null) {
+                sql.append(" AND e.day = ?");
+                args.add(filter.day);
+            }
+            appendIn(sql, args, "v.name", filter.venues);
+            appendIn(sql, args, "e.eventType", filter.eventTypes);
+            appendIn(sql, args, "ranking", filter.rankings);
+            if (filter.attendedOnly) {
+                sql.append(" AND status IS NOT NULL AND status <> ?");
+                args.add(staticVariables.sawNoneStatus);
+            }
+        }
+        sql.append(EVENT_ORDER);
+        return queryEvents(sql.toString(), args);
+    }
+
+    /** Events of {@code year} that {@code profileKey} marked as seen (all or some), by start time. */
+    List<Event> attendedEvents(int year, String profileKey) {
+        EventFilter filter = new EventFilter();
+        filter.attendedOnly = true;
+        return eventsForList(year, profileKey, filter);
+    }
+
+    /**
+     * Events of {@code year} grouped by day, then venue. Days and venues are in order of their first event,
+     * and each list is by start time.
+     */
+    Map<String, Map<String, List<Event>>> eventsByDayAndVenue(int year, String profileKey) {
+        Map<String, Map<String, List<Event>>> days = new LinkedHashMap<>();
+        for (Event event : eventsForList(year, profileKey, null)) {
+            Map<String, List<Event>> venues = days.get(event.day);
+            if (venues == null) {
+                venues = new LinkedHashMap<>();
+                days.put(event.day, venues);
+            }
+            List<Event> events = venues.get(event.venue);
+            if (events == null) {
+                events = new ArrayList<>();
+                venues.put(event.venue, events);
+            }
+            events.add(event);
+        }
+        return days;
+    }
+
+    private static void appendIn(StringBuilder sql, List<String> args, String column, Set<String> values) {
+        if (values == null) {
+            return;
+        }
+        if (values.isEmpty()) {
+            sql.append(" AND 0");
+            return;
+        }
+        sql.append(" AND ").append(column).append(" IN (");
+        int i = 0;
+        for (String value : values) {
+            sql.append(i++ == 0 ? "?" : ", ?");
+            args.add(value);
+        }
+        sql.append(')');
+    }
+
+    private static List<Event> queryEvents(String sql, List<String> args) {
+        List<Event> events = new ArrayList<>();
+        SQLiteDatabase db = SQLiteProfileManager.getInstance().getDatabaseIfReady();
+        if (db == null) {
+            Log.d(TAG, "Database not ready, returning no events");
+            return events;
+        }
+        long start = System.currentTimeMillis();
+        Cursor cursor = null;
+        try {
+            cursor = db.rawQuery(sql, args.toArray(new String[0]));
+            while (cursor.moveToNext()) {
+                Event event = new Event();
+                event.eventId = cursor.getLong(0);
+                event.year = cursor.getInt(1);
+                event.bandName = cursor.getString(2);
+                event.venue = cursor.getString(3);
+                event.date = cursor.getString(4);
+                event.day = cursor.getString(5);
+                event.startTime = cursor.getString(6);
+                event.endTime = cursor.getString(7);
+                event.startEpoch = cursor.getLong(8);
+                event.endEpoch = cursor.getLong(9);
+                event.eventType = cursor.getString(10);
+                event.notes = cursor.getString(11);
+                event.ranking = cursor.getString(12);
+                event.attendance = cursor.getString(13);
+                events.add(event);
+            }
+        } catch (Exception e) {
+            Log.e(TAG, "❌ Event query failed", e);
+        } finally {
+            if (cursor != null) {
+                cursor.close();
+            }
+        }
+        Log.d(TAG, "Queried " + events.size() + " events in " + (System.currentTimeMillis() - start) + "ms");
+        return events;
+    }
+
+    private static int currentYear() {
+        Integer year = staticVariables.eventYear;
+        return year != null ? year : 0;
+    }
+}
@@ -50,6 +50,9 @@ public class FileHandler70k {
     public static final File countryFile = new File(showBands.newRootDir + directoryName + "country.txt");
 
     public static final File bandListCache = new File(showBands.newRootDir + directoryName + "bandListCache.data");
+    // Binary snapshots of the parsed band / schedule CSVs (see ParsedDataSnapshot).
+    public static final File bandInfoSnapshot = new File(showBands.newRootDir + directoryName + "70kbandInfo.snapshot");
+    public static final File scheduleSnapshot = new File(showBands.newRootDir + directoryName + "70kScheduleInfo.snapshot");
 
 
     public static final File rootNoMedia = new File(showBands.newRootDir + directoryName + ".nomedia");
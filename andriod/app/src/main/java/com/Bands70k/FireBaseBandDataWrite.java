@@ -11,8 +11,10 @@ import java.io.FileOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Handles writing band ranking data to Firebase and local cache.
@@ -73,15 +75,31 @@ public class FireBaseBandDataWrite {
             return 0;
         }
 
-        buildBandRankArray(storageYear);
+        String eventYear = String.valueOf(storageYear);
+        String scope = FirebaseChangeJournal.scopeFor(staticVariables.userID, eventYear);
+        FirebaseChangeJournal journal = FirebaseChangeJournal.forChannel(FirebaseChangeJournal.BANDS);
+        FirebaseChangeJournal.Snapshot snapshot = journal != null ? journal.snapshot(scope) : null;
+        boolean fullUpload = snapshot == null || snapshot.fullUpload;
+
+        if (fullUpload) {
+            buildBandRankArray(storageYear);
+        } else {
+            boolean lineupLoaded = buildChangedBandRankArray(storageYear, snapshot.keys.keySet());
+            if (lineupLoaded && bandRanks.isEmpty()) {
+                // Only bands outside this year's lineup changed: nothing to send, and nothing left to retry.
+                Log.d("FireBaseBandDataWrite", "No lineup band among " + snapshot.keys.size() + " changed keys — nothing to upload");
+                journal.acknowledge(snapshot, scope);
+                FirebaseWriteMonitor.recordWriteSuccess("band_batch_empty_delta");
+                return 0;
+            }
+        }
 
         if (bandRanks.isEmpty()) {
             Log.e("FireBaseBandDataWrite", "BLOCKED - no lineup bands for pointer year " + storageYear + "; refusing invalid write");
             return 0;
         }
 
-        if (checkIfDataHasChanged() == true) {
-            String eventYear = String.valueOf(storageYear);
+        if (!fullUpload || checkIfDataHasChanged() == true) {
             DatabaseReference bandDataRef = FirebaseConnectionHelper.databaseReference()
                     .child("bandData/").child(staticVariables.userID).child(eventYear);
             
@@ -102,23 +120,32 @@ public class FireBaseBandDataWrite {
                 batchUpdate.put(sanitizedBandName, bandData);
             }
             
-            Log.d("FireBaseBandDataWrite", "Sending full lineup (" + batchUpdate.size()
+            Log.d("FireBaseBandDataWrite", "Sending " + (fullUpload ? "full lineup" : "changed bands") + " (" + batchUpdate.size()
                     + " bands) at bandData/" + staticVariables.userID + "/" + eventYear
                     + " (uiEventYear=" + staticVariables.eventYear + ")");
             try {
                 FirebaseConnectionHelper.goOnline("band_batch_write_start");
-                bandDataRef.setValue(batchUpdate, (DatabaseError error, DatabaseReference ref) -> {
+                DatabaseReference.CompletionListener listener = (DatabaseError error, DatabaseReference ref) -> {
                     if (error != null) {
                         Log.e("FireBaseBandDataWrite", "Batch write failed: " + error.getMessage());
                         FirebaseWriteMonitor.recordWriteFailure("band_batch");
                     } else {
                         Log.d("FireBaseBandDataWrite", "Batch write successful for pointer year " + eventYear);
+                        if (journal != null) {
+                            journal.acknowledge(snapshot, scope);
+                        }
                         FirebaseWriteMonitor.recordWriteSuccess("band_batch");
                     }
                     if (onComplete != null) {
                         onComplete.run();
                     }
-                });
+                };
+                if (fullUpload) {
+                    // The full lineup replaces the year, dropping bands no longer in it.
+                    bandDataRef.setValue(batchUpdate, listener);
+                } else {
+                    bandDataRef.updateChildren(batchUpdate, listener);
+                }
                 return 1;
             } catch (Exception error){
                 Log.e("FireBaseBandDataWrite", "Batch write exception: " + error.toString());
@@ -131,6 +158,10 @@ public class FireBaseBandDataWrite {
         }
 
         Log.d("FireBaseBandDataWrite", "Band data unchanged — no Firebase write");
+        // Same lineup ranks as the last successful upload, so that upload is the baseline for this year
+        if (journal != null && snapshot != null) {
+            journal.acknowledge(snapshot, scope);
+        }
         return 0;
     }
 
@@ -164,24 +195,52 @@ public class FireBaseBandDataWrite {
         }
 
         for (String bandName: bandNames) {
-            String ranking = rankStore.getRankForBand(bandName);
-
-            if (ranking == staticVariables.mustSeeIcon){
-                ranking = "Must";
-            } else if (ranking == staticVariables.mightSeeIcon){
-                ranking = "Might";
-            } else if (ranking == staticVariables.wontSeeIcon){
-                ranking = "Wont";
-            } else {
-                ranking = "Unknown";
-            }
-
-            bandRanks.put(bandName, ranking);
+            bandRanks.put(bandName, firebaseRanking(rankStore.getRankForBand(bandName)));
         }
         
         Log.d("FireBaseBandDataWrite", "Built priority array for " + bandRanks.size() + " lineup bands");
     }
 
+    /**
+     * Builds rankings for just the changed bands that are in the pointer year's lineup.
+     * @return False when the lineup for the pointer year is not available (nothing can be decided).
+     */
+    private boolean buildChangedBandRankArray(int storageYear, Set<String> changedBands) {
+        bandRanks.clear();
+
+        if (staticVariables.eventYear != null && staticVariables.eventYear > 0
+                && staticVariables.eventYear != storageYear) {
+            Log.e("FireBaseBandDataWrite", "BLOCKED - UI year " + staticVariables.eventYear
+                    + " != pointer storage year " + storageYear + "; refusing invalid band write");
+            return false;
+        }
+
+        Set<String> lineup = new HashSet<>(new BandInfo().getBandNames());
+        if (lineup.isEmpty()) {
+            Log.e("FireBaseBandDataWrite", "No lineup bands loaded for pointer year " + storageYear);
+            return false;
+        }
+        for (String bandName : changedBands) {
+            if (lineup.contains(bandName)) {
+                bandRanks.put(bandName, firebaseRanking(rankStore.getRankForBand(bandName)));
+            }
+        }
+
+        Log.d("FireBaseBandDataWrite", "Built priority array for " + bandRanks.size() + " of " + changedBands.size() + " changed bands");
+        return true;
+    }
+
+    private static String firebaseRanking(String ranking) {
+        if (ranking == staticVariables.mustSeeIcon){
+            return "Must";
+        } else if (ranking == staticVariables.mightSeeIcon){
+            return "Might";
+        } else if (ranking == staticVariables.wontSeeIcon){
+            return "Wont";
+        }
+        return "Unknown";
+    }
+
     private Boolean checkIfDataHasChanged(){
         if (FirebaseWriteMonitor.shouldRunBandSync()) {
             Log.d("FireBaseBandDataWrite", "Pending band sync — sending full lineup");
@@ -0,0 +1,150 @@
+package com.Bands70k;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.Log;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Outbound change journal for one Firebase channel (band ranks or show attendance).
+ *
+ * {@link FirebaseWriteMonitor#markLocalChangePendingSync} records each changed key here, so a sync uploads
+ * only the keys changed since the last acknowledged write instead of the whole lineup or attendance map.
+ * A full upload is still made when the channel has no acknowledged baseline for the current user and
+ * year (first sync, year change, new install) or when a change cannot be expressed per key (clearing a
+ * year of attendance).
+ *
+ * A write works on a {@link Snapshot}; on success only the keys whose change is the one that was uploaded
+ * are removed, so a key changed again while the write was in flight is sent next time. Pending keys, the
+ * full-upload flag and the baseline survive restarts in SharedPreferences.
+ */
+final class FirebaseChangeJournal {
+
+    private static final String TAG = "FirebaseChangeJournal";
+    private static final String PREF_NAME = "firebase_change_journal";
+
+    static final String BANDS = "band";
+    static final String SHOWS = "show";
+
+    private static final Map<String, FirebaseChangeJournal> journals = new HashMap<>();
+
+    /** The keys and change sequence a write was built from. */
+    static final class Snapshot {
+        final Map<String, Long> keys;
+        final long sequence;
+        final boolean fullUpload;
+
+        Snapshot(Map<String, Long> keys, long sequence, boolean fullUpload) {
+            this.keys = keys;
+            this.sequence = sequence;
+            this.fullUpload = fullUpload;
+        }
+    }
+
+    private final String channel;
+    private final SharedPreferences prefs;
+    private final Map<String, Long> pending = new LinkedHashMap<>();
+    private long sequence;
+    /** Sequence at which a full upload was last requested, or -1. */
+    private long fullRequestedAt = -1;
+    private String baseline;
+
+    FirebaseChangeJournal(String channel, SharedPreferences prefs) {
+        this.channel = channel;
+        this.prefs = prefs;
+        if (prefs != null) {
+            for (String key : prefs.getStringSet(channel + "_pending_keys", new HashSet<String>())) {
+                pending.put(key, ++sequence);
+            }
+            if (prefs.getBoolean(channel + "_full_upload_required", false)) {
+                fullRequestedAt = ++sequence;
+            }
+            baseline = prefs.getString(channel + "_baseline", null);
+        }
+    }
+
+    /** The journal for {@code channel}, or null before the app context exists. */
+    static FirebaseChangeJournal forChannel(String channel) {
+        synchronized (journals) {
+            FirebaseChangeJournal journal = journals.get(channel);
+            if (journal == null) {
+                Context context = staticVariables.context;
+                if (context == null) {
+                    return null;
+                }
+                journal = new FirebaseChangeJournal(channel, context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE));
+                journals.put(channel, journal);
+            }
+            return journal;
+        }
+    }
+
+    /** Scope of a baseline: a full upload for one user and year says nothing about another. */
+    static String scopeFor(String userID, String eventYear) {
+        return userID + "/" + eventYear;
+    }
+
+    synchronized void recordChange(String key) {
+        pending.remove(key);
+        pending.put(key, ++sequence);
+        persist();
+    }
+
+    synchronized void requireFullUpload() {
+        fullRequestedAt = ++sequence;
+        persist();
+    }
+
+    synchronized boolean hasPendingChanges() {
+        return !pending.isEmpty() || fullRequestedAt >= 0;
+    }
+
+    synchronized boolean needsFullUpload(String scope) {
+        return fullRequestedAt >= 0 || !scope.equals(baseline);
+    }
+
+    synchronized Snapshot snapshot(String scope) {
+        return new Snapshot(new LinkedHashMap<>(pending), sequence, needsFullUpload(scope));
+    }
+
+    /**
+     * Records a successful write built from {@code snapshot}. A full upload also covers every key changed
+     * before it and becomes the baseline for {@code scope}.
+     */
+    synchronized void acknowledge(Snapshot snapshot, String scope) {
+        int before = pending.size();
+        Iterator<Map.Entry<String, Long>> entries = pending.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<String, Long> entry = entries.next();
+            Long uploaded = snapshot.keys.get(entry.getKey());
+            if (entry.getValue() <= snapshot.sequence && (snapshot.fullUpload || entry.getValue().equals(uploaded))) {
+                entries.remove();
+            }
+        }
+        if (snapshot.fullUpload) {
+            if (fullRequestedAt <= snapshot.sequence) {
+                fullRequestedAt = -1;
+            }
+            baseline = scope;
+        }
+        Log.d(TAG, channel + ": acknowledged " + (before - pending.size()) + " keys"
+                + (snapshot.fullUpload ? " with full upload for " + scope : "") + ", " + pending.size() + " still pending");
+        persist();
+    }
+
+    private void persist() {
+        if (prefs == null) {
+            return;
+        }
+        prefs.edit()
+                .putStringSet(channel + "_pending_keys", new HashSet<>(pending.keySet()))
+                .putBoolean(channel + "_full_upload_required", fullRequestedAt >= 0)
+                .putString(channel + "_baseline", baseline)
+                .apply();
+    }
+}
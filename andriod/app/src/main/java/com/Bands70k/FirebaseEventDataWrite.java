@@ -4,6 +4,7 @@ package com.Bands70k;
 import com.google.firebase.database.DatabaseReference;
 import com.google.firebase.database.FirebaseDatabase;
 import com.google.firebase.database.DatabaseError;
+import java.util.Collection;
 import java.util.Set;
 import java.util.HashSet;
 
@@ -25,6 +26,9 @@ public class FirebaseEventDataWrite {
 
     private File eventDataCacheFile = new File(showBands.newRootDir + FileHandler70k.directoryName + "eventDataCacheFile.data");
 
+    private static String knownEventsSignature;
+    private static Set<String> knownEventsCache;
+
     FirebaseEventDataWrite(){
     }
 
@@ -90,29 +94,44 @@ public class FirebaseEventDataWrite {
             Log.d("FirebaseEventDataWrite", "Filtering for pointer storage year: " + currentYear
                     + " (uiEventYear=" + staticVariables.eventYear + ")");
             
-            // Filter events to only include current year
+            String scope = FirebaseChangeJournal.scopeFor(staticVariables.userID, currentYear);
+            FirebaseChangeJournal journal = FirebaseChangeJournal.forChannel(FirebaseChangeJournal.SHOWS);
+            FirebaseChangeJournal.Snapshot snapshot = journal != null ? journal.snapshot(scope) : null;
+            boolean fullUpload = snapshot == null || snapshot.fullUpload;
+            
+            // Filter events to only include current year; a delta only looks at the journaled keys
             Map<String, String> currentYearEvents = new HashMap<>();
-            int totalEvents = showsAttendedArray.size();
+            Collection<String> candidates = fullUpload ? showsAttendedArray.keySet() : snapshot.keys.keySet();
+            int totalEvents = candidates.size();
             int filteredOutCount = 0;
             
-            for (String index : showsAttendedArray.keySet()) {
-                if (showsAttended.attendanceIndexMatchesYear(index, currentYear)) {
-                    currentYearEvents.put(index, showsAttendedArray.get(index));
+            for (String index : candidates) {
+                String status = showsAttendedArray.get(index);
+                if (status != null && showsAttended.attendanceIndexMatchesYear(index, currentYear)) {
+                    currentYearEvents.put(index, status);
                 } else {
                     filteredOutCount++;
                 }
             }
             
-            Log.d("FirebaseEventDataWrite", "🔥 firebase EVENT_WRITE: Filtered to " + currentYearEvents.size() + 
-                    " events for year " + currentYear + " (excluded " + filteredOutCount + " from other years)");
+            Log.d("FirebaseEventDataWrite", "🔥 firebase EVENT_WRITE: " + (fullUpload ? "Full upload" : "Delta of " + totalEvents + " changed keys")
+                    + " filtered to " + currentYearEvents.size() + " events for year " + currentYear
+                    + " (excluded " + filteredOutCount + " from other years or cleared)");
 
             if (currentYearEvents.isEmpty()) {
+                if (!fullUpload) {
+                    Log.d("FirebaseEventDataWrite", "No current-year attendance among changed keys — nothing to upload");
+                    journal.acknowledge(snapshot, scope);
+                    FirebaseWriteMonitor.recordWriteSuccess("event_batch_empty_delta");
+                    return 0;
+                }
                 Log.d("FirebaseEventDataWrite", "No show attendance for pointer year " + currentYear + " — skipping showData upload");
+                acknowledgeNothingToSend(journal, snapshot, scope, "event_batch_empty_full");
                 return 0;
             }
 
             // Build set of known events from schedule (events the app knows about)
-            Set<String> knownEventIdentifiers = buildKnownEventIdentifiers(currentYear);
+            Set<String> knownEventIdentifiers = getKnownEventIdentifiers(currentYear);
             Log.d("FirebaseEventDataWrite", "🔥 firebase EVENT_WRITE: Found " + knownEventIdentifiers.size() + " known events in schedule");
             
             // Log warning if no known events found (likely indicates scheduleRecords not loaded)
@@ -120,6 +139,18 @@ public class FirebaseEventDataWrite {
                 Log.e("FirebaseEventDataWrite", "⚠️⚠️⚠️ WARNING: No known events found! BandInfo.scheduleRecords might not be loaded. " +
                         "This will cause ALL attended events to be filtered out. scheduleRecords is " +
                         (BandInfo.scheduleRecords == null ? "NULL" : "size=" + BandInfo.scheduleRecords.size()));
+                if (BandInfo.scheduleRecords == null || BandInfo.scheduleRecords.isEmpty()) {
+                    // Keep the journal: the changes are retried once the schedule is loaded.
+                    return 0;
+                }
+                // The schedule is loaded but has no events for this year, so none of the changes can be sent
+                if (fullUpload) {
+                    acknowledgeNothingToSend(journal, snapshot, scope, "event_batch_empty_full");
+                } else {
+                    journal.acknowledge(snapshot, scope);
+                    FirebaseWriteMonitor.recordWriteSuccess("event_batch_empty_delta");
+                }
+                return 0;
             }
             
             // Filter to only include events that the app knows about
@@ -139,11 +170,19 @@ public class FirebaseEventDataWrite {
             
             // Final check before upload — only write when current-year show data exists
             if (knownEventsOnly.isEmpty()) {
+                if (!fullUpload) {
+                    Log.d("FirebaseEventDataWrite", "Changed keys are not in the schedule — nothing to upload");
+                    journal.acknowledge(snapshot, scope);
+                    FirebaseWriteMonitor.recordWriteSuccess("event_batch_empty_delta");
+                    return 0;
+                }
                 Log.d("FirebaseEventDataWrite", "No current-year show data to upload after filtering. Skipping showData upload.");
+                acknowledgeNothingToSend(journal, snapshot, scope, "event_batch_empty_full");
                 return 0;
             }
 
-            if (checkIfDataHasChanged(knownEventsOnly)) {
+            // The change cache compares whole maps, so only a full upload consults it
+            if (!fullUpload || checkIfDataHasChanged(knownEventsOnly)) {
                 DatabaseReference showDataRef = FirebaseConnectionHelper.databaseReference()
                         .child("showData/").child(staticVariables.userID).child(currentYear);
                 
@@ -193,6 +232,9 @@ public class FirebaseEventDataWrite {
                             FirebaseWriteMonitor.recordWriteFailure("event_batch");
                         } else {
                             Log.d("FirebaseEventDataWrite", "Batch write successful for " + batchUpdate.size() + " events");
+                            if (journal != null) {
+                                journal.acknowledge(snapshot, scope);
+                            }
                             FirebaseWriteMonitor.recordWriteSuccess("event_batch");
                         }
                         if (onComplete != null) {
@@ -209,10 +251,25 @@ public class FirebaseEventDataWrite {
                     return 1;
                 }
             }
+            // Same data as the last successful full upload: nothing to send
+            Log.d("FirebaseEventDataWrite", "Show data unchanged since last upload — skipping showData upload");
+            acknowledgeNothingToSend(journal, snapshot, scope, "event_batch_unchanged");
         }
         return 0;
     }
 
+    /**
+     * Settles a full upload that had nothing to send, so the full-upload request and the pending-show flag do
+     * not keep every later sync trigger retrying it.
+     */
+    private static void acknowledgeNothingToSend(FirebaseChangeJournal journal, FirebaseChangeJournal.Snapshot snapshot,
+                                                 String scope, String source) {
+        if (journal != null && snapshot != null) {
+            journal.acknowledge(snapshot, scope);
+        }
+        FirebaseWriteMonitor.recordWriteSuccess(source);
+    }
+
     public void writeData() {
         writeData(null);
     }
@@ -267,13 +324,48 @@ public class FirebaseEventDataWrite {
         return result;
     }
     
+    /**
+     * Known event identifiers, rebuilt only when the loaded schedule or the year changes.
+     */
+    private static Set<String> getKnownEventIdentifiers(String currentYear) {
+        String signature = scheduleSignature(currentYear);
+        synchronized (FirebaseEventDataWrite.class) {
+            if (knownEventsCache != null && signature.equals(knownEventsSignature)) {
+                return knownEventsCache;
+            }
+        }
+        Set<String> knownEvents = buildKnownEventIdentifiers(currentYear);
+        if (!knownEvents.isEmpty()) {
+            synchronized (FirebaseEventDataWrite.class) {
+                knownEventsCache = knownEvents;
+                knownEventsSignature = signature;
+            }
+        }
+        return knownEvents;
+    }
+
+    /** Identity and size of the loaded schedule: a reparse replaces the map, an edit changes the counts. */
+    private static String scheduleSignature(String currentYear) {
+        Map<String, scheduleTimeTracker> records = BandInfo.scheduleRecords;
+        int eventCount = 0;
+        if (records != null) {
+            for (scheduleTimeTracker tracker : records.values()) {
+                if (tracker != null && tracker.scheduleByTime != null) {
+                    eventCount += tracker.scheduleByTime.size();
+                }
+            }
+        }
+        return System.identityHashCode(records) + ":" + (records != null ? records.size() : 0) + ":" + eventCount
+                + ":" + currentYear + ":" + (staticVariables.attendedHandler != null);
+    }
+
     /**
      * Builds a set of event identifiers for events that the app knows about (from schedule).
      * Format: "bandName:location:startTime:eventType:year"
      * @param currentYear The current event year
      * @return Set of known event identifiers
      */
-    private Set<String> buildKnownEventIdentifiers(String currentYear) {
+    private static Set<String> buildKnownEventIdentifiers(String currentYear) {
         Set<String> knownEvents = new HashSet<>();
         
         try {
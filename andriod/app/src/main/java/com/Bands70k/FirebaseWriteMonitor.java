@@ -6,7 +6,8 @@ import android.util.Log;
 
 /**
  * Tracks Firebase write outcomes and indicates when a full Firebase resync is required.
- * Band and show dirty flags are tracked separately so a band edit does not touch showData.
+ * Band and show dirty flags are tracked separately so a band edit does not touch showData; the changed
+ * keys themselves go to {@link FirebaseChangeJournal}.
  */
 public class FirebaseWriteMonitor {
     private static final String TAG = "FirebaseWriteMonitor";
@@ -87,15 +88,34 @@ public class FirebaseWriteMonitor {
         }
         migrateLegacyDirtyFlagIfNeeded(prefs);
         SharedPreferences.Editor editor = prefs.edit();
+        FirebaseChangeJournal bands = FirebaseChangeJournal.forChannel(FirebaseChangeJournal.BANDS);
+        FirebaseChangeJournal shows = FirebaseChangeJournal.forChannel(FirebaseChangeJournal.SHOWS);
         if (context != null && context.startsWith("priority:")) {
             editor.putBoolean(KEY_HAS_PENDING_BAND_CHANGES, true);
+            if (bands != null) {
+                bands.recordChange(context.substring("priority:".length()));
+            }
             Log.d(TAG, "Band change marked dirty (" + context + ").");
         } else if (context != null && (context.startsWith("attendance:") || context.startsWith("attendance_clear"))) {
             editor.putBoolean(KEY_HAS_PENDING_SHOW_CHANGES, true);
+            if (shows != null) {
+                if (context.startsWith("attendance:")) {
+                    shows.recordChange(context.substring("attendance:".length()));
+                } else {
+                    // Clearing a year or everything is not a per-key change.
+                    shows.requireFullUpload();
+                }
+            }
             Log.d(TAG, "Show change marked dirty (" + context + ").");
         } else {
             editor.putBoolean(KEY_HAS_PENDING_BAND_CHANGES, true);
             editor.putBoolean(KEY_HAS_PENDING_SHOW_CHANGES, true);
+            if (bands != null) {
+                bands.requireFullUpload();
+            }
+            if (shows != null) {
+                shows.requireFullUpload();
+            }
             Log.d(TAG, "Local change marked dirty (" + context + ").");
         }
         editor.apply();
@@ -107,7 +127,9 @@ public class FirebaseWriteMonitor {
             return false;
         }
         migrateLegacyDirtyFlagIfNeeded(prefs);
-        return prefs.getBoolean(KEY_HAS_PENDING_BAND_CHANGES, false);
+        // The journal also covers changes made while the previous upload was in flight.
+        FirebaseChangeJournal journal = FirebaseChangeJournal.forChannel(FirebaseChangeJournal.BANDS);
+        return prefs.getBoolean(KEY_HAS_PENDING_BAND_CHANGES, false) || (journal != null && journal.hasPendingChanges());
     }
 
     public static synchronized boolean hasPendingShowChanges() {
@@ -116,7 +138,8 @@ public class FirebaseWriteMonitor {
             return false;
         }
         migrateLegacyDirtyFlagIfNeeded(prefs);
-        return prefs.getBoolean(KEY_HAS_PENDING_SHOW_CHANGES, false);
+        FirebaseChangeJournal journal = FirebaseChangeJournal.forChannel(FirebaseChangeJournal.SHOWS);
+        return prefs.getBoolean(KEY_HAS_PENDING_SHOW_CHANGES, false) || (journal != null && journal.hasPendingChanges());
     }
 
     public static synchronized boolean hasPendingLocalChanges() {
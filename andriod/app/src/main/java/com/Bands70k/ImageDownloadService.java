@@ -15,6 +15,8 @@ import android.util.Log;
 import androidx.core.app.NotificationCompat;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -30,6 +32,9 @@ public class ImageDownloadService extends Service {
     private static final int NOTIFICATION_ID = 1001;
     
     private static final AtomicBoolean isRunning = new AtomicBoolean(false);
+
+    /** Concurrent image downloads during the bulk image phase. */
+    private static final int IMAGE_DOWNLOAD_PARALLELISM = ImageFetchEngine.DEFAULT_PARALLELISM;
     
     /**
      * Sets the running state (used when running in thread mode, not service mode).
@@ -258,17 +263,9 @@ public class ImageDownloadService extends Service {
                 CustomerDescriptionHandler descriptionHandler = CustomerDescriptionHandler.getInstance();
                 Map<String, String> descriptionMapData = descriptionHandler.getDescriptionMap();
                 if (descriptionMapData != null) {
-                    for (String bandName : descriptionMapData.keySet()) {
-                        File bandCustNoteFile = new File(
-                                showBands.newRootDir + FileHandler70k.directoryName + bandName + ".note_cust");
-                        if (bandCustNoteFile.exists()) {
-                            continue;
-                        }
-                        BandNotes bandNoteHandler = new BandNotes(bandName);
-                        if (!bandNoteHandler.fileExists()) {
-                            pendingNotes++;
-                        }
-                    }
+                    // One directory listing instead of a scan and probes per band; estimates never delete.
+                    pendingNotes = NoteCacheIndex.scan().bandsNeedingNotes(descriptionMapData.keySet(),
+                            staticVariables.descriptionMapModData).size();
                 }
             }
         } catch (Exception e) {
@@ -402,17 +399,18 @@ public class ImageDownloadService extends Service {
                 
                 int total = combinedImageList.size();
                 
-                // OPTIMIZATION: Quickly count how many images need updating before starting
-                int needsUpdate = 0;
+                // OPTIMIZATION: Quickly collect the images that need updating before starting
+                List<String> bandsToDownload = new ArrayList<>();
                 Log.d(TAG, "Quick cache check: scanning " + total + " images to count what needs downloading");
                 for (Map.Entry<String, String> entry : combinedImageList.entrySet()) {
                     String bandName = entry.getKey();
                     String cacheFilename = imageHandler.getCacheFilename(bandName);
                     java.io.File imageFile = new java.io.File(FileHandler70k.baseImageDirectory + "/" + cacheFilename);
                     if (imageHandler.needsImageUpdate(bandName, imageFile)) {
-                        needsUpdate++;
+                        bandsToDownload.add(bandName);
                     }
                 }
+                final int needsUpdate = bandsToDownload.size();
                 
                 Log.d(TAG, "Cache check complete: " + needsUpdate + " of " + total + " images need updating");
                 
@@ -427,8 +425,6 @@ public class ImageDownloadService extends Service {
                     return;
                 }
                 
-                int downloaded = 0;
-                
                 Log.d(TAG, "Found " + total + " images to check, " + needsUpdate + " need downloading");
                 currentTask = "Downloading images...";
                 currentTotal.set(needsUpdate); // Use needsUpdate as total for progress tracking (phase-specific)
@@ -442,47 +438,31 @@ public class ImageDownloadService extends Service {
                 // Show phase-specific progress: "0/needsUpdate" for images only
                 ForegroundDownloadManager.updateFloatingProgress(0, needsUpdate, "Downloading images...");
                 
-                // Download each image that needs updating
-                for (Map.Entry<String, String> entry : combinedImageList.entrySet()) {
-                    // Check if service was stopped
-                    if (!isRunning.get()) {
-                        Log.d(TAG, "Service stopped, aborting image downloads");
-                        break;
-                    }
-                    
-                    // Check if still online
-                    if (!OnlineStatus.isOnline()) {
-                        Log.d(TAG, "Went offline during image downloads, stopping");
-                        break;
-                    }
-                    
-                    String bandName = entry.getKey();
-                    
-                    // Check if image needs updating
-                    String cacheFilename = imageHandler.getCacheFilename(bandName);
-                    java.io.File imageFile = new java.io.File(FileHandler70k.baseImageDirectory + "/" + cacheFilename);
-                    
-                    if (imageHandler.needsImageUpdate(bandName, imageFile)) {
-                        Log.d(TAG, "Downloading image for " + bandName);
-                        
-                        // Create ImageHandler instance for this band
-                        ImageHandler bandImageHandler = new ImageHandler(bandName);
-                        bandImageHandler.getRemoteImage();
-                        
-                        downloaded++;
-                        currentProgress.set(downloaded);
-                        currentDetails = "Downloaded " + downloaded + " of " + needsUpdate + " images";
-                        
-                        // Update notification every 5 images or on last image
-                        if (downloaded % 5 == 0 || downloaded == needsUpdate) {
-                            updateNotificationStatic(downloaded, needsUpdate, "Downloading images...");
-                            // Update floating progress indicator
-                            ForegroundDownloadManager.updateFloatingProgress(downloaded, needsUpdate, "Downloading images...");
-                        }
-                    } else {
-                        Log.d(TAG, "Image already cached for " + bandName + ", skipping");
-                    }
+                // Download the images that need updating, several at a time on a good link and one at a time on a
+                // slow one (fewer requests competing for ship Wi-Fi bandwidth and timing out together)
+                NetworkQuality.Level quality = OnlineStatus.currentNetworkQuality();
+                int parallelism = NetworkQuality.get().parallelism(IMAGE_DOWNLOAD_PARALLELISM);
+                if (parallelism == 0) {
+                    Log.d(TAG, "Network quality " + quality + ", skipping image downloads");
+                    return;
                 }
+                Log.d(TAG, "Network quality " + quality + " (latency ~" + NetworkQuality.get().smoothedLatencyMs()
+                        + "ms), downloading " + parallelism + " images at a time");
+                int downloaded = ImageFetchEngine.fetchAll(bandsToDownload, parallelism, isRunning,
+                        new ImageFetchEngine.ProgressListener() {
+                            @Override
+                            public void onProgress(int completed, int total) {
+                                currentProgress.set(completed);
+                                currentDetails = "Downloaded " + completed + " of " + total + " images";
+
+                                // Update notification every 5 images or on last image
+                                if (completed % 5 == 0 || completed == total) {
+                                    updateNotificationStatic(completed, total, "Downloading images...");
+                                    // Update floating progress indicator
+                                    ForegroundDownloadManager.updateFloatingProgress(completed, total, "Downloading images...");
+                                }
+                            }
+                        });
                 
                 Log.d(TAG, "Image download phase completed. Downloaded: " + downloaded + " / " + needsUpdate + " (total images: " + total + ")");
                 tasksCompleted.incrementAndGet();
@@ -552,22 +532,15 @@ public class ImageDownloadService extends Service {
                 
                 int total = descriptionMapData.size();
                 
-                // OPTIMIZATION: Quickly count how many notes need downloading before starting
-                int needsUpdate = 0;
+                // OPTIMIZATION: One listing of the notes directory answers which notes need downloading
                 Log.d(TAG, "Quick cache check: scanning " + total + " notes to count what needs downloading");
-                for (String bandName : descriptionMapData.keySet()) {
-                    BandNotes bandNoteHandler = new BandNotes(bandName);
-                    File bandCustNoteFile = new File(showBands.newRootDir + FileHandler70k.directoryName + bandName + ".note_cust");
-                    
-                    // Skip if custom note exists (won't be overwritten)
-                    if (bandCustNoteFile.exists()) {
-                        continue;
-                    }
-                    
-                    // Check if cached note exists with current date
-                    if (!bandNoteHandler.fileExists()) {
-                        needsUpdate++;
-                    }
+                NoteCacheIndex noteIndex = NoteCacheIndex.scan();
+                int obsolete = noteIndex.removeObsoleteNotes(descriptionMapData.keySet(), staticVariables.descriptionMapModData);
+                List<String> bandsToDownload = noteIndex.bandsNeedingNotes(descriptionMapData.keySet(),
+                        staticVariables.descriptionMapModData);
+                final int needsUpdate = bandsToDownload.size();
+                if (obsolete > 0) {
+                    Log.d(TAG, "Removed " + obsolete + " notes cached under an older description map date");
                 }
                 
                 Log.d(TAG, "Cache check complete: " + needsUpdate + " of " + total + " notes need downloading");
@@ -602,7 +575,7 @@ public class ImageDownloadService extends Service {
                 ForegroundDownloadManager.updateFloatingProgress(0, needsUpdate, "Downloading notes...");
                 
                 // Download each note that needs updating
-                for (String bandName : descriptionMapData.keySet()) {
+                for (String bandName : bandsToDownload) {
                     // Check if service was stopped
                     if (!isRunning.get()) {
                         Log.d(TAG, "Service stopped, aborting note downloads");
@@ -615,31 +588,19 @@ public class ImageDownloadService extends Service {
                         break;
                     }
                     
-                    BandNotes bandNoteHandler = new BandNotes(bandName);
-                    File bandCustNoteFile = new File(showBands.newRootDir + FileHandler70k.directoryName + bandName + ".note_cust");
+                    // The index already excluded custom and current notes
+                    Log.d(TAG, "Downloading note for " + bandName);
+                    descriptionHandler.loadNoteFromURL(bandName, true);
                     
-                    // Skip if custom note exists (won't be overwritten)
-                    if (bandCustNoteFile.exists()) {
-                        continue;
-                    }
+                    downloaded++;
+                    currentProgress.set(downloaded);
+                    currentDetails = "Downloaded " + downloaded + " of " + needsUpdate + " notes";
                     
-                    // Check if cached note exists with current date
-                    if (!bandNoteHandler.fileExists()) {
-                        Log.d(TAG, "Downloading note for " + bandName);
-                        descriptionHandler.loadNoteFromURL(bandName);
-                        
-                        downloaded++;
-                        currentProgress.set(downloaded);
-                        currentDetails = "Downloaded " + downloaded + " of " + needsUpdate + " notes";
-                        
-                        // Update notification every 5 notes or on last note
-                        if (downloaded % 5 == 0 || downloaded == needsUpdate) {
-                            updateNotificationStatic(downloaded, needsUpdate, "Downloading notes...");
-                            // Update floating progress indicator
-                            ForegroundDownloadManager.updateFloatingProgress(downloaded, needsUpdate, "Downloading notes...");
-                        }
-                    } else {
-                        Log.d(TAG, "Note already cached for " + bandName + ", skipping");
+                    // Update notification every 5 notes or on last note
+                    if (downloaded % 5 == 0 || downloaded == needsUpdate) {
+                        updateNotificationStatic(downloaded, needsUpdate, "Downloading notes...");
+                        // Update floating progress indicator
+                        ForegroundDownloadManager.updateFloatingProgress(downloaded, needsUpdate, "Downloading notes...");
                     }
                 }
                 
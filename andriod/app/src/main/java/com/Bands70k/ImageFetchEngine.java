@@ -0,0 +1,247 @@
+package com.Bands70k;
+
+import android.util.Log;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Downloads band images for {@link ImageHandler}.
+ *
+ * Single images ({@link #fetchToFile}) are written to a ".part" file next to the target and renamed into place
+ * only once complete, so an interrupted download never leaves a truncated PNG in the cache. Failed attempts are
+ * retried with exponential backoff, continuing from the bytes already received (HTTP Range) when the server
+ * supports it. Fetches of the same target run one at a time so they never share a ".part" file; one that
+ * waited finds the image already in place and returns.
+ *
+ * Bulk downloads ({@link #fetchAll}) run several {@link ImageHandler#getRemoteImage()} calls at once on a
+ * short-lived pool. Connections are kept alive and reused per host by HttpURLConnection's pool as long as
+ * each response body is read to the end and closed without disconnect(), which is what {@link #fetchToFile} does;
+ * the default parallelism stays below the pool's 5 idle connections per host.
+ */
+final class ImageFetchEngine {
+
+    private static final String TAG = "ImageFetchEngine";
+
+    /** Concurrent image downloads for bulk loading. */
+    static final int DEFAULT_PARALLELISM = 4;
+
+    private static final int MAX_ATTEMPTS = 3;
+    /** Fetches of targets hashing to the same lock run one after another. */
+    private static final Object[] TARGET_LOCKS = new Object[32];
+
+    static {
+        for (int i = 0; i < TARGET_LOCKS.length; i++) {
+            TARGET_LOCKS[i] = new Object();
+        }
+    }
+    private static final long BASE_BACKOFF_MS = 500L;
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final int HTTP_RANGE_NOT_SATISFIABLE = 416;
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+
+    /** Receives bulk progress; called from worker threads. */
+    interface ProgressListener {
+        void onProgress(int completed, int total);
+    }
+
+    private ImageFetchEngine() {}
+
+    /**
+     * Downloads {@code imageUrl} into {@code target}, replacing it only when the whole body arrived.
+     * @throws IOException If every attempt failed; {@code target} is left untouched.
+     */
+    static void fetchToFile(String imageUrl, File target) throws IOException {
+        long seenModified = target.lastModified();
+        synchronized (TARGET_LOCKS[(target.getAbsolutePath().hashCode() & 0x7fffffff) % TARGET_LOCKS.length]) {
+            if (target.exists() && target.lastModified() != seenModified) {
+                Log.d(TAG, target.getName() + " was just downloaded by a concurrent fetch, skipping");
+                return;
+            }
+            fetchToFileLocked(imageUrl, target);
+        }
+    }
+
+    private static void fetchToFileLocked(String imageUrl, File target) throws IOException {
+        File part = new File(target.getPath() + ".part");
+        // A .part left by an earlier run may belong to a different URL; only resume within this call.
+        if (part.exists()) {
+            part.delete();
+        }
+
+        IOException lastError = null;
+        try {
+            for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+                try {
+                    long latencyMs = download(imageUrl, part);
+                    NetworkQuality.get().recordDownloadSuccess(latencyMs, System.currentTimeMillis());
+                    if (!part.renameTo(target)) {
+                        target.delete();
+                        if (!part.renameTo(target)) {
+                            throw new IOException("Could not move " + part.getName() + " into place");
+                        }
+                    }
+                    return;
+                } catch (FatalHttpException e) {
+                    throw e;
+                } catch (IOException e) {
+                    lastError = e;
+                    NetworkQuality.get().recordDownloadFailure();
+                }
+                if (attempt < MAX_ATTEMPTS) {
+                    long backoff = BASE_BACKOFF_MS << (attempt - 1);
+                    Log.d(TAG, "Attempt " + attempt + " for " + target.getName() + " failed (" + lastError.getMessage()
+                            + "), retrying in " + backoff + "ms from byte " + part.length());
+                    try {
+                        Thread.sleep(backoff);
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        throw new IOException("Interrupted while retrying " + target.getName(), ie);
+                    }
+                }
+            }
+            throw lastError;
+        } finally {
+            if (part.exists()) {
+                part.delete();
+            }
+        }
+    }
+
+    /**
+     * One request; appends to {@code part} when the server honours the Range for bytes already received.
+     * @return Milliseconds until the response started, for {@link NetworkQuality}.
+     */
+    private static long download(String imageUrl, File part) throws IOException {
+        long existing = part.exists() ? part.length() : 0;
+        long requestStartMs = System.currentTimeMillis();
+        HttpURLConnection connection = (HttpURLConnection) new URL(imageUrl).openConnection();
+        connection.setInstanceFollowRedirects(true);
+        HttpConnectionHelper.applyTimeouts(connection);
+        if (existing > 0) {
+            connection.setRequestProperty("Range", "bytes=" + existing + "-");
+        }
+
+        int status;
+        try {
+            status = connection.getResponseCode();
+        } catch (IOException e) {
+            connection.disconnect();
+            throw e;
+        }
+        long latencyMs = System.currentTimeMillis() - requestStartMs;
+
+        boolean append;
+        if (status == HttpURLConnection.HTTP_PARTIAL && existing > 0) {
+            append = true;
+        } else if (status >= 200 && status < 300) {
+            append = false;
+        } else {
+            connection.disconnect();
+            if (status == HTTP_RANGE_NOT_SATISFIABLE) {
+                part.delete();
+                throw new RetryableException("HTTP 416, restarting download");
+            }
+            if (status >= 500 || status == HttpURLConnection.HTTP_CLIENT_TIMEOUT || status == HTTP_TOO_MANY_REQUESTS) {
+                throw new RetryableException("HTTP " + status);
+            }
+            throw new FatalHttpException("HTTP " + status);
+        }
+
+        long expected = connection.getContentLength();
+        long received = 0;
+        InputStream in = connection.getInputStream();
+        try {
+            FileOutputStream out = new FileOutputStream(part, append);
+            try {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int bytesRead;
+                while ((bytesRead = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, bytesRead);
+                    received += bytesRead;
+                }
+            } finally {
+                out.close();
+            }
+        } finally {
+            // Closing a fully read body (no disconnect) returns the connection to the keep-alive pool.
+            in.close();
+        }
+        if (expected >= 0 && received != expected) {
+            throw new RetryableException("Truncated response: " + received + " of " + expected + " bytes");
+        }
+        return latencyMs;
+    }
+
+    /**
+     * Downloads images for {@code bandNames} with up to {@code parallelism} requests in flight.
+     * Stops taking new bands once {@code keepRunning} is false or the device goes offline.
+     * @return The number of bands processed.
+     */
+    static int fetchAll(List<String> bandNames, int parallelism, final AtomicBoolean keepRunning,
+                        final ProgressListener listener) {
+        final int total = bandNames.size();
+        final AtomicInteger completed = new AtomicInteger(0);
+        if (total == 0) {
+            return 0;
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, total)),
+                new ThreadManager.NamedThreadFactory("ImageFetch"));
+        for (final String bandName : bandNames) {
+            pool.execute(new Runnable() {
+                @Override
+                public void run() {
+                    if (!keepRunning.get() || !OnlineStatus.isOnline()) {
+                        return;
+                    }
+                    try {
+                        new ImageHandler(bandName).getRemoteImage();
+                    } catch (Exception e) {
+                        Log.e(TAG, "Error downloading image for " + bandName, e);
+                    }
+                    int done = completed.incrementAndGet();
+                    if (listener != null) {
+                        listener.onProgress(done, total);
+                    }
+                }
+            });
+        }
+        pool.shutdown();
+        try {
+            while (!pool.awaitTermination(1, TimeUnit.SECONDS)) {
+                if (!keepRunning.get()) {
+                    pool.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        return completed.get();
+    }
+
+    /** A failure worth retrying (network drop, 5xx, truncated body). */
+    private static final class RetryableException extends IOException {
+        RetryableException(String message) {
+            super(message);
+        }
+    }
+
+    /** A response that will not change on retry (e.g. 404). */
+    private static final class FatalHttpException extends IOException {
+        FatalHttpException(String message) {
+            super(message);
+        }
+    }
+}
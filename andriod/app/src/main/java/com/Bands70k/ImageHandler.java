@@ -10,14 +10,8 @@ import android.os.SystemClock;
 import android.util.Log;
 
 import java.io.BufferedReader;
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.net.URI;
-import java.net.URL;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -362,6 +356,7 @@ public class ImageHandler {
                 // Delete if date doesn't match current date (or if currentDate is null/empty)
                 if (currentDate == null || currentDate.trim().isEmpty() || !dateFromFilename.equals(currentDate.trim())) {
                     if (file.delete()) {
+                        BandImageCache.deleteThumbnail(file);
                         deletedCount++;
                         Log.d("ImageFile", "Deleted old schedule image: " + filename);
                     }
@@ -515,23 +510,9 @@ public class ImageHandler {
             if (imageUrl != null && !imageUrl.trim().isEmpty() && !imageUrl.equals(" ")) {
                 Log.d("loadImageFile", "Downloading image immediately from URL: " + imageUrl);
                 
-                URL url = new URL(imageUrl);
-                java.net.HttpURLConnection connection = (java.net.HttpURLConnection) url.openConnection();
-                connection.setInstanceFollowRedirects(true);
-                HttpConnectionHelper.applyTimeouts(connection);
-                InputStream in = new BufferedInputStream(connection.getInputStream());
-                FileOutputStream out = new FileOutputStream(bandImageFile);
-                
-                byte[] buffer = new byte[1024];
-                int bytesRead;
-                while ((bytesRead = in.read(buffer)) != -1) {
-                    out.write(buffer, 0, bytesRead);
-                }
-                
-                in.close();
-                out.close();
-                try { connection.disconnect(); } catch (Exception ignored) {}
-                
+                ImageFetchEngine.fetchToFile(imageUrl, bandImageFile);
+                BandImageCache.writeThumbnail(bandImageFile);
+
                 // Save URL hash for cache validation (only for schedule images with ImageDate)
                 saveUrlHash(bandImageFile, imageUrl, imageDate);
                 
@@ -577,23 +558,9 @@ public class ImageHandler {
         if (OnlineStatus.isOnline() == true && imageUrl != null && !imageUrl.trim().isEmpty() && !imageUrl.equals(" ")) {
             try {
                 Log.d("ImageFile", "Downloading image from URL: " + imageUrl);
-                URL url = new URL(imageUrl);
-                java.net.HttpURLConnection connection = (java.net.HttpURLConnection) url.openConnection();
-                connection.setInstanceFollowRedirects(true);
-                HttpConnectionHelper.applyTimeouts(connection);
-                InputStream in = new BufferedInputStream(connection.getInputStream());
-                OutputStream out = new BufferedOutputStream(new FileOutputStream(bandImageFile.getAbsoluteFile()));
-                
-                byte[] buffer = new byte[1024];
-                int bytesRead;
-                while ((bytesRead = in.read(buffer)) != -1) {
-                    out.write(buffer, 0, bytesRead);
-                }
-                
-                in.close();
-                out.close();
-                try { connection.disconnect(); } catch (Exception ignored) {}
-                
+                ImageFetchEngine.fetchToFile(imageUrl, bandImageFile.getAbsoluteFile());
+                BandImageCache.writeThumbnail(bandImageFile.getAbsoluteFile());
+
                 // Save URL hash for cache validation (only for schedule images with ImageDate)
                 saveUrlHash(bandImageFile, imageUrl, imageDate);
                 
@@ -0,0 +1,76 @@
+package com.Bands70k;
+
+/**
+ * One row of the main band/schedule list.
+ *
+ * Replaces the old string keys ("timeIndex:bandName", "bandName:timeIndex", "bandName:") that every consumer
+ * had to split and sniff for a timestamp. A row is either a scheduled event (points at its
+ * {@link ScheduleEventIndex} slot and parsed {@link scheduleHandler}), a band with no event, or a
+ * placeholder message ("waiting for data", "filter issue") that is not a band at all.
+ */
+public final class MainListRow {
+
+    public static final int NO_SLOT = -1;
+
+    public final String bandName;
+    /** Slot in the {@link ScheduleEventIndex} this row was built from, or {@link #NO_SLOT}. */
+    public final int slot;
+    /** Event start (epoch millis); 0 for band-only and placeholder rows. */
+    public final long timeIndex;
+    /** Parsed event for schedule rows; null otherwise. */
+    public final scheduleHandler event;
+    public final boolean placeholder;
+
+    private MainListRow(String bandName, int slot, long timeIndex, scheduleHandler event, boolean placeholder) {
+        this.bandName = bandName;
+        this.slot = slot;
+        this.timeIndex = timeIndex;
+        this.event = event;
+        this.placeholder = placeholder;
+    }
+
+    /** Row for event {@code slot} of {@code index}. */
+    public static MainListRow forSlot(ScheduleEventIndex index, int slot) {
+        return new MainListRow(index.bandName(slot), slot, index.startEpoch[slot], index.handlers[slot], false);
+    }
+
+    /** Row for a band shown without an event (no schedule, or no event passing the filters). */
+    public static MainListRow forBand(String bandName) {
+        return new MainListRow(bandName, NO_SLOT, 0L, null, false);
+    }
+
+    /** Non-band message row shown when the list is empty. */
+    public static MainListRow message(String text) {
+        return new MainListRow(text, NO_SLOT, 0L, null, true);
+    }
+
+    public boolean isEvent() {
+        return event != null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof MainListRow)) {
+            return false;
+        }
+        MainListRow row = (MainListRow) other;
+        return timeIndex == row.timeIndex
+                && placeholder == row.placeholder
+                && (bandName == null ? row.bandName == null : bandName.equals(row.bandName));
+    }
+
+    @Override
+    public int hashCode() {
+        int result = bandName != null ? bandName.hashCode() : 0;
+        result = 31 * result + (int) (timeIndex ^ (timeIndex >>> 32));
+        return 31 * result + (placeholder ? 1 : 0);
+    }
+
+    @Override
+    public String toString() {
+        return isEvent() ? bandName + "@" + timeIndex : bandName;
+    }
+}
@@ -0,0 +1,129 @@
+package com.Bands70k;
+
+import android.util.Log;
+
+/**
+ * How usable the network currently is, from what the app actually sees: the {@link OnlineStatus} pointer probe
+ * and the timing and failures of real downloads ({@link ImageFetchEngine}, {@link ConditionalDownloader}).
+ *
+ * - OFFLINE: the last probe failed and nothing has downloaded since.
+ * - CAPTIVE: the last probe reached a server that did not return the pointer file (ship Wi-Fi login page).
+ * - SLOW: downloads keep failing, or responses take seconds to start.
+ * - GOOD: everything else, including before anything was observed.
+ *
+ * Download pipelines use {@link #parallelism(int)} to decide how many requests to run, and
+ * {@link OnlineStatus} skips its probe while real downloads keep succeeding.
+ */
+final class NetworkQuality {
+
+    private static final String TAG = "NetworkQuality";
+
+    enum Level { OFFLINE, CAPTIVE, SLOW, GOOD }
+
+    /** Time to first response byte (smoothed) above which the link counts as slow. */
+    static final long SLOW_LATENCY_MS = 3_000L;
+    /** Consecutive failed downloads after which the link counts as slow. */
+    static final int SLOW_FAILURE_STREAK = 2;
+    /** Weight of the newest sample in the smoothed latency. */
+    private static final double LATENCY_SMOOTHING = 0.3;
+
+    private static final NetworkQuality shared = new NetworkQuality();
+
+    private Level probeLevel = Level.GOOD;
+    private double smoothedLatencyMs = -1;
+    private int failureStreak = 0;
+    private long lastSuccessAtMs = 0L;
+    private Level lastLoggedLevel = Level.GOOD;
+
+    NetworkQuality() {
+    }
+
+    static NetworkQuality get() {
+        return shared;
+    }
+
+    /** A pointer probe that returned the pointer file after {@code latencyMs}. */
+    synchronized void recordProbeSuccess(long latencyMs, long nowMs) {
+        probeLevel = Level.GOOD;
+        recordSuccess(latencyMs, nowMs);
+    }
+
+    /**
+     * A pointer probe that failed.
+     * @param reachedServer True if an HTTP response came back but was not the pointer file (captive portal).
+     */
+    synchronized void recordProbeFailure(boolean reachedServer) {
+        probeLevel = reachedServer ? Level.CAPTIVE : Level.OFFLINE;
+        logIfChanged();
+    }
+
+    /** A download whose response started after {@code latencyMs} and completed. */
+    synchronized void recordDownloadSuccess(long latencyMs, long nowMs) {
+        // A real download got through, so whatever the last probe said no longer holds
+        probeLevel = Level.GOOD;
+        recordSuccess(latencyMs, nowMs);
+    }
+
+    synchronized void recordDownloadFailure() {
+        failureStreak++;
+        logIfChanged();
+    }
+
+    synchronized Level level() {
+        if (probeLevel != Level.GOOD) {
+            return probeLevel;
+        }
+        if (failureStreak >= SLOW_FAILURE_STREAK || smoothedLatencyMs >= SLOW_LATENCY_MS) {
+            return Level.SLOW;
+        }
+        return Level.GOOD;
+    }
+
+    /** Requests to run at once: {@code max} on a good link, one on a slow link, none when offline or captive. */
+    int parallelism(int max) {
+        switch (level()) {
+            case GOOD:
+                return max;
+            case SLOW:
+                return Math.min(1, max);
+            default:
+                return 0;
+        }
+    }
+
+    /** True if a probe or download succeeded within the last {@code windowMs}. */
+    synchronized boolean hasRecentSuccess(long windowMs, long nowMs) {
+        return lastSuccessAtMs > 0 && probeLevel == Level.GOOD && nowMs - lastSuccessAtMs <= windowMs;
+    }
+
+    /** Forgets everything observed, e.g. when the connectivity cache is invalidated after a network change. */
+    synchronized void reset() {
+        probeLevel = Level.GOOD;
+        smoothedLatencyMs = -1;
+        failureStreak = 0;
+        lastSuccessAtMs = 0L;
+        lastLoggedLevel = Level.GOOD;
+    }
+
+    synchronized long smoothedLatencyMs() {
+        return (long) smoothedLatencyMs;
+    }
+
+    private void recordSuccess(long latencyMs, long nowMs) {
+        failureStreak = 0;
+        lastSuccessAtMs = nowMs;
+        smoothedLatencyMs = smoothedLatencyMs < 0
+                ? latencyMs
+                : LATENCY_SMOOTHING * latencyMs + (1 - LATENCY_SMOOTHING) * smoothedLatencyMs;
+        logIfChanged();
+    }
+
+    private void logIfChanged() {
+        Level level = level();
+        if (level != lastLoggedLevel) {
+            Log.d(TAG, "Network quality " + lastLoggedLevel + " -> " + level + " (latency ~" + (long) smoothedLatencyMs
+                    + "ms, failure streak " + failureStreak + ")");
+            lastLoggedLevel = level;
+        }
+    }
+}
@@ -52,9 +52,10 @@ public class NetworkStateReceiver extends BroadcastReceiver {
                         
                         // Check if we're still waiting for data (showing "waiting for data" message)
                         if (showBandsActivity.listHandler != null) {
-                            java.util.List<String> sortableNames = showBandsActivity.listHandler.getSortableBandNames();
+                            java.util.List<MainListRow> sortableNames = showBandsActivity.listHandler.getSortableBandNames();
                             boolean isWaitingForData = sortableNames.isEmpty() || 
-                                (sortableNames.size() == 1 && sortableNames.get(0).contains("Waiting for data"));
+                                (sortableNames.size() == 1 && sortableNames.get(0).placeholder
+                                        && sortableNames.get(0).bandName.contains("Waiting for data"));
                             
                             if (isWaitingForData && !staticVariables.loadingBands) {
                                 Log.d(TAG, "Network available and waiting for data - triggering refresh");
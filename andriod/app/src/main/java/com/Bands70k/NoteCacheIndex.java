@@ -0,0 +1,121 @@
+package com.Bands70k;
+
+import android.util.Log;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * One listing of the notes directory, used to answer the bulk "which notes are missing or stale" questions
+ * of the notes download phase.
+ *
+ * Per band, {@link BandNotes#fileExists()} lists the whole directory (to delete notes cached under an older
+ * descriptionMap date) and then probes the custom and cached note files. Over every band in the description
+ * map that is O(bands) directory scans; this class reads the directory once and applies the same rules to
+ * the file names:
+ * - BandName.note_cust is a user note and is never replaced;
+ * - with a descriptionMap date, the cached note is BandName.note-DATE and other dates are obsolete;
+ * - without one, the cached note is BandName.note_new.
+ */
+final class NoteCacheIndex {
+
+    private static final String TAG = "NoteCacheIndex";
+
+    private static final String CUSTOM_SUFFIX = ".note_cust";
+    private static final String DATED_INFIX = ".note-";
+    private static final String UNDATED_SUFFIX = ".note_new";
+
+    private final File directory;
+    private final Set<String> fileNames;
+
+    NoteCacheIndex(File directory) {
+        this.directory = directory;
+        String[] names = directory.list();
+        this.fileNames = names != null ? new HashSet<>(Arrays.asList(names)) : new HashSet<String>();
+    }
+
+    /** Index of the app's notes directory. */
+    static NoteCacheIndex scan() {
+        return new NoteCacheIndex(new File(showBands.newRootDir + FileHandler70k.directoryName));
+    }
+
+    boolean hasCustomNote(String bandName) {
+        return fileNames.contains(bandName + CUSTOM_SUFFIX);
+    }
+
+    /** Same answer as {@code new BandNotes(bandName).fileExists()}, without touching the disk. */
+    boolean hasCurrentNote(String bandName, Map<String, String> modDates) {
+        String date = currentDate(bandName, modDates);
+        if (date == null) {
+            return fileNames.contains(bandName + UNDATED_SUFFIX);
+        }
+        return hasCustomNote(bandName) || fileNames.contains(bandName + DATED_INFIX + date);
+    }
+
+    /** Bands without a custom note whose note for the current descriptionMap date is not cached. */
+    List<String> bandsNeedingNotes(Collection<String> bandNames, Map<String, String> modDates) {
+        List<String> stale = new ArrayList<>();
+        for (String bandName : bandNames) {
+            if (!hasCustomNote(bandName) && !hasCurrentNote(bandName, modDates)) {
+                stale.add(bandName);
+            }
+        }
+        return stale;
+    }
+
+    /**
+     * Deletes notes cached under an older descriptionMap date (and the undated legacy file) for every band
+     * that has a date now, as {@link BandNotes#fileExists()} does for one band.
+     * @return The number of files deleted.
+     */
+    int removeObsoleteNotes(Collection<String> bandNames, Map<String, String> modDates) {
+        Set<String> bands = bandNames instanceof Set ? (Set<String>) bandNames : new HashSet<>(bandNames);
+        List<String> obsolete = new ArrayList<>();
+        for (String name : fileNames) {
+            String bandName;
+            if (name.endsWith(UNDATED_SUFFIX)) {
+                bandName = name.substring(0, name.length() - UNDATED_SUFFIX.length());
+            } else {
+                int infix = name.indexOf(DATED_INFIX);
+                if (infix <= 0 || name.endsWith(CUSTOM_SUFFIX)) {
+                    continue;
+                }
+                bandName = name.substring(0, infix);
+                String date = currentDate(bandName, modDates);
+                if (date != null && name.equals(bandName + DATED_INFIX + date)) {
+                    continue;
+                }
+            }
+            if (bands.contains(bandName) && currentDate(bandName, modDates) != null) {
+                obsolete.add(name);
+            }
+        }
+
+        int deleted = 0;
+        for (String name : obsolete) {
+            if (new File(directory, name).delete()) {
+                fileNames.remove(name);
+                deleted++;
+                Log.d(TAG, "Deleted obsolete cached note: " + name);
+            } else {
+                Log.w(TAG, "Failed to delete obsolete cached note: " + name);
+            }
+        }
+        return deleted;
+    }
+
+    /** The descriptionMap date for a band, or null when it has none (matching BandNotes' "null" checks). */
+    private static String currentDate(String bandName, Map<String, String> modDates) {
+        String date = modDates.get(bandName);
+        if (date == null || date.isEmpty() || "null".equals(date)) {
+            return null;
+        }
+        return date;
+    }
+}
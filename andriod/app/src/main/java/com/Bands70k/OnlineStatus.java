@@ -20,6 +20,8 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 
 public class OnlineStatus {
@@ -29,6 +31,10 @@ public class OnlineStatus {
     private static volatile boolean lastValidatedResult = false;
     private static final long VALIDATION_TTL_MS = 15_000L;
 
+    // Pointer probe currently running; concurrent callers wait for it instead of starting their own.
+    private static final Object probeLock = new Object();
+    private static FutureTask<Boolean> inFlightProbe = null;
+
     /**
      * Smart network status refresh for device wake-up scenarios
      * Assumes connectivity hasn't changed and restores previous state immediately
@@ -64,6 +70,7 @@ public class OnlineStatus {
         lastValidatedAtMs = 0L;
         lastValidatedResult = false;
         dnsResolveCache = null;
+        NetworkQuality.get().reset();
     }
     
     /**
@@ -123,6 +130,23 @@ public class OnlineStatus {
         return onlineCheck;
     }
 
+    /**
+     * The {@link NetworkQuality} level after an {@link #isOnline()} check, which re-probes once its cache expires.
+     * OFFLINE and CAPTIVE only clear after a successful probe or download, so if the check says online while the
+     * level still reports an old failed probe, probe again rather than let it suppress every later download.
+     * Background threads only.
+     */
+    static NetworkQuality.Level currentNetworkQuality() {
+        boolean online = isOnline();
+        NetworkQuality.Level level = NetworkQuality.get().level();
+        if (online && (level == NetworkQuality.Level.OFFLINE || level == NetworkQuality.Level.CAPTIVE)) {
+            Log.d("Internet Found", "Internet Found online but network quality still " + level + ", probing again");
+            testInternetAvailableSynchronous();
+            level = NetworkQuality.get().level();
+        }
+        return level;
+    }
+
     public Boolean isInternetAvailableTest() {
 
         boolean returnState;
@@ -150,6 +174,15 @@ public class OnlineStatus {
         // If we're on a background thread, do a real (blocking) validation now.
         // This is required to detect cruise-ship mode: connected to WiFi but no usable internet (timeouts).
         if (Looper.myLooper() != Looper.getMainLooper()) {
+            // A real download that just went through proves the same thing as the pointer fetch
+            if (NetworkQuality.get().hasRecentSuccess(VALIDATION_TTL_MS, nowMs)) {
+                Log.d("Internet Found", "Internet Found true - recent download succeeded, skipping pointer probe");
+                staticVariables.internetCheckCache = "true";
+                staticVariables.internetCheckCacheDate = currentEpoc + 15;
+                lastValidatedAtMs = nowMs;
+                lastValidatedResult = true;
+                return true;
+            }
             returnState = testInternetAvailableSynchronous();
             staticVariables.internetCheckCache = String.valueOf(returnState);
             lastValidatedAtMs = nowMs;
@@ -167,9 +200,52 @@ public class OnlineStatus {
         return returnState;
     }
 
+    /**
+     * Fetches and validates the pointer file, blocking until done. Calls made while a probe is already running
+     * (e.g. several download threads finding the cache expired at once) wait for that probe and share its result.
+     */
     public static Boolean testInternetAvailableSynchronous() {
+        FutureTask<Boolean> probe;
+        boolean owner = false;
+        synchronized (probeLock) {
+            probe = inFlightProbe;
+            if (probe == null) {
+                probe = new FutureTask<>(OnlineStatus::probePointerFile);
+                inFlightProbe = probe;
+                owner = true;
+            }
+        }
+
+        if (owner) {
+            try {
+                probe.run();
+            } finally {
+                synchronized (probeLock) {
+                    if (inFlightProbe == probe) {
+                        inFlightProbe = null;
+                    }
+                }
+            }
+        } else {
+            Log.d("Internet Found", "Internet Found joining pointer probe already in flight");
+        }
+
+        try {
+            return probe.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return lastValidatedResult;
+        } catch (ExecutionException e) {
+            Log.d("Internet Found", "Internet Found false - probe failed " + e.getCause());
+            return false;
+        }
+    }
+
+    private static Boolean probePointerFile() {
 
         boolean returnState = false;
+        boolean reachedServer = false;
+        long probeStartMs = System.currentTimeMillis();
 
         long currentEpoc = System.currentTimeMillis() / 1000L;
 
@@ -202,6 +278,9 @@ public class OnlineStatus {
             connection.setRequestMethod("GET");
 
             int responseCode = connection.getResponseCode();
+            // Any HTTP response, even an error status (a portal answering 403 or 511), means something answered
+            reachedServer = true;
+            long latencyMs = System.currentTimeMillis() - probeStartMs;
             if (responseCode < 200 || responseCode >= 400) {
                 Log.d("Internet Found", "Internet Found false - HTTP " + responseCode);
                 returnState = false;
@@ -226,6 +305,9 @@ public class OnlineStatus {
                 in.close();
                 returnState = validLineCount >= 2;
                 Log.d("Internet Found", "Internet Found pointer validation validLineCount=" + validLineCount + " => " + returnState);
+                if (returnState) {
+                    NetworkQuality.get().recordProbeSuccess(latencyMs, System.currentTimeMillis());
+                }
             }
         } catch (Exception e) {
             Log.d("Internet Found", "Internet Found false - exception " + e.getMessage());
@@ -236,6 +318,11 @@ public class OnlineStatus {
             }
         }
 
+        if (!returnState) {
+            // A response that isn't the pointer file (e.g. a ship Wi-Fi login page) means a captive portal
+            NetworkQuality.get().recordProbeFailure(reachedServer);
+        }
+
         staticVariables.internetCheckCacheDate = currentEpoc + 15;
         staticVariables.internetCheckCache = String.valueOf(returnState);
         lastValidatedAtMs = System.currentTimeMillis();
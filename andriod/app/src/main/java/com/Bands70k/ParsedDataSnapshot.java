@@ -0,0 +1,244 @@
+package com.Bands70k;
+
+import android.util.Log;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * Binary snapshot of data parsed from a downloaded CSV, so a launch with an unchanged file can skip the parse.
+ *
+ * A snapshot is only valid for the exact source file it was written from: the header records the source's
+ * SHA-256 from {@link CacheHashManager} (the "CacheHashes" prefs), its length and its modified time, and
+ * {@link Reader#open} returns null if any of them differ or the format version changed. Bodies hold epochs
+ * computed in the device time zone, so the zone id is recorded too and a zone change (common at sea)
+ * rejects the snapshot. Repeated strings
+ * (venues, days, dates, event types) are stored once in a string table and referenced by index, and the file
+ * is read through a read-only memory map.
+ *
+ * Layout: magic, version, source length, source modified time, source hash, time zone id, string table, body.
+ * Callers write and read their own body with {@link Writer} / {@link Reader}.
+ */
+final class ParsedDataSnapshot {
+
+    private static final String TAG = "ParsedDataSnapshot";
+
+    private static final int MAGIC = 0x37304B53; // "70KS"
+    /** Bump when any body layout changes; older snapshots are then ignored and rewritten. */
+    static final int VERSION = 2;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final int NULL_STRING = -1;
+
+    private ParsedDataSnapshot() {
+    }
+
+    /** Buffers a snapshot body in memory, then writes header + string table + body in {@link #commit}. */
+    static final class Writer {
+        private final ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream(16 * 1024);
+        private final DataOutputStream body = new DataOutputStream(bodyBytes);
+        private final Map<String, Integer> stringIds = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+
+        void writeInt(int value) throws IOException {
+            body.writeInt(value);
+        }
+
+        void writeLong(long value) throws IOException {
+            body.writeLong(value);
+        }
+
+        void writeBoolean(boolean value) throws IOException {
+            body.writeBoolean(value);
+        }
+
+        void writeString(String value) throws IOException {
+            if (value == null) {
+                body.writeInt(NULL_STRING);
+                return;
+            }
+            Integer id = stringIds.get(value);
+            if (id == null) {
+                id = strings.size();
+                strings.add(value);
+                stringIds.put(value, id);
+            }
+            body.writeInt(id);
+        }
+
+        /**
+         * Writes the snapshot for {@code source} to {@code snapshot} (via a temp file and rename).
+         * @return True if written; failures are logged and leave no snapshot behind.
+         */
+        boolean commit(File snapshot, File source, String sourceHash) {
+            if (sourceHash == null || !source.exists()) {
+                return false;
+            }
+            File temp = new File(snapshot.getPath() + ".tmp");
+            try {
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+                try {
+                    out.writeInt(MAGIC);
+                    out.writeInt(VERSION);
+                    out.writeLong(source.length());
+                    out.writeLong(source.lastModified());
+                    out.writeUTF(sourceHash);
+                    out.writeUTF(TimeZone.getDefault().getID());
+                    out.writeInt(strings.size());
+                    for (String value : strings) {
+                        byte[] bytes = value.getBytes(UTF_8);
+                        out.writeInt(bytes.length);
+                        out.write(bytes);
+                    }
+                    body.flush();
+                    bodyBytes.writeTo(out);
+                } finally {
+                    out.close();
+                }
+                if (snapshot.exists()) {
+                    snapshot.delete();
+                }
+                if (!temp.renameTo(snapshot)) {
+                    Log.w(TAG, "Could not move snapshot into place: " + snapshot.getName());
+                    temp.delete();
+                    return false;
+                }
+                Log.d(TAG, "Wrote " + snapshot.getName() + " (" + snapshot.length() + " bytes, "
+                        + strings.size() + " strings)");
+                return true;
+            } catch (IOException e) {
+                Log.e(TAG, "Error writing snapshot " + snapshot.getName(), e);
+                temp.delete();
+                return false;
+            }
+        }
+    }
+
+    /** Reads a snapshot body. Read methods throw {@link IOException} on a truncated or corrupt file. */
+    static final class Reader {
+        private final ByteBuffer buffer;
+        private final String[] strings;
+
+        private Reader(ByteBuffer buffer, String[] strings) {
+            this.buffer = buffer;
+            this.strings = strings;
+        }
+
+        /**
+         * Opens {@code snapshot} if it was written from the current {@code source} with {@code sourceHash}.
+         * @return A reader positioned at the body, or null if there is no usable snapshot.
+         */
+        static Reader open(File snapshot, File source, String sourceHash) {
+            if (sourceHash == null || !snapshot.exists() || !source.exists()) {
+                return null;
+            }
+            try {
+                ByteBuffer buffer;
+                RandomAccessFile file = new RandomAccessFile(snapshot, "r");
+                try {
+                    FileChannel channel = file.getChannel();
+                    buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                } finally {
+                    file.close();
+                }
+
+                if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                    Log.d(TAG, snapshot.getName() + " has an old format, ignoring");
+                    return null;
+                }
+                long length = buffer.getLong();
+                long modified = buffer.getLong();
+                String hash = readUTF(buffer);
+                if (length != source.length() || modified != source.lastModified() || !hash.equals(sourceHash)) {
+                    Log.d(TAG, snapshot.getName() + " is stale for " + source.getName() + ", ignoring");
+                    return null;
+                }
+                String zone = readUTF(buffer);
+                if (!zone.equals(TimeZone.getDefault().getID())) {
+                    Log.d(TAG, snapshot.getName() + " was written in time zone " + zone + ", ignoring");
+                    return null;
+                }
+
+                int count = buffer.getInt();
+                if (count < 0) {
+                    return null;
+                }
+                String[] strings = new String[count];
+                byte[] scratch = new byte[256];
+                for (int i = 0; i < count; i++) {
+                    int size = buffer.getInt();
+                    if (size > scratch.length) {
+                        scratch = new byte[Math.max(size, scratch.length * 2)];
+                    }
+                    buffer.get(scratch, 0, size);
+                    strings[i] = new String(scratch, 0, size, UTF_8);
+                }
+                return new Reader(buffer, strings);
+            } catch (IOException | RuntimeException e) {
+                Log.w(TAG, "Unreadable snapshot " + snapshot.getName() + ", ignoring: " + e.getMessage());
+                return null;
+            }
+        }
+
+        int readInt() throws IOException {
+            try {
+                return buffer.getInt();
+            } catch (BufferUnderflowException e) {
+                throw new IOException("Truncated snapshot", e);
+            }
+        }
+
+        long readLong() throws IOException {
+            try {
+                return buffer.getLong();
+            } catch (BufferUnderflowException e) {
+                throw new IOException("Truncated snapshot", e);
+            }
+        }
+
+        boolean readBoolean() throws IOException {
+            try {
+                return buffer.get() != 0;
+            } catch (BufferUnderflowException e) {
+                throw new IOException("Truncated snapshot", e);
+            }
+        }
+
+        String readString() throws IOException {
+            int id = readInt();
+            if (id == NULL_STRING) {
+                return null;
+            }
+            if (id < 0 || id >= strings.length) {
+                throw new IOException("Bad string id " + id);
+            }
+            return strings[id];
+        }
+
+        /** True once the whole body has been read; callers check this to reject trailing garbage. */
+        boolean isAtEnd() {
+            return !buffer.hasRemaining();
+        }
+
+        private static String readUTF(ByteBuffer buffer) {
+            int size = buffer.getShort() & 0xFFFF;
+            byte[] bytes = new byte[size];
+            buffer.get(bytes);
+            return new String(bytes, UTF_8);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.Bands70k;
+
+import android.util.Log;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Read-only views of shared (imported) profiles for {@link SharedPreferencesManager#getPriorityFromActiveSource}
+ * and {@link SharedPreferencesManager#getAttendanceFromActiveSource}.
+ *
+ * A profile's bandRankings.txt is read once into a map; attendance is answered by the profile's
+ * {@link AttendanceStore}, which keeps the file in memory and sees every write. A view is dropped when its
+ * profile is switched to, imported or deleted, and when {@link rankStore} rewrites its rankings (imported
+ * profiles are editable).
+ */
+final class ProfileDataCache {
+
+    private static final String TAG = "ProfileDataCache";
+    static final String RANKINGS_FILE = "bandRankings.txt";
+    static final String ATTENDANCE_FILE = "showsAttended.data";
+
+    private static final Map<String, ProfileView> views = new HashMap<>();
+
+    /** One profile's rankings and attendance, indexed for single lookups. */
+    static final class ProfileView {
+        private final Map<String, String> rankings;
+        private final AttendanceStore attendance;
+
+        private ProfileView(Map<String, String> rankings, AttendanceStore attendance) {
+            this.rankings = rankings;
+            this.attendance = attendance;
+        }
+
+        /** Stored ranking for the band, or null. */
+        String getRanking(String bandName) {
+            return rankings.get(bandName);
+        }
+
+        String getAttendance(String index, String defaultValue) {
+            try {
+                return attendance.get(index, defaultValue);
+            } catch (IOException e) {
+                Log.e(TAG, "Error reading attendance for " + index, e);
+                return defaultValue;
+            }
+        }
+
+        int rankingCount() {
+            return rankings.size();
+        }
+    }
+
+    private ProfileDataCache() {
+    }
+
+    /** The view for {@code profileKey} under {@code profilesRoot} (files/profiles), loaded on first use. */
+    static ProfileView forProfile(File profilesRoot, String profileKey) {
+        synchronized (views) {
+            ProfileView view = views.get(profileKey);
+            if (view == null) {
+                File profileDir = new File(profilesRoot, profileKey);
+                long start = System.currentTimeMillis();
+                view = new ProfileView(readRankings(new File(profileDir, RANKINGS_FILE)),
+                        AttendanceStore.forFile(new File(profileDir, ATTENDANCE_FILE)));
+                views.put(profileKey, view);
+                Log.d(TAG, "Loaded profile " + profileKey + ": " + view.rankingCount() + " rankings in "
+                        + (System.currentTimeMillis() - start) + "ms");
+            }
+            return view;
+        }
+    }
+
+    static void invalidate(String profileKey) {
+        synchronized (views) {
+            if (views.remove(profileKey) != null) {
+                Log.d(TAG, "Dropped cached view for profile " + profileKey);
+            }
+        }
+    }
+
+    /**
+     * Reads "band:ranking" lines. The first line for a band wins, as the old per-lookup scan returned the
+     * first match.
+     */
+    static Map<String, String> readRankings(File file) {
+        Map<String, String> rankings = new HashMap<>();
+        if (!file.exists()) {
+            return Collections.unmodifiableMap(rankings);
+        }
+        try (BufferedReader br = new BufferedReader(new FileReader(file))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                String[] parts = line.split(":");
+                if (parts.length == 2 && !rankings.containsKey(parts[0])) {
+                    rankings.put(parts[0], parts[1]);
+                }
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "Error reading " + file.getPath(), e);
+        }
+        return Collections.unmodifiableMap(rankings);
+    }
+}
@@ -91,6 +91,14 @@ public class SQLiteProfileManager {
         });
     }
 
+    /**
+     * The open database, for the other tables in 70kBands.db ({@link FestivalDataStore}).
+     * Opens it on a background thread; on the UI thread schedules the warm-up and returns null.
+     */
+    SQLiteDatabase getDatabaseIfReady() {
+        return ensureDbReady(false) ? db : null;
+    }
+
     private boolean ensureDbReady(boolean allowBlocking) {
         if (db != null) {
             return true;
@@ -0,0 +1,320 @@
+package com.Bands70k;
+
+import android.util.Log;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * Parses the Date + Start/End Time columns of a schedule CSV.
+ *
+ * The old parser built a SimpleDateFormat for each of 20 patterns per field and threw a ParseException for
+ * every miss (6+ per field for slash dates). This one scans the digits directly:
+ * - Date: "yyyy-M-d" or "M/d/yyyy" / "M/d/yy". The separator seen on the first row is tried first for the
+ *   rest of the file.
+ * - Time: "H:mm", "H:mm:ss" or "h:mm a".
+ * Schedule files only use a handful of distinct days and start times, so parsed dates and the resulting
+ * timestamps are memoized per parser (bounded, least recently used dropped first). Anything the scanner does not recognise goes through the original
+ * pattern list so odd rows still parse the way they always have.
+ *
+ * Not thread safe; use one instance per file. {@link #parseShared(String, String)} is the synchronized entry
+ * point for one-off callers; it follows device time zone changes, which a per-file parser does not need to.
+ */
+public final class ScheduleDateTimeParser {
+
+    private static final String TAG = "ScheduleDateTimeParser";
+
+    /** Match iOS ScheduleCSVImporter.calculateTimeIndex date/time patterns. */
+    private static final String[] SCHEDULE_DATE_TIME_PATTERNS = {
+            "yyyy-MM-dd HH:mm",
+            "yyyy-MM-dd H:mm",
+            "yyyy-M-d HH:mm",
+            "yyyy-M-d H:mm",
+            "yyyy-MM-dd HH:mm:ss",
+            "yyyy-MM-dd H:mm:ss",
+            "M/d/yyyy HH:mm",
+            "MM/dd/yyyy HH:mm",
+            "M/d/yyyy H:mm",
+            "MM/dd/yyyy H:mm",
+            "M/d/yyyy h:mm a",
+            "MM/dd/yyyy h:mm a",
+            "MM/dd/yyyy HH:mm:ss",
+            "MM/dd/yyyy H:mm:ss",
+            "M/d/yyyy HH:mm:ss",
+            "M/d/yyyy H:mm:ss",
+            "MM/dd/yy HH:mm",
+            "MM/dd/yy H:mm",
+            "M/d/yy HH:mm",
+            "M/d/yy H:mm",
+    };
+
+    private static final int INVALID = -1;
+    private static final int[] DAYS_IN_MONTH = {31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+    /** Entries kept per memo; a festival year has a few days and a few hundred distinct start times. */
+    private static final int MAX_CACHED = 1024;
+
+    private static final ScheduleDateTimeParser SHARED = new ScheduleDateTimeParser();
+
+    /** Date layout detected from the first parsed row: 0 = not yet known, '-' = ISO, '/' = US slash. */
+    private char dateSeparator;
+    /** Date string -> yyyymmdd, or INVALID. */
+    private final Map<String, Integer> dateCache = boundedCache();
+    /** (yyyymmdd, second of day) -> epoch millis, in the calendar's time zone. */
+    private final Map<Long, Long> epochCache = boundedCache();
+    private final Calendar calendar = Calendar.getInstance();
+    private int fallbackCount;
+
+    /**
+     * Parser shared by callers that parse a single value outside a file load. Synchronized since those
+     * callers can run on any thread.
+     */
+    public static Date parseShared(String dateValue, String timeValue) {
+        synchronized (SHARED) {
+            SHARED.followDefaultTimeZone();
+            return SHARED.parse(dateValue, timeValue);
+        }
+    }
+
+    /** Switches to the device time zone if it changed since the last parse, dropping timestamps made in the old one. */
+    private void followDefaultTimeZone() {
+        TimeZone zone = TimeZone.getDefault();
+        if (!zone.getID().equals(calendar.getTimeZone().getID())) {
+            Log.d(TAG, "Time zone changed from " + calendar.getTimeZone().getID() + " to " + zone.getID());
+            calendar.setTimeZone(zone);
+            epochCache.clear();
+        }
+    }
+
+    private static <K, V> Map<K, V> boundedCache() {
+        return new LinkedHashMap<K, V>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > MAX_CACHED;
+            }
+        };
+    }
+
+    /**
+     * Parses a schedule date/time pair into a Date in the device time zone.
+     * @return The parsed date, or null if either value is empty or unparseable.
+     */
+    public Date parse(String dateValue, String timeValue) {
+        if (dateValue == null || timeValue == null) {
+            return null;
+        }
+        String date = dateValue.trim();
+        String time = timeValue.trim();
+        if (date.isEmpty() || time.isEmpty()) {
+            return null;
+        }
+
+        int ymd = parseDateCached(date);
+        int secondOfDay = ymd == INVALID ? INVALID : parseTime(time);
+        if (secondOfDay == INVALID) {
+            fallbackCount++;
+            return parseWithPatterns(date, time);
+        }
+
+        Long key = (long) ymd * 86400L + secondOfDay;
+        Long epoch = epochCache.get(key);
+        if (epoch == null) {
+            calendar.clear();
+            calendar.set(ymd / 10000, (ymd / 100) % 100 - 1, ymd % 100,
+                    secondOfDay / 3600, (secondOfDay / 60) % 60, secondOfDay % 60);
+            epoch = calendar.getTimeInMillis();
+            epochCache.put(key, epoch);
+        }
+        return new Date(epoch);
+    }
+
+    /** Number of values that were not recognised by the scanner and went through the pattern list. */
+    public int getFallbackCount() {
+        return fallbackCount;
+    }
+
+    private int parseDateCached(String date) {
+        Integer cached = dateCache.get(date);
+        if (cached != null) {
+            return cached;
+        }
+        int ymd = parseDate(date);
+        dateCache.put(date, ymd);
+        return ymd;
+    }
+
+    private int parseDate(String date) {
+        if (dateSeparator == 0) {
+            if (date.indexOf('/') > 0) {
+                dateSeparator = '/';
+            } else if (date.indexOf('-') > 0) {
+                dateSeparator = '-';
+            }
+            Log.d(TAG, "Detected schedule date layout '" + dateSeparator + "' from " + date);
+        }
+        int ymd = dateSeparator == '-' ? parseIsoDate(date) : parseSlashDate(date);
+        if (ymd == INVALID) {
+            ymd = dateSeparator == '-' ? parseSlashDate(date) : parseIsoDate(date);
+        }
+        return ymd;
+    }
+
+    /** yyyy-M-d */
+    private static int parseIsoDate(String s) {
+        int len = s.length();
+        int pos = 0;
+        int year = 0;
+        int digits = 0;
+        while (pos < len && isDigit(s.charAt(pos))) {
+            year = year * 10 + (s.charAt(pos++) - '0');
+            digits++;
+        }
+        if (digits != 4 || pos >= len || s.charAt(pos++) != '-') {
+            return INVALID;
+        }
+        int month = 0;
+        digits = 0;
+        while (pos < len && isDigit(s.charAt(pos)) && digits < 2) {
+            month = month * 10 + (s.charAt(pos++) - '0');
+            digits++;
+        }
+        if (digits == 0 || pos >= len || s.charAt(pos++) != '-') {
+            return INVALID;
+        }
+        int day = 0;
+        digits = 0;
+        while (pos < len && isDigit(s.charAt(pos)) && digits < 2) {
+            day = day * 10 + (s.charAt(pos++) - '0');
+            digits++;
+        }
+        if (digits == 0 || pos != len) {
+            return INVALID;
+        }
+        return toYmd(year, month, day);
+    }
+
+    /** M/d/yyyy or M/d/yy (two-digit years are 20yy). */
+    private static int parseSlashDate(String s) {
+        int len = s.length();
+        int pos = 0;
+        int month = 0;
+        int digits = 0;
+        while (pos < len && isDigit(s.charAt(pos)) && digits < 2) {
+            month = month * 10 + (s.charAt(pos++) - '0');
+            digits++;
+        }
+        if (digits == 0 || pos >= len || s.charAt(pos++) != '/') {
+            return INVALID;
+        }
+        int day = 0;
+        digits = 0;
+        while (pos < len && isDigit(s.charAt(pos)) && digits < 2) {
+            day = day * 10 + (s.charAt(pos++) - '0');
+            digits++;
+        }
+        if (digits == 0 || pos >= len || s.charAt(pos++) != '/') {
+            return INVALID;
+        }
+        int year = 0;
+        digits = 0;
+        while (pos < len && isDigit(s.charAt(pos))) {
+            year = year * 10 + (s.charAt(pos++) - '0');
+            digits++;
+        }
+        if (pos != len) {
+            return INVALID;
+        }
+        if (digits == 2) {
+            year += 2000;
+        } else if (digits != 4) {
+            return INVALID;
+        }
+        return toYmd(year, month, day);
+    }
+
+    /** H:mm, H:mm:ss or h:mm a (AM/PM, optional space). Returns the second of day or INVALID. */
+    static int parseTime(String s) {
+        int len = s.length();
+        int pos = 0;
+        int hour = 0;
+        int digits = 0;
+        while (pos < len && isDigit(s.charAt(pos)) && digits < 2) {
+            hour = hour * 10 + (s.charAt(pos++) - '0');
+            digits++;
+        }
+        if (digits == 0 || pos >= len || s.charAt(pos++) != ':') {
+            return INVALID;
+        }
+        if (pos + 2 > len || !isDigit(s.charAt(pos)) || !isDigit(s.charAt(pos + 1))) {
+            return INVALID;
+        }
+        int minute = (s.charAt(pos) - '0') * 10 + (s.charAt(pos + 1) - '0');
+        pos += 2;
+        int second = 0;
+        if (pos < len && s.charAt(pos) == ':') {
+            if (pos + 3 > len || !isDigit(s.charAt(pos + 1)) || !isDigit(s.charAt(pos + 2))) {
+                return INVALID;
+            }
+            second = (s.charAt(pos + 1) - '0') * 10 + (s.charAt(pos + 2) - '0');
+            pos += 3;
+        }
+        if (minute > 59 || second > 59) {
+            return INVALID;
+        }
+
+        if (pos == len) {
+            return hour > 23 ? INVALID : hour * 3600 + minute * 60 + second;
+        }
+
+        if (s.charAt(pos) == ' ') {
+            pos++;
+        }
+        if (pos + 2 != len || Character.toUpperCase(s.charAt(pos + 1)) != 'M') {
+            return INVALID;
+        }
+        char meridiem = Character.toUpperCase(s.charAt(pos));
+        if ((meridiem != 'A' && meridiem != 'P') || hour < 1 || hour > 12) {
+            return INVALID;
+        }
+        hour = hour % 12 + (meridiem == 'P' ? 12 : 0);
+        return hour * 3600 + minute * 60 + second;
+    }
+
+    private static int toYmd(int year, int month, int day) {
+        if (month < 1 || month > 12 || day < 1 || day > DAYS_IN_MONTH[month - 1]) {
+            return INVALID;
+        }
+        if (month == 2 && day == 29 && !isLeapYear(year)) {
+            return INVALID;
+        }
+        return year * 10000 + month * 100 + day;
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /** Original pattern-by-pattern parse. Package-visible so tests can compare against it. */
+    static Date parseWithPatterns(String date, String time) {
+        String dateTime = date + ' ' + time;
+        for (String pattern : SCHEDULE_DATE_TIME_PATTERNS) {
+            try {
+                SimpleDateFormat dateFormat = new SimpleDateFormat(pattern, Locale.US);
+                dateFormat.setLenient(false);
+                return dateFormat.parse(dateTime);
+            } catch (ParseException ignored) {
+            }
+        }
+        Log.w("scheduleHandler", "Unable to parse schedule date/time: '" + dateTime + "'");
+        return null;
+    }
+}
@@ -0,0 +1,311 @@
+package com.Bands70k;
+
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, columnar snapshot of the parsed schedule.
+ *
+ * Built once per {@link scheduleInfo#ParseScheduleCSV()} from the {@code Map<String, scheduleTimeTracker>} it
+ * returns. Every event slot is a row number; per-slot values live in parallel primitive arrays and the
+ * repeated strings (band, venue, event type, day) are interned into small id tables. Slots are ordered by
+ * (start time, band name) so a time-sorted list is already in display order.
+ *
+ * The list builder, filters, counters and the landscape calendar read from here instead of walking
+ * {@code scheduleRecords.get(band).scheduleByTime.get(time)} repeatedly.
+ */
+public final class ScheduleEventIndex {
+
+    private static final String TAG = "ScheduleEventIndex";
+
+    /** Events whose end is before their start run past midnight; matches the list/expiry logic. */
+    private static final long MIDNIGHT_ROLLOVER_MS = 3600000L * 24;
+    /** Events stay "current" for 10 minutes after they end. */
+    private static final long EXPIRY_BUFFER_MS = 600000L;
+
+    private static final ScheduleEventIndex EMPTY = new ScheduleEventIndex(null, new ArrayList<Slot>());
+
+    private static volatile ScheduleEventIndex cached = EMPTY;
+
+    /** The schedule map this index was built from (identity only; never mutated here). */
+    private final Map<String, scheduleTimeTracker> source;
+
+    public final int size;
+
+    public final long[] startEpoch;
+    public final long[] endEpoch;
+    /** End time with midnight rollover applied, plus the 10 minute expiry buffer. */
+    public final long[] expiryEpoch;
+    public final int[] bandId;
+    public final int[] venueId;
+    public final int[] typeId;
+    public final int[] dayId;
+    /** Original parsed rows, for string fields the list renders verbatim (start time text, notes...). */
+    public final scheduleHandler[] handlers;
+
+    public final String[] bandNames;
+    public final String[] venueNames;
+    /** Event types as parsed; use {@link EventTypeConfig#normalize(String)} to compare them against the canonical keys. */
+    public final String[] typeNames;
+    public final String[] dayNames;
+
+    /** Per type id: Unofficial Event / Cruiser Organized. */
+    public final boolean[] typeIsUnofficial;
+    /** Per type id: Unofficial, Special, Meet and Greet or Clinic. */
+    public final boolean[] typeIsFilterableNonShow;
+
+    /** Per band id: position of the band in case-insensitive alphabetical order (for primitive sort keys). */
+    public final int[] bandAlphaRank;
+
+    /** Per band id: slot ids for that band in time order. */
+    private final int[][] slotsByBand;
+    private final Map<String, Integer> bandIds;
+
+    private static final class Slot {
+        String band;
+        long start;
+        scheduleHandler handler;
+    }
+
+    private ScheduleEventIndex(Map<String, scheduleTimeTracker> source, List<Slot> slots) {
+        this.source = source;
+
+        Collections.sort(slots, new Comparator<Slot>() {
+            @Override
+            public int compare(Slot a, Slot b) {
+                int byTime = Long.compare(a.start, b.start);
+                return byTime != 0 ? byTime : a.band.compareTo(b.band);
+            }
+        });
+
+        size = slots.size();
+        startEpoch = new long[size];
+        endEpoch = new long[size];
+        expiryEpoch = new long[size];
+        bandId = new int[size];
+        venueId = new int[size];
+        typeId = new int[size];
+        dayId = new int[size];
+        handlers = new scheduleHandler[size];
+
+        Interner bands = new Interner();
+        Interner venues = new Interner();
+        Interner types = new Interner();
+        Interner days = new Interner();
+
+        for (int i = 0; i < size; i++) {
+            Slot slot = slots.get(i);
+            scheduleHandler h = slot.handler;
+            long start = slot.start;
+            long end = h.getEpochEnd();
+
+            handlers[i] = h;
+            startEpoch[i] = start;
+            endEpoch[i] = end;
+            expiryEpoch[i] = (start > end ? end + MIDNIGHT_ROLLOVER_MS : end) + EXPIRY_BUFFER_MS;
+            bandId[i] = bands.id(slot.band);
+            venueId[i] = venues.id(h.getShowLocation() != null ? h.getShowLocation() : "");
+            typeId[i] = types.id(h.getShowType());
+            dayId[i] = days.id(h.getShowDay() != null ? h.getShowDay().trim() : "");
+        }
+
+        bandNames = bands.toArray();
+        venueNames = venues.toArray();
+        typeNames = types.toArray();
+        dayNames = days.toArray();
+        bandIds = bands.ids;
+
+        typeIsUnofficial = new boolean[typeNames.length];
+        typeIsFilterableNonShow = new boolean[typeNames.length];
+        for (int t = 0; t < typeNames.length; t++) {
+            typeIsUnofficial[t] = EventTypeConfig.isUnofficial(typeNames[t]);
+            typeIsFilterableNonShow[t] = EventTypeConfig.isFilterableNonShow(typeNames[t]);
+        }
+
+        Integer[] alphaOrder = new Integer[bandNames.length];
+        for (int b = 0; b < alphaOrder.length; b++) {
+            alphaOrder[b] = b;
+        }
+        Arrays.sort(alphaOrder, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return bandNames[a].compareToIgnoreCase(bandNames[b]);
+            }
+        });
+        bandAlphaRank = new int[bandNames.length];
+        for (int rank = 0; rank < alphaOrder.length; rank++) {
+            bandAlphaRank[alphaOrder[rank]] = rank;
+        }
+
+        int[] counts = new int[bandNames.length];
+        for (int i = 0; i < size; i++) {
+            counts[bandId[i]]++;
+        }
+        slotsByBand = new int[bandNames.length][];
+        for (int b = 0; b < bandNames.length; b++) {
+            slotsByBand[b] = new int[counts[b]];
+            counts[b] = 0;
+        }
+        for (int i = 0; i < size; i++) {
+            int b = bandId[i];
+            slotsByBand[b][counts[b]++] = i;
+        }
+    }
+
+    /**
+     * Builds an index over a parsed schedule. Null or empty input yields an empty index.
+     */
+    public static ScheduleEventIndex build(Map<String, scheduleTimeTracker> records) {
+        List<Slot> slots = new ArrayList<>();
+        if (records != null) {
+            for (Map.Entry<String, scheduleTimeTracker> bandEntry : records.entrySet()) {
+                scheduleTimeTracker tracker = bandEntry.getValue();
+                if (bandEntry.getKey() == null || tracker == null || tracker.scheduleByTime == null) {
+                    continue;
+                }
+                for (Map.Entry<Long, scheduleHandler> timeEntry : tracker.scheduleByTime.entrySet()) {
+                    if (timeEntry.getKey() == null || timeEntry.getValue() == null) {
+                        continue;
+                    }
+                    Slot slot = new Slot();
+                    slot.band = bandEntry.getKey();
+                    slot.start = timeEntry.getKey();
+                    slot.handler = timeEntry.getValue();
+                    slots.add(slot);
+                }
+            }
+        }
+        return new ScheduleEventIndex(records, slots);
+    }
+
+    /**
+     * Builds and caches the index for a freshly parsed schedule. Called at the end of
+     * {@link scheduleInfo#ParseScheduleCSV()} so the first list rebuild finds it ready.
+     */
+    public static ScheduleEventIndex publish(Map<String, scheduleTimeTracker> records) {
+        ScheduleEventIndex index = build(records);
+        cached = index;
+        Log.d(TAG, "Built schedule index: " + index.size + " events, " + index.bandNames.length + " bands, "
+                + index.venueNames.length + " venues");
+        return index;
+    }
+
+    /**
+     * Index for the given schedule map. Reuses the cached index when it was built from the same map
+     * instance; otherwise (e.g. a map assigned from another code path) builds and caches a new one.
+     */
+    public static ScheduleEventIndex forRecords(Map<String, scheduleTimeTracker> records) {
+        ScheduleEventIndex index = cached;
+        if (index.source == records) {
+            return index;
+        }
+        if (records == null) {
+            return EMPTY;
+        }
+        return publish(records);
+    }
+
+    /** Index for {@link BandInfo#scheduleRecords}. */
+    public static ScheduleEventIndex current() {
+        return forRecords(BandInfo.scheduleRecords);
+    }
+
+    /** Drops the cached index; call after mutating a schedule map in place (e.g. QR import merge). */
+    public static void invalidate() {
+        cached = EMPTY;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public String bandName(int slot) {
+        return bandNames[bandId[slot]];
+    }
+
+    public String venue(int slot) {
+        return venueNames[venueId[slot]];
+    }
+
+    public String eventType(int slot) {
+        return typeNames[typeId[slot]];
+    }
+
+    public String day(int slot) {
+        return dayNames[dayId[slot]];
+    }
+
+    public boolean isUnofficial(int slot) {
+        return typeIsUnofficial[typeId[slot]];
+    }
+
+    /** True when the slot has not expired (end + 10 minute buffer is still in the future). */
+    public boolean isUpcoming(int slot, long nowMillis) {
+        return expiryEpoch[slot] > nowMillis;
+    }
+
+    /** Band id for a name, or -1 when the band has no scheduled events. */
+    public int bandIdOf(String bandName) {
+        Integer id = bandName != null ? bandIds.get(bandName) : null;
+        return id != null ? id : -1;
+    }
+
+    /** Slot ids for a band in time order (empty when the band has no events). */
+    public int[] slotsForBand(String bandName) {
+        int b = bandIdOf(bandName);
+        return b >= 0 ? slotsByBand[b] : new int[0];
+    }
+
+    /** Slot id for a band/start pair, or -1 when not scheduled. */
+    public int findSlot(String bandName, long startEpochMillis) {
+        int b = bandIdOf(bandName);
+        if (b < 0) {
+            return -1;
+        }
+        for (int slot : slotsByBand[b]) {
+            if (startEpoch[slot] == startEpochMillis) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /** True if any event is Unofficial Event / Cruiser Organized. */
+    public boolean hasUnofficialEvents() {
+        for (int t = 0; t < typeIsUnofficial.length; t++) {
+            if (typeIsUnofficial[t]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Small string → dense id table used while building. */
+    private static final class Interner {
+        final Map<String, Integer> ids = new HashMap<>();
+        final List<String> values = new ArrayList<>();
+
+        int id(String value) {
+            Integer existing = ids.get(value);
+            if (existing != null) {
+                return existing;
+            }
+            int next = values.size();
+            ids.put(value, next);
+            values.add(value);
+            return next;
+        }
+
+        String[] toArray() {
+            return values.toArray(new String[0]);
+        }
+    }
+
+}
@@ -0,0 +1,240 @@
+package com.Bands70k;
+
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The current filter preferences compiled against one {@link ScheduleEventIndex}.
+ *
+ * Preference getters (including the SharedPreferences-backed custom venue flags), the rank map and the
+ * attended store are read once in {@link #compile(ScheduleEventIndex)}; per-event checks are then array
+ * lookups on the index's band / venue / type ids.
+ *
+ * Filter preferences (rank mask, will-attend mode, expiry, event types and venues) are a snapshot: compile a
+ * new program whenever they change or the list, calendar or counters are rebuilt. The one exception is a
+ * single band's priority or attended flags: {@link #refreshBand(String)} patches that band's rank and its
+ * events' attended flags in place after an edit applied to the list without a rebuild. A new schedule needs
+ * a new index and so a new program.
+ *
+ * Rules match the portrait list:
+ * - "Show Flagged Events Only" (will attend) replaces every other filter with the attended check.
+ * - Otherwise an event needs its band's rank, its event type and its venue to be shown.
+ * - A band row with no event only needs its rank (and is never shown in will-attend mode).
+ */
+public final class ScheduleFilterProgram {
+
+    private static final String TAG = "ScheduleFilterProgram";
+
+    public static final int RANK_UNKNOWN = 1;
+    public static final int RANK_MUST = 1 << 1;
+    public static final int RANK_MIGHT = 1 << 2;
+    public static final int RANK_WONT = 1 << 3;
+
+    public final ScheduleEventIndex index;
+
+    /** OR of the RANK_* bits whose priority is currently shown. */
+    public final int rankMask;
+    public final boolean willAttendOnly;
+    public final boolean hideExpired;
+    /** Clock used for the expiry cutoff, captured at compile time so one rebuild sees one "now". */
+    public final long nowMillis;
+
+    /** Per band id: RANK_* bit. */
+    private final int[] bandRank;
+    /** Per type id: event type passes the event type filters. */
+    private final boolean[] typeVisible;
+    /** Per venue id: venue passes the venue filters. */
+    private final boolean[] venueVisible;
+    /** Per slot: attended status is anything other than "saw none". */
+    private final boolean[] slotAttended;
+
+    private ScheduleFilterProgram(ScheduleEventIndex index) {
+        this.index = index;
+        preferencesHandler prefs = staticVariables.preferences;
+
+        rankMask = currentRankMask();
+        willAttendOnly = prefs.getShowWillAttend();
+        hideExpired = prefs.getHideExpiredEvents();
+        nowMillis = System.currentTimeMillis();
+
+        bandRank = new int[index.bandNames.length];
+        for (int b = 0; b < bandRank.length; b++) {
+            bandRank[b] = rankBitFor(rankStore.getRankForBand(index.bandNames[b]));
+        }
+
+        boolean showSpecial = prefs.getShowSpecialEvents();
+        boolean showMeetAndGreet = prefs.getShowMeetAndGreet();
+        boolean showClinic = prefs.getShowClinicEvents();
+        boolean showAlbumListen = prefs.getShowAlbumListen();
+        boolean showUnofficial = prefs.getShowUnofficalEvents();
+        typeVisible = new boolean[index.typeNames.length];
+        for (int t = 0; t < typeVisible.length; t++) {
+            String eventType = index.typeNames[t];
+            if (EventTypeConfig.isSpecial(eventType)) {
+                typeVisible[t] = showSpecial;
+            } else if (EventTypeConfig.isMeetAndGreet(eventType)) {
+                typeVisible[t] = showMeetAndGreet;
+            } else if (EventTypeConfig.isClinic(eventType)) {
+                typeVisible[t] = showClinic;
+            } else if (staticVariables.listeningEvent.equals(eventType)) {
+                typeVisible[t] = showAlbumListen;
+            } else if (EventTypeConfig.isUnofficial(eventType)) {
+                typeVisible[t] = showUnofficial;
+            } else {
+                typeVisible[t] = EventTypeConfig.isShow(eventType);
+            }
+        }
+
+        // Per-venue state: configured venue (prefix match, e.g. "Pool Deck 11" -> "Pool") or the full location
+        // for venues only discovered in the schedule.
+        List<String> configuredVenues = FestivalConfig.getInstance().getAllVenueNames();
+        List<String> configuredLower = new ArrayList<>(configuredVenues.size());
+        for (String v : configuredVenues) {
+            configuredLower.add(v.toLowerCase(Locale.ROOT));
+        }
+        venueVisible = new boolean[index.venueNames.length];
+        for (int v = 0; v < venueVisible.length; v++) {
+            String venue = index.venueNames[v];
+            String venueLower = venue.toLowerCase(Locale.ROOT);
+            String venueNameToCheck = venue;
+            for (int c = 0; c < configuredLower.size(); c++) {
+                if (venueLower.startsWith(configuredLower.get(c))) {
+                    venueNameToCheck = configuredVenues.get(c);
+                    break;
+                }
+            }
+            venueVisible[v] = prefs.getShowVenueEvents(venueNameToCheck);
+        }
+
+        slotAttended = new boolean[index.size];
+        showsAttended attended = staticVariables.attendedHandler;
+        if (attended != null) {
+            String eventYear = String.valueOf(staticVariables.eventYear);
+            for (int slot = 0; slot < index.size; slot++) {
+                slotAttended[slot] = readAttended(attended, slot, eventYear);
+            }
+        }
+    }
+
+    private boolean readAttended(showsAttended attended, int slot, String eventYear) {
+        scheduleHandler event = index.handlers[slot];
+        String status = attended.getShowAttendedStatus(index.bandName(slot), index.venue(slot),
+                event.getStartTimeString(), index.eventType(slot), eventYear, event.getShowDay());
+        return !staticVariables.sawNoneStatus.equals(status);
+    }
+
+    /**
+     * Re-reads one band's priority and attended flags after a change that is applied to the list in place, so
+     * the program (and counters derived from it) keep matching the stores without a full recompile.
+     * @return Change in the number of current (not hidden as expired) attended events of the band.
+     */
+    public int refreshBand(String bandName) {
+        int b = index.bandIdOf(bandName);
+        if (b < 0) {
+            return 0;
+        }
+        bandRank[b] = rankBitFor(rankStore.getRankForBand(bandName));
+
+        showsAttended attended = staticVariables.attendedHandler;
+        if (attended == null) {
+            return 0;
+        }
+        String eventYear = String.valueOf(staticVariables.eventYear);
+        int delta = 0;
+        for (int slot : index.slotsForBand(bandName)) {
+            boolean now = readAttended(attended, slot, eventYear);
+            if (now != slotAttended[slot] && isCurrent(slot)) {
+                delta += now ? 1 : -1;
+            }
+            slotAttended[slot] = now;
+        }
+        return delta;
+    }
+
+    /**
+     * Compiles the current preferences, priorities and attended flags against {@code index}.
+     */
+    public static ScheduleFilterProgram compile(ScheduleEventIndex index) {
+        ScheduleFilterProgram program = new ScheduleFilterProgram(index);
+        Log.d(TAG, "Compiled filters: rankMask=" + program.rankMask + " willAttendOnly=" + program.willAttendOnly
+                + " hideExpired=" + program.hideExpired + " over " + index.size + " events");
+        return program;
+    }
+
+    /** RANK_* bit for a rank icon from {@link rankStore#getRankForBand(String)}; empty / unknown → RANK_UNKNOWN. */
+    public static int rankBitFor(String rankIcon) {
+        if (staticVariables.mustSeeIcon.equals(rankIcon)) {
+            return RANK_MUST;
+        }
+        if (staticVariables.mightSeeIcon.equals(rankIcon)) {
+            return RANK_MIGHT;
+        }
+        if (staticVariables.wontSeeIcon.equals(rankIcon)) {
+            return RANK_WONT;
+        }
+        return RANK_UNKNOWN;
+    }
+
+    /** RANK_* bits currently shown by the Must / Might / Wont / Unknown filters. */
+    public static int currentRankMask() {
+        preferencesHandler prefs = staticVariables.preferences;
+        int mask = 0;
+        if (prefs.getShowMust()) {
+            mask |= RANK_MUST;
+        }
+        if (prefs.getShowMight()) {
+            mask |= RANK_MIGHT;
+        }
+        if (prefs.getShowWont()) {
+            mask |= RANK_WONT;
+        }
+        if (prefs.getShowUnknown()) {
+            mask |= RANK_UNKNOWN;
+        }
+        return mask;
+    }
+
+    /** True if the band's priority is shown. Bands outside the index fall back to a rank map lookup. */
+    public boolean rankVisible(String bandName) {
+        int b = index.bandIdOf(bandName);
+        int rank = b >= 0 ? bandRank[b] : rankBitFor(rankStore.getRankForBand(bandName));
+        return (rankMask & rank) != 0;
+    }
+
+    public boolean rankVisible(int slot) {
+        return (rankMask & bandRank[index.bandId[slot]]) != 0;
+    }
+
+    public boolean typeVisible(int slot) {
+        return typeVisible[index.typeId[slot]];
+    }
+
+    public boolean venueVisible(int slot) {
+        return venueVisible[index.venueId[slot]];
+    }
+
+    public boolean isAttended(int slot) {
+        return slotAttended[slot];
+    }
+
+    /** False only when "Hide Expired Events" is on and the slot ended (plus buffer) before compile time. */
+    public boolean isCurrent(int slot) {
+        return !hideExpired || index.isUpcoming(slot, nowMillis);
+    }
+
+    /** Whether event {@code slot} passes the filters (expiry is checked separately with {@link #isCurrent(int)}). */
+    public boolean eventVisible(int slot) {
+        if (willAttendOnly) {
+            return slotAttended[slot];
+        }
+        return rankVisible(slot) && typeVisible(slot) && venueVisible(slot);
+    }
+
+    /** Whether a band row with no event passes the filters. */
+    public boolean bandRowVisible(String bandName) {
+        return !willAttendOnly && rankVisible(bandName);
+    }
+}
@@ -0,0 +1,254 @@
+package com.Bands70k;
+
+import android.util.Log;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Splits and reassembles a schedule sent as N type 6 QR codes (see {@link ScheduleQRCompression}).
+ *
+ * Each code = 1 byte type + 1 byte index (0-based) + 1 byte count + 4-byte LE CRC-32 of the whole stream +
+ * 2-byte LE slice length + 4-byte LE CRC-32 of the slice + a slice of the packed body (4-byte LE size +
+ * dictionary zlib). Codes can be scanned in any order and more than once (the sharing phone cycles through
+ * them). The stream CRC doubles as the share's identity, so a code from another share starts a new set instead
+ * of corrupting this one. A truncated or misread code fails its slice length or CRC and is rejected as
+ * {@link AddResult#INVALID}, so it never takes the place of a good scan of the same code.
+ *
+ * When the vocabulary dictionary is known up front, the contiguous prefix is inflated as soon as it arrives:
+ * the work is spread over the scan and a stream made against a different band list is reported after the
+ * first code rather than after the last. Used from one thread.
+ */
+final class ScheduleQRChunkAssembler {
+
+    private static final String TAG = "ScheduleQRChunks";
+
+    static final int HEADER_BYTES = 13;
+    private static final int SLICE_LENGTH_OFFSET = 7;
+    private static final int SLICE_CRC_OFFSET = 9;
+    static final int MAX_CHUNKS = 255;
+    private static final int MAX_STREAM_SIZE = 2_000_000;
+
+    enum AddResult { ADDED, DUPLICATE, NEW_SET, INVALID }
+
+    private byte[][] payloads;
+    private int checksum;
+    private int received;
+
+    private byte[] streamDictionary;
+    private Inflater inflater;
+    private int nextToInflate;
+    private final byte[] sizeHeader = new byte[4];
+    private int sizeHeaderFill;
+    private byte[] inflated;
+    private int inflatedLength;
+    private final CRC32 crc = new CRC32();
+    private IOException streamFailure;
+
+    /** @param dictionary packed vocabulary dictionary, or null to only collect codes until {@link #packedSchedule}. */
+    ScheduleQRChunkAssembler(byte[] dictionary) {
+        this.streamDictionary = dictionary;
+    }
+
+    /** Type 6 payloads for {@code body}, in equal-sized slices of at most {@code maxPayloadBytes}; null if it needs more than 255. */
+    static List<byte[]> split(byte[] body, int maxPayloadBytes) {
+        int capacity = maxPayloadBytes - HEADER_BYTES;
+        int count = (body.length + capacity - 1) / capacity;
+        if (count < 1 || count > MAX_CHUNKS) return null;
+        int sliceSize = (body.length + count - 1) / count;
+        CRC32 bodyCrc = new CRC32();
+        bodyCrc.update(body);
+        CRC32 sliceCrc = new CRC32();
+        List<byte[]> out = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int from = i * sliceSize;
+            int to = Math.min(body.length, from + sliceSize);
+            sliceCrc.reset();
+            sliceCrc.update(body, from, to - from);
+            ByteBuffer payload = ByteBuffer.allocate(HEADER_BYTES + to - from).order(ByteOrder.LITTLE_ENDIAN);
+            payload.put(ScheduleQRCompression.SCHEDULE_QR_TYPE_MULTI_CHUNK);
+            payload.put((byte) i);
+            payload.put((byte) count);
+            payload.putInt((int) bodyCrc.getValue());
+            payload.putShort((short) (to - from));
+            payload.putInt((int) sliceCrc.getValue());
+            payload.put(body, from, to - from);
+            out.add(payload.array());
+        }
+        return out;
+    }
+
+    /** False if {@code payload} is shorter or longer than the slice length in its header (a partial read). */
+    static boolean hasDeclaredLength(byte[] payload) {
+        if (payload == null || payload.length <= HEADER_BYTES) return false;
+        int sliceLength = ByteBuffer.wrap(payload, SLICE_LENGTH_OFFSET, 2).order(ByteOrder.LITTLE_ENDIAN).getShort() & 0xFFFF;
+        return payload.length - HEADER_BYTES == sliceLength;
+    }
+
+    /** True if the slice has the length and CRC-32 its header declares. */
+    static boolean isIntact(byte[] payload) {
+        if (!hasDeclaredLength(payload)) return false;
+        CRC32 sliceCrc = new CRC32();
+        sliceCrc.update(payload, HEADER_BYTES, payload.length - HEADER_BYTES);
+        int declared = ByteBuffer.wrap(payload, SLICE_CRC_OFFSET, 4).order(ByteOrder.LITTLE_ENDIAN).getInt();
+        return (int) sliceCrc.getValue() == declared;
+    }
+
+    AddResult add(byte[] payload) {
+        if (payload == null || payload.length <= HEADER_BYTES
+                || payload[0] != ScheduleQRCompression.SCHEDULE_QR_TYPE_MULTI_CHUNK) {
+            return AddResult.INVALID;
+        }
+        if (!isIntact(payload)) {
+            Log.d(TAG, "Code " + ((payload[1] & 0xFF) + 1) + " failed its length or CRC check, rescan it");
+            return AddResult.INVALID;
+        }
+        int index = payload[1] & 0xFF;
+        int count = payload[2] & 0xFF;
+        int payloadChecksum = ByteBuffer.wrap(payload, 3, 4).order(ByteOrder.LITTLE_ENDIAN).getInt();
+        if (count == 0 || index >= count) return AddResult.INVALID;
+
+        AddResult result = AddResult.ADDED;
+        if (payloads == null || payloads.length != count || checksum != payloadChecksum) {
+            if (payloads != null) {
+                Log.d(TAG, "Code from another share (count=" + count + "), starting over; had " + received + "/" + payloads.length);
+                result = AddResult.NEW_SET;
+            }
+            payloads = new byte[count][];
+            checksum = payloadChecksum;
+            received = 0;
+            resetStream(streamDictionary);
+        }
+        if (payloads[index] != null) return AddResult.DUPLICATE;
+        payloads[index] = payload;
+        received++;
+        Log.d(TAG, "Code " + (index + 1) + "/" + count + " received, have " + received + ", missing " + missingChunks());
+        feedContiguous();
+        return result;
+    }
+
+    int totalCount() {
+        return payloads != null ? payloads.length : 0;
+    }
+
+    int receivedCount() {
+        return received;
+    }
+
+    boolean isComplete() {
+        return payloads != null && received == payloads.length;
+    }
+
+    /** 1-based numbers of the codes not scanned yet. */
+    List<Integer> missingChunks() {
+        List<Integer> missing = new ArrayList<>();
+        if (payloads == null) return missing;
+        for (int i = 0; i < payloads.length; i++) {
+            if (payloads[i] == null) missing.add(i + 1);
+        }
+        return missing;
+    }
+
+    /** Raw payloads in code order (complete sets only). */
+    List<byte[]> payloads() {
+        List<byte[]> list = new ArrayList<>();
+        if (payloads != null) Collections.addAll(list, payloads);
+        return list;
+    }
+
+    /** Error seen while inflating the prefix (e.g. a different band list), or null. */
+    IOException streamFailure() {
+        return streamFailure;
+    }
+
+    /**
+     * The inflated packed schedule, checked against the stream CRC. Re-inflates from the collected codes when
+     * {@code dictionary} differs from the one streamed with (or none was known while scanning).
+     */
+    byte[] packedSchedule(byte[] dictionary) throws IOException {
+        if (!isComplete()) throw new IOException("Missing schedule QR codes " + missingChunks());
+        if (!Arrays.equals(dictionary, streamDictionary)) {
+            resetStream(dictionary);
+            feedContiguous();
+        }
+        if (streamFailure != null) throw streamFailure;
+        if ((int) crc.getValue() != checksum) {
+            // Some stored code must be bad; keeping it would reject every later good scan of it as a duplicate
+            Log.d(TAG, "Stream checksum failed, dropping " + received + " codes");
+            payloads = new byte[payloads.length][];
+            received = 0;
+            resetStream(streamDictionary);
+            throw new IOException("Schedule QR codes failed their checksum");
+        }
+        if (inflated == null || inflatedLength != inflated.length) {
+            throw new IOException("Schedule QR stream ended early (" + inflatedLength + " bytes)");
+        }
+        return inflated;
+    }
+
+    private void resetStream(byte[] dictionary) {
+        if (inflater != null) inflater.end();
+        inflater = null;
+        streamDictionary = dictionary;
+        nextToInflate = 0;
+        sizeHeaderFill = 0;
+        inflated = null;
+        inflatedLength = 0;
+        crc.reset();
+        streamFailure = null;
+    }
+
+    private void feedContiguous() {
+        if (streamDictionary == null) return;
+        while (streamFailure == null && nextToInflate < payloads.length && payloads[nextToInflate] != null) {
+            byte[] payload = payloads[nextToInflate++];
+            crc.update(payload, HEADER_BYTES, payload.length - HEADER_BYTES);
+            consume(payload, HEADER_BYTES);
+        }
+        if (streamFailure != null) {
+            Log.d(TAG, "Stream failed after " + nextToInflate + " codes: " + streamFailure.getMessage());
+        }
+    }
+
+    private void consume(byte[] data, int offset) {
+        while (sizeHeaderFill < 4 && offset < data.length) {
+            sizeHeader[sizeHeaderFill++] = data[offset++];
+        }
+        if (sizeHeaderFill < 4) return;
+        if (inflated == null) {
+            int size = ByteBuffer.wrap(sizeHeader).order(ByteOrder.LITTLE_ENDIAN).getInt();
+            if (size <= 0 || size > MAX_STREAM_SIZE) {
+                streamFailure = new IOException("Invalid size header (n=" + size + ")");
+                return;
+            }
+            inflated = new byte[size];
+            inflater = new Inflater();
+        }
+        if (offset >= data.length) return;
+        inflater.setInput(data, offset, data.length - offset);
+        try {
+            while (inflatedLength < inflated.length) {
+                int read = inflater.inflate(inflated, inflatedLength, inflated.length - inflatedLength);
+                inflatedLength += read;
+                if (read > 0) continue;
+                if (inflater.needsDictionary()) {
+                    ScheduleQRCompression.applyPresetDictionary(inflater, streamDictionary);
+                } else {
+                    break;
+                }
+            }
+        } catch (DataFormatException e) {
+            streamFailure = new IOException("packed zlib decode failed: " + e.getMessage(), e);
+        } catch (IOException e) {
+            streamFailure = e;
+        }
+    }
+}
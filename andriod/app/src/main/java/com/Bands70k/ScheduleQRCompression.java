@@ -11,6 +11,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.regex.Pattern;
+import java.util.zip.Adler32;
+import java.util.zip.DataFormatException;
 import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
 import java.util.zip.Inflater;
@@ -24,6 +26,16 @@ import java.util.zip.ZipException;
  * Max 2953 bytes per QR. Uses zlib (not LZMA) for cross-platform compatibility.
  * CSV: 8 columns in QR (Band,Location,Date,Day,Start Time,End Time,Type,Notes);
  * full 11 columns (Band,...,Description URL,Notes,ImageURL,ImageDate) after postprocess.
+ *
+ * Types 3/4/5 (full, chunk1, chunk2) carry the same 8 columns in {@link ScheduleQRPackedCodec}'s bit-packed
+ * layout, zlib-compressed with a preset dictionary of the shared band/venue/type vocabulary. The zlib header
+ * carries the dictionary's Adler-32, so a phone with a different band list fails loudly instead of importing
+ * wrong names. They are only produced when the schedule does not fit types 0-2, so schedules that fit today
+ * stay readable by every client.
+ *
+ * Type 6 carries the packed body split over N codes that can be scanned in any order; see
+ * {@link ScheduleQRChunkAssembler}. Only {@link #compressScheduleForQRs} produces it, when two packed codes are
+ * still not enough.
  */
 public final class ScheduleQRCompression {
 
@@ -37,6 +49,13 @@ public final class ScheduleQRCompression {
     public static final byte SCHEDULE_QR_TYPE_CHUNK1 = 1;
     public static final byte SCHEDULE_QR_TYPE_CHUNK2 = 2;
 
+    /** Packed payload type (dictionary-compressed, see {@link ScheduleQRPackedCodec}): 3 = full, 4 = chunk 1 of 2, 5 = chunk 2 of 2. */
+    public static final byte SCHEDULE_QR_TYPE_PACKED_FULL = 3;
+    public static final byte SCHEDULE_QR_TYPE_PACKED_CHUNK1 = 4;
+    public static final byte SCHEDULE_QR_TYPE_PACKED_CHUNK2 = 5;
+    /** One of N codes of a packed body: index, count and stream CRC-32 follow the type byte. */
+    public static final byte SCHEDULE_QR_TYPE_MULTI_CHUNK = 6;
+
     /** Full 11-column CSV header for importer. */
     private static final String SCHEDULE_CSV_HEADER =
             "Band,Location,Date,Day,Start Time,End Time,Type,Description URL,Notes,ImageURL,ImageDate";
@@ -436,9 +455,76 @@ public final class ScheduleQRCompression {
         return decompressed.toByteArray();
     }
 
+    /**
+     * Packed payloads: 4-byte LE uncompressed size + zlib stream with a preset dictionary. The zlib wrapper is
+     * kept (unlike types 0-2) because its header records the dictionary's Adler-32.
+     */
+    private static byte[] compressWithDictionary(byte[] source, byte[] dictionary) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ByteBuffer le = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+        le.putInt(source.length);
+        baos.write(le.array());
+        Deflater def = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            def.setDictionary(dictionary);
+            try (DeflaterOutputStream zos = new DeflaterOutputStream(baos, def)) {
+                zos.write(source);
+            }
+        } finally {
+            def.end();
+        }
+        byte[] out = baos.toByteArray();
+        Log.d(TAG, "[QRCreate] packed deflate: uncompressedSize=" + source.length + " dictionary=" + dictionary.length + " totalPayload=" + out.length);
+        return out;
+    }
+
+    private static byte[] decompressWithDictionary(byte[] compressed, byte[] dictionary) throws IOException {
+        if (compressed == null || compressed.length <= 4) {
+            throw new IOException("Payload too short (" + (compressed != null ? compressed.length : 0) + " bytes)");
+        }
+        int n = ByteBuffer.wrap(compressed, 0, 4).order(ByteOrder.LITTLE_ENDIAN).getInt();
+        if (n <= 0 || n > 2_000_000) {
+            throw new IOException("Invalid size header (n=" + n + ")");
+        }
+        byte[] out = new byte[n];
+        int total = 0;
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed, 4, compressed.length - 4);
+            while (total < n) {
+                int read = inflater.inflate(out, total, n - total);
+                total += read;
+                if (read > 0) continue;
+                if (inflater.needsDictionary()) {
+                    applyPresetDictionary(inflater, dictionary);
+                } else if (inflater.finished() || inflater.needsInput()) {
+                    break;
+                }
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("packed zlib decode failed: " + e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+        if (total != n) {
+            throw new IOException("packed zlib decode returned " + total + ", expected " + n);
+        }
+        return out;
+    }
+
+    /** Sets the vocabulary dictionary on an inflater that asks for one, failing if the stream was made with another. */
+    static void applyPresetDictionary(Inflater inflater, byte[] dictionary) throws IOException {
+        Adler32 adler = new Adler32();
+        adler.update(dictionary);
+        if (inflater.getAdler() != (int) adler.getValue()) {
+            throw new IOException("Schedule QR was made with a different band list");
+        }
+        inflater.setDictionary(dictionary);
+    }
+
     // ---------- Build shortened 8-column CSV for one chunk (for LZMA) ----------
 
-    private static byte[] compressScheduleForQRData(String csvString, int eventYear,
+    static byte[] compressScheduleForQRData(String csvString, int eventYear,
                                                    List<String> bandNames, List<String> venueNames) throws IOException {
         String preprocessed = preprocessCSVForCompression(csvString);
         List<String> eventTypes = new ArrayList<>();
@@ -476,6 +562,102 @@ public final class ScheduleQRCompression {
         return compressForQR(csvData);
     }
 
+    // ---------- Packed rows (types 3-5) ----------
+
+    /**
+     * Data rows as the 8 QR values (Band,Location,Date,Day,Start Time,End Time,Type,Notes), taking Notes from
+     * the 11-column layout like {@link #compressScheduleForQRData}. Null if a row has fewer than 7 columns.
+     */
+    private static List<List<String>> scheduleRowsForQR(String csvString) {
+        List<List<String>> rows = new ArrayList<>();
+        if (csvString == null) return rows;
+        for (String line : csvString.split("\\n")) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty()) continue;
+            List<String> fields = parseCSVLine(trimmed);
+            if (fields.size() < 7) return null;
+            if ("band".equalsIgnoreCase(fields.get(0))) continue;
+            List<String> row = new ArrayList<>(fields.subList(0, 7));
+            row.add(fields.size() > 8 ? fields.get(8) : "");
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static List<String> eventTypeVocabulary() {
+        List<String> eventTypes = new ArrayList<>();
+        Collections.addAll(eventTypes, EVENT_TYPE_ORDER);
+        return eventTypes;
+    }
+
+    static byte[] packedDictionary(List<String> bandNames, List<String> venueNames) {
+        return ScheduleQRPackedCodec.dictionary(bandNames, venueNames, eventTypeVocabulary());
+    }
+
+    private static byte[] compressPackedRows(List<List<String>> rows, List<String> bandNames, List<String> venueNames) throws IOException {
+        byte[] packed = ScheduleQRPackedCodec.encode(rows, bandNames, venueNames, eventTypeVocabulary());
+        if (packed == null) {
+            throw new IOException("Schedule has too many rows for a packed QR (" + rows.size() + ")");
+        }
+        return compressWithDictionary(packed, packedDictionary(bandNames, venueNames));
+    }
+
+    /** Packed body (4-byte LE size + dictionary zlib) of the whole schedule, without the type byte. */
+    static byte[] compressPackedScheduleForQRData(String csvString, List<String> bandNames, List<String> venueNames) throws IOException {
+        List<List<String>> rows = scheduleRowsForQR(csvString);
+        if (rows == null) throw new IOException("Schedule has a row with fewer than 7 columns");
+        return compressPackedRows(rows, bandNames, venueNames);
+    }
+
+    /** Types 3 or 4+5 for schedules too large for types 0-2; null if even two packed QRs are not enough. */
+    private static List<byte[]> compressPackedForOneOrTwoQRs(String csvString, List<String> bandNames, List<String> venueNames) throws IOException {
+        List<List<String>> rows = scheduleRowsForQR(csvString);
+        if (rows == null || rows.isEmpty()) return null;
+        List<byte[]> list = new ArrayList<>();
+        byte[] full = withTypeByte(SCHEDULE_QR_TYPE_PACKED_FULL, compressPackedRows(rows, bandNames, venueNames));
+        Log.d(TAG, "[QRCreate] packed single payload=" + full.length + " bytes for " + rows.size() + " rows");
+        if (full.length <= MAX_BYTES_PER_BINARY_QR) {
+            logCreationPayload("1QR_packed", full);
+            list.add(full);
+            return list;
+        }
+        if (rows.size() < 2) return null;
+        int mid = rows.size() / 2;
+        byte[] out1 = withTypeByte(SCHEDULE_QR_TYPE_PACKED_CHUNK1, compressPackedRows(rows.subList(0, mid), bandNames, venueNames));
+        byte[] out2 = withTypeByte(SCHEDULE_QR_TYPE_PACKED_CHUNK2, compressPackedRows(rows.subList(mid, rows.size()), bandNames, venueNames));
+        if (out1.length > MAX_BYTES_PER_BINARY_QR || out2.length > MAX_BYTES_PER_BINARY_QR) {
+            Log.d(TAG, "[QRCreate] packed chunks still too large: " + out1.length + " + " + out2.length);
+            return null;
+        }
+        logCreationPayload("2QR_packed_chunk1", out1);
+        logCreationPayload("2QR_packed_chunk2", out2);
+        list.add(out1);
+        list.add(out2);
+        return list;
+    }
+
+    /** Type 6 codes for schedules too large for two packed QRs; null if even 255 codes are not enough. */
+    private static List<byte[]> compressPackedForMultipleQRs(String csvString, List<String> bandNames, List<String> venueNames) throws IOException {
+        byte[] body = compressPackedScheduleForQRData(csvString, bandNames, venueNames);
+        List<byte[]> list = ScheduleQRChunkAssembler.split(body, MAX_BYTES_PER_BINARY_QR);
+        if (list == null) {
+            Log.d(TAG, "[QRCreate] packed body " + body.length + " bytes needs more than " + ScheduleQRChunkAssembler.MAX_CHUNKS + " codes");
+            return null;
+        }
+        Log.d(TAG, "[QRCreate] packed body " + body.length + " bytes split into " + list.size() + " codes");
+        for (int i = 0; i < list.size(); i++) {
+            logCreationPayload("NQR_chunk" + (i + 1), list.get(i));
+        }
+        return list;
+    }
+
+    private static byte[] withTypeByte(byte type, byte[] body) {
+        byte[] out = new byte[1 + body.length];
+        out[0] = type;
+        System.arraycopy(body, 0, out, 1, body.length);
+        return out;
+    }
+
     /** Cross-platform creation logging: compressed CSV (before zlib) first lines. Grep [QRCreate]. */
     private static void logCreationCompressedCSV(String compressedCSV) {
         if (compressedCSV == null) return;
@@ -513,6 +695,7 @@ public final class ScheduleQRCompression {
     /**
      * Compress schedule for 1 or 2 binary QRs. If compressed full schedule fits in max bytes per QR,
      * returns 1 payload; else 2. Each payload: type (0/1/2) + 4-byte LE size + zlib.
+     * Only when two type 1/2 payloads are too large does it fall back to packed types 3 or 4/5.
      *
      * @param csvString   Full 11-column CSV (header + rows)
      * @param eventYear   Year for canonical band list
@@ -522,6 +705,20 @@ public final class ScheduleQRCompression {
      */
     public static List<byte[]> compressScheduleForOneOrTwoQRs(String csvString, int eventYear,
                                                               List<String> bandNames, List<String> venueNames) throws IOException {
+        return compressSchedule(csvString, eventYear, bandNames, venueNames, false);
+    }
+
+    /**
+     * Like {@link #compressScheduleForOneOrTwoQRs}, but a schedule too large for two codes is split into as many
+     * type 6 codes as it needs instead of failing.
+     */
+    public static List<byte[]> compressScheduleForQRs(String csvString, int eventYear,
+                                                      List<String> bandNames, List<String> venueNames) throws IOException {
+        return compressSchedule(csvString, eventYear, bandNames, venueNames, true);
+    }
+
+    private static List<byte[]> compressSchedule(String csvString, int eventYear, List<String> bandNames,
+                                                 List<String> venueNames, boolean allowMultipleQRs) throws IOException {
         int csvLen = csvString != null ? csvString.length() : 0;
         int lineCount = csvString != null ? csvString.split("\\n").length : 0;
         Log.d(TAG, "[QRCreate] input: csvLength=" + csvLen + " lines=" + lineCount + " bandNames=" + (bandNames != null ? bandNames.size() : 0));
@@ -567,7 +764,14 @@ public final class ScheduleQRCompression {
         out2[0] = SCHEDULE_QR_TYPE_CHUNK2;
         System.arraycopy(p2, 0, out2, 1, p2.length);
         if (out1.length > MAX_BYTES_PER_BINARY_QR || out2.length > MAX_BYTES_PER_BINARY_QR) {
-            throw new IOException("Schedule too large for two QRs.");
+            List<byte[]> packed = compressPackedForOneOrTwoQRs(csvString, bandNames, venueNames);
+            if (packed == null && allowMultipleQRs) {
+                packed = compressPackedForMultipleQRs(csvString, bandNames, venueNames);
+            }
+            if (packed == null) {
+                throw new IOException("Schedule too large for two QRs.");
+            }
+            return packed;
         }
         logCreationPayload("2QR_chunk1", out1);
         logCreationPayload("2QR_chunk2", out2);
@@ -590,10 +794,38 @@ public final class ScheduleQRCompression {
         }
     }
 
+    /** Type 0 or 3: the whole schedule in one QR. */
+    public static boolean isFullScheduleType(byte type) {
+        return type == SCHEDULE_QR_TYPE_FULL || type == SCHEDULE_QR_TYPE_PACKED_FULL;
+    }
+
+    /** Type 1 or 4: first of two QRs. */
+    public static boolean isFirstChunkType(byte type) {
+        return type == SCHEDULE_QR_TYPE_CHUNK1 || type == SCHEDULE_QR_TYPE_PACKED_CHUNK1;
+    }
+
+    /** Type 2 or 5: second of two QRs. */
+    public static boolean isSecondChunkType(byte type) {
+        return type == SCHEDULE_QR_TYPE_CHUNK2 || type == SCHEDULE_QR_TYPE_PACKED_CHUNK2;
+    }
+
+    /** Type 6: one of N codes, see {@link ScheduleQRChunkAssembler}. */
+    public static boolean isMultiChunkType(byte type) {
+        return type == SCHEDULE_QR_TYPE_MULTI_CHUNK;
+    }
+
+    private static boolean isScheduleType(byte type) {
+        return isFullScheduleType(type) || isFirstChunkType(type) || isSecondChunkType(type) || isMultiChunkType(type);
+    }
+
+    private static boolean isPackedType(byte type) {
+        return type == SCHEDULE_QR_TYPE_PACKED_FULL || type == SCHEDULE_QR_TYPE_PACKED_CHUNK1 || type == SCHEDULE_QR_TYPE_PACKED_CHUNK2;
+    }
+
     public static PayloadTypeResult scheduleQRBinaryPayloadType(byte[] payload) {
         if (payload == null || payload.length <= 5) return null;
         byte t = payload[0];
-        if (t != SCHEDULE_QR_TYPE_FULL && t != SCHEDULE_QR_TYPE_CHUNK1 && t != SCHEDULE_QR_TYPE_CHUNK2) return null;
+        if (!isScheduleType(t)) return null;
         byte[] body = new byte[payload.length - 1];
         System.arraycopy(payload, 1, body, 0, body.length);
         return new PayloadTypeResult(t, body);
@@ -603,13 +835,14 @@ public final class ScheduleQRCompression {
     public static boolean isScheduleQRBinaryPayloadIncomplete(byte[] payload) {
         PayloadTypeResult result = scheduleQRBinaryPayloadType(payload);
         if (result == null) return false;
+        if (isMultiChunkType(result.type)) return !ScheduleQRChunkAssembler.hasDeclaredLength(payload);
         byte[] body = result.body;
         if (body.length < 4) return true;
         int declaredSize = (body[0] & 0xFF) | ((body[1] & 0xFF) << 8) | ((body[2] & 0xFF) << 16) | ((body[3] & 0xFF) << 24);
         if (declaredSize >= 500 && payload.length < 200) return true;
         if (declaredSize >= 100 && body.length <= 6) return true;
-        if (result.type == SCHEDULE_QR_TYPE_FULL && payload.length < 200) return true;
-        if ((result.type == SCHEDULE_QR_TYPE_CHUNK1 || result.type == SCHEDULE_QR_TYPE_CHUNK2) && payload.length < 100) {
+        if (isFullScheduleType(result.type) && payload.length < 200) return true;
+        if ((isFirstChunkType(result.type) || isSecondChunkType(result.type)) && payload.length < 100) {
             return true;
         }
         return false;
@@ -620,7 +853,11 @@ public final class ScheduleQRCompression {
         if (ScheduleQRGuideLink.matchesGuidePayloadExact(payload)) return false;
         if (payload == null || payload.length < 6) return false;
         byte t = payload[0];
-        if (t == SCHEDULE_QR_TYPE_FULL || t == SCHEDULE_QR_TYPE_CHUNK1 || t == SCHEDULE_QR_TYPE_CHUNK2) {
+        if (isMultiChunkType(t)) {
+            // Type 6 codes declare their own length, so a short last slice is not mistaken for a partial read
+            return isScheduleQRBinaryPayloadIncomplete(payload);
+        }
+        if (isScheduleType(t)) {
             return payload.length < 200 || isScheduleQRBinaryPayloadIncomplete(payload);
         }
         if (isScheduleQRBinaryPayloadIncomplete(payload)) return true;
@@ -636,29 +873,85 @@ public final class ScheduleQRCompression {
         if (payloads == null || payloads.isEmpty() || payloads.size() > 2) {
             throw new IOException("Expected 1 or 2 payloads, got " + (payloads != null ? payloads.size() : 0));
         }
-        List<byte[]> bodies = new ArrayList<>();
+        List<PayloadTypeResult> parsed = new ArrayList<>();
         for (int i = 0; i < payloads.size(); i++) {
             PayloadTypeResult r = scheduleQRBinaryPayloadType(payloads.get(i));
             if (r == null) throw new IOException("Payload " + (i + 1) + " has invalid type header.");
-            bodies.add(r.body);
+            parsed.add(r);
         }
         if (payloads.size() == 1) {
-            return decompressScheduleFromQR(bodies.get(0), eventYear, bandNames, venueNames);
+            return decompressScheduleFromQR(parsed.get(0), eventYear, bandNames, venueNames);
         }
-        String csv1 = decompressScheduleFromQR(bodies.get(0), eventYear, bandNames, venueNames);
-        String csv2 = decompressScheduleFromQR(bodies.get(1), eventYear, bandNames, venueNames);
+        String csv1 = decompressScheduleFromQR(parsed.get(0), eventYear, bandNames, venueNames);
+        String csv2 = decompressScheduleFromQR(parsed.get(1), eventYear, bandNames, venueNames);
         String sep = csv1.endsWith("\n") ? "" : "\n";
         return csv1 + sep + csv2;
     }
 
-    private static String decompressScheduleFromQR(byte[] compressedData, int eventYear,
+    /**
+     * Decompress any complete set of schedule payloads: 1 or 2 of types 0-5, or all N codes of type 6 in any order.
+     */
+    public static String decompressAndMergePayloads(List<byte[]> payloads, int eventYear,
+                                                    List<String> bandNames, List<String> venueNames) throws IOException {
+        if (payloads != null && !payloads.isEmpty() && payloads.get(0) != null && payloads.get(0).length > 0
+                && isMultiChunkType(payloads.get(0)[0])) {
+            ScheduleQRChunkAssembler assembler = new ScheduleQRChunkAssembler(null);
+            for (byte[] payload : payloads) {
+                if (assembler.add(payload) == ScheduleQRChunkAssembler.AddResult.INVALID) {
+                    throw new IOException("Payload has invalid multi-code header.");
+                }
+            }
+            return decompressAssembledSchedule(assembler, bandNames, venueNames);
+        }
+        return decompressAndMergeOneOrTwoPayloads(payloads, eventYear, bandNames, venueNames);
+    }
+
+    /** CSV of a complete type 6 set, reusing whatever the assembler already inflated while scanning. */
+    static String decompressAssembledSchedule(ScheduleQRChunkAssembler assembler,
+                                              List<String> bandNames, List<String> venueNames) throws IOException {
+        byte[] packed = assembler.packedSchedule(packedDictionary(bandNames, venueNames));
+        Log.d(TAG, "[QRDecompress] assembled " + assembler.totalCount() + " codes");
+        return packedRowsToCSV(packed, true, bandNames, venueNames);
+    }
+
+    private static String decompressScheduleFromQR(PayloadTypeResult payload, int eventYear,
                                                   List<String> bandNames, List<String> venueNames) throws IOException {
-        byte[] decompressed = decompressFromQR(compressedData);
+        if (isMultiChunkType(payload.type)) {
+            throw new IOException("Payload is one of several codes; scan all of them.");
+        }
+        if (isPackedType(payload.type)) {
+            return decompressPackedScheduleFromQR(payload.body, !isSecondChunkType(payload.type), bandNames, venueNames);
+        }
+        byte[] decompressed = decompressFromQR(payload.body);
         String compressedCSV = new String(decompressed, "UTF-8");
         String fullCSV = decompressCSVToFull(compressedCSV, eventYear, bandNames, venueNames);
         return postprocessCSVAfterDecompression(fullCSV);
     }
 
+    /** Packed body to the same CSV types 0-2 produce; the second chunk has no header row, like type 2. */
+    static String decompressPackedScheduleFromQR(byte[] body, boolean withHeader,
+                                                 List<String> bandNames, List<String> venueNames) throws IOException {
+        byte[] packed = decompressWithDictionary(body, packedDictionary(bandNames, venueNames));
+        return packedRowsToCSV(packed, withHeader, bandNames, venueNames);
+    }
+
+    private static String packedRowsToCSV(byte[] packed, boolean withHeader,
+                                          List<String> bandNames, List<String> venueNames) throws IOException {
+        List<List<String>> rows = ScheduleQRPackedCodec.decode(packed, bandNames, venueNames, eventTypeVocabulary());
+        List<String> outLines = new ArrayList<>();
+        if (withHeader) outLines.add(SCHEDULE_QR_HEADER);
+        for (List<String> fields : rows) {
+            // Literal values get the same normalisation as types 0-2; packed values are already normalised.
+            fields.set(2, expandDateFromQR(fields.get(2)));
+            fields.set(3, expandDayFromQR(fields.get(3)));
+            fields.set(4, expandTimeFromQR(fields.get(4)));
+            fields.set(5, expandTimeFromQR(fields.get(5)));
+            outLines.add(buildCSVLine(fields));
+        }
+        Log.d(TAG, "[QRDecompress] packed rows=" + rows.size() + " packedBytes=" + packed.length);
+        return postprocessCSVAfterDecompression(String.join("\n", outLines));
+    }
+
     private static String decompressCSVToFull(String compressedCSV, int eventYear,
                                              List<String> bandNames, List<String> venueNames) {
         List<String> eventTypes = new ArrayList<>();
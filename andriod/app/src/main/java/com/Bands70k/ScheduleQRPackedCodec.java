@@ -0,0 +1,445 @@
+package com.Bands70k;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Packed row layout for schedule QR payload types 3-5 (see {@link ScheduleQRCompression}).
+ *
+ * Types 0-2 spend most of their bytes on digits and separators of the shortened CSV. This layout stores the
+ * eight QR columns column by column at the smallest bit width the schedule needs: band, venue and type as
+ * positions in the shared vocabulary (0 = literal), start times as zigzag deltas from the previous timed row
+ * (exp-Golomb coded, so an out-of-order row costs a few bits instead of widening every row), end times as
+ * durations and "Day N" as N. Anything the vocabulary or the time model cannot express (bands not in the
+ * lineup, odd dates, notes) goes verbatim into a string table after the bit columns; that table is what the
+ * preset deflate dictionary helps with.
+ *
+ * Rows decode to the same 8 values (Band,Location,Date,Day,Start Time,End Time,Type,Notes) and the same
+ * normalised forms (MM/DD/YYYY, HH:MM, "Day N") that types 0-2 decode to.
+ */
+final class ScheduleQRPackedCodec {
+
+    static final int COLUMN_COUNT = 8;
+    private static final int COL_BAND = 0;
+    private static final int COL_LOCATION = 1;
+    private static final int COL_DATE = 2;
+    private static final int COL_DAY = 3;
+    private static final int COL_START = 4;
+    private static final int COL_END = 5;
+    private static final int COL_TYPE = 6;
+    private static final int COL_NOTES = 7;
+
+    private static final int MAX_ROWS = 0xFFFF;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    /** Time units selectable per column, largest first; the 2-bit selector is the index. */
+    private static final int[] TIME_UNITS = {15, 5, 1};
+
+    private ScheduleQRPackedCodec() {
+    }
+
+    /**
+     * Preset deflate dictionary: the vocabulary both phones already share. Band names go last because deflate
+     * reaches the end of the dictionary most cheaply and literal rows are mostly band-like names.
+     */
+    static byte[] dictionary(List<String> bandNames, List<String> venueNames, List<String> eventTypes) {
+        StringBuilder sb = new StringBuilder("Day \n");
+        appendVocabulary(sb, eventTypes);
+        appendVocabulary(sb, venueNames);
+        appendVocabulary(sb, bandNames);
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void appendVocabulary(StringBuilder sb, List<String> values) {
+        if (values == null) return;
+        for (String value : values) {
+            if (value != null && !value.trim().isEmpty()) {
+                sb.append(value.trim()).append('\n');
+            }
+        }
+    }
+
+    // ---------- Encode ----------
+
+    /**
+     * Packs rows of {@link #COLUMN_COUNT} values. Returns null when there are too many rows for the format,
+     * so the caller can report the schedule as too large.
+     */
+    static byte[] encode(List<List<String>> rows, List<String> bandNames, List<String> venueNames,
+                         List<String> eventTypes) {
+        int count = rows.size();
+        if (count > MAX_ROWS) return null;
+
+        int[] band = new int[count];
+        int[] venue = new int[count];
+        int[] type = new int[count];
+        int[] day = new int[count];
+        long[] startMinute = new long[count];
+        int[] duration = new int[count];
+        boolean[] timed = new boolean[count];
+        long baseDay = -1;
+
+        for (int i = 0; i < count; i++) {
+            List<String> row = rows.get(i);
+            band[i] = vocabularyCode(row.get(COL_BAND), bandNames, true);
+            venue[i] = vocabularyCode(row.get(COL_LOCATION), venueNames, false);
+            type[i] = vocabularyCode(row.get(COL_TYPE), eventTypes, false);
+            day[i] = dayCode(row.get(COL_DAY));
+            long epochDay = parseEpochDay(row.get(COL_DATE));
+            int start = parseMinuteOfDay(row.get(COL_START));
+            timed[i] = epochDay >= 0 && start >= 0;
+            if (!timed[i]) continue;
+            if (baseDay < 0) baseDay = epochDay;
+            if (epochDay < baseDay - 365 || epochDay > baseDay + 365) {
+                timed[i] = false;
+                continue;
+            }
+            startMinute[i] = (epochDay - baseDay) * MINUTES_PER_DAY + start;
+            int end = parseMinuteOfDay(row.get(COL_END));
+            duration[i] = end < 0 ? -1 : Math.floorMod(end - start, MINUTES_PER_DAY);
+        }
+        if (baseDay < 0) baseDay = 0;
+
+        int startUnit = 0;
+        int durationUnit = 0;
+        while (!allMultiplesOf(startMinute, timed, TIME_UNITS[startUnit])) startUnit++;
+        while (!allMultiplesOf(duration, timed, TIME_UNITS[durationUnit])) durationUnit++;
+        int[] durationCode = new int[count];
+        int maxDuration = 0;
+        for (int i = 0; i < count; i++) {
+            if (!timed[i]) continue;
+            durationCode[i] = duration[i] < 0 ? 0 : duration[i] / TIME_UNITS[durationUnit] + 1;
+            maxDuration = Math.max(maxDuration, durationCode[i]);
+        }
+
+        int bandBits = bitsFor(max(band));
+        int venueBits = bitsFor(max(venue));
+        int typeBits = bitsFor(max(type));
+        int dayBits = bitsFor(max(day));
+        int durationBits = bitsFor(maxDuration);
+
+        BitWriter bits = new BitWriter();
+        bits.write(count, 16);
+        bits.write((int) baseDay, 16);
+        bits.write(startUnit, 2);
+        bits.write(durationUnit, 2);
+        bits.write(bandBits, 5);
+        bits.write(venueBits, 5);
+        bits.write(typeBits, 5);
+        bits.write(dayBits, 5);
+        bits.write(durationBits, 5);
+        for (int i = 0; i < count; i++) bits.write(timed[i] ? 1 : 0, 1);
+        for (int i = 0; i < count; i++) bits.write(band[i], bandBits);
+        for (int i = 0; i < count; i++) bits.write(venue[i], venueBits);
+        for (int i = 0; i < count; i++) bits.write(type[i], typeBits);
+        for (int i = 0; i < count; i++) bits.write(day[i], dayBits);
+        long previous = 0;
+        for (int i = 0; i < count; i++) {
+            if (!timed[i]) continue;
+            bits.writeExpGolomb(zigzag((startMinute[i] - previous) / TIME_UNITS[startUnit]));
+            previous = startMinute[i];
+        }
+        for (int i = 0; i < count; i++) {
+            if (timed[i]) bits.write(durationCode[i], durationBits);
+        }
+        for (int i = 0; i < count; i++) bits.write(rows.get(i).get(COL_NOTES).isEmpty() ? 0 : 1, 1);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        bits.flushTo(out);
+        for (int i = 0; i < count; i++) {
+            List<String> row = rows.get(i);
+            if (band[i] == 0) writeString(out, row.get(COL_BAND));
+            if (venue[i] == 0) writeString(out, row.get(COL_LOCATION));
+            if (type[i] == 0) writeString(out, row.get(COL_TYPE));
+            if (day[i] == 0) writeString(out, row.get(COL_DAY));
+            if (!timed[i]) {
+                writeString(out, row.get(COL_DATE));
+                writeString(out, row.get(COL_START));
+            }
+            if (!timed[i] || durationCode[i] == 0) writeString(out, row.get(COL_END));
+            if (!row.get(COL_NOTES).isEmpty()) writeString(out, row.get(COL_NOTES));
+        }
+        return out.toByteArray();
+    }
+
+    /** Position + 1 in the vocabulary (matched ignoring case, like types 0-2), or 0 for a literal. */
+    private static int vocabularyCode(String value, List<String> vocabulary, boolean trim) {
+        if (value == null || vocabulary == null) return 0;
+        String needle = trim ? value.trim() : value;
+        for (int i = 0; i < vocabulary.size(); i++) {
+            String candidate = vocabulary.get(i);
+            if (candidate != null && needle.equalsIgnoreCase(trim ? candidate.trim() : candidate)) return i + 1;
+        }
+        return 0;
+    }
+
+    /** "Day N" and "N" both decode to "Day N" (as in types 0-2), so both pack to N + 1; anything else is literal. */
+    private static int dayCode(String value) {
+        String trimmed = value.trim();
+        if (trimmed.startsWith("Day ")) trimmed = trimmed.substring(4).trim();
+        if (trimmed.isEmpty() || trimmed.length() > 4 || !trimmed.matches("\\d+")) return 0;
+        return Integer.parseInt(trimmed) + 1;
+    }
+
+    /** Epoch day of MM/DD/YYYY, M/D/YY or yyyy-MM-dd within 2000-2099, or -1. */
+    private static long parseEpochDay(String value) {
+        String d = value.trim();
+        String[] parts;
+        int y;
+        int m;
+        int day;
+        try {
+            if ((parts = d.split("-")).length == 3) {
+                y = Integer.parseInt(parts[0].trim());
+                m = Integer.parseInt(parts[1].trim());
+                day = Integer.parseInt(parts[2].trim());
+            } else if ((parts = d.split("/")).length == 3) {
+                m = Integer.parseInt(parts[0].trim());
+                day = Integer.parseInt(parts[1].trim());
+                y = Integer.parseInt(parts[2].trim());
+                if (y >= 0 && y <= 99) y += 2000;
+            } else {
+                return -1;
+            }
+            if (y < 2000 || y > 2099) return -1;
+            return LocalDate.of(y, m, day).toEpochDay();
+        } catch (NumberFormatException | DateTimeException e) {
+            return -1;
+        }
+    }
+
+    /** Minute of day of H:MM / HH:MM, or -1. */
+    private static int parseMinuteOfDay(String value) {
+        String[] parts = value.trim().split(":", -1);
+        if (parts.length != 2 || parts[1].trim().length() != 2) return -1;
+        try {
+            int h = Integer.parseInt(parts[0].trim());
+            int m = Integer.parseInt(parts[1].trim());
+            if (h < 0 || h > 23 || m < 0 || m > 59) return -1;
+            return h * 60 + m;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static boolean allMultiplesOf(long[] values, boolean[] timed, int unit) {
+        for (int i = 0; i < values.length; i++) {
+            if (timed[i] && values[i] % unit != 0) return false;
+        }
+        return true;
+    }
+
+    private static boolean allMultiplesOf(int[] values, boolean[] timed, int unit) {
+        for (int i = 0; i < values.length; i++) {
+            if (timed[i] && values[i] > 0 && values[i] % unit != 0) return false;
+        }
+        return true;
+    }
+
+    private static int max(int[] values) {
+        int max = 0;
+        for (int value : values) max = Math.max(max, value);
+        return max;
+    }
+
+    private static int bitsFor(int maxValue) {
+        return 32 - Integer.numberOfLeadingZeros(maxValue);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        int n = utf8.length;
+        while (n >= 0x80) {
+            out.write((n & 0x7F) | 0x80);
+            n >>>= 7;
+        }
+        out.write(n);
+        out.write(utf8, 0, utf8.length);
+    }
+
+    // ---------- Decode ----------
+
+    /** Unpacks rows of {@link #COLUMN_COUNT} values; throws if the data is truncated or malformed. */
+    static List<List<String>> decode(byte[] packed, List<String> bandNames, List<String> venueNames,
+                                     List<String> eventTypes) throws IOException {
+        BitReader bits = new BitReader(packed);
+        int count = bits.read(16);
+        long baseDay = bits.read(16);
+        int startUnit = bits.read(2);
+        int durationUnit = bits.read(2);
+        if (startUnit >= TIME_UNITS.length || durationUnit >= TIME_UNITS.length) {
+            throw new IOException("Packed schedule has an unknown time unit");
+        }
+        int bandBits = bits.read(5);
+        int venueBits = bits.read(5);
+        int typeBits = bits.read(5);
+        int dayBits = bits.read(5);
+        int durationBits = bits.read(5);
+
+        boolean[] timed = new boolean[count];
+        int[] band = new int[count];
+        int[] venue = new int[count];
+        int[] type = new int[count];
+        int[] day = new int[count];
+        long[] startMinute = new long[count];
+        int[] durationCode = new int[count];
+        boolean[] hasNotes = new boolean[count];
+        for (int i = 0; i < count; i++) timed[i] = bits.read(1) == 1;
+        for (int i = 0; i < count; i++) band[i] = bits.read(bandBits);
+        for (int i = 0; i < count; i++) venue[i] = bits.read(venueBits);
+        for (int i = 0; i < count; i++) type[i] = bits.read(typeBits);
+        for (int i = 0; i < count; i++) day[i] = bits.read(dayBits);
+        long previous = 0;
+        for (int i = 0; i < count; i++) {
+            if (!timed[i]) continue;
+            previous += unzigzag(bits.readExpGolomb()) * TIME_UNITS[startUnit];
+            startMinute[i] = previous;
+        }
+        for (int i = 0; i < count; i++) {
+            if (timed[i]) durationCode[i] = bits.read(durationBits);
+        }
+        for (int i = 0; i < count; i++) hasNotes[i] = bits.read(1) == 1;
+
+        int offset = bits.byteLength();
+        int[] cursor = {offset};
+        List<List<String>> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String[] row = new String[COLUMN_COUNT];
+            row[COL_BAND] = band[i] == 0 ? readString(packed, cursor) : vocabularyValue(bandNames, band[i], "band");
+            row[COL_LOCATION] = venue[i] == 0 ? readString(packed, cursor) : vocabularyValue(venueNames, venue[i], "venue");
+            row[COL_TYPE] = type[i] == 0 ? readString(packed, cursor) : vocabularyValue(eventTypes, type[i], "type");
+            row[COL_DAY] = day[i] == 0 ? readString(packed, cursor) : "Day " + (day[i] - 1);
+            if (timed[i]) {
+                long dayOffset = Math.floorDiv(startMinute[i], MINUTES_PER_DAY);
+                int start = (int) Math.floorMod(startMinute[i], (long) MINUTES_PER_DAY);
+                LocalDate date = LocalDate.ofEpochDay(baseDay + dayOffset);
+                row[COL_DATE] = String.format("%02d/%02d/%04d", date.getMonthValue(), date.getDayOfMonth(), date.getYear());
+                row[COL_START] = formatMinuteOfDay(start);
+                row[COL_END] = durationCode[i] == 0 ? readString(packed, cursor)
+                        : formatMinuteOfDay((start + (durationCode[i] - 1) * TIME_UNITS[durationUnit]) % MINUTES_PER_DAY);
+            } else {
+                row[COL_DATE] = readString(packed, cursor);
+                row[COL_START] = readString(packed, cursor);
+                row[COL_END] = readString(packed, cursor);
+            }
+            row[COL_NOTES] = hasNotes[i] ? readString(packed, cursor) : "";
+            List<String> fields = new ArrayList<>(COLUMN_COUNT);
+            for (String value : row) fields.add(value);
+            rows.add(fields);
+        }
+        if (cursor[0] != packed.length) {
+            throw new IOException("Packed schedule has " + (packed.length - cursor[0]) + " trailing bytes");
+        }
+        return rows;
+    }
+
+    private static String vocabularyValue(List<String> vocabulary, int code, String what) throws IOException {
+        if (vocabulary == null || code > vocabulary.size()) {
+            throw new IOException("Packed schedule " + what + " code " + code + " is not in this phone's list");
+        }
+        return vocabulary.get(code - 1);
+    }
+
+    private static String formatMinuteOfDay(int minute) {
+        return String.format("%02d:%02d", minute / 60, minute % 60);
+    }
+
+    private static String readString(byte[] data, int[] cursor) throws IOException {
+        int length = 0;
+        int shift = 0;
+        while (true) {
+            if (cursor[0] >= data.length || shift > 28) throw new IOException("Packed schedule string table is truncated");
+            int b = data[cursor[0]++] & 0xFF;
+            length |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) break;
+            shift += 7;
+        }
+        if (length < 0 || cursor[0] + length > data.length) throw new IOException("Packed schedule string table is truncated");
+        String value = new String(data, cursor[0], length, StandardCharsets.UTF_8);
+        cursor[0] += length;
+        return value;
+    }
+
+    // ---------- Bit I/O (most significant bit first) ----------
+
+    private static final class BitWriter {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private int current;
+        private int used;
+
+        void write(long value, int width) {
+            for (int shift = width - 1; shift >= 0; shift--) {
+                current = (current << 1) | (int) ((value >>> shift) & 1);
+                if (++used == 8) {
+                    bytes.write(current);
+                    current = 0;
+                    used = 0;
+                }
+            }
+        }
+
+        /** Order-0 exp-Golomb: n-1 zero bits, then value + 1 in n bits. */
+        void writeExpGolomb(long value) {
+            long v = value + 1;
+            int n = 64 - Long.numberOfLeadingZeros(v);
+            write(0, n - 1);
+            write(v, n);
+        }
+
+        void flushTo(ByteArrayOutputStream out) {
+            if (used > 0) {
+                bytes.write(current << (8 - used));
+                current = 0;
+                used = 0;
+            }
+            byte[] packed = bytes.toByteArray();
+            out.write(packed, 0, packed.length);
+        }
+    }
+
+    private static final class BitReader {
+        private final byte[] data;
+        private long position;
+
+        BitReader(byte[] data) {
+            this.data = data;
+        }
+
+        int read(int width) throws IOException {
+            return (int) readLong(width);
+        }
+
+        long readLong(int width) throws IOException {
+            if (position + width > (long) data.length * 8) throw new IOException("Packed schedule is truncated");
+            long value = 0;
+            for (int i = 0; i < width; i++, position++) {
+                value = (value << 1) | ((data[(int) (position >>> 3)] >>> (7 - (position & 7))) & 1);
+            }
+            return value;
+        }
+
+        long readExpGolomb() throws IOException {
+            int zeros = 0;
+            while (readLong(1) == 0) {
+                if (++zeros > 62) throw new IOException("Packed schedule has a malformed start time");
+            }
+            return ((1L << zeros) | readLong(zeros)) - 1;
+        }
+
+        int byteLength() {
+            return (int) ((position + 7) >>> 3);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import android.Manifest;
 import android.content.Intent;
 import android.content.pm.PackageManager;
 import android.os.Bundle;
+import android.text.TextUtils;
 import android.util.Log;
 import android.util.Size;
 import android.view.ContextThemeWrapper;
@@ -50,9 +51,9 @@ import java.util.concurrent.TimeUnit;
 import androidx.camera.view.PreviewView;
 
 /**
- * Scan 1 or 2 schedule QR codes (binary payload: type + 4-byte LE size + zlib).
- * Uses ML Kit for decoding (getRawBytes() for binary payload). Collects payloads
- * by type (0=full, 1=chunk1, 2=chunk2), then decompresses, writes to FileHandler70k.schedule,
+ * Scan 1 or 2 schedule QR codes (binary payload: type + 4-byte LE size + zlib), or N codes of type 6
+ * in any order. Uses ML Kit for decoding (getRawBytes() for binary payload). Collects payloads
+ * by type (0/3=full, 1/4=chunk1, 2/5=chunk2, 6=one of N), then decompresses, writes to FileHandler70k.schedule,
  * parses and sets BandInfo.scheduleRecords, sends refresh.
  */
 public class ScheduleQRScanActivity extends AppCompatActivity {
@@ -74,6 +75,8 @@ public class ScheduleQRScanActivity extends AppCompatActivity {
 
     private byte[] chunk1;
     private byte[] chunk2;
+    /** Type 6 codes collected so far (inflated while scanning when the band list is already here). */
+    private ScheduleQRChunkAssembler multiChunk;
     private boolean didSucceed;
     private int frameCount;
     /** Consecutive analyses that did not yield a decoded QR; reset when a QR is decoded. */
@@ -235,7 +238,7 @@ public class ScheduleQRScanActivity extends AppCompatActivity {
                     runOnUiThread(() -> handlePayload(payload, result));
                 } else {
                     int typeByte = payload[0] & 0xFF;
-                    Log.d(TAG, "[QRScan] payload rejected: typeByte=" + typeByte + " (expected 0/1/2); length=" + payload.length + " firstBytesHex=" + bytesToHex(payload, 30));
+                    Log.d(TAG, "[QRScan] payload rejected: typeByte=" + typeByte + " (expected 0-5); length=" + payload.length + " firstBytesHex=" + bytesToHex(payload, 30));
                 }
             } else {
                 noDecodeCount++;
@@ -319,17 +322,21 @@ public class ScheduleQRScanActivity extends AppCompatActivity {
     }
 
     private void handlePayload(byte[] payload, ScheduleQRCompression.PayloadTypeResult result) {
-        if (result.type == ScheduleQRCompression.SCHEDULE_QR_TYPE_FULL) {
+        if (ScheduleQRCompression.isMultiChunkType(result.type)) {
+            handleMultiChunkPayload(payload);
+            return;
+        }
+        if (ScheduleQRCompression.isFullScheduleType(result.type)) {
             onPayloadsComplete(Collections.singletonList(payload));
             return;
         }
-        if (result.type == ScheduleQRCompression.SCHEDULE_QR_TYPE_CHUNK1) {
+        if (ScheduleQRCompression.isFirstChunkType(result.type)) {
             chunk1 = payload;
             hintText.setText(getString(R.string.schedule_qr_scan_second));
             if (chunk2 != null) onPayloadsComplete(collectChunks());
             return;
         }
-        if (result.type == ScheduleQRCompression.SCHEDULE_QR_TYPE_CHUNK2) {
+        if (ScheduleQRCompression.isSecondChunkType(result.type)) {
             chunk2 = payload;
             if (chunk1 != null) {
                 onPayloadsComplete(collectChunks());
@@ -339,6 +346,35 @@ public class ScheduleQRScanActivity extends AppCompatActivity {
         }
     }
 
+    private void handleMultiChunkPayload(byte[] payload) {
+        if (didSucceed) return;
+        if (multiChunk == null) {
+            byte[] dictionary = null;
+            if (BandInfo.isBandFileAvailableForQR()) {
+                dictionary = ScheduleQRCompression.packedDictionary(BandInfo.getCanonicalBandNamesForQR(),
+                        FestivalConfig.getInstance().getAllVenueNames());
+            }
+            multiChunk = new ScheduleQRChunkAssembler(dictionary);
+        }
+        ScheduleQRChunkAssembler.AddResult added = multiChunk.add(payload);
+        if (added == ScheduleQRChunkAssembler.AddResult.INVALID || added == ScheduleQRChunkAssembler.AddResult.DUPLICATE) {
+            return;
+        }
+        if (multiChunk.streamFailure() != null) {
+            // Same band list is used at import, so this set can never import; say so now instead of after the last code.
+            Log.e(TAG_QR_ERROR, "[QRScan] multi-code stream failed: " + multiChunk.streamFailure().getMessage());
+            Toast.makeText(this, R.string.schedule_qr_import_failed, Toast.LENGTH_LONG).show();
+            finish();
+            return;
+        }
+        if (multiChunk.isComplete()) {
+            onPayloadsComplete(multiChunk.payloads());
+            return;
+        }
+        hintText.setText(getString(R.string.schedule_qr_scan_progress, multiChunk.receivedCount(),
+                multiChunk.totalCount(), TextUtils.join(", ", multiChunk.missingChunks())));
+    }
+
     private List<byte[]> collectChunks() {
         List<byte[]> list = new ArrayList<>();
         list.add(chunk1);
@@ -393,9 +429,10 @@ public class ScheduleQRScanActivity extends AppCompatActivity {
         List<String> venueNames = FestivalConfig.getInstance().getAllVenueNames();
 
         try {
-            Log.d(TAG, "[QRScan] calling decompressAndMergeOneOrTwoPayloads payloadCount=" + (payloads != null ? payloads.size() : 0));
-            String csv = ScheduleQRCompression.decompressAndMergeOneOrTwoPayloads(
-                    payloads, eventYear, bandNames, venueNames);
+            Log.d(TAG, "[QRScan] calling decompressAndMergePayloads payloadCount=" + (payloads != null ? payloads.size() : 0));
+            String csv = multiChunk != null && multiChunk.isComplete()
+                    ? ScheduleQRCompression.decompressAssembledSchedule(multiChunk, bandNames, venueNames)
+                    : ScheduleQRCompression.decompressAndMergePayloads(payloads, eventYear, bandNames, venueNames);
             Log.d(TAG, "[QRScan] decompress OK csvLength=" + (csv != null ? csv.length() : 0));
 
             String currentCsv = ScheduleQRImportValidation.readCurrentScheduleContent();
@@ -424,6 +461,7 @@ public class ScheduleQRScanActivity extends AppCompatActivity {
             updateScheduleCacheHashAfterWrite();
             Map<String, scheduleTimeTracker> importedMap = parser.ParseScheduleCSV();
             mergePreservedUnofficialCruiserInto(currentMap, importedMap);
+            ScheduleEventIndex.invalidate();
             BandInfo.scheduleRecords = importedMap;
             String combinedCsv = ScheduleCSVExport.buildFullCSVFromSchedule();
             if (combinedCsv != null) {
@@ -2,6 +2,8 @@ package com.Bands70k;
 
 import android.graphics.Bitmap;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.util.Log;
 import android.view.View;
 import android.widget.Button;
@@ -20,7 +22,8 @@ import java.util.List;
 /**
  * Share schedule via one or two QR codes. Uses raw cached schedule CSV (same source as download)
  * when available so both platforms process the same input; otherwise builds CSV from in-memory schedule.
- * Compresses for QR and displays QR image(s) matching iOS.
+ * Compresses for QR and displays QR image(s) matching iOS. Schedules too large for two codes are shown as
+ * a cycling sequence of type 6 codes.
  */
 public class ScheduleQRShareActivity extends AppCompatActivity {
 
@@ -34,6 +37,10 @@ public class ScheduleQRShareActivity extends AppCompatActivity {
     private static final int GUIDE_QR_RENDER_SIZE = 200;
     /** Minimum pixels per module so cameras can resolve the symbol (avoid too-dense QRs). */
     private static final int MIN_PIXELS_PER_MODULE = 6;
+    /** How long each code of a multi-code share stays on screen; the scanner accepts them in any order. */
+    private static final long MULTI_QR_FRAME_MS = 1500;
+
+    private final Handler cycleHandler = new Handler(Looper.getMainLooper());
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -100,7 +107,7 @@ public class ScheduleQRShareActivity extends AppCompatActivity {
         List<String> venueNames = FestivalConfig.getInstance().getAllVenueNames();
 
         try {
-            List<byte[]> payloads = ScheduleQRCompression.compressScheduleForOneOrTwoQRs(
+            List<byte[]> payloads = ScheduleQRCompression.compressScheduleForQRs(
                     csv, eventYear, bandNames, venueNames);
             if (payloads.isEmpty()) {
                 Log.w(TAG, "[QRCreate] compress returned empty list");
@@ -108,6 +115,11 @@ public class ScheduleQRShareActivity extends AppCompatActivity {
                 finish();
                 return;
             }
+            if (payloads.size() > 2) {
+                showCyclingQRs(payloads, qr1, qr2);
+                done.setOnClickListener(v -> finish());
+                return;
+            }
             Log.d(TAG, "[QRCreate] encoding " + payloads.size() + " payload(s) to QR bitmap size=" + QR_SIZE + "px (Nayuki single Byte segment, like iOS)");
             Bitmap bmp1 = encodePayloadToQR(payloads.get(0));
             if (bmp1 != null) {
@@ -139,6 +151,40 @@ public class ScheduleQRShareActivity extends AppCompatActivity {
         done.setOnClickListener(v -> finish());
     }
 
+    /**
+     * Shows N codes one after another in the first QR view. Each frame is rendered when shown rather than
+     * kept, since a full-size code bitmap is several MB.
+     */
+    private void showCyclingQRs(List<byte[]> payloads, ImageView qr1, ImageView qr2) {
+        TextView partLabel = findViewById(R.id.schedule_qr_share_part_label);
+        Log.d(TAG, "[QRCreate] cycling " + payloads.size() + " codes every " + MULTI_QR_FRAME_MS + "ms");
+        qr1.setVisibility(View.VISIBLE);
+        qr2.setVisibility(View.GONE);
+        partLabel.setVisibility(View.VISIBLE);
+        cycleHandler.post(new Runnable() {
+            private int index;
+
+            @Override
+            public void run() {
+                Bitmap bmp = encodePayloadToQR(payloads.get(index));
+                if (bmp != null) {
+                    qr1.setImageBitmap(bmp);
+                } else {
+                    Log.e(TAG, "[QRCreate] QR" + (index + 1) + " encode failed for payload length=" + payloads.get(index).length);
+                }
+                partLabel.setText(getString(R.string.schedule_qr_share_part, index + 1, payloads.size()));
+                index = (index + 1) % payloads.size();
+                cycleHandler.postDelayed(this, MULTI_QR_FRAME_MS);
+            }
+        });
+    }
+
+    @Override
+    protected void onDestroy() {
+        cycleHandler.removeCallbacksAndMessages(null);
+        super.onDestroy();
+    }
+
     private void setupGuideQRIfConfigured(View guideSection, TextView scheduleLabel, ImageView guideQR) {
         String guideURL = ScheduleQRGuideLink.getConfiguredGuideURLString();
         if (guideURL == null) {
@@ -0,0 +1,142 @@
+package com.Bands70k;
+
+import android.util.Log;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records what {@link scheduleInfo#ParseScheduleCSV()} built from the schedule CSV (events in file order, the
+ * notes / image URL / image date entries each row added, venue order and schedulePresent) and replays it from a
+ * {@link ParsedDataSnapshot} on the next load of the same file.
+ */
+final class ScheduleSnapshot {
+
+    private static final String TAG = "ScheduleSnapshot";
+
+    boolean schedulePresent;
+    private final List<String> keys = new ArrayList<>();
+    private final List<scheduleHandler> events = new ArrayList<>();
+    /** Per event: description URL, image URL, image date (null when the row did not set them). */
+    private final List<String> sideData = new ArrayList<>();
+
+    /** Records one event in the order it was added to the schedule map. */
+    void add(String bandName, scheduleHandler event, String descUrl, String imageUrl, String imageDate) {
+        keys.add(bandName);
+        events.add(event);
+        sideData.add(descUrl);
+        sideData.add(imageUrl);
+        sideData.add(imageDate);
+    }
+
+    /** Writes the recorded parse as the snapshot for {@code source}. */
+    void write(File source, String sourceHash, List<String> locationsInCSVOrder) {
+        if (sourceHash == null) {
+            return;
+        }
+        try {
+            ParsedDataSnapshot.Writer writer = new ParsedDataSnapshot.Writer();
+            writer.writeBoolean(schedulePresent);
+            writer.writeInt(locationsInCSVOrder.size());
+            for (String location : locationsInCSVOrder) {
+                writer.writeString(location);
+            }
+            writer.writeInt(events.size());
+            for (int i = 0; i < events.size(); i++) {
+                scheduleHandler event = events.get(i);
+                writer.writeString(keys.get(i));
+                writer.writeString(event.getBandName());
+                writer.writeString(event.getShowLocation());
+                writer.writeString(event.getShowDay());
+                writer.writeString(event.getShowType());
+                writer.writeString(event.getShowDate());
+                writer.writeString(event.getStartTimeString());
+                writer.writeString(event.getEndTimeString());
+                writer.writeString(event.getShowNotes());
+                writer.writeLong(event.getEpochStart());
+                writer.writeLong(event.getEpochEnd());
+                writer.writeString(sideData.get(i * 3));
+                writer.writeString(sideData.get(i * 3 + 1));
+                writer.writeString(sideData.get(i * 3 + 2));
+            }
+            writer.commit(FileHandler70k.scheduleSnapshot, source, sourceHash);
+        } catch (IOException e) {
+            Log.w(TAG, "Could not build schedule snapshot: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Fills {@code bandSchedule} and {@code locationsInCSVOrder} (and the static notes / image maps) from the
+     * snapshot of {@code source}, if it is current.
+     * @return True if the snapshot was used; false leaves every output untouched.
+     */
+    static boolean load(File source, String sourceHash, Map<String, scheduleTimeTracker> bandSchedule,
+                        List<String> locationsInCSVOrder) {
+        ParsedDataSnapshot.Reader reader = ParsedDataSnapshot.Reader.open(FileHandler70k.scheduleSnapshot, source, sourceHash);
+        if (reader == null) {
+            return false;
+        }
+        ScheduleSnapshot snapshot = new ScheduleSnapshot();
+        List<String> locations;
+        try {
+            snapshot.schedulePresent = reader.readBoolean();
+            int locationCount = reader.readInt();
+            locations = new ArrayList<>(locationCount);
+            for (int i = 0; i < locationCount; i++) {
+                locations.add(reader.readString());
+            }
+            int eventCount = reader.readInt();
+            for (int i = 0; i < eventCount; i++) {
+                String key = reader.readString();
+                scheduleHandler event = new scheduleHandler();
+                event.setBandName(reader.readString());
+                event.setShowLocation(reader.readString());
+                event.setShowDay(reader.readString());
+                event.setShowType(reader.readString());
+                event.setShowDate(reader.readString());
+                event.setStartTimeString(reader.readString());
+                event.setEndTimeString(reader.readString());
+                event.setShowNotes(reader.readString());
+                event.setEpochTimes(reader.readLong(), reader.readLong());
+                snapshot.add(key, event, reader.readString(), reader.readString(), reader.readString());
+            }
+            if (!reader.isAtEnd()) {
+                return false;
+            }
+        } catch (IOException | RuntimeException e) {
+            Log.w(TAG, "Schedule snapshot unreadable, parsing CSV: " + e.getMessage());
+            return false;
+        }
+
+        if (snapshot.schedulePresent) {
+            staticVariables.schedulePresent = true;
+        }
+        locationsInCSVOrder.addAll(locations);
+        for (int i = 0; i < snapshot.events.size(); i++) {
+            String bandName = snapshot.keys.get(i);
+            scheduleHandler event = snapshot.events.get(i);
+            String descUrl = snapshot.sideData.get(i * 3);
+            String imageUrl = snapshot.sideData.get(i * 3 + 1);
+            String imageDate = snapshot.sideData.get(i * 3 + 2);
+            if (descUrl != null) {
+                staticVariables.showNotesMap.put(bandName, descUrl);
+            }
+            if (imageUrl != null) {
+                staticVariables.imageUrlMap.put(bandName, imageUrl);
+            }
+            if (imageDate != null) {
+                staticVariables.imageDateMap.put(bandName, imageDate);
+            }
+            scheduleTimeTracker timeTrack = bandSchedule.get(bandName);
+            if (timeTrack == null) {
+                timeTrack = new scheduleTimeTracker();
+                bandSchedule.put(bandName, timeTrack);
+            }
+            timeTrack.addToscheduleByTime(event.getEpochStart(), event);
+        }
+        return true;
+    }
+}
@@ -210,7 +210,7 @@ public class SharedPreferencesImportHandler {
 
                     // CRITICAL: Reload profile-specific data (same as manual profile switching)
                     // This ensures the UI shows the correct profile data, not just the color
-                    rankStore.reloadForActiveProfile();
+                    rankStore.reloadAfterImport(profileKey);
                     if (staticVariables.attendedHandler != null) {
                         staticVariables.attendedHandler.reloadForActiveProfile();
                     }
@@ -16,9 +16,6 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
-import java.io.FileReader;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
@@ -95,6 +92,8 @@ public class SharedPreferencesManager {
         editor.putBoolean("ProfileSwitchInProgress", true);
         editor.putString(ACTIVE_SOURCE_KEY, sourceName);
         editor.apply();
+        rankStore.onActiveProfileChanged(sourceName);
+        ProfileDataCache.invalidate(sourceName);
         
         Log.d(TAG, "🚫 [PROFILE_SWITCH] Sync operations BLOCKED during profile switch");
         
@@ -348,9 +347,11 @@ public class SharedPreferencesManager {
             
             // Save priorities
             File prioritiesFile = new File(profileDir, "bandRankings.txt");
+            Map<String, String> rankingMap = new HashMap<>();
             FileOutputStream fos = new FileOutputStream(prioritiesFile);
             for (Map.Entry<String, Integer> entry : preferenceSet.priorities.entrySet()) {
                 String ranking = priorityToRanking(entry.getValue());
+                rankingMap.put(entry.getKey(), ranking);
                 String line = entry.getKey() + ":" + ranking + "\n";
                 fos.write(line.getBytes());
             }
@@ -363,11 +364,10 @@ public class SharedPreferencesManager {
                 String status = codeToAttendance(entry.getValue());
                 attendanceMap.put(entry.getKey(), status);
             }
-            FileOutputStream aFos = new FileOutputStream(attendanceFile);
-            ObjectOutputStream oos = new ObjectOutputStream(aFos);
-            oos.writeObject(attendanceMap);
-            oos.close();
-            aFos.close();
+            AttendanceStore.forFile(attendanceFile).replaceAll(attendanceMap);
+            ProfileDataCache.invalidate(profileKey);
+            FestivalDataStore.getInstance().syncRankingsAsync(profileKey, rankingMap);
+            FestivalDataStore.getInstance().syncAttendanceAsync(profileKey, attendanceMap);
             
             // Get or assign color
             String colorHex = ProfileColorManager.getInstance().getColor(profileKey);
@@ -424,27 +424,9 @@ public class SharedPreferencesManager {
             String ranking = rankStore.getRankForBand(bandName);
             return rankingToPriority(ranking);
         } else {
-            // Load from profile-specific file
-            try {
-                File profileDir = new File(context.getFilesDir(), "profiles/" + activeSource);
-                File prioritiesFile = new File(profileDir, "bandRankings.txt");
-                
-                if (prioritiesFile.exists()) {
-                    BufferedReader br = new BufferedReader(new FileReader(prioritiesFile));
-                    String line;
-                    while ((line = br.readLine()) != null) {
-                        String[] parts = line.split(":");
-                        if (parts.length == 2 && parts[0].equals(bandName)) {
-                            br.close();
-                            return rankingToPriority(parts[1]);
-                        }
-                    }
-                    br.close();
-                }
-            } catch (Exception e) {
-                Log.e(TAG, "Error reading priority for " + bandName, e);
-            }
-            return 0;  // Unknown
+            // Profile files are read once into a cached view
+            String ranking = ProfileDataCache.forProfile(getProfilesRoot(), activeSource).getRanking(bandName);
+            return ranking != null ? rankingToPriority(ranking) : 0;  // 0 = Unknown
         }
     }
     
@@ -460,27 +442,16 @@ public class SharedPreferencesManager {
             // Use standard attendedHandler for Default profile
             return staticVariables.attendedHandler.getShowAttendedIcon(index);
         } else {
-            // Load from profile-specific file
-            try {
-                File profileDir = new File(context.getFilesDir(), "profiles/" + activeSource);
-                File attendanceFile = new File(profileDir, "showsAttended.data");
-                
-                if (attendanceFile.exists()) {
-                    FileInputStream fis = new FileInputStream(attendanceFile);
-                    ObjectInputStream ois = new ObjectInputStream(fis);
-                    Map<String, String> attendanceMap = (Map<String, String>) ois.readObject();
-                    ois.close();
-                    fis.close();
-                    
-                    return attendanceMap.getOrDefault(index, staticVariables.sawNoneStatus);
-                }
-            } catch (Exception e) {
-                Log.e(TAG, "Error reading attendance for " + index, e);
-            }
-            return staticVariables.sawNoneStatus;
+            // Profile files are read once into a cached view
+            return ProfileDataCache.forProfile(getProfilesRoot(), activeSource)
+                    .getAttendance(index, staticVariables.sawNoneStatus);
         }
     }
     
+    private File getProfilesRoot() {
+        return new File(context.getFilesDir(), "profiles");
+    }
+    
     /**
      * Deletes an imported preference set by UserID
      * @param userId The sender's UserID
@@ -497,6 +468,9 @@ public class SharedPreferencesManager {
         try {
             // Delete profile files
             File profileDir = new File(context.getFilesDir(), "profiles/" + userId);
+            AttendanceStore.evict(new File(profileDir, "showsAttended.data"));
+            ProfileDataCache.invalidate(userId);
+            FestivalDataStore.getInstance().deleteProfileAsync(userId);
             deleteDirectory(profileDir);
             
             // Delete from SQLite
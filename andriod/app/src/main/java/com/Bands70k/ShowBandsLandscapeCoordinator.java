@@ -142,9 +142,8 @@ public final class ShowBandsLandscapeCoordinator {
         if (host.listHandler != null && host.listHandler.numberOfEvents > 0) {
             hasRenderableScheduleEvents = true;
         } else if (host.scheduleSortedBandNames != null && !host.scheduleSortedBandNames.isEmpty()) {
-            for (String item : host.scheduleSortedBandNames) {
-                Long t = host.getTimeIndexFromIndex(item);
-                if (t != null && t > 0) {
+            for (MainListRow row : host.scheduleSortedBandNames) {
+                if (row != null && row.isEvent()) {
                     hasRenderableScheduleEvents = true;
                     break;
                 }
@@ -370,44 +369,21 @@ public final class ShowBandsLandscapeCoordinator {
 
     @SuppressWarnings("unused")
     private String extractDayFromPosition(int position) {
-        List<String> sourceList = (host.scheduleSortedBandNames != null && !host.scheduleSortedBandNames.isEmpty())
-                ? host.scheduleSortedBandNames
-                : host.bandNames;
+        List<MainListRow> rows = host.scheduleSortedBandNames;
 
-        if (sourceList == null || position < 0 || position >= sourceList.size()) {
-            Log.d("LANDSCAPE_SCHEDULE", "Position " + position + " out of bounds (size: " + (sourceList != null ? sourceList.size() : 0) + ")");
+        if (rows == null || position < 0 || position >= rows.size()) {
+            Log.d("LANDSCAPE_SCHEDULE", "Position " + position + " out of bounds (size: " + (rows != null ? rows.size() : 0) + ")");
             return null;
         }
 
-        String bandEntry = sourceList.get(position);
-        Log.d("LANDSCAPE_SCHEDULE", "Checking position " + position + ": '" + bandEntry + "' (from " + (sourceList == host.scheduleSortedBandNames ? "scheduleSortedBandNames" : "bandNames") + ")");
+        MainListRow row = rows.get(position);
+        Log.d("LANDSCAPE_SCHEDULE", "Checking position " + position + ": '" + row + "'");
 
-        if (bandEntry != null && bandEntry.contains(":")) {
-            String[] parts = bandEntry.split(":");
-            if (parts.length >= 2) {
-                try {
-                    double timeIndexDouble = Double.parseDouble(parts[0]);
-                    Long timeIndex = (long) timeIndexDouble;
-                    String bandName = parts[1];
-
-                    Log.d("LANDSCAPE_SCHEDULE", "  Parsed - bandName: '" + bandName + "', timeIndex: " + timeIndex);
-
-                    if (BandInfo.scheduleRecords != null && BandInfo.scheduleRecords.containsKey(bandName)) {
-                        scheduleTimeTracker tracker = BandInfo.scheduleRecords.get(bandName);
-                        if (tracker != null && tracker.scheduleByTime != null && tracker.scheduleByTime.containsKey(timeIndex)) {
-                            scheduleHandler scheduleHandle = tracker.scheduleByTime.get(timeIndex);
-                            if (scheduleHandle != null) {
-                                String d = scheduleHandle.getShowDay();
-                                Log.d("LANDSCAPE_SCHEDULE", "  Found day: '" + d + "'");
-                                if (d != null && !d.isEmpty()) {
-                                    return d;
-                                }
-                            }
-                        }
-                    }
-                } catch (NumberFormatException e) {
-                    Log.d("LANDSCAPE_SCHEDULE", "  Not a timeIndex entry: " + e.getMessage());
-                }
+        if (row != null && row.isEvent()) {
+            String d = row.event.getShowDay();
+            Log.d("LANDSCAPE_SCHEDULE", "  Found day: '" + d + "'");
+            if (d != null && !d.isEmpty()) {
+                return d;
             }
         }
         return null;
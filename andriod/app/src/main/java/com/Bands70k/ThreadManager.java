@@ -183,7 +183,7 @@ public class ThreadManager {
     /**
      * Named thread factory for better debugging.
      */
-    private static class NamedThreadFactory implements ThreadFactory {
+    static class NamedThreadFactory implements ThreadFactory {
         private final String namePrefix;
         private final AtomicInteger threadNumber = new AtomicInteger(1);
         
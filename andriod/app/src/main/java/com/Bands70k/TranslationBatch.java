@@ -0,0 +1,272 @@
+package com.Bands70k;
+
+import android.util.Log;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Translates the paragraphs of one or more band descriptions with a bounded number of requests in flight.
+ *
+ * Paragraphs already in the {@link TranslationCache} resolve immediately; the rest are deduplicated across
+ * every band in the batch, so a paragraph shared by several descriptions is sent to the engine once. A band
+ * is reported as soon as its last paragraph resolves. {@link #cancel()} stops new requests; requests already
+ * in flight still land in the cache, so a later batch picks up where this one stopped.
+ *
+ * Engine callbacks may arrive on any thread; all state is guarded by the batch itself.
+ */
+final class TranslationBatch {
+
+    private static final String TAG = "TranslationBatch";
+
+    /** Translates one paragraph; must call back exactly once, with null on failure. */
+    interface Engine {
+        void translate(String paragraph, ParagraphCallback callback);
+    }
+
+    interface ParagraphCallback {
+        void onParagraphTranslated(String translation);
+    }
+
+    interface Listener {
+        /**
+         * @param translatedParagraphs The band's paragraphs in order; a paragraph that failed is left in English.
+         * @param failures How many of them failed.
+         */
+        void onBandTranslated(String bandName, List<String> translatedParagraphs, int failures);
+
+        void onProgress(int completedBands, int totalBands);
+
+        /** Called once, after the last band or after a cancellation has drained the requests in flight. */
+        void onFinished(boolean cancelled);
+    }
+
+    /** Lets the owner stop the batch from the outside, e.g. when the app returns to the foreground. */
+    interface ContinueCondition {
+        boolean shouldContinue();
+    }
+
+    private static final class Band {
+        final String name;
+        final String[] keys;
+        final String[] sources;
+        final String[] results;
+        int pending;
+        int failures;
+
+        Band(String name, List<String> paragraphs) {
+            this.name = name;
+            this.sources = paragraphs.toArray(new String[0]);
+            this.keys = new String[sources.length];
+            this.results = new String[sources.length];
+            for (int i = 0; i < sources.length; i++) {
+                keys[i] = TranslationCache.keyFor(sources[i]);
+            }
+        }
+    }
+
+    /** One distinct source paragraph and every band slot waiting for it. */
+    private static final class Request {
+        final String source;
+        final List<Band> bands = new ArrayList<>();
+        final List<Integer> slots = new ArrayList<>();
+
+        Request(String source) {
+            this.source = source;
+        }
+    }
+
+    private final TranslationCache cache;
+    private final Engine engine;
+    private final int maxInFlight;
+    private final ContinueCondition condition;
+    private final Listener listener;
+
+    private final Map<String, Band> bands = new LinkedHashMap<>();
+    private final Map<String, Request> requests = new HashMap<>();
+    private final ArrayDeque<String> queue = new ArrayDeque<>();
+    private int inFlight;
+    private int completedBands;
+    private int translatedParagraphs;
+    private boolean started;
+    private boolean cancelled;
+    private boolean finished;
+    private long startMillis;
+
+    TranslationBatch(TranslationCache cache, Engine engine, int maxInFlight,
+                     ContinueCondition condition, Listener listener) {
+        this.cache = cache;
+        this.engine = engine;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.condition = condition;
+        this.listener = listener;
+    }
+
+    /** Adds a band before {@link #start()}; a band added twice keeps its first paragraphs. */
+    synchronized void add(String bandName, List<String> paragraphs) {
+        if (started) {
+            throw new IllegalStateException("Batch already started");
+        }
+        if (!bands.containsKey(bandName)) {
+            bands.put(bandName, new Band(bandName, paragraphs));
+        }
+    }
+
+    void start() {
+        List<Band> ready = new ArrayList<>();
+        synchronized (this) {
+            if (started) {
+                return;
+            }
+            started = true;
+            startMillis = System.currentTimeMillis();
+            for (Band band : bands.values()) {
+                for (int i = 0; i < band.sources.length; i++) {
+                    String cached = cache.get(band.keys[i]);
+                    if (cached != null) {
+                        band.results[i] = cached;
+                        continue;
+                    }
+                    Request request = requests.get(band.keys[i]);
+                    if (request == null) {
+                        request = new Request(band.sources[i]);
+                        requests.put(band.keys[i], request);
+                        queue.add(band.keys[i]);
+                    }
+                    request.bands.add(band);
+                    request.slots.add(i);
+                    band.pending++;
+                }
+                if (band.pending == 0) {
+                    ready.add(band);
+                }
+            }
+            Log.d(TAG, "Batch of " + bands.size() + " bands: " + requests.size()
+                    + " distinct paragraphs to translate, " + ready.size() + " bands fully cached");
+        }
+        for (Band band : ready) {
+            bandDone(band);
+        }
+        pump();
+    }
+
+    /** Stops issuing requests; the listener still gets onFinished once the requests in flight return. */
+    void cancel() {
+        synchronized (this) {
+            if (cancelled || finished) {
+                return;
+            }
+            cancelled = true;
+            Log.d(TAG, "Batch cancelled with " + queue.size() + " paragraphs not yet sent");
+            queue.clear();
+        }
+        pump();
+    }
+
+    synchronized boolean isFinished() {
+        return finished;
+    }
+
+    /** Sends queued paragraphs until the in-flight limit is reached, then checks for completion. */
+    private void pump() {
+        while (true) {
+            final String key;
+            final Request request;
+            synchronized (this) {
+                if (!cancelled && !queue.isEmpty() && condition != null && !condition.shouldContinue()) {
+                    cancelled = true;
+                    Log.d(TAG, "Batch stopped by its owner with " + queue.size() + " paragraphs not yet sent");
+                    queue.clear();
+                }
+                if (cancelled || queue.isEmpty() || inFlight >= maxInFlight) {
+                    break;
+                }
+                key = queue.poll();
+                request = requests.get(key);
+                inFlight++;
+            }
+            engine.translate(request.source, new ParagraphCallback() {
+                private boolean called;
+
+                @Override
+                public void onParagraphTranslated(String translation) {
+                    synchronized (TranslationBatch.this) {
+                        if (called) {
+                            return;
+                        }
+                        called = true;
+                    }
+                    paragraphDone(key, request, translation);
+                }
+            });
+        }
+        finishIfDone();
+    }
+
+    private void paragraphDone(String key, Request request, String translation) {
+        List<Band> ready = new ArrayList<>();
+        synchronized (this) {
+            inFlight--;
+            String result = translation != null ? translation.trim() : null;
+            if (result != null) {
+                cache.put(key, result);
+                translatedParagraphs++;
+            }
+            for (int i = 0; i < request.bands.size(); i++) {
+                Band band = request.bands.get(i);
+                int slot = request.slots.get(i);
+                if (result != null) {
+                    band.results[slot] = result;
+                } else {
+                    band.results[slot] = band.sources[slot];
+                    band.failures++;
+                }
+                band.pending--;
+                if (band.pending == 0) {
+                    ready.add(band);
+                }
+            }
+        }
+        for (Band band : ready) {
+            bandDone(band);
+        }
+        pump();
+    }
+
+    private void bandDone(Band band) {
+        int completed;
+        int total;
+        synchronized (this) {
+            completed = ++completedBands;
+            total = bands.size();
+        }
+        List<String> paragraphs = new ArrayList<>(band.results.length);
+        for (String result : band.results) {
+            paragraphs.add(result);
+        }
+        listener.onBandTranslated(band.name, paragraphs, band.failures);
+        listener.onProgress(completed, total);
+    }
+
+    private void finishIfDone() {
+        boolean wasCancelled;
+        synchronized (this) {
+            if (finished || !started || inFlight > 0) {
+                return;
+            }
+            if (!cancelled && completedBands < bands.size()) {
+                return;
+            }
+            finished = true;
+            wasCancelled = cancelled;
+            Log.d(TAG, "Batch " + (wasCancelled ? "cancelled" : "finished") + ": " + completedBands + "/" + bands.size()
+                    + " bands, " + translatedParagraphs + " paragraphs translated in "
+                    + (System.currentTimeMillis() - startMillis) + "ms");
+        }
+        listener.onFinished(wasCancelled);
+    }
+}
@@ -0,0 +1,234 @@
+package com.Bands70k;
+
+import android.util.Log;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Translated paragraphs for one target language, keyed by a hash of the English source paragraph.
+ *
+ * Keying on content rather than on the band means a tweaked description only misses on the paragraphs
+ * that changed, and a paragraph shared by several bands (festival boilerplate, a repeated line-up note)
+ * is translated once.
+ *
+ * Entries live in an access-ordered map capped at {@link #MAX_CHARS} characters of translated text; the
+ * least recently used paragraphs are evicted first. The map is persisted to one file per language in the
+ * translations directory, written eldest-first so the LRU order survives a restart. Writes are coalesced
+ * on the file executor and replace the file atomically.
+ */
+final class TranslationCache {
+
+    private static final String TAG = "TranslationCache";
+
+    private static final int FILE_MAGIC = 0x54524331; // "TRC1"
+    /** Truncated SHA-256; 128 bits is plenty for a few thousand paragraphs. */
+    private static final int KEY_BYTES = 16;
+    /** Roughly a full festival's descriptions several times over. */
+    static final int MAX_CHARS = 1_000_000;
+
+    private static final Map<String, TranslationCache> instances = new LinkedHashMap<>();
+
+    private final File file;
+    private final int maxChars;
+    private final LinkedHashMap<String, String> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final AtomicBoolean writeQueued = new AtomicBoolean(false);
+    private int totalChars;
+    private boolean dirty;
+
+    TranslationCache(File file, int maxChars) {
+        this.file = file;
+        this.maxChars = maxChars;
+        load();
+    }
+
+    /** The shared cache for {@code languageCode} under the app's translations directory. */
+    static synchronized TranslationCache forLanguage(File translationsDir, String languageCode) {
+        String language = languageCode.toLowerCase();
+        TranslationCache cache = instances.get(language);
+        if (cache == null) {
+            cache = new TranslationCache(new File(translationsDir, "paragraphs_" + language + ".cache"), MAX_CHARS);
+            instances.put(language, cache);
+        }
+        return cache;
+    }
+
+    /** Cache key of an English paragraph: surrounding whitespace does not change the translation. */
+    static String keyFor(String paragraph) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(paragraph.trim().getBytes(StandardCharsets.UTF_8));
+            return bytesToHex(Arrays.copyOf(hash, KEY_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java runtime ships SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    synchronized String get(String key) {
+        return entries.get(key);
+    }
+
+    synchronized void put(String key, String translation) {
+        String previous = entries.put(key, translation);
+        if (previous != null) {
+            totalChars -= previous.length();
+        }
+        totalChars += translation.length();
+        dirty = true;
+
+        Iterator<Map.Entry<String, String>> eldest = entries.entrySet().iterator();
+        while (totalChars > maxChars && eldest.hasNext()) {
+            Map.Entry<String, String> entry = eldest.next();
+            if (entry.getKey().equals(key)) {
+                break;
+            }
+            totalChars -= entry.getValue().length();
+            eldest.remove();
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    /** Queues one write on the file executor; further calls before it runs are absorbed. */
+    void persistLater() {
+        if (!writeQueued.compareAndSet(false, true)) {
+            return;
+        }
+        ThreadManager.getInstance().executeFile(new Runnable() {
+            @Override
+            public void run() {
+                writeQueued.set(false);
+                flush();
+            }
+        });
+    }
+
+    /** Writes the cache now if anything changed since the last write. */
+    void flush() {
+        byte[] data;
+        int count;
+        synchronized (this) {
+            if (!dirty) {
+                return;
+            }
+            try {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream(totalChars + entries.size() * 24 + 8);
+                DataOutputStream out = new DataOutputStream(bytes);
+                out.writeInt(FILE_MAGIC);
+                out.writeInt(entries.size());
+                // Iteration order is least recently used first, which load() replays.
+                for (Map.Entry<String, String> entry : entries.entrySet()) {
+                    out.write(hexToBytes(entry.getKey()));
+                    byte[] text = entry.getValue().getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(text.length);
+                    out.write(text);
+                }
+                out.flush();
+                data = bytes.toByteArray();
+                count = entries.size();
+                dirty = false;
+            } catch (IOException e) {
+                Log.e(TAG, "Could not serialize translation cache", e);
+                return;
+            }
+        }
+
+        try {
+            File directory = file.getParentFile();
+            if (directory != null && !directory.exists()) {
+                directory.mkdirs();
+            }
+            File temp = new File(file.getPath() + ".tmp");
+            FileOutputStream stream = new FileOutputStream(temp);
+            try {
+                stream.write(data);
+                stream.getFD().sync();
+            } finally {
+                stream.close();
+            }
+            if (!temp.renameTo(file)) {
+                file.delete();
+                if (!temp.renameTo(file)) {
+                    temp.delete();
+                    throw new IOException("Could not move " + temp.getName() + " into place");
+                }
+            }
+            Log.d(TAG, "Saved " + count + " translated paragraphs (" + data.length + " bytes) to " + file.getName());
+        } catch (IOException e) {
+            synchronized (this) {
+                dirty = true;
+            }
+            Log.e(TAG, "Could not write translation cache " + file.getName(), e);
+        }
+    }
+
+    private void load() {
+        if (!file.exists()) {
+            return;
+        }
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            if (in.readInt() != FILE_MAGIC) {
+                Log.w(TAG, "Ignoring " + file.getName() + ": unknown format");
+                return;
+            }
+            int count = in.readInt();
+            byte[] key = new byte[KEY_BYTES];
+            for (int i = 0; i < count; i++) {
+                in.readFully(key);
+                byte[] text = new byte[in.readInt()];
+                in.readFully(text);
+                String translation = new String(text, StandardCharsets.UTF_8);
+                entries.put(bytesToHex(key), translation);
+                totalChars += translation.length();
+            }
+            Log.d(TAG, "Loaded " + entries.size() + " translated paragraphs from " + file.getName());
+        } catch (IOException | RuntimeException e) {
+            // A truncated file keeps whatever was read before the damage.
+            Log.w(TAG, "Translation cache " + file.getName() + " is damaged after " + entries.size() + " entries: " + e);
+            dirty = true;
+        } finally {
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private static byte[] hexToBytes(String hex) {
+        byte[] bytes = new byte[KEY_BYTES];
+        for (int i = 0; i < KEY_BYTES; i++) {
+            bytes[i] = (byte) ((Character.digit(hex.charAt(i * 2), 16) << 4) | Character.digit(hex.charAt(i * 2 + 1), 16));
+        }
+        return bytes;
+    }
+
+    private static String bytesToHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+            hex.append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
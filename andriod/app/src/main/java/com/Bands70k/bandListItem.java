@@ -86,6 +86,17 @@ public class bandListItem {
         this.scheduleSlotTimeIndex = scheduleSlotTimeIndex;
     }
 
+    /**
+     * Identity of this row across list rebuilds: band name plus schedule slot (if any). Display fields such as
+     * rank, attended icon or formatted time are not part of it, so a priority change keeps the same id.
+     * @return A non-negative id suitable for {@link android.widget.Adapter#getItemId(int)}.
+     */
+    public long getStableId() {
+        long slot = scheduleSlotTimeIndex != null ? scheduleSlotTimeIndex : 0L;
+        long hash = (bandName != null ? bandName.hashCode() : 0) * 0x9E3779B97F4A7C15L + slot;
+        return hash & Long.MAX_VALUE;
+    }
+
     /**
      * Gets the location color.
      * @return The location color string.
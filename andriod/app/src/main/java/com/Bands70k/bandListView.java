@@ -20,7 +20,9 @@ import android.widget.ImageView;
 import android.widget.TextView;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.Bands70k.staticVariables.context;
 
@@ -78,48 +80,18 @@ public class bandListView extends ArrayAdapter<bandListItem> {
     }
     
     /**
-     * FLASHING FIX: Return stable ID based on band name and location/time
+     * FLASHING FIX: Return stable ID based on band name and schedule slot
      * This allows Android to track items across adapter updates and preserve scroll position
-     * Handles both bands-only view (band name only) and schedule view (band name + location/time)
+     * Handles both bands-only view (band name only) and schedule view (band name + slot start time)
      * @param position The position of the item
-     * @return A stable ID for the item (hash of unique identifier)
+     * @return A stable ID for the item (see {@link bandListItem#getStableId()})
      */
     @Override
     public long getItemId(int position) {
         if (position >= 0 && position < bandInfoList.size()) {
             bandListItem item = bandInfoList.get(position);
             if (item != null && item.getBandName() != null) {
-                // Build a unique identifier for this item
-                // For schedule view: bandName + location + startTime creates unique ID
-                // For bands-only view: bandName is sufficient
-                StringBuilder idBuilder = new StringBuilder();
-                idBuilder.append(item.getBandName());
-                
-                // Add location and time if available (schedule view)
-                if (item.getLocation() != null) {
-                    idBuilder.append("|").append(item.getLocation());
-                }
-                if (item.getStartTime() != null) {
-                    idBuilder.append("|").append(item.getStartTime());
-                }
-                if (item.getDay() != null) {
-                    idBuilder.append("|").append(item.getDay());
-                }
-                
-                // Use hash of the unique identifier as stable ID
-                // This ensures the same item always has the same ID, even if position changes
-                String uniqueId = idBuilder.toString();
-                long hash = uniqueId.hashCode();
-                
-                // Ensure positive ID (Android requires non-negative IDs)
-                // Convert to positive by using absolute value, but handle Long.MIN_VALUE edge case
-                if (hash == Long.MIN_VALUE) {
-                    hash = Long.MAX_VALUE;
-                } else if (hash < 0) {
-                    hash = Math.abs(hash);
-                }
-                
-                return hash;
+                return item.getStableId();
             }
         }
         // Fallback to position if item is null or invalid
@@ -127,6 +99,15 @@ public class bandListView extends ArrayAdapter<bandListItem> {
         return (long)position + 1000000000L;
     }
 
+    /**
+     * Rows are served from {@link #bandInfoList} only; the ArrayAdapter's own backing list is not used,
+     * so updates never trigger one notifyDataSetChanged() per added item.
+     */
+    @Override
+    public int getCount() {
+        return bandInfoList.size();
+    }
+
     /**
      * Gets the bandListItem at the specified index.
      * @param index The index of the item.
@@ -137,6 +118,11 @@ public class bandListView extends ArrayAdapter<bandListItem> {
         return this.bandInfoList.get(index);
     }
 
+    @Override
+    public int getPosition(bandListItem item) {
+        return bandInfoList.indexOf(item);
+    }
+
     /**
      * Adds a bandListItem to the adapter and internal list.
      * @param object The bandListItem to add.
@@ -144,7 +130,7 @@ public class bandListView extends ArrayAdapter<bandListItem> {
     @Override
     public void add(bandListItem object) {
         bandInfoList.add(object);
-        super.add(object);
+        notifyDataSetChanged();
     }
     
     /**
@@ -154,26 +140,20 @@ public class bandListView extends ArrayAdapter<bandListItem> {
      */
     public void clearAll() {
         bandInfoList.clear();
-        super.clear();
+        notifyDataSetChanged();
     }
     
     /**
-     * FLASHING FIX: Replace all items in the adapter at once
-     * This is more efficient than clear + add and helps preserve scroll position
+     * FLASHING FIX: Replace all items, but only if data actually changed
      * 
-     * HOW STABLE IDs HANDLE ADDITIONS/REMOVALS:
-     * - When items are added: New items get new stable IDs, Android creates new views
-     * - When items are removed: Items with removed IDs are automatically cleaned up
-     * - When items are moved: Same ID at different position, Android reuses the view at new position
-     * - When items are updated: Same ID, same position, Android updates the view in place
+     * Diffs the new rows against the current ones by stable ID ({@link bandListItem#getStableId()}):
+     * - Unchanged rows (same ID, same position, same fields) keep their current item
+     * - Changed rows (same ID, same position, different fields) are swapped in place
+     * - Inserted / removed / moved rows switch the whole backing list in one step
      * 
-     * This allows Android to efficiently update the list without flashing or losing scroll position
+     * The caller still calls notifyDataSetChanged(); ListView then rebinds only visible rows and keeps
+     * scroll position because the IDs of surviving rows do not change.
      * 
-     * @param newItems The new list of items to replace the current items
-     */
-    /**
-     * FLASHING FIX: Replace all items, but only if data actually changed
-     * This prevents unnecessary clears that cause flashing
      * @param newItems The new list of items
      * @return true if items were actually replaced, false if data was unchanged
      */
@@ -182,61 +162,95 @@ public class bandListView extends ArrayAdapter<bandListItem> {
             if (bandInfoList.isEmpty()) {
                 return false; // Already empty, no change
             }
-            clearAll();
+            bandInfoList.clear();
             return true;
         }
-        
-        // FLASHING FIX: Compare old and new data to avoid unnecessary refresh
-        // If data is the same, skip the clear/repopulate to avoid flash
-        if (areListsEqual(bandInfoList, newItems)) {
+
+        int oldSize = bandInfoList.size();
+        Map<Long, bandListItem> previous = new HashMap<>(oldSize * 2);
+        for (bandListItem item : bandInfoList) {
+            if (item != null) {
+                previous.put(item.getStableId(), item);
+            }
+        }
+
+        boolean sameLayout = oldSize == newItems.size();
+        int inserted = 0;
+        int changed = 0;
+        for (int i = 0; i < newItems.size(); i++) {
+            bandListItem item = newItems.get(i);
+            if (item == null) {
+                sameLayout = false;
+                continue;
+            }
+            long id = item.getStableId();
+            bandListItem old = previous.remove(id);
+            if (old == null) {
+                inserted++;
+                sameLayout = false;
+                continue;
+            }
+            if (sameLayout && bandInfoList.get(i) != old) {
+                sameLayout = false;
+            }
+            if (!areItemsEqual(old, item)) {
+                changed++;
+            }
+        }
+        int removed = previous.size();
+
+        if (sameLayout && changed == 0) {
             Log.d("AdapterUpdate", "Data unchanged - skipping replaceAll to avoid flash");
             return false; // No change, no refresh needed
         }
-        
-        int oldSize = bandInfoList.size();
-        
-        // Clear both lists
-        bandInfoList.clear();
-        super.clear();
-        
-        // Immediately repopulate both lists (this happens very quickly)
-        bandInfoList.addAll(newItems);
-        for (bandListItem item : newItems) {
-            super.add(item);
+
+        if (sameLayout) {
+            // Same rows in the same order: only swap the rows whose content changed
+            for (int i = 0; i < newItems.size(); i++) {
+                if (!areItemsEqual(bandInfoList.get(i), newItems.get(i))) {
+                    bandInfoList.set(i, newItems.get(i));
+                }
+            }
+        } else {
+            bandInfoList.clear();
+            bandInfoList.addAll(newItems);
         }
-        
-        // Log changes for debugging
-        int added = newItems.size() > oldSize ? newItems.size() - oldSize : 0;
-        int removed = oldSize > newItems.size() ? oldSize - newItems.size() : 0;
-        
-        Log.d("AdapterUpdate", "Items replaced - Old: " + oldSize + ", New: " + newItems.size() + " (Added: " + added + ", Removed: " + removed + ")");
+
+        Log.d("AdapterUpdate", "Items diffed - Old: " + oldSize + ", New: " + newItems.size() + " (Added: " + inserted
+                + ", Removed: " + removed + ", Changed: " + changed + ", Reordered: " + !sameLayout + ")");
         return true; // Data changed, refresh happened
     }
-    
+
     /**
-     * Compare two lists to see if they contain the same items (by stable ID)
-     * This allows us to skip refreshes when data hasn't actually changed
+     * Callback for {@link #updateRowsForBand(String, RowUpdater)}.
      */
-    private boolean areListsEqual(List<bandListItem> list1, List<bandListItem> list2) {
-        if (list1 == list2) return true;
-        if (list1 == null || list2 == null) return false;
-        if (list1.size() != list2.size()) return false;
-        
-        // Compare items by their stable IDs (band name + location + time)
-        for (int i = 0; i < list1.size(); i++) {
-            bandListItem item1 = list1.get(i);
-            bandListItem item2 = list2.get(i);
-            
-            if (item1 == item2) continue;
-            if (item1 == null || item2 == null) return false;
-            
-            // Compare by stable ID components
-            if (!areItemsEqual(item1, item2)) {
-                return false;
+    public interface RowUpdater {
+        /**
+         * Updates one row in place.
+         * @param item The row to update.
+         * @return true if any displayed field changed.
+         */
+        boolean update(bandListItem item);
+    }
+
+    /**
+     * Updates the existing rows of one band in place (e.g. after a priority or attended change that does not
+     * change which rows are shown). Does not notify; call notifyDataSetChanged() when this returns &gt; 0.
+     * @param bandName The band whose rows should be updated.
+     * @param updater Applied to each row of that band.
+     * @return The number of rows that changed.
+     */
+    public int updateRowsForBand(String bandName, RowUpdater updater) {
+        if (bandName == null) {
+            return 0;
+        }
+        int changed = 0;
+        for (bandListItem item : bandInfoList) {
+            if (item != null && bandName.equals(item.getBandName()) && updater.update(item)) {
+                changed++;
             }
         }
-        
-        return true;
+        return changed;
     }
     
     /**
@@ -14,7 +14,6 @@ import android.widget.Button;
 import android.widget.FrameLayout;
 import android.widget.LinearLayout;
 import android.widget.PopupMenu;
-import android.widget.RelativeLayout;
 import android.widget.ScrollView;
 import android.widget.ImageView;
 import android.widget.Switch;
@@ -25,6 +24,8 @@ import com.Bands70k.EventTypeConfig;
 import com.Bands70k.FestivalConfig;
 import com.Bands70k.FilterButtonHandler;
 import com.Bands70k.R;
+import com.Bands70k.ScheduleEventIndex;
+import com.Bands70k.ScheduleFilterProgram;
 import com.Bands70k.iconResolve;
 import com.Bands70k.showsAttended;
 import com.Bands70k.staticVariables;
@@ -75,11 +76,15 @@ public class LandscapeScheduleView extends LinearLayout {
     private showsAttended attendedHandle;
     private boolean shouldFinishActivity = false; // Flag to prevent display updates if we're finishing
     
-    // Map to store combined events: combined band name -> list of individual band names
-    private Map<String, List<String>> combinedEventsMap = new HashMap<>();
+    // Map to store combined events: combined band name -> list of individual band names.
+    // This map, dayCache and unfilteredEventCountsPerDay are built on the load thread and replaced whole, never
+    // modified after they are published, so the UI thread can read them without locking.
+    private volatile Map<String, List<String>> combinedEventsMap = new HashMap<>();
+    /** Days as last built, by day label; reused while {@link DayScheduleData#sourceSignature} still matches. */
+    private volatile Map<String, DayScheduleData> dayCache = new HashMap<>();
     
     // Track unfiltered event counts per day for filter counter
-    private Map<String, Integer> unfilteredEventCountsPerDay = new HashMap<>();
+    private volatile Map<String, Integer> unfilteredEventCountsPerDay = new HashMap<>();
     
     // Track previous filter state to revert if all data is filtered out
     private static class FilterState {
@@ -346,8 +351,8 @@ public class LandscapeScheduleView extends LinearLayout {
         if ((w != oldw || h != oldh) && oldw > 0 && oldh > 0) {
             Log.d(TAG, "View size changed: " + oldw + "x" + oldh + " -> " + w + "x" + h);
             // Only recalculate if we have data loaded and view is properly sized
-            // Check if contentLayout exists and has children (content already displayed)
-            if (w > 0 && h > 0 && contentLayout != null && contentLayout.getChildCount() > 0) {
+            // Check if the grid exists and is showing a day (content already displayed)
+            if (w > 0 && h > 0 && scheduleGrid != null && scheduleGrid.getVisibility() == View.VISIBLE) {
                 // Post to ensure layout is complete before recalculating
                 post(new Runnable() {
                     @Override
@@ -618,20 +623,6 @@ public class LandscapeScheduleView extends LinearLayout {
         return event.venueColor;
     }
     
-    private android.graphics.drawable.Drawable getEventBlockBackground(int fillColor, boolean shouldDim) {
-        android.graphics.drawable.GradientDrawable drawable = new android.graphics.drawable.GradientDrawable();
-        drawable.setShape(android.graphics.drawable.GradientDrawable.RECTANGLE);
-        
-        // Darken the fill color for expired events (reduce brightness by ~60%) only if shouldDim is true
-        int displayColor = shouldDim ? darkenColor(fillColor, 0.4f) : fillColor;
-        drawable.setColor(displayColor);
-        drawable.setCornerRadius(dpToPx(4)); // 4dp corner radius to match iOS
-        // Darken border for expired events (use dark grey instead of white) only if shouldDim is true
-        int borderColor = shouldDim ? Color.argb(102, 128, 128, 128) : Color.WHITE; // Dark grey border for expired
-        drawable.setStroke(1, borderColor);
-        return drawable;
-    }
-    
     /**
      * Darken a color by reducing its RGB values by a factor
      * @param color Original color
@@ -648,6 +639,9 @@ public class LandscapeScheduleView extends LinearLayout {
     
     private ViewGroup venueHeaderContainer; // Fixed header row container (no horizontal scroll - content fits width)
     private LinearLayout venueHeaderRow; // Fixed header row for venue names
+    private String venueHeaderSignature; // Venues + sizes the header row was built for
+    private ScheduleGridView scheduleGrid; // Time column, grid lines and event blocks, drawn on one canvas
+    private TextView noDataView;
     
     private void createContentArea() {
         // Venue header row container - no horizontal scroll; content shrinks to fit width
@@ -691,6 +685,35 @@ public class LandscapeScheduleView extends LinearLayout {
         contentLayout.setClickable(false);
         contentLayout.setFocusable(false);
         
+        scheduleGrid = new ScheduleGridView(context);
+        scheduleGrid.setLayoutParams(new LinearLayout.LayoutParams(
+            LayoutParams.MATCH_PARENT, LayoutParams.WRAP_CONTENT
+        ));
+        scheduleGrid.setOnBlockGestureListener(new ScheduleGridView.OnBlockGestureListener() {
+            @Override
+            public void onBlockTapped(ScheduleBlock event) {
+                onEventBlockTapped(event);
+            }
+            
+            @Override
+            public void onBlockLongPressed(View anchor, ScheduleBlock event) {
+                // Long press: Priority + Attended menu (same as list view)
+                if (currentDayIndex >= 0 && currentDayIndex < days.size()) {
+                    showLongPressMenuForEvent(anchor, event, days.get(currentDayIndex));
+                }
+            }
+        });
+        scheduleGrid.setVisibility(View.GONE);
+        contentLayout.addView(scheduleGrid);
+        
+        noDataView = new TextView(context);
+        noDataView.setText("No schedule data available");
+        noDataView.setTextColor(Color.WHITE);
+        noDataView.setGravity(Gravity.CENTER);
+        noDataView.setPadding(0, dpToPx(50), 0, 0);
+        noDataView.setVisibility(View.GONE);
+        contentLayout.addView(noDataView);
+        
         contentScrollView.addView(contentLayout);
         
         venueHeaderContainer.setVisibility(View.VISIBLE);
@@ -1316,6 +1339,7 @@ public class LandscapeScheduleView extends LinearLayout {
     /**
      * Refresh the attended status for all events in the current day.
      * This ensures that when the UI is rebuilt, it shows the latest attended status.
+     * Days are reused across reloads, so this is how attendance changes reach them; only changed blocks are touched.
      */
     private void refreshAttendedStatuses() {
         if (days.isEmpty() || currentDayIndex < 0 || currentDayIndex >= days.size()) {
@@ -1327,6 +1351,7 @@ public class LandscapeScheduleView extends LinearLayout {
             staticVariables.ensureEventYearIsSet();
         }
         String eventYear = String.valueOf(staticVariables.eventYear);
+        int changed = 0;
         
         for (VenueColumn venue : currentDay.venues) {
             for (ScheduleBlock event : venue.events) {
@@ -1339,9 +1364,15 @@ public class LandscapeScheduleView extends LinearLayout {
                     eventYear,
                     event.day
                 );
-                event.attendedStatus = updatedStatus;
+                if (!updatedStatus.equals(event.attendedStatus)) {
+                    event.attendedStatus = updatedStatus;
+                    changed++;
+                }
             }
         }
+        if (changed > 0) {
+            Log.d(TAG, "refreshAttendedStatuses: " + changed + " blocks changed on '" + currentDay.dayLabel + "'");
+        }
     }
     
     /**
@@ -1353,6 +1384,7 @@ public class LandscapeScheduleView extends LinearLayout {
             return;
         }
         DayScheduleData currentDay = days.get(currentDayIndex);
+        int changed = 0;
         for (VenueColumn venue : currentDay.venues) {
             for (ScheduleBlock event : venue.events) {
                 String bandName = event.bandName;
@@ -1361,9 +1393,16 @@ public class LandscapeScheduleView extends LinearLayout {
                     if (parts != null) bandName = parts[0].trim();
                 }
                 String rankIcon = rankStore.getRankForBand(bandName);
-                event.priority = getPriorityFromRankIcon(rankIcon);
+                int priority = getPriorityFromRankIcon(rankIcon);
+                if (priority != event.priority) {
+                    event.priority = priority;
+                    changed++;
+                }
             }
         }
+        if (changed > 0) {
+            Log.d(TAG, "refreshPriorities: " + changed + " blocks changed on '" + currentDay.dayLabel + "'");
+        }
     }
     
     /**
@@ -1376,18 +1415,15 @@ public class LandscapeScheduleView extends LinearLayout {
     }
 
     private void updateContent() {
-        contentLayout.removeAllViews();
-        venueHeaderRow.removeAllViews();
-        
         if (days.isEmpty() || currentDayIndex >= days.size()) {
-            TextView noData = new TextView(context);
-            noData.setText("No schedule data available");
-            noData.setTextColor(Color.WHITE);
-            noData.setGravity(Gravity.CENTER);
-            noData.setPadding(0, dpToPx(50), 0, 0);
-            contentLayout.addView(noData);
+            venueHeaderRow.removeAllViews();
+            venueHeaderSignature = null;
+            scheduleGrid.setVisibility(View.GONE);
+            noDataView.setVisibility(View.VISIBLE);
             return;
         }
+        noDataView.setVisibility(View.GONE);
+        scheduleGrid.setVisibility(View.VISIBLE);
         
         DayScheduleData currentDay = days.get(currentDayIndex);
         
@@ -1403,72 +1439,80 @@ public class LandscapeScheduleView extends LinearLayout {
         int columnWidth = currentDay.venues.isEmpty() ? availableWidth : availableWidth / currentDay.venues.size();
         Log.d(TAG, "Column width (fit to screen): " + columnWidth + ", venues: " + currentDay.venues.size());
         
-        // Venue headers - measure first to find max height (name + location), then recreate with fixed height
-        int maxHeaderHeight = dpToPx(44); // Minimum height
         FestivalConfig config = FestivalConfig.getInstance();
-
-        // Create a temporary parent layout for accurate measurement
-        LinearLayout tempParent = new LinearLayout(context);
-        tempParent.setOrientation(LinearLayout.HORIZONTAL);
-
-        // First pass: measure all venue headers (name + location) to find the maximum height needed
-        java.util.List<String> venueNames = new java.util.ArrayList<>();
-        java.util.List<Integer> venueColors = new java.util.ArrayList<>();
-        for (VenueColumn venue : currentDay.venues) {
+        int maxHeaderHeight = measureVenueHeaderHeight(currentDay.venues, columnWidth, config);
+        updateVenueHeaderRow(currentDay.venues, columnWidth, maxHeaderHeight, config);
+        
+        // Block positions only depend on the day and the column size; statuses are refilled on every update
+        ScheduleGridView.GridLayout gridLayout = currentDay.gridLayout;
+        if (gridLayout == null || gridLayout.columnWidth != columnWidth || gridLayout.headerHeight != maxHeaderHeight) {
+            long start = System.currentTimeMillis();
+            gridLayout = layoutDay(currentDay, columnWidth, maxHeaderHeight);
+            currentDay.gridLayout = gridLayout;
+            Log.d(TAG, "Laid out day '" + currentDay.dayLabel + "': " + gridLayout.blockCount() + " blocks in "
+                  + (System.currentTimeMillis() - start) + "ms");
+        }
+        fillBlockContents(gridLayout, currentDay);
+        scheduleGrid.setGridLayout(gridLayout);
+    }
+    
+    /**
+     * Height of the venue header row: tallest name + location at the column width (as the headers wrap them
+     * when measured), at least 44dp, plus 2dp so text doesn't get cut off. Measured with text layouts
+     * instead of a throwaway view pass.
+     */
+    private int measureVenueHeaderHeight(List<VenueColumn> venues, int columnWidth, FestivalConfig config) {
+        int maxHeaderHeight = dpToPx(44); // Minimum height
+        int padding = dpToPx(4);
+        int textWidth = Math.max(1, columnWidth - 2 * padding);
+        android.text.TextPaint namePaint = new android.text.TextPaint(android.graphics.Paint.ANTI_ALIAS_FLAG);
+        namePaint.setTextSize(TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP, 12, getResources().getDisplayMetrics()));
+        namePaint.setTypeface(android.graphics.Typeface.DEFAULT_BOLD);
+        android.text.TextPaint locationPaint = new android.text.TextPaint(android.graphics.Paint.ANTI_ALIAS_FLAG);
+        locationPaint.setTextSize(TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP, 10, getResources().getDisplayMetrics()));
+        
+        for (VenueColumn venue : venues) {
+            String name = venue.name != null ? staticVariables.venueDisplayName(venue.name) : "";
             String location = venue.name != null ? config.getVenueLocation(venue.name) : "";
-            LinearLayout tempRow = new LinearLayout(context);
-            tempRow.setOrientation(LinearLayout.VERTICAL);
-            tempRow.setGravity(Gravity.CENTER);
-            int padding = dpToPx(4);
-            tempRow.setPadding(padding, padding, padding, padding);
-
-            TextView tempName = new TextView(context);
-            tempName.setText(venue.name != null ? staticVariables.venueDisplayName(venue.name) : "");
-            tempName.setTextSize(12);
-            tempName.setTypeface(null, android.graphics.Typeface.BOLD);
-            tempName.setGravity(Gravity.CENTER);
-            tempName.setIncludeFontPadding(false);
-            tempRow.addView(tempName);
-
+            int height = 2 * padding + textHeight(name, namePaint, textWidth);
             if (location != null && !location.isEmpty()) {
-                TextView tempLoc = new TextView(context);
-                tempLoc.setText(location);
-                tempLoc.setTextSize(10);
-                tempLoc.setGravity(Gravity.CENTER);
-                tempLoc.setIncludeFontPadding(false);
-                tempRow.addView(tempLoc);
+                height += textHeight(location, locationPaint, textWidth);
             }
-
-            LinearLayout.LayoutParams measureParams = new LinearLayout.LayoutParams(
-                columnWidth, ViewGroup.LayoutParams.WRAP_CONTENT
-            );
-            tempRow.setLayoutParams(measureParams);
-            tempParent.addView(tempRow);
-
-            int widthSpec = View.MeasureSpec.makeMeasureSpec(columnWidth, View.MeasureSpec.EXACTLY);
-            int heightSpec = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
-            tempRow.measure(widthSpec, heightSpec);
-
-            int measuredHeight = tempRow.getMeasuredHeight();
-            Log.d(TAG, "Venue header measurement: " + venue.name + " -> height=" + measuredHeight +
-                  ", columnWidth=" + columnWidth);
-
-            if (measuredHeight > maxHeaderHeight) {
-                maxHeaderHeight = measuredHeight;
+            if (height > maxHeaderHeight) {
+                maxHeaderHeight = height;
                 Log.d(TAG, "New maxHeaderHeight: " + maxHeaderHeight + " for venue: " + venue.name);
             }
-
-            venueNames.add(venue.name);
-            venueColors.add(venue.color);
-            tempParent.removeView(tempRow);
         }
         
         // Add some extra padding to ensure text doesn't get cut off
         maxHeaderHeight += dpToPx(2);
         Log.d(TAG, "Final maxHeaderHeight: " + maxHeaderHeight + "px (" + 
               (maxHeaderHeight / getResources().getDisplayMetrics().density) + "dp)");
+        return maxHeaderHeight;
+    }
+    
+    /** Wrapped height of a TextView with includeFontPadding=false. */
+    private static int textHeight(String text, android.text.TextPaint paint, int width) {
+        return android.text.StaticLayout.Builder.obtain(text, 0, text.length(), paint, width)
+            .setAlignment(android.text.Layout.Alignment.ALIGN_CENTER)
+            .setIncludePad(false)
+            .build()
+            .getHeight();
+    }
+    
+    /** Rebuilds the fixed venue header row, unless the venues and sizes are the same as the one showing. */
+    private void updateVenueHeaderRow(List<VenueColumn> venues, int columnWidth, int maxHeaderHeight, FestivalConfig config) {
+        StringBuilder signature = new StringBuilder().append(columnWidth).append('|').append(maxHeaderHeight);
+        for (VenueColumn venue : venues) {
+            signature.append('|').append(venue.name).append('#').append(venue.color);
+        }
+        if (signature.toString().equals(venueHeaderSignature)) {
+            Log.d(TAG, "Venue header row unchanged, keeping it");
+            return;
+        }
+        venueHeaderSignature = signature.toString();
+        venueHeaderRow.removeAllViews();
         
-        // Create fixed venue header row
         // Time header - use maxHeaderHeight so it matches venue headers
         TextView timeHeader = new TextView(context);
         timeHeader.setText("Time");
@@ -1491,9 +1535,8 @@ public class LandscapeScheduleView extends LinearLayout {
         
         Log.d(TAG, "Header height set to: " + maxHeaderHeight + "dp (" + (maxHeaderHeight / getResources().getDisplayMetrics().density) + "dp)");
         
-        // Second pass: create all venue headers (name + location) wrapped in FrameLayouts
-        for (int i = 0; i < currentDay.venues.size(); i++) {
-            VenueColumn venue = currentDay.venues.get(i);
+        // Venue headers (name + location) wrapped in FrameLayouts
+        for (VenueColumn venue : venues) {
             String location = venue.name != null ? config.getVenueLocation(venue.name) : "";
 
             FrameLayout headerWrapper = new FrameLayout(context);
@@ -1544,163 +1587,69 @@ public class LandscapeScheduleView extends LinearLayout {
                   ", columnWidth=" + columnWidth);
             venueHeaderRow.addView(headerWrapper);
         }
-        
-        // Columns container fits screen width (no horizontal scroll)
-        LinearLayout columnsContainer = new LinearLayout(context);
-        columnsContainer.setOrientation(LinearLayout.HORIZONTAL);
-        columnsContainer.setLayoutParams(new LinearLayout.LayoutParams(
-            LayoutParams.MATCH_PARENT, LayoutParams.WRAP_CONTENT
-        ));
-        
-        // Grid line color to match iOS: subtle light grey (horizontal and vertical)
-        final int gridLineColor = Color.argb(100, 200, 200, 200);
-
-        // Add time column first (without header) - pass header height for spacer
-        LinearLayout timeColumn = createTimeColumn(currentDay, maxHeaderHeight);
-        columnsContainer.addView(timeColumn);
-
-        // Vertical grid lines between columns (match iOS: thin separators between Time and venues, and between each venue)
-        for (VenueColumn venue : currentDay.venues) {
-            columnsContainer.addView(createVerticalGridLine(gridLineColor));
-            LinearLayout venueColumn = createVenueColumn(venue, currentDay, columnWidth, maxHeaderHeight, gridLineColor);
-            columnsContainer.addView(venueColumn);
-        }
-
-        contentLayout.addView(columnsContainer);
     }
     
-    private LinearLayout createTimeColumn(DayScheduleData dayData, int headerHeight) {
-        LinearLayout timeColumn = new LinearLayout(context);
-        timeColumn.setOrientation(LinearLayout.VERTICAL);
-        timeColumn.setLayoutParams(new LinearLayout.LayoutParams(
-            dpToPx(60), LayoutParams.WRAP_CONTENT
-        ));
-        timeColumn.setBackgroundColor(Color.BLACK);
-        
-        // Spacer for fixed header (same height as header)
-        View headerSpacer = new View(context);
-        headerSpacer.setLayoutParams(new LinearLayout.LayoutParams(
-            LayoutParams.MATCH_PARENT, headerHeight
-        ));
-        headerSpacer.setBackgroundColor(Color.BLACK);
-        timeColumn.addView(headerSpacer);
-        
-        // Time slots
-        for (TimeSlot slot : dayData.timeSlots) {
-            TextView timeText = new TextView(context);
-            timeText.setText(slot.label);
-            timeText.setTextSize(12);
-            timeText.setTextColor(slot.label.contains("m") ? Color.WHITE : Color.GRAY);
-            // Align text to top so events align with top of time text
-            timeText.setGravity(Gravity.LEFT | Gravity.TOP);
-            timeText.setPadding(dpToPx(4), 0, 0, 0);
-            // Remove extra font padding to ensure text aligns at the very top
-            timeText.setIncludeFontPadding(false);
-            timeText.setLayoutParams(new LinearLayout.LayoutParams(
-                LayoutParams.MATCH_PARENT, slotHeightPx(dayData)
-            ));
-            timeText.setBackgroundColor(Color.BLACK);
-            timeColumn.addView(timeText);
-        }
-        
-        return timeColumn;
-    }
-    
-    /** Creates a thin vertical divider for the grid (0.5px when possible, match iOS). */
-    private View createVerticalGridLine(int gridLineColor) {
-        View line = new View(context);
-        line.setBackgroundColor(gridLineColor);
-        line.setLayoutParams(new LinearLayout.LayoutParams(1, LayoutParams.MATCH_PARENT)); // 1px layout, draw at 0.5px
-        line.setScaleX(0.5f);
-        line.setPivotX(0.5f); // scale from center so 0.5px line is centered in 1px slot
-        return line;
-    }
-
-    private LinearLayout createVenueColumn(VenueColumn venue, DayScheduleData dayData, int columnWidth, int headerHeight, int gridLineColor) {
-        LinearLayout venueColumn = new LinearLayout(context);
-        venueColumn.setOrientation(LinearLayout.VERTICAL);
-        venueColumn.setLayoutParams(new LinearLayout.LayoutParams(
-            columnWidth, LayoutParams.WRAP_CONTENT
-        ));
-
-        // Spacer for fixed header (same height as header)
-        View headerSpacer = new View(context);
-        headerSpacer.setLayoutParams(new LinearLayout.LayoutParams(
-            LayoutParams.MATCH_PARENT, headerHeight
-        ));
-        headerSpacer.setBackgroundColor(Color.BLACK);
-        venueColumn.addView(headerSpacer);
-
-        // Content area with events positioned by time
-        RelativeLayout contentArea = new RelativeLayout(context);
-        int contentHeight = dayData.timeSlots.size() * slotHeightPx(dayData);
-        contentArea.setLayoutParams(new LinearLayout.LayoutParams(
-            LayoutParams.MATCH_PARENT, contentHeight
-        ));
-
-        // Horizontal grid lines at vertical center of each time row (match iOS: middle of "7:00pm" text)
-        // Use 1px height so lines remain visible; 0.5px scaled lines disappear on many devices
+    /**
+     * Positions the day's time labels, grid lines and event blocks for the grid: time column (60dp) first,
+     * then per venue a 1px separator and the venue column. Blocks are stored venue by venue in event order,
+     * so later blocks draw (and hit-test) on top like the old child views.
+     */
+    private ScheduleGridView.GridLayout layoutDay(DayScheduleData dayData, int columnWidth, int headerHeight) {
+        ScheduleGridView.GridLayout layout = new ScheduleGridView.GridLayout();
+        int timeColumnWidth = dpToPx(60);
+        int slotHeight = slotHeightPx(dayData);
         int halfSlot = halfSlotPx(dayData);
-        for (TimeSlot slot : dayData.timeSlots) {
-            View gridLine = new View(context);
-            gridLine.setBackgroundColor(gridLineColor);
-            RelativeLayout.LayoutParams gridParams = new RelativeLayout.LayoutParams(
-                LayoutParams.MATCH_PARENT, 1
-            );
-            int yPos = calculateYPosition(slot.time, dayData) + halfSlot;
-            gridParams.topMargin = yPos;
-            gridLine.setLayoutParams(gridParams);
-            contentArea.addView(gridLine);
-        }
+        int slotCount = dayData.timeSlots.size();
         
-        // Check if there are any unexpired events in this day (for dimming logic)
-        boolean hasUnexpiredEvents = hasUnexpiredEvents(dayData);
+        layout.columnWidth = columnWidth;
+        layout.headerHeight = headerHeight;
+        layout.slotHeight = slotHeight;
+        layout.venueLeft = timeColumnWidth;
+        layout.width = timeColumnWidth + dayData.venues.size() * (columnWidth + 1);
+        layout.height = headerHeight + slotCount * slotHeight;
         
-        // Add event blocks
-        for (ScheduleBlock event : venue.events) {
-            // Only dim expired events if: hideExpiredEvents is ON AND unexpired events exist
-            // If all events are expired and hideExpiredEvents is OFF, don't dim
-            boolean shouldDim = hideExpiredEvents && hasUnexpiredEvents && event.isExpired;
-            View eventBlock = createEventBlock(event, columnWidth, dayData, shouldDim);
-            contentArea.addView(eventBlock);
+        // Horizontal grid lines at vertical center of each time row (match iOS: middle of "7:00pm" text)
+        layout.slotLabels = new String[slotCount];
+        layout.gridLineY = new int[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            TimeSlot slot = dayData.timeSlots.get(i);
+            layout.slotLabels[i] = slot.label != null ? slot.label : "";
+            layout.gridLineY[i] = headerHeight + calculateYPosition(slot.time, dayData) + halfSlot;
         }
         
-        venueColumn.addView(contentArea);
-        return venueColumn;
-    }
-    
-    /**
-     * Check if there are any unexpired events in the given day
-     */
-    private boolean hasUnexpiredEvents(DayScheduleData dayData) {
+        int blockCount = 0;
         for (VenueColumn venue : dayData.venues) {
-            for (ScheduleBlock event : venue.events) {
-                if (!event.isExpired) {
-                    return true;
-                }
+            blockCount += venue.events.size();
+        }
+        layout.bounds = new float[blockCount * 4];
+        layout.blocks = new ScheduleGridView.BlockContent[blockCount];
+        layout.separatorX = new int[dayData.venues.size()];
+        
+        int x = timeColumnWidth;
+        int index = 0;
+        for (int v = 0; v < dayData.venues.size(); v++) {
+            layout.separatorX[v] = x;
+            int columnLeft = x + 1;
+            for (ScheduleBlock event : dayData.venues.get(v).events) {
+                // Use date-based positioning; add half-slot so event start aligns with grid line at center of time label
+                int top = headerHeight + calculateYPosition(event.startTime, dayData) + halfSlot;
+                int o = index * 4;
+                layout.bounds[o] = columnLeft + dpToPx(2);
+                layout.bounds[o + 1] = top;
+                layout.bounds[o + 2] = columnLeft + columnWidth - dpToPx(2);
+                layout.bounds[o + 3] = top + eventBlockHeight(event, dayData);
+                
+                ScheduleGridView.BlockContent block = new ScheduleGridView.BlockContent();
+                block.event = event;
+                block.compact = isCompactEvent(event);
+                layout.blocks[index++] = block;
             }
+            x = columnLeft + columnWidth;
         }
-        return false;
+        return layout;
     }
     
-    private View createEventBlock(ScheduleBlock event, int columnWidth, DayScheduleData dayData, boolean shouldDim) {
-        LinearLayout eventBlock = new LinearLayout(context);
-        eventBlock.setOrientation(LinearLayout.VERTICAL);
-        boolean compact = isCompactEvent(event);
-        if (compact) {
-            eventBlock.setPadding(dpToPx(2), dpToPx(1), dpToPx(2), dpToPx(1));
-        } else {
-            eventBlock.setPadding(dpToPx(4), dpToPx(4), dpToPx(4), dpToPx(4));
-        }
-        // Use drawable with white border instead of solid color, darken only if shouldDim is true
-        int fillColor = getEventBlockFillColor(event);
-        eventBlock.setBackground(getEventBlockBackground(fillColor, shouldDim));
-        eventBlock.setClickable(true);
-        eventBlock.setFocusable(false);
-        eventBlock.setFocusableInTouchMode(false);
-        eventBlock.setEnabled(true);
-        
-        // Calculate position and height
+    private int eventBlockHeight(ScheduleBlock event, DayScheduleData dayData) {
         Date eventStartTime = event.startTime;
         Date eventEndTime = event.endTime;
         
@@ -1719,313 +1668,220 @@ public class LandscapeScheduleView extends LinearLayout {
             }
         }
         
-        double pixelsPerSecond = pixelsPerSecond(dayData);
-        int blockHeight;
-        if (compact) {
-            blockHeight = Math.max((int) (durationSeconds * pixelsPerSecond), compactMinBlockHeightPx(dayData));
-        } else {
-            blockHeight = Math.max((int) (durationSeconds * pixelsPerSecond), slotHeightPx(dayData));
-        }
-        // Use date-based positioning; add half-slot so event start aligns with grid line at center of time label
-        int yPosition = calculateYPosition(eventStartTime, dayData) + halfSlotPx(dayData);
-        
-        RelativeLayout.LayoutParams params = new RelativeLayout.LayoutParams(
-            columnWidth - dpToPx(4), blockHeight
-        );
-        params.leftMargin = dpToPx(2);
-        params.topMargin = yPosition;
-        eventBlock.setLayoutParams(params);
+        int minHeight = isCompactEvent(event) ? compactMinBlockHeightPx(dayData) : slotHeightPx(dayData);
+        return Math.max((int) (durationSeconds * pixelsPerSecond(dayData)), minHeight);
+    }
+    
+    /**
+     * Fills what each block shows (colors, title lines, times, priority / attended / event type rows) from
+     * the current priorities and attended statuses. Compact blocks (short sets) show the title only.
+     */
+    private void fillBlockContents(ScheduleGridView.GridLayout layout, DayScheduleData dayData) {
+        // Check if there are any unexpired events in this day (for dimming logic)
+        boolean hasUnexpiredEvents = hasUnexpiredEvents(dayData);
+        java.text.DateFormat timeFormat = DateFormat.getTimeFormat(context);
+        String startLabel = context.getString(R.string.calendar_start);
+        String endLabel = context.getString(R.string.calendar_end);
+        String eventYear = String.valueOf(staticVariables.eventYear);
         
-        // Line 1: Band name (handle combined events)
-        boolean isCombinedEvent = isCombinedEventName(event.bandName);
-        float titleTextSize = compact ? 9f : 11f;
-        if (isCombinedEvent) {
-            String[] bandParts = getCombinedEventBandParts(event.bandName);
-            if (compact && bandParts != null) {
-                TextView bandName = new TextView(context);
-                bandName.setText(bandParts[0] + " / " + bandParts[1]);
-                bandName.setTextColor(shouldDim ? Color.rgb(102, 102, 102) : Color.WHITE);
-                bandName.setTextSize(titleTextSize);
-                bandName.setTypeface(null, android.graphics.Typeface.BOLD);
-                bandName.setMaxLines(1);
-                bandName.setEllipsize(android.text.TextUtils.TruncateAt.END);
-                eventBlock.addView(bandName);
+        for (ScheduleGridView.BlockContent block : layout.blocks) {
+            ScheduleBlock event = block.event;
+            // Only dim expired events if: hideExpiredEvents is ON AND unexpired events exist
+            // If all events are expired and hideExpiredEvents is OFF, don't dim
+            boolean shouldDim = hideExpiredEvents && hasUnexpiredEvents && event.isExpired;
+            int fillColor = getEventBlockFillColor(event);
+            // Darken the fill color for expired events (reduce brightness by ~60%) and use a dark grey border
+            block.dimmed = shouldDim;
+            block.fillColor = shouldDim ? darkenColor(fillColor, 0.4f) : fillColor;
+            block.borderColor = shouldDim ? Color.argb(102, 128, 128, 128) : Color.WHITE;
+            block.textColor = shouldDim ? Color.rgb(102, 102, 102) : Color.WHITE;
+            
+            // Line 1: Band name (handle combined events)
+            boolean isCombinedEvent = isCombinedEventName(event.bandName);
+            String[] bandParts = isCombinedEvent ? getCombinedEventBandParts(event.bandName) : null;
+            if (bandParts != null && block.compact) {
+                block.titleLines = new String[]{bandParts[0] + " / " + bandParts[1]};
             } else if (bandParts != null) {
-                TextView bandName1 = new TextView(context);
-                bandName1.setText(bandParts[0] + "/");
-                bandName1.setTextColor(shouldDim ? Color.rgb(102, 102, 102) : Color.WHITE);
-                bandName1.setTextSize(titleTextSize);
-                bandName1.setTypeface(null, android.graphics.Typeface.BOLD);
-                bandName1.setMaxLines(1);
-                eventBlock.addView(bandName1);
-
-                TextView bandName2 = new TextView(context);
-                bandName2.setText(bandParts[1]);
-                bandName2.setTextColor(shouldDim ? Color.rgb(102, 102, 102) : Color.WHITE);
-                bandName2.setTextSize(titleTextSize);
-                bandName2.setTypeface(null, android.graphics.Typeface.BOLD);
-                bandName2.setMaxLines(1);
-                eventBlock.addView(bandName2);
+                block.titleLines = new String[]{bandParts[0] + "/", bandParts[1]};
             } else {
-                TextView bandName = new TextView(context);
-                bandName.setText(event.bandName);
-                bandName.setTextColor(shouldDim ? Color.rgb(102, 102, 102) : Color.WHITE);
-                bandName.setTextSize(titleTextSize);
-                bandName.setTypeface(null, android.graphics.Typeface.BOLD);
-                bandName.setMaxLines(1);
-                eventBlock.addView(bandName);
-            }
-        } else {
-            TextView bandName = new TextView(context);
-            bandName.setText(event.bandName);
-            bandName.setTextColor(shouldDim ? Color.rgb(102, 102, 102) : Color.WHITE);
-            bandName.setTextSize(titleTextSize);
-            bandName.setTypeface(null, android.graphics.Typeface.BOLD);
-            bandName.setMaxLines(1);
-            if (compact) {
-                bandName.setEllipsize(android.text.TextUtils.TruncateAt.END);
+                block.titleLines = new String[]{event.bandName};
             }
-            eventBlock.addView(bandName);
-        }
-
-        if (!compact) {
-        // Line 2: Start (localized): start time (respect OS 24-hour setting like list view)
-        TextView startTimeText = new TextView(context);
-        java.text.DateFormat timeFormat = DateFormat.getTimeFormat(context);
-        if (event.startTime != null) {
-            startTimeText.setText(context.getString(R.string.calendar_start) + ": " + timeFormat.format(event.startTime));
-        }
-        // Use darker grey for expired events only if shouldDim is true
-        startTimeText.setTextColor(shouldDim ? Color.rgb(102, 102, 102) : Color.WHITE);
-        startTimeText.setTextSize(9);
-        startTimeText.setMaxLines(1);
-        eventBlock.addView(startTimeText);
-        
-        // Line 3: End (localized): end time (respect OS 24-hour setting like list view)
-        TextView endTimeText = new TextView(context);
-        if (event.endTime != null) {
-            endTimeText.setText(context.getString(R.string.calendar_end) + ": " + timeFormat.format(event.endTime));
-        }
-        // Use darker grey for expired events only if shouldDim is true
-        endTimeText.setTextColor(shouldDim ? Color.rgb(102, 102, 102) : Color.WHITE);
-        endTimeText.setTextSize(9);
-        endTimeText.setMaxLines(1);
-        eventBlock.addView(endTimeText);
-        
-        if (isCombinedEvent) {
-            // Combined event: Show priority and attended on separate lines
-            List<String> individualBands = combinedEventsMap.get(event.bandName);
-            if (individualBands == null || individualBands.size() != 2) {
-                // Fallback: split the name using internal delimiter
-                String[] parts = getCombinedEventBandParts(event.bandName);
-                if (parts != null) {
-                    individualBands = new ArrayList<>();
-                    individualBands.add(parts[0].trim());
-                    individualBands.add(parts[1].trim());
-                } else {
-                    individualBands = null;
-                }
+            block.ellipsizeTitle = block.compact;
+            
+            block.startLine = null;
+            block.endLine = null;
+            block.iconRows = null;
+            block.eventTypeText = null;
+            block.eventTypeIconRes = 0;
+            if (block.compact) {
+                continue;
             }
             
-            if (individualBands != null && individualBands.size() == 2) {
+            // Lines 2-3: Start / End (localized; respect OS 24-hour setting like list view)
+            block.startLine = event.startTime != null ? startLabel + ": " + timeFormat.format(event.startTime) : "";
+            block.endLine = event.endTime != null ? endLabel + ": " + timeFormat.format(event.endTime) : "";
+            
+            List<String> individualBands = isCombinedEvent ? getCombinedEventBands(event.bandName) : null;
+            if (individualBands != null) {
+                // Combined event: priority and attended on separate lines, with a slash when only one band has one
                 String band1 = individualBands.get(0);
                 String band2 = individualBands.get(1);
+                int priority1 = getPriorityFromRankIcon(rankStore.getRankForBand(band1));
+                int priority2 = getPriorityFromRankIcon(rankStore.getRankForBand(band2));
+                String type = event.eventType != null ? event.eventType : "Performance";
+                String attended1 = attendedHandle.getShowAttendedStatus(band1, event.location, event.startTimeString, type, eventYear, event.day);
+                String attended2 = attendedHandle.getShowAttendedStatus(band2, event.location, event.startTimeString, type, eventYear, event.day);
                 
-                // Get priorities for each band
-                String rankIcon1 = rankStore.getRankForBand(band1);
-                String rankIcon2 = rankStore.getRankForBand(band2);
-                int priority1 = getPriorityFromRankIcon(rankIcon1);
-                int priority2 = getPriorityFromRankIcon(rankIcon2);
-                
-                // Get attended status for each band
-                String attended1 = attendedHandle.getShowAttendedStatus(
-                    band1, event.location, event.startTimeString,
-                    event.eventType != null ? event.eventType : "Performance",
-                    String.valueOf(staticVariables.eventYear),
-                    event.day
-                );
-                String attended2 = attendedHandle.getShowAttendedStatus(
-                    band2, event.location, event.startTimeString,
-                    event.eventType != null ? event.eventType : "Performance",
-                    String.valueOf(staticVariables.eventYear),
-                    event.day
-                );
-                
-                boolean hasPriority1 = priority1 > 0;
-                boolean hasPriority2 = priority2 > 0;
-                boolean hasAttended1 = attended1 != null && !attended1.isEmpty() && !attended1.equals("sawNone");
-                boolean hasAttended2 = attended2 != null && !attended2.isEmpty() && !attended2.equals("sawNone");
-                
-                // Line 4: Priority icons only
-                if (hasPriority1 || hasPriority2) {
-                    LinearLayout priorityRow = new LinearLayout(context);
-                    priorityRow.setOrientation(LinearLayout.HORIZONTAL);
-                    priorityRow.setPadding(0, dpToPx(2), 0, 0);
-                    
-                    if (hasPriority1) {
-                        addPriorityIcon(priorityRow, priority1, shouldDim);
-                    }
-                    
-                    // Show slash only if exactly one has priority
-                    if ((hasPriority1 && !hasPriority2) || (!hasPriority1 && hasPriority2)) {
-                        TextView slash = new TextView(context);
-                        slash.setText("/");
-                        slash.setTextColor(shouldDim ? Color.rgb(102, 102, 102) : Color.WHITE);
-                        slash.setTextSize(10);
-                        slash.setPadding(dpToPx(2), 0, dpToPx(2), 0);
-                        priorityRow.addView(slash);
-                    }
-                    
-                    if (hasPriority2) {
-                        addPriorityIcon(priorityRow, priority2, shouldDim);
-                    }
-                    
-                    eventBlock.addView(priorityRow);
-                }
-                
-                // Line 5: Attended icons on their own line
-                if (hasAttended1 || hasAttended2) {
-                    LinearLayout attendedRow = new LinearLayout(context);
-                    attendedRow.setOrientation(LinearLayout.HORIZONTAL);
-                    attendedRow.setPadding(0, dpToPx(2), 0, 0);
-                    
-                    if (hasAttended1) {
-                        addAttendedIcon(attendedRow, attended1, shouldDim);
-                    }
-                    
-                    // Show slash only if exactly one has attended status
-                    if ((hasAttended1 && !hasAttended2) || (!hasAttended1 && hasAttended2)) {
-                        TextView slash = new TextView(context);
-                        slash.setText("/");
-                        slash.setTextColor(shouldDim ? Color.rgb(102, 102, 102) : Color.WHITE);
-                        slash.setTextSize(10);
-                        slash.setPadding(dpToPx(2), 0, dpToPx(2), 0);
-                        attendedRow.addView(slash);
-                    }
-                    
-                    if (hasAttended2) {
-                        addAttendedIcon(attendedRow, attended2, shouldDim);
-                    }
-                    
-                    eventBlock.addView(attendedRow);
-                }
-                
-                // Line 6: Event type (localized) + drawable icon after - only for non-Show types
-                if (event.eventType != null && !event.eventType.isEmpty() && !EventTypeConfig.isShow(event.eventType)) {
-                    LinearLayout eventTypeRow = new LinearLayout(context);
-                    eventTypeRow.setOrientation(LinearLayout.HORIZONTAL);
-                    eventTypeRow.setBaselineAligned(false);
-                    TextView eventTypeText = new TextView(context);
-                    eventTypeText.setText(Utilities.convertEventTypeToLocalLanguage(event.eventType));
-                    eventTypeText.setTextColor(shouldDim ? Color.rgb(102, 102, 102) : Color.WHITE);
-                    eventTypeText.setTextSize(8);
-                    eventTypeText.setMaxLines(1);
-                    eventTypeRow.addView(eventTypeText);
-                    int eventIconResId = iconResolve.getEventIcon(event.eventType, event.bandName);
-                    if (eventIconResId != 0) {
-                        ImageView eventTypeIcon = new ImageView(context);
-                        eventTypeIcon.setImageResource(eventIconResId);
-                        eventTypeIcon.setLayoutParams(new LinearLayout.LayoutParams(dpToPx(14), dpToPx(14)));
-                        eventTypeIcon.setAlpha(shouldDim ? 0.4f : 1.0f);
-                        eventTypeIcon.setPadding(dpToPx(4), 0, 0, 0);
-                        eventTypeRow.addView(eventTypeIcon);
-                    }
-                    eventBlock.addView(eventTypeRow);
-                }
+                List<ScheduleGridView.IconRow> rows = new ArrayList<>();
+                ScheduleGridView.IconRow priorityRow = pairIconRow(ScheduleGridView.IconRow.PRIORITY, priority1, priority2);
+                if (priorityRow != null) rows.add(priorityRow);
+                ScheduleGridView.IconRow attendedRow = pairIconRow(ScheduleGridView.IconRow.ATTENDED,
+                    attendedIconRes(attended1), attendedIconRes(attended2));
+                if (attendedRow != null) rows.add(attendedRow);
+                block.iconRows = rows.toArray(new ScheduleGridView.IconRow[0]);
             } else {
-                // Fallback: show normal layout
-                addNormalIconRow(eventBlock, event, shouldDim);
+                // Single event: priority and attended icons on the same line
+                block.iconRows = new ScheduleGridView.IconRow[]{normalIconRow(event)};
+                if (isCombinedEvent) {
+                    continue; // Unsplittable combined name: no event type line, as before
+                }
             }
-        } else {
-            // Single event: Show normal priority and attended icons on same line
-            addNormalIconRow(eventBlock, event, shouldDim);
             
-            // Line 5: Event type (localized) + drawable icon after - only for non-Show types
+            // Event type (localized) + drawable icon after - only for non-Show types
             if (event.eventType != null && !event.eventType.isEmpty() && !EventTypeConfig.isShow(event.eventType)) {
-                LinearLayout eventTypeRow = new LinearLayout(context);
-                eventTypeRow.setOrientation(LinearLayout.HORIZONTAL);
-                eventTypeRow.setBaselineAligned(false);
-                TextView eventTypeText = new TextView(context);
-                eventTypeText.setText(Utilities.convertEventTypeToLocalLanguage(event.eventType));
-                eventTypeText.setTextColor(shouldDim ? Color.rgb(102, 102, 102) : Color.WHITE);
-                eventTypeText.setTextSize(8);
-                eventTypeText.setMaxLines(1);
-                eventTypeRow.addView(eventTypeText);
-                int eventIconResId = iconResolve.getEventIcon(event.eventType, event.bandName);
-                if (eventIconResId != 0) {
-                    ImageView eventTypeIcon = new ImageView(context);
-                    eventTypeIcon.setImageResource(eventIconResId);
-                    eventTypeIcon.setLayoutParams(new LinearLayout.LayoutParams(dpToPx(14), dpToPx(14)));
-                    eventTypeIcon.setAlpha(shouldDim ? 0.4f : 1.0f);
-                    eventTypeIcon.setPadding(dpToPx(4), 0, 0, 0);
-                    eventTypeRow.addView(eventTypeIcon);
-                }
-                eventBlock.addView(eventTypeRow);
+                block.eventTypeText = Utilities.convertEventTypeToLocalLanguage(event.eventType);
+                block.eventTypeIconRes = iconResolve.getEventIcon(event.eventType, event.bandName);
             }
         }
-        } // !compact
-
-        // Simple click listener - handle combined events
-        final ScheduleBlock eventData = event;
-        final boolean finalIsCombinedEvent = isCombinedEvent;
-        eventBlock.setOnClickListener(new View.OnClickListener() {
-            @Override
-            public void onClick(View v) {
-                Log.d(TAG, "Event clicked: " + eventData.bandName);
-                
-                if (bandTappedListener == null) {
-                    Log.e(TAG, "ERROR: bandTappedListener is NULL - cannot open details!");
-                    return;
-                }
-                
-                if (currentDayIndex < 0 || currentDayIndex >= days.size()) {
-                    Log.e(TAG, "ERROR: Invalid currentDayIndex=" + currentDayIndex + ", days.size()=" + days.size());
-                    return;
-                }
-                
-                DayScheduleData currentDay = days.get(currentDayIndex);
-                
-                // If combined event, prompt for band selection
-                if (finalIsCombinedEvent && isCombinedEventName(eventData.bandName)) {
-                    List<String> individualBands = combinedEventsMap.get(eventData.bandName);
-                    if (individualBands != null && individualBands.size() == 2) {
-                        promptForBandSelection(eventData.bandName, individualBands, currentDay.dayLabel);
-                        return;
-                    } else {
-                        // Fallback: split the name using internal delimiter
-                        String[] parts = getCombinedEventBandParts(eventData.bandName);
-                        if (parts != null) {
-                            List<String> bands = new ArrayList<>();
-                            bands.add(parts[0].trim());
-                            bands.add(parts[1].trim());
-                            promptForBandSelection(eventData.bandName, bands, currentDay.dayLabel);
-                            return;
-                        }
-                    }
-                }
-                
-                // Single event: proceed normally
-                Log.d(TAG, "Calling onBandTapped with bandName=" + eventData.bandName + ", day=" + currentDay.dayLabel);
-                try {
-                    bandTappedListener.onBandTapped(eventData.bandName, currentDay.dayLabel);
-                    Log.d(TAG, "onBandTapped called successfully");
-                } catch (Exception e) {
-                    Log.e(TAG, "ERROR calling onBandTapped", e);
-                    e.printStackTrace();
+    }
+    
+    /** Priority icon, 3dp spacer, attended icon; either may be missing. */
+    private ScheduleGridView.IconRow normalIconRow(ScheduleBlock event) {
+        List<Integer> kinds = new ArrayList<>();
+        List<Integer> values = new ArrayList<>();
+        if (event.priority > 0 && event.priority <= 3) {
+            kinds.add(ScheduleGridView.IconRow.PRIORITY);
+            values.add(event.priority);
+        }
+        if (event.priority > 0) {
+            kinds.add(ScheduleGridView.IconRow.SPACER);
+            values.add(0);
+        }
+        int attendedRes = attendedIconRes(event.attendedStatus);
+        if (attendedRes != 0) {
+            kinds.add(ScheduleGridView.IconRow.ATTENDED);
+            values.add(attendedRes);
+        }
+        return iconRow(kinds, values);
+    }
+    
+    /** Icons for both bands of a combined event; null when neither has one. */
+    private static ScheduleGridView.IconRow pairIconRow(int kind, int value1, int value2) {
+        boolean has1 = value1 > 0;
+        boolean has2 = value2 > 0;
+        if (!has1 && !has2) {
+            return null;
+        }
+        List<Integer> kinds = new ArrayList<>();
+        List<Integer> values = new ArrayList<>();
+        if (has1) {
+            kinds.add(kind);
+            values.add(value1);
+        }
+        // Show slash only if exactly one band has an icon
+        if (has1 != has2) {
+            kinds.add(ScheduleGridView.IconRow.SLASH);
+            values.add(0);
+        }
+        if (has2) {
+            kinds.add(kind);
+            values.add(value2);
+        }
+        return iconRow(kinds, values);
+    }
+    
+    private static ScheduleGridView.IconRow iconRow(List<Integer> kinds, List<Integer> values) {
+        int[] kindArray = new int[kinds.size()];
+        int[] valueArray = new int[values.size()];
+        for (int i = 0; i < kindArray.length; i++) {
+            kindArray[i] = kinds.get(i);
+            valueArray[i] = values.get(i);
+        }
+        return new ScheduleGridView.IconRow(kindArray, valueArray);
+    }
+    
+    private static int attendedIconRes(String attendedStatus) {
+        if (attendedStatus == null || attendedStatus.isEmpty() || attendedStatus.equals("sawNone")) {
+            return 0;
+        }
+        return iconResolve.getAttendedIcon(attendedStatus);
+    }
+    
+    /** The two bands of a combined event name, or null when it can't be split. */
+    private List<String> getCombinedEventBands(String combinedBandName) {
+        List<String> individualBands = combinedEventsMap.get(combinedBandName);
+        if (individualBands != null && individualBands.size() == 2) {
+            return individualBands;
+        }
+        // Fallback: split the name using internal delimiter
+        String[] parts = getCombinedEventBandParts(combinedBandName);
+        if (parts == null) {
+            return null;
+        }
+        List<String> bands = new ArrayList<>();
+        bands.add(parts[0].trim());
+        bands.add(parts[1].trim());
+        return bands;
+    }
+    
+    /**
+     * Check if there are any unexpired events in the given day
+     */
+    private boolean hasUnexpiredEvents(DayScheduleData dayData) {
+        for (VenueColumn venue : dayData.venues) {
+            for (ScheduleBlock event : venue.events) {
+                if (!event.isExpired) {
+                    return true;
                 }
             }
-        });
+        }
+        return false;
+    }
+    
+    /** Tap on an event block: combined events prompt for the band, others open its details. */
+    private void onEventBlockTapped(ScheduleBlock eventData) {
+        Log.d(TAG, "Event clicked: " + eventData.bandName);
         
-        // Long click listener for Priority + Attended menu (same as list view)
-        eventBlock.setOnLongClickListener(new View.OnLongClickListener() {
-            @Override
-            public boolean onLongClick(View v) {
-                showLongPressMenuForEvent(v, eventData, dayData);
-                return true; // Consume the event
+        if (bandTappedListener == null) {
+            Log.e(TAG, "ERROR: bandTappedListener is NULL - cannot open details!");
+            return;
+        }
+        
+        if (currentDayIndex < 0 || currentDayIndex >= days.size()) {
+            Log.e(TAG, "ERROR: Invalid currentDayIndex=" + currentDayIndex + ", days.size()=" + days.size());
+            return;
+        }
+        
+        DayScheduleData currentDay = days.get(currentDayIndex);
+        
+        // If combined event, prompt for band selection
+        if (isCombinedEventName(eventData.bandName)) {
+            List<String> individualBands = getCombinedEventBands(eventData.bandName);
+            if (individualBands != null) {
+                promptForBandSelection(eventData.bandName, individualBands, currentDay.dayLabel);
+                return;
             }
-        });
+        }
         
-        return eventBlock;
+        // Single event: proceed normally
+        Log.d(TAG, "Calling onBandTapped with bandName=" + eventData.bandName + ", day=" + currentDay.dayLabel);
+        try {
+            bandTappedListener.onBandTapped(eventData.bandName, currentDay.dayLabel);
+            Log.d(TAG, "onBandTapped called successfully");
+        } catch (Exception e) {
+            Log.e(TAG, "ERROR calling onBandTapped", e);
+            e.printStackTrace();
+        }
     }
     
     /**
@@ -2656,7 +2512,7 @@ public class LandscapeScheduleView extends LinearLayout {
      */
     private boolean hasRankedBands() {
         if (BandInfo.scheduleRecords == null) return false;
-        for (String bandName : BandInfo.scheduleRecords.keySet()) {
+        for (String bandName : ScheduleEventIndex.forRecords(BandInfo.scheduleRecords).bandNames) {
             String rankIcon = rankStore.getRankForBand(bandName);
             if (rankIcon != null && !rankIcon.isEmpty() && 
                 (rankIcon.equals(staticVariables.mustSeeIcon) ||
@@ -2674,70 +2530,15 @@ public class LandscapeScheduleView extends LinearLayout {
      */
     private boolean hasFilterableEventTypes() {
         if (BandInfo.scheduleRecords == null) return false;
-        for (scheduleTimeTracker tracker : BandInfo.scheduleRecords.values()) {
-            if (tracker == null || tracker.scheduleByTime == null) continue;
-            for (scheduleHandler scheduleHandle : tracker.scheduleByTime.values()) {
-                if (scheduleHandle == null) continue;
-                String eventType = scheduleHandle.getShowType();
-                if (EventTypeConfig.isFilterableNonShow(eventType)) {
-                    return true;
-                }
+        ScheduleEventIndex index = ScheduleEventIndex.forRecords(BandInfo.scheduleRecords);
+        for (boolean filterable : index.typeIsFilterableNonShow) {
+            if (filterable) {
+                return true;
             }
         }
         return false;
     }
     
-    /**
-     * Check if an event should be included based on all active filters.
-     * When "Show Flagged Events Only" is enabled, all other filters (event type, venue, priority) are disabled.
-     */
-    private boolean shouldIncludeEvent(ScheduleBlock block, String bandName) {
-        // If "Show Flagged Events Only" is enabled, only apply attendance — disable event type, venue, and priority filters
-        if (staticVariables.preferences.getShowWillAttend()) {
-            if (block.attendedStatus == null || block.attendedStatus.equals(staticVariables.sawNoneStatus)) {
-                return false;
-            }
-            return true;
-        }
-        
-        // Event type filters
-        String eventType = block.eventType != null ? block.eventType : "Performance";
-        if (EventTypeConfig.isMeetAndGreet(eventType) && !staticVariables.preferences.getShowMeetAndGreet()) {
-            return false;
-        }
-        if (EventTypeConfig.isSpecial(eventType) && !staticVariables.preferences.getShowSpecialEvents()) {
-            return false;
-        }
-        if (EventTypeConfig.isClinic(eventType) && !staticVariables.preferences.getShowClinicEvents()) {
-            return false;
-        }
-        if (EventTypeConfig.isUnofficial(eventType) && !staticVariables.preferences.getShowUnofficalEvents()) {
-            return false;
-        }
-        
-        // Venue filter
-        if (block.location != null && !staticVariables.preferences.getShowVenueEvents(block.location)) {
-            return false;
-        }
-        
-        // Priority/ranking filters (Must/Might/Wont/Unknown)
-        // priority: 1 = Must See, 2 = Might See, 3 = Wont See, 0 = Unknown/None
-        if (block.priority == 1 && !staticVariables.preferences.getShowMust()) {
-            return false;
-        }
-        if (block.priority == 2 && !staticVariables.preferences.getShowMight()) {
-            return false;
-        }
-        if (block.priority == 3 && !staticVariables.preferences.getShowWont()) {
-            return false;
-        }
-        if (block.priority == 0 && !staticVariables.preferences.getShowUnknown()) {
-            return false;
-        }
-        
-        return true;
-    }
-    
     private void refreshCalendarAfterFilterChange() {
         refreshCalendarAfterFilterChange(null);
     }
@@ -2906,89 +2707,68 @@ public class LandscapeScheduleView extends LinearLayout {
     
     // Data processing methods (keep existing logic)
     private List<DayScheduleData> processEventsFromScheduleRecords() {
-        Map<String, List<ScheduleBlock>> dayGroups = new HashMap<>();
-        Map<String, List<ScheduleBlock>> unfilteredDayGroups = new HashMap<>(); // Track unfiltered events for counting
-        
         if (BandInfo.scheduleRecords == null) {
             return new ArrayList<>();
         }
         
         int eventYear = staticVariables.eventYear;
         
-        for (Map.Entry<String, scheduleTimeTracker> bandEntry : BandInfo.scheduleRecords.entrySet()) {
-            String bandName = bandEntry.getKey();
-            scheduleTimeTracker tracker = bandEntry.getValue();
-            
-            if (tracker == null || tracker.scheduleByTime == null) {
-                continue;
-            }
-            
-            for (Map.Entry<Long, scheduleHandler> timeEntry : tracker.scheduleByTime.entrySet()) {
-                Long timeIndex = timeEntry.getKey();
-                scheduleHandler scheduleHandle = timeEntry.getValue();
-                
-                if (scheduleHandle == null) {
-                    continue;
-                }
-                
-                String day = scheduleHandle.getShowDay();
-                if (day == null) continue;
-                day = day.trim(); // Normalize so "Day 1" and "Day 1 " don't fragment into separate days
-                String loc = scheduleHandle.getShowLocation();
-                String evtType = scheduleHandle.getShowType();
-                // LOG: trace events at venues we know are missing from filter
-                if (loc != null && (loc.contains("Clevelander") || loc.contains("Schooner"))) {
-                    Log.d(TAG, "[VENUE_DEBUG] RAW schedule event: location='" + loc + "' day='" + day + "' eventType='" + evtType + "' band=" + bandName);
-                }
-                ScheduleBlock block = createScheduleBlockFromHandler(bandName, timeIndex, scheduleHandle, eventYear);
-                if (block != null) {
-                    // Track unfiltered count
-                    if (!unfilteredDayGroups.containsKey(day)) {
-                        unfilteredDayGroups.put(day, new ArrayList<ScheduleBlock>());
-                    }
-                    unfilteredDayGroups.get(day).add(block);
-                    
-                    // Apply filters - only add to dayGroups if event passes all filters
-                    if (shouldIncludeEvent(block, bandName)) {
-                        if (loc != null && (loc.contains("Clevelander") || loc.contains("Schooner"))) {
-                            Log.d(TAG, "[VENUE_DEBUG] Block CREATED, added to day='" + day + "'");
-                        }
-                        if (!dayGroups.containsKey(day)) {
-                            dayGroups.put(day, new ArrayList<ScheduleBlock>());
-                        }
-                        dayGroups.get(day).add(block);
-                    }
+        // Walk the columnar schedule index (slots already in start-time order); day labels are pre-trimmed there
+        // so "Day 1" and "Day 1 " don't fragment into separate days.
+        ScheduleEventIndex index = ScheduleEventIndex.forRecords(BandInfo.scheduleRecords);
+        // Same compiled filters as the portrait list (rank, event type, venue, flagged-only).
+        ScheduleFilterProgram filters = ScheduleFilterProgram.compile(index);
+        Map<String, List<Integer>> daySlots = new HashMap<>();
+        Map<String, List<Integer>> unfilteredDaySlots = new HashMap<>(); // Track unfiltered events for counting
+        for (int slot = 0; slot < index.size; slot++) {
+            scheduleHandler scheduleHandle = index.handlers[slot];
+            if (scheduleHandle.getShowDay() == null) continue;
+            if (!isDisplayableSlot(index.bandName(slot), scheduleHandle)) continue;
+            String day = index.day(slot);
+            List<Integer> unfilteredForDay = unfilteredDaySlots.get(day);
+            if (unfilteredForDay == null) {
+                unfilteredForDay = new ArrayList<>();
+                unfilteredDaySlots.put(day, unfilteredForDay);
+            }
+            unfilteredForDay.add(slot);
+            
+            // Apply filters - only add to daySlots if event passes all filters
+            if (filters.eventVisible(slot)) {
+                List<Integer> filteredForDay = daySlots.get(day);
+                if (filteredForDay == null) {
+                    filteredForDay = new ArrayList<>();
+                    daySlots.put(day, filteredForDay);
                 }
+                filteredForDay.add(slot);
             }
         }
         
         // Store unfiltered event (block) counts per day for filter badge; count actual events so
         // combined rows (2 bands, 1 row) count as 2 and badge matches iOS (e.g. "60 events filtered")
-        unfilteredEventCountsPerDay.clear();
-        for (Map.Entry<String, List<ScheduleBlock>> entry : unfilteredDayGroups.entrySet()) {
-            unfilteredEventCountsPerDay.put(entry.getKey(), entry.getValue().size());
-        }
-        
-        // LOG: day group keys and sizes (before any processing)
-        for (Map.Entry<String, List<ScheduleBlock>> e : dayGroups.entrySet()) {
-            Log.d(TAG, "[VENUE_DEBUG] dayGroups: dayLabel='" + e.getKey() + "' eventCount=" + (e.getValue() != null ? e.getValue().size() : 0));
+        Map<String, Integer> unfilteredCounts = new HashMap<>();
+        for (Map.Entry<String, List<Integer>> entry : unfilteredDaySlots.entrySet()) {
+            unfilteredCounts.put(entry.getKey(), entry.getValue().size());
         }
+        unfilteredEventCountsPerDay = unfilteredCounts;
         
         List<DayScheduleData> result = new ArrayList<>();
-        FestivalConfig config = FestivalConfig.getInstance();
+        Map<String, DayScheduleData> previousDays = dayCache;
+        Map<String, DayScheduleData> builtDays = new HashMap<>();
+        Map<String, List<String>> combined = new HashMap<>();
+        long now = System.currentTimeMillis();
+        int reused = 0;
         
-        for (Map.Entry<String, List<ScheduleBlock>> entry : dayGroups.entrySet()) {
+        for (Map.Entry<String, List<Integer>> entry : daySlots.entrySet()) {
             String dayLabel = entry.getKey();
-            List<ScheduleBlock> dayEvents = entry.getValue();
-            
-            Collections.sort(dayEvents, (a, b) -> Double.compare(a.timeIndex, b.timeIndex));
+            List<Integer> visibleSlots = entry.getValue();
+            if (visibleSlots.isEmpty()) continue;
             
-            if (dayEvents.isEmpty()) continue;
-
-            List<ScheduleBlock> unfilteredForDay = unfilteredDayGroups.get(dayLabel);
-            List<String> allVenueNamesForDay = getUniqueVenues(
-                    unfilteredForDay != null ? unfilteredForDay : dayEvents);
-            // LOG: venues derived for this day
+            List<Integer> unfilteredForDay = unfilteredDaySlots.get(dayLabel);
+            List<String> locations = new ArrayList<>();
+            for (int slot : unfilteredForDay != null ? unfilteredForDay : visibleSlots) {
+                locations.add(index.handlers[slot].getShowLocation());
+            }
+            List<String> allVenueNamesForDay = getUniqueVenueNames(locations);
             Log.d(TAG, "[VENUE_DEBUG] dayLabel='" + dayLabel + "' allVenueNamesForDay=" + allVenueNamesForDay);
             // Apply venue filter (same as list view): only show venues user has enabled
             List<String> venues = new ArrayList<>();
@@ -2999,274 +2779,353 @@ public class LandscapeScheduleView extends LinearLayout {
             }
             Log.d(TAG, "[VENUE_DEBUG] dayLabel='" + dayLabel + "' venues(columns)=" + venues);
             
-            // Detect and combine duplicate events (same date, time, location, eventType, different bandName)
-            combinedEventsMap.clear(); // Clear previous combined events
-            Map<String, String> eventToCombinedName = new HashMap<>(); // "timeIndex:bandName" -> combined name (band1+delimiter+band2)
-            Set<String> eventsToSkip = new HashSet<>(); // Events to skip (second event of a pair)
-            
-            // Group events by unique key (date|startTime|endTime|location|eventType)
-            Map<String, List<ScheduleBlock>> eventGroups = new HashMap<>();
-            for (ScheduleBlock event : dayEvents) {
-                String eventKey = buildEventKey(event);
-                if (!eventGroups.containsKey(eventKey)) {
-                    eventGroups.put(eventKey, new ArrayList<>());
-                }
-                eventGroups.get(eventKey).add(event);
-            }
-            
-            // Find groups with exactly 2 distinct bands
-            for (Map.Entry<String, List<ScheduleBlock>> groupEntry : eventGroups.entrySet()) {
-                List<ScheduleBlock> groupEvents = groupEntry.getValue();
-                if (groupEvents.size() == 2) {
-                    ScheduleBlock event1 = groupEvents.get(0);
-                    ScheduleBlock event2 = groupEvents.get(1);
-                    
-                    // Check if bands are different
-                    if (!event1.bandName.equals(event2.bandName)) {
-                        // Create combined name
-                        String combinedName = event1.bandName + COMBINED_EVENT_DELIMITER + event2.bandName;
-                        
-                        // Store mapping
-                        List<String> individualBands = new ArrayList<>();
-                        individualBands.add(event1.bandName);
-                        individualBands.add(event2.bandName);
-                        combinedEventsMap.put(combinedName, individualBands);
-                        
-                        // Mark events for combination
-                        String key1 = event1.timeIndex + ":" + event1.bandName;
-                        String key2 = event2.timeIndex + ":" + event2.bandName;
-                        eventToCombinedName.put(key1, combinedName);
-                        eventToCombinedName.put(key2, combinedName);
-                        
-                        // Mark second event to skip (we'll combine into first)
-                        eventsToSkip.add(key2);
-                        
-                        // Update first event's bandName to combined name
-                        event1.bandName = combinedName;
-                    }
-                }
-            }
-            
-            List<VenueColumn> venueColumns = new ArrayList<>();
-            for (String venueName : venues) {
-                List<ScheduleBlock> venueEvents = new ArrayList<>();
-                for (ScheduleBlock block : dayEvents) {
-                    // Skip second event of combined pair
-                    String eventKey = block.timeIndex + ":" + block.bandName;
-                    if (eventsToSkip.contains(eventKey)) {
-                        continue;
-                    }
-                    if (block.location != null && block.location.equals(venueName)) {
-                        venueEvents.add(block);
+            // Reuse the day as built last time unless its events, filters or columns changed
+            String signature = buildDaySignature(index, visibleSlots, allVenueNamesForDay, venues, eventYear);
+            DayScheduleData dayData = previousDays.get(dayLabel);
+            if (dayData != null && signature.equals(dayData.sourceSignature) && expiredFlagsCurrent(dayData, now)) {
+                reused++;
+            } else {
+                List<ScheduleBlock> dayEvents = new ArrayList<>();
+                for (int slot : visibleSlots) {
+                    ScheduleBlock block = createScheduleBlockFromHandler(index.bandName(slot), index.startEpoch[slot], index.handlers[slot], eventYear);
+                    if (block != null) {
+                        dayEvents.add(block);
                     }
                 }
-                
-                String venueColorHex = config.getVenueColor(venueName);
-                int venueColor = parseColorFromHex(venueColorHex);
-                
-                VenueColumn venueColumn = new VenueColumn();
-                venueColumn.name = venueName;
-                venueColumn.color = venueColor;
-                venueColumn.events = venueEvents;
-                venueColumns.add(venueColumn);
+                if (dayEvents.isEmpty()) continue;
+                dayData = buildDayScheduleData(dayLabel, dayEvents, allVenueNamesForDay, venues);
+                if (dayData == null) continue;
+                dayData.sourceSignature = signature;
             }
-            
-            // Sort events by timeIndex to find chronological order
-            List<ScheduleBlock> sortedByTimeIndex = new ArrayList<>(dayEvents);
-            Collections.sort(sortedByTimeIndex, (a, b) -> Double.compare(a.timeIndex, b.timeIndex));
-            
-            if (sortedByTimeIndex.isEmpty()) {
-                continue;
-            }
-            
-            // Use timeIndex to find chronologically first event
-            ScheduleBlock firstEvent = sortedByTimeIndex.get(0);
-            double firstEventTimeIndex = firstEvent.timeIndex;
-            
-            // Find the earliest calendar date in this day group (for normalization)
-            Calendar earliestDate = null;
-            for (ScheduleBlock event : sortedByTimeIndex) {
-                if (event.startTime != null) {
-                    Calendar eventCal = Calendar.getInstance();
-                    eventCal.setTime(event.startTime);
-                    if (earliestDate == null || eventCal.before(earliestDate)) {
-                        earliestDate = (Calendar) eventCal.clone();
-                    }
+            builtDays.put(dayLabel, dayData);
+            combined.putAll(dayData.combinedEvents);
+            result.add(dayData);
+        }
+        
+        // Days that disappeared (schedule or filters) are dropped from the cache
+        dayCache = builtDays;
+        combinedEventsMap = combined;
+        Log.d(TAG, "processEventsFromScheduleRecords: " + result.size() + " days, " + reused + " reused from cache");
+        
+        Collections.sort(result, (a, b) -> Double.compare(a.baseTimeIndex, b.baseTimeIndex));
+        
+        return result;
+    }
+    
+    /** Same required fields as {@link #createScheduleBlockFromHandler}, so counts match the blocks built. */
+    private static boolean isDisplayableSlot(String bandName, scheduleHandler scheduleHandle) {
+        return bandName != null && scheduleHandle.getShowLocation() != null && scheduleHandle.getStartTimeString() != null;
+    }
+    
+    /**
+     * Everything a built day depends on besides priorities and attended statuses (which are patched on the
+     * blocks) and expiry (see {@link #expiredFlagsCurrent}): the visible events with their times, venues and types, the venue columns and the year.
+     */
+    private static String buildDaySignature(ScheduleEventIndex index, List<Integer> visibleSlots,
+                                            List<String> allVenueNamesForDay, List<String> venues, int eventYear) {
+        StringBuilder signature = new StringBuilder();
+        signature.append(eventYear).append('\u001E').append(allVenueNamesForDay).append('\u001E').append(venues);
+        for (int slot : visibleSlots) {
+            scheduleHandler handle = index.handlers[slot];
+            signature.append('\u001E').append(index.bandName(slot))
+                .append('\u001F').append(index.startEpoch[slot])
+                .append('\u001F').append(index.endEpoch[slot])
+                .append('\u001F').append(handle.getShowLocation())
+                .append('\u001F').append(handle.getShowType())
+                .append('\u001F').append(handle.getStartTimeString())
+                .append('\u001F').append(handle.getEndTimeString());
+        }
+        return signature.toString();
+    }
+    
+    /**
+     * Expiry moves with the clock. A cached day may be on screen, so its blocks are not patched from this
+     * thread; once any flag is out of date the day is rebuilt instead (at most once per set that ends).
+     */
+    private static boolean expiredFlagsCurrent(DayScheduleData dayData, long nowMillis) {
+        for (VenueColumn venue : dayData.venues) {
+            for (ScheduleBlock event : venue.events) {
+                if (event.isExpired != (event.expiresAtMillis <= nowMillis)) {
+                    return false;
                 }
             }
-            
-            if (earliestDate == null) {
-                Log.w(TAG, "Day " + dayLabel + " no valid startTime found, skipping");
-                continue;
+        }
+        return true;
+    }
+    
+    /**
+     * Builds one day from its visible blocks: combines duplicate events, splits them into venue columns,
+     * normalizes times onto one timeline and generates the time slots. Null if the day has no usable times.
+     */
+    private DayScheduleData buildDayScheduleData(String dayLabel, List<ScheduleBlock> dayEvents,
+                                                 List<String> allVenueNamesForDay, List<String> venues) {
+        FestivalConfig config = FestivalConfig.getInstance();
+        Collections.sort(dayEvents, (a, b) -> Double.compare(a.timeIndex, b.timeIndex));
+        
+        // Detect and combine duplicate events (same date, time, location, eventType, different bandName)
+        Map<String, List<String>> combinedEvents = new HashMap<>(); // combined name -> the two bands
+        Map<String, String> eventToCombinedName = new HashMap<>(); // "timeIndex:bandName" -> combined name (band1+delimiter+band2)
+        Set<String> eventsToSkip = new HashSet<>(); // Events to skip (second event of a pair)
+        
+        // Group events by unique key (date|startTime|endTime|location|eventType)
+        Map<String, List<ScheduleBlock>> eventGroups = new HashMap<>();
+        for (ScheduleBlock event : dayEvents) {
+            String eventKey = buildEventKey(event);
+            if (!eventGroups.containsKey(eventKey)) {
+                eventGroups.put(eventKey, new ArrayList<>());
             }
-            
-            // Normalize all events: extract time components and normalize relative to earliest date
-            // Events on later calendar dates get +24 hours added
-            Log.d(TAG, "Day " + dayLabel + " earliest date: " + 
-                  earliestDate.get(Calendar.YEAR) + "-" + 
-                  (earliestDate.get(Calendar.MONTH) + 1) + "-" + 
-                  earliestDate.get(Calendar.DAY_OF_MONTH));
-            
-            for (ScheduleBlock event : sortedByTimeIndex) {
-                if (event.startTime != null) {
-                    Calendar eventCal = Calendar.getInstance();
-                    eventCal.setTime(event.startTime);
-                    
-                    // Check if this event is on a later calendar date
-                    boolean isNextDay = eventCal.get(Calendar.YEAR) > earliestDate.get(Calendar.YEAR) ||
-                                       (eventCal.get(Calendar.YEAR) == earliestDate.get(Calendar.YEAR) &&
-                                        eventCal.get(Calendar.DAY_OF_YEAR) > earliestDate.get(Calendar.DAY_OF_YEAR));
-                    
-                    int hour = eventCal.get(Calendar.HOUR_OF_DAY);
-                    int minute = eventCal.get(Calendar.MINUTE);
-                    
-                    Calendar normCal = Calendar.getInstance();
-                    normCal.set(2000, Calendar.JANUARY, 1, hour, minute, 0);
-                    normCal.set(Calendar.MILLISECOND, 0);
-                    
-                    // If event is on next calendar day, add 24 hours to normalized time
-                    if (isNextDay) {
-                        normCal.add(Calendar.HOUR_OF_DAY, 24);
-                        Log.d(TAG, "  Event " + event.bandName + " on next day: " + 
-                              eventCal.get(Calendar.YEAR) + "-" + 
-                              (eventCal.get(Calendar.MONTH) + 1) + "-" + 
-                              eventCal.get(Calendar.DAY_OF_MONTH) + " " +
-                              hour + ":" + minute + " -> normalized to " + normCal.getTime());
-                    }
-                    
-                    event.startTime = normCal.getTime();
-                }
+            eventGroups.get(eventKey).add(event);
+        }
+        
+        // Find groups with exactly 2 distinct bands
+        for (Map.Entry<String, List<ScheduleBlock>> groupEntry : eventGroups.entrySet()) {
+            List<ScheduleBlock> groupEvents = groupEntry.getValue();
+            if (groupEvents.size() == 2) {
+                ScheduleBlock event1 = groupEvents.get(0);
+                ScheduleBlock event2 = groupEvents.get(1);
                 
-                if (event.endTime != null) {
-                    // Store original endTime before we modify startTime
-                    Date originalEndTime = event.endTime;
-                    Calendar eventCal = Calendar.getInstance();
-                    eventCal.setTime(originalEndTime);
-                    
-                    // Check if endTime is on a later calendar date than the earliest date
-                    boolean endIsNextDay = eventCal.get(Calendar.YEAR) > earliestDate.get(Calendar.YEAR) ||
-                                         (eventCal.get(Calendar.YEAR) == earliestDate.get(Calendar.YEAR) &&
-                                          eventCal.get(Calendar.DAY_OF_YEAR) > earliestDate.get(Calendar.DAY_OF_YEAR));
-                    
-                    int hour = eventCal.get(Calendar.HOUR_OF_DAY);
-                    int minute = eventCal.get(Calendar.MINUTE);
+                // Check if bands are different
+                if (!event1.bandName.equals(event2.bandName)) {
+                    // Create combined name
+                    String combinedName = event1.bandName + COMBINED_EVENT_DELIMITER + event2.bandName;
                     
-                    Calendar normCal = Calendar.getInstance();
-                    normCal.set(2000, Calendar.JANUARY, 1, hour, minute, 0);
-                    normCal.set(Calendar.MILLISECOND, 0);
+                    // Store mapping
+                    List<String> individualBands = new ArrayList<>();
+                    individualBands.add(event1.bandName);
+                    individualBands.add(event2.bandName);
+                    combinedEvents.put(combinedName, individualBands);
                     
-                    // If endTime is on next calendar day relative to earliest date, add 24 hours
-                    if (endIsNextDay) {
-                        normCal.add(Calendar.HOUR_OF_DAY, 24);
-                    }
-                    
-                    Date normalizedEndTime = normCal.getTime();
+                    // Mark events for combination
+                    String key1 = event1.timeIndex + ":" + event1.bandName;
+                    String key2 = event2.timeIndex + ":" + event2.bandName;
+                    eventToCombinedName.put(key1, combinedName);
+                    eventToCombinedName.put(key2, combinedName);
                     
-                    // Also ensure normalized endTime is after normalized startTime
-                    // (event.startTime is now normalized from above)
-                    if (event.startTime != null && normalizedEndTime.before(event.startTime)) {
-                        normCal.setTime(normalizedEndTime);
-                        normCal.add(Calendar.HOUR_OF_DAY, 24);
-                        normalizedEndTime = normCal.getTime();
-                    }
+                    // Mark second event to skip (we'll combine into first)
+                    eventsToSkip.add(key2);
                     
-                    event.endTime = normalizedEndTime;
+                    // Update first event's bandName to combined name
+                    event1.bandName = combinedName;
                 }
             }
-            
-            // Now use normalized first event's startTime as timeline start
-            Date startTime = firstEvent.startTime;
-            if (startTime == null) {
-                Log.w(TAG, "Day " + dayLabel + " first event has null startTime after normalization, skipping");
-                continue;
+        }
+        
+        List<VenueColumn> venueColumns = new ArrayList<>();
+        for (String venueName : venues) {
+            List<ScheduleBlock> venueEvents = new ArrayList<>();
+            for (ScheduleBlock block : dayEvents) {
+                // Skip second event of combined pair
+                String eventKey = block.timeIndex + ":" + block.bandName;
+                if (eventsToSkip.contains(eventKey)) {
+                    continue;
+                }
+                if (block.location != null && block.location.equals(venueName)) {
+                    venueEvents.add(block);
+                }
             }
             
-            // Find latest normalized endTime
-            Date endTime = null;
+            String venueColorHex = config.getVenueColor(venueName);
+            int venueColor = parseColorFromHex(venueColorHex);
             
-            for (ScheduleBlock event : sortedByTimeIndex) {
-                if (event.startTime != null && event.endTime != null) {
-                    Date eventEndTime = event.endTime;
-                    
-                    // Calculate end time relative to day's startTime
-                    long endTimeOffsetFromStart = eventEndTime.getTime() - startTime.getTime();
-                    
-                    // If endTime is before startTime (shouldn't happen after normalization), add 24 hours
-                    if (endTimeOffsetFromStart < 0) {
-                        endTimeOffsetFromStart += (24 * 60 * 60 * 1000);
-                    }
-                    
-                    // Calculate absolute end time
-                    Calendar cal = Calendar.getInstance();
-                    cal.setTime(startTime);
-                    cal.add(Calendar.MILLISECOND, (int)endTimeOffsetFromStart);
-                    Date calculatedEndTime = cal.getTime();
-                    
-                    // Cap at 24 hours from startTime
-                    long calculatedDuration = calculatedEndTime.getTime() - startTime.getTime();
-                    if (calculatedDuration > (24 * 60 * 60 * 1000)) {
-                        cal.setTime(startTime);
-                        cal.add(Calendar.HOUR_OF_DAY, 24);
-                        calculatedEndTime = cal.getTime();
-                    }
-                    
-                    // Find latest end time
-                    if (endTime == null || calculatedEndTime.after(endTime)) {
-                        endTime = calculatedEndTime;
-                    }
+            VenueColumn venueColumn = new VenueColumn();
+            venueColumn.name = venueName;
+            venueColumn.color = venueColor;
+            venueColumn.events = venueEvents;
+            venueColumns.add(venueColumn);
+        }
+        
+        // Sort events by timeIndex to find chronological order
+        List<ScheduleBlock> sortedByTimeIndex = new ArrayList<>(dayEvents);
+        Collections.sort(sortedByTimeIndex, (a, b) -> Double.compare(a.timeIndex, b.timeIndex));
+        
+        if (sortedByTimeIndex.isEmpty()) {
+            return null;
+        }
+        
+        // Use timeIndex to find chronologically first event
+        ScheduleBlock firstEvent = sortedByTimeIndex.get(0);
+        double firstEventTimeIndex = firstEvent.timeIndex;
+        
+        // Find the earliest calendar date in this day group (for normalization)
+        Calendar earliestDate = null;
+        for (ScheduleBlock event : sortedByTimeIndex) {
+            if (event.startTime != null) {
+                Calendar eventCal = Calendar.getInstance();
+                eventCal.setTime(event.startTime);
+                if (earliestDate == null || eventCal.before(earliestDate)) {
+                    earliestDate = (Calendar) eventCal.clone();
                 }
             }
+        }
+        
+        if (earliestDate == null) {
+            Log.w(TAG, "Day " + dayLabel + " no valid startTime found, skipping");
+            return null;
+        }
+        
+        // Normalize all events: extract time components and normalize relative to earliest date
+        // Events on later calendar dates get +24 hours added
+        Log.d(TAG, "Day " + dayLabel + " earliest date: " + 
+              earliestDate.get(Calendar.YEAR) + "-" + 
+              (earliestDate.get(Calendar.MONTH) + 1) + "-" + 
+              earliestDate.get(Calendar.DAY_OF_MONTH));
+        
+        for (ScheduleBlock event : sortedByTimeIndex) {
+            if (event.startTime != null) {
+                Calendar eventCal = Calendar.getInstance();
+                eventCal.setTime(event.startTime);
+                
+                // Check if this event is on a later calendar date
+                boolean isNextDay = eventCal.get(Calendar.YEAR) > earliestDate.get(Calendar.YEAR) ||
+                                   (eventCal.get(Calendar.YEAR) == earliestDate.get(Calendar.YEAR) &&
+                                    eventCal.get(Calendar.DAY_OF_YEAR) > earliestDate.get(Calendar.DAY_OF_YEAR));
+                
+                int hour = eventCal.get(Calendar.HOUR_OF_DAY);
+                int minute = eventCal.get(Calendar.MINUTE);
+                
+                Calendar normCal = Calendar.getInstance();
+                normCal.set(2000, Calendar.JANUARY, 1, hour, minute, 0);
+                normCal.set(Calendar.MILLISECOND, 0);
+                
+                // If event is on next calendar day, add 24 hours to normalized time
+                if (isNextDay) {
+                    normCal.add(Calendar.HOUR_OF_DAY, 24);
+                    Log.d(TAG, "  Event " + event.bandName + " on next day: " + 
+                          eventCal.get(Calendar.YEAR) + "-" + 
+                          (eventCal.get(Calendar.MONTH) + 1) + "-" + 
+                          eventCal.get(Calendar.DAY_OF_MONTH) + " " +
+                          hour + ":" + minute + " -> normalized to " + normCal.getTime());
+                }
+                
+                event.startTime = normCal.getTime();
+            }
             
-            // Ensure endTime is within 24 hours of startTime
-            if (endTime == null) {
-                // Fallback: if no endTime found, use startTime + 1 hour
+            if (event.endTime != null) {
+                // Store original endTime before we modify startTime
+                Date originalEndTime = event.endTime;
+                Calendar eventCal = Calendar.getInstance();
+                eventCal.setTime(originalEndTime);
+                
+                // Check if endTime is on a later calendar date than the earliest date
+                boolean endIsNextDay = eventCal.get(Calendar.YEAR) > earliestDate.get(Calendar.YEAR) ||
+                                     (eventCal.get(Calendar.YEAR) == earliestDate.get(Calendar.YEAR) &&
+                                      eventCal.get(Calendar.DAY_OF_YEAR) > earliestDate.get(Calendar.DAY_OF_YEAR));
+                
+                int hour = eventCal.get(Calendar.HOUR_OF_DAY);
+                int minute = eventCal.get(Calendar.MINUTE);
+                
+                Calendar normCal = Calendar.getInstance();
+                normCal.set(2000, Calendar.JANUARY, 1, hour, minute, 0);
+                normCal.set(Calendar.MILLISECOND, 0);
+                
+                // If endTime is on next calendar day relative to earliest date, add 24 hours
+                if (endIsNextDay) {
+                    normCal.add(Calendar.HOUR_OF_DAY, 24);
+                }
+                
+                Date normalizedEndTime = normCal.getTime();
+                
+                // Also ensure normalized endTime is after normalized startTime
+                // (event.startTime is now normalized from above)
+                if (event.startTime != null && normalizedEndTime.before(event.startTime)) {
+                    normCal.setTime(normalizedEndTime);
+                    normCal.add(Calendar.HOUR_OF_DAY, 24);
+                    normalizedEndTime = normCal.getTime();
+                }
+                
+                event.endTime = normalizedEndTime;
+            }
+        }
+        
+        // Now use normalized first event's startTime as timeline start
+        Date startTime = firstEvent.startTime;
+        if (startTime == null) {
+            Log.w(TAG, "Day " + dayLabel + " first event has null startTime after normalization, skipping");
+            return null;
+        }
+        
+        // Find latest normalized endTime
+        Date endTime = null;
+        
+        for (ScheduleBlock event : sortedByTimeIndex) {
+            if (event.startTime != null && event.endTime != null) {
+                Date eventEndTime = event.endTime;
+                
+                // Calculate end time relative to day's startTime
+                long endTimeOffsetFromStart = eventEndTime.getTime() - startTime.getTime();
+                
+                // If endTime is before startTime (shouldn't happen after normalization), add 24 hours
+                if (endTimeOffsetFromStart < 0) {
+                    endTimeOffsetFromStart += (24 * 60 * 60 * 1000);
+                }
+                
+                // Calculate absolute end time
                 Calendar cal = Calendar.getInstance();
                 cal.setTime(startTime);
-                cal.add(Calendar.HOUR_OF_DAY, 1);
-                endTime = cal.getTime();
-                Log.w(TAG, "Day " + dayLabel + " no endTime found, using startTime + 1 hour");
-            } else {
-                long totalDurationMs = endTime.getTime() - startTime.getTime();
-                if (totalDurationMs > (24 * 60 * 60 * 1000)) {
-                    Calendar cal = Calendar.getInstance();
+                cal.add(Calendar.MILLISECOND, (int)endTimeOffsetFromStart);
+                Date calculatedEndTime = cal.getTime();
+                
+                // Cap at 24 hours from startTime
+                long calculatedDuration = calculatedEndTime.getTime() - startTime.getTime();
+                if (calculatedDuration > (24 * 60 * 60 * 1000)) {
                     cal.setTime(startTime);
                     cal.add(Calendar.HOUR_OF_DAY, 24);
-                    endTime = cal.getTime();
-                    Log.w(TAG, "Day " + dayLabel + " total duration exceeds 24 hours, capping at 24h");
+                    calculatedEndTime = cal.getTime();
                 }
                 
-                // If endTime is before startTime (shouldn't happen after adjustments), add 24h
-                if (endTime.before(startTime)) {
-                    Calendar cal = Calendar.getInstance();
-                    cal.setTime(endTime);
-                    cal.add(Calendar.HOUR_OF_DAY, 24);
-                    endTime = cal.getTime();
+                // Find latest end time
+                if (endTime == null || calculatedEndTime.after(endTime)) {
+                    endTime = calculatedEndTime;
                 }
             }
+        }
+        
+        // Ensure endTime is within 24 hours of startTime
+        if (endTime == null) {
+            // Fallback: if no endTime found, use startTime + 1 hour
+            Calendar cal = Calendar.getInstance();
+            cal.setTime(startTime);
+            cal.add(Calendar.HOUR_OF_DAY, 1);
+            endTime = cal.getTime();
+            Log.w(TAG, "Day " + dayLabel + " no endTime found, using startTime + 1 hour");
+        } else {
+            long totalDurationMs = endTime.getTime() - startTime.getTime();
+            if (totalDurationMs > (24 * 60 * 60 * 1000)) {
+                Calendar cal = Calendar.getInstance();
+                cal.setTime(startTime);
+                cal.add(Calendar.HOUR_OF_DAY, 24);
+                endTime = cal.getTime();
+                Log.w(TAG, "Day " + dayLabel + " total duration exceeds 24 hours, capping at 24h");
+            }
             
-            Log.d(TAG, "Day " + dayLabel + " timeline: first event=" + firstEvent.bandName + 
-                  " at timeIndex=" + firstEventTimeIndex + ", startTime=" + startTime + 
-                  ", endTime=" + endTime + " (" + sortedByTimeIndex.size() + " events)");
-            
-            List<TimeSlot> timeSlots = generateTimeSlots(startTime, endTime);
-            
-            DayScheduleData dayData = new DayScheduleData();
-            dayData.dayLabel = dayLabel;
-            dayData.venues = venueColumns;
-            dayData.allVenueNamesForDay = allVenueNamesForDay;
-            dayData.timeSlots = timeSlots;
-            dayData.startTime = startTime;
-            dayData.endTime = endTime;
-            // Store first event's timeIndex for sorting days chronologically
-            dayData.baseTimeIndex = firstEventTimeIndex;
-            dayData.timelineScale = computeTimelineScaleForDay(venueColumns);
-            
-            result.add(dayData);
+            // If endTime is before startTime (shouldn't happen after adjustments), add 24h
+            if (endTime.before(startTime)) {
+                Calendar cal = Calendar.getInstance();
+                cal.setTime(endTime);
+                cal.add(Calendar.HOUR_OF_DAY, 24);
+                endTime = cal.getTime();
+            }
         }
         
-        Collections.sort(result, (a, b) -> Double.compare(a.baseTimeIndex, b.baseTimeIndex));
+        Log.d(TAG, "Day " + dayLabel + " timeline: first event=" + firstEvent.bandName + 
+              " at timeIndex=" + firstEventTimeIndex + ", startTime=" + startTime + 
+              ", endTime=" + endTime + " (" + sortedByTimeIndex.size() + " events)");
         
-        return result;
+        List<TimeSlot> timeSlots = generateTimeSlots(startTime, endTime);
+        
+        DayScheduleData dayData = new DayScheduleData();
+        dayData.dayLabel = dayLabel;
+        dayData.venues = venueColumns;
+        dayData.allVenueNamesForDay = allVenueNamesForDay;
+        dayData.timeSlots = timeSlots;
+        dayData.startTime = startTime;
+        dayData.endTime = endTime;
+        // Store first event's timeIndex for sorting days chronologically
+        dayData.baseTimeIndex = firstEventTimeIndex;
+        dayData.timelineScale = computeTimelineScaleForDay(venueColumns);
+        dayData.combinedEvents = combinedEvents;
+        
+        return dayData;
     }
     
     private ScheduleBlock createScheduleBlockFromHandler(String bandName, Long timeIndex, scheduleHandler scheduleHandle, int eventYear) {
@@ -3360,6 +3219,7 @@ public class LandscapeScheduleView extends LinearLayout {
             block.priority = priority;
             block.attendedStatus = attendedStatus;
             block.isExpired = isExpired;
+            block.expiresAtMillis = effectiveEndMs;
             block.venueColor = venueColor;
             
             return block;
@@ -3369,7 +3229,7 @@ public class LandscapeScheduleView extends LinearLayout {
         }
     }
     
-    private List<String> getUniqueVenues(List<ScheduleBlock> events) {
+    private List<String> getUniqueVenueNames(List<String> locations) {
         List<String> venues = new ArrayList<>();
         FestivalConfig config = FestivalConfig.getInstance();
         List<String> configuredVenues = config.getAllVenueNames();
@@ -3378,14 +3238,14 @@ public class LandscapeScheduleView extends LinearLayout {
         List<String> configured = new ArrayList<>();
         List<String> unconfigured = new ArrayList<>();
         
-        for (ScheduleBlock event : events) {
-            if (event.location == null) continue;
-            if (!seen.containsKey(event.location)) {
-                seen.put(event.location, true);
-                if (configuredVenues.contains(event.location)) {
-                    configured.add(event.location);
+        for (String location : locations) {
+            if (location == null) continue;
+            if (!seen.containsKey(location)) {
+                seen.put(location, true);
+                if (configuredVenues.contains(location)) {
+                    configured.add(location);
                 } else {
-                    unconfigured.add(event.location);
+                    unconfigured.add(location);
                 }
             }
         }
@@ -3401,7 +3261,7 @@ public class LandscapeScheduleView extends LinearLayout {
         venues.addAll(configured);
         venues.addAll(unconfigured);
         
-        Log.d(TAG, "[VENUE_DEBUG] getUniqueVenues: inputEvents=" + (events != null ? events.size() : 0) + " -> output=" + venues);
+        Log.d(TAG, "[VENUE_DEBUG] getUniqueVenueNames: inputEvents=" + (locations != null ? locations.size() : 0) + " -> output=" + venues);
         return venues;
     }
     
@@ -3698,88 +3558,6 @@ public class LandscapeScheduleView extends LinearLayout {
         return dateStr + "|" + startTimeStr + "|" + endTimeStr + "|" + location + "|" + eventType;
     }
     
-    /**
-     * Add a priority icon to a layout
-     */
-    private void addPriorityIcon(LinearLayout parent, int priority, boolean shouldDim) {
-        if (priority <= 0) return;
-        
-        ImageView priorityIcon = new ImageView(context);
-        int priorityResId = 0;
-        if (priority == 1) {
-            priorityResId = staticVariables.graphicMustSee;
-        } else if (priority == 2) {
-            priorityResId = staticVariables.graphicMightSee;
-        } else if (priority == 3) {
-            priorityResId = staticVariables.graphicWontSee;
-        }
-        
-        if (priorityResId != 0) {
-            priorityIcon.setImageResource(priorityResId);
-            priorityIcon.setLayoutParams(new FrameLayout.LayoutParams(dpToPx(14), dpToPx(14), Gravity.CENTER));
-            priorityIcon.setAlpha(shouldDim ? 0.4f : 1.0f);
-            
-            FrameLayout iconContainer = new FrameLayout(context);
-            iconContainer.setLayoutParams(new LinearLayout.LayoutParams(dpToPx(18), dpToPx(18)));
-            
-            float greyValue = (priority == 3) ? 0.75f : 0.2f;
-            if (shouldDim) {
-                greyValue *= 0.5f;
-            }
-            int greyColor = Color.rgb((int)(greyValue * 255), (int)(greyValue * 255), (int)(greyValue * 255));
-            android.graphics.drawable.GradientDrawable circleBackground = new android.graphics.drawable.GradientDrawable();
-            circleBackground.setShape(android.graphics.drawable.GradientDrawable.OVAL);
-            circleBackground.setColor(greyColor);
-            iconContainer.setBackground(circleBackground);
-            iconContainer.setElevation(2f);
-            
-            iconContainer.addView(priorityIcon);
-            parent.addView(iconContainer);
-        }
-    }
-    
-    /**
-     * Add an attended icon to a layout
-     */
-    private void addAttendedIcon(LinearLayout parent, String attendedStatus, boolean shouldDim) {
-        if (attendedStatus == null || attendedStatus.isEmpty() || attendedStatus.equals("sawNone")) {
-            return;
-        }
-        
-        int attendedResId = iconResolve.getAttendedIcon(attendedStatus);
-        if (attendedResId != 0) {
-            ImageView attendedIcon = new ImageView(context);
-            attendedIcon.setImageResource(attendedResId);
-            attendedIcon.setLayoutParams(new LinearLayout.LayoutParams(dpToPx(14), dpToPx(14)));
-            attendedIcon.setAlpha(shouldDim ? 0.4f : 1.0f);
-            parent.addView(attendedIcon);
-        }
-    }
-    
-    /**
-     * Add normal icon row (priority and attended on same line) for single events
-     */
-    private void addNormalIconRow(LinearLayout eventBlock, ScheduleBlock event, boolean shouldDim) {
-        LinearLayout iconRow = new LinearLayout(context);
-        iconRow.setOrientation(LinearLayout.HORIZONTAL);
-        iconRow.setPadding(0, dpToPx(2), 0, 0);
-        
-        // Priority icon
-        if (event.priority > 0) {
-            addPriorityIcon(iconRow, event.priority, shouldDim);
-            
-            // Add spacing between icons
-            View spacer = new View(context);
-            spacer.setLayoutParams(new LinearLayout.LayoutParams(dpToPx(3), 1));
-            iconRow.addView(spacer);
-        }
-        
-        // Attended icon
-        addAttendedIcon(iconRow, event.attendedStatus, shouldDim);
-        
-        eventBlock.addView(iconRow);
-    }
-    
     private List<DayScheduleData> filterExpiredDays(List<DayScheduleData> days) {
         List<DayScheduleData> filtered = new ArrayList<>();
         for (DayScheduleData day : days) {
@@ -3812,6 +3590,12 @@ public class LandscapeScheduleView extends LinearLayout {
         double baseTimeIndex;
         /** >1 when day has ≤35min sets so time-index rows are taller and icon rows fit. */
         float timelineScale = 1f;
+        /** Block positions for the grid, kept until the column width or header height changes. */
+        ScheduleGridView.GridLayout gridLayout;
+        /** What the day was built from (see buildDaySignature); a different value rebuilds the day. */
+        String sourceSignature;
+        /** Combined event name -> its two bands, for this day. */
+        Map<String, List<String>> combinedEvents = new HashMap<>();
     }
     
     static class VenueColumn {
@@ -3832,6 +3616,8 @@ public class LandscapeScheduleView extends LinearLayout {
         int priority;
         String attendedStatus;
         boolean isExpired;
+        /** When the event counts as expired (end time, rolled past midnight when needed). */
+        long expiresAtMillis;
         int venueColor;
     }
     
@@ -0,0 +1,650 @@
+package com.Bands70k.landscape;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.graphics.Typeface;
+import android.graphics.drawable.Drawable;
+import android.text.Layout;
+import android.text.StaticLayout;
+import android.text.TextPaint;
+import android.text.TextUtils;
+import android.util.Log;
+import android.util.SparseArray;
+import android.util.TypedValue;
+import android.os.Bundle;
+import android.view.GestureDetector;
+import android.view.KeyEvent;
+import android.view.MotionEvent;
+import android.view.View;
+import android.view.ViewTreeObserver;
+import android.widget.FrameLayout;
+
+import androidx.annotation.NonNull;
+import androidx.appcompat.content.res.AppCompatResources;
+import androidx.core.view.ViewCompat;
+import androidx.core.view.accessibility.AccessibilityNodeInfoCompat;
+import androidx.customview.widget.ExploreByTouchHelper;
+
+import com.Bands70k.staticVariables;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Draws one day of the landscape schedule (time column, grid lines and event blocks) on a single canvas.
+ *
+ * {@link LandscapeScheduleView} lays the day out into a {@link GridLayout}: flat arrays of block bounds plus
+ * what each block shows. This view draws only the blocks near the scroll viewport, finds the tapped block by
+ * scanning the bounds array, and keeps the fitted single-line texts across days and
+ * filter changes, so a swipe is a new layout and one redraw instead of hundreds of child views.
+ *
+ * The only child is an invisible anchor moved over a long-pressed block, so popup menus open next to it.
+ * Blocks are exposed to TalkBack as virtual views ({@link BlockAccessibility}) so they can still be read and
+ * activated like the old per-block views.
+ */
+final class ScheduleGridView extends FrameLayout {
+
+    private static final String TAG = "ScheduleGridView";
+
+    /** Text lines and icon rows of one block, top to bottom (same order as the old per-block LinearLayout). */
+    static final class BlockContent {
+        LandscapeScheduleView.ScheduleBlock event;
+        boolean compact;
+        boolean dimmed;
+        int fillColor;
+        int borderColor;
+        int textColor;
+        String[] titleLines;
+        /** Compact titles end in "…"; full blocks show the first wrapped line like a one-line TextView. */
+        boolean ellipsizeTitle;
+        String startLine;
+        String endLine;
+        IconRow[] iconRows;
+        String eventTypeText;
+        int eventTypeIconRes;
+    }
+
+    /** Priority / attended icons in a row; {@link #SLASH} and {@link #SPACER} separate them. */
+    static final class IconRow {
+        static final int PRIORITY = 0;
+        static final int ATTENDED = 1;
+        static final int SLASH = 2;
+        static final int SPACER = 3;
+
+        final int[] kinds;
+        /** Priority (1-3) for PRIORITY, drawable res for ATTENDED. */
+        final int[] values;
+
+        IconRow(int[] kinds, int[] values) {
+            this.kinds = kinds;
+            this.values = values;
+        }
+    }
+
+    /** A laid-out day. Block i covers bounds[4i..4i+3] (left, top, right, bottom). */
+    static final class GridLayout {
+        int width;
+        int height;
+        int columnWidth;
+        int headerHeight;
+        int slotHeight;
+        String[] slotLabels;
+        /** Top of each horizontal grid line. */
+        int[] gridLineY;
+        /** Left edge of each vertical separator. */
+        int[] separatorX;
+        int venueLeft;
+        float[] bounds;
+        BlockContent[] blocks;
+
+        int blockCount() {
+            return blocks != null ? blocks.length : 0;
+        }
+    }
+
+    interface OnBlockGestureListener {
+        void onBlockTapped(LandscapeScheduleView.ScheduleBlock event);
+
+        /** @param anchor A view covering the pressed block, for popup menus. */
+        void onBlockLongPressed(View anchor, LandscapeScheduleView.ScheduleBlock event);
+    }
+
+    private static final int GRID_LINE_COLOR = Color.argb(100, 200, 200, 200);
+    private static final int DIM_TEXT_COLOR = Color.rgb(102, 102, 102);
+
+    private GridLayout grid;
+    private OnBlockGestureListener gestureListener;
+    private final GestureDetector gestureDetector;
+    private final View menuAnchor;
+    private final BlockAccessibility accessibility;
+
+    private final Paint fillPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint strokePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint linePaint = new Paint();
+    private final TextPaint titlePaint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+    private final TextPaint compactTitlePaint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+    private final TextPaint timePaint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+    private final TextPaint slotPaint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+    private final TextPaint slashPaint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+    private final TextPaint typePaint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint.FontMetricsInt metrics = new Paint.FontMetricsInt();
+    private final RectF blockRect = new RectF();
+    private final Rect clip = new Rect();
+    private final Rect visible = new Rect();
+    /** Area the last onDraw covered: the visible part of the view plus one viewport on each side. */
+    private final Rect drawnWindow = new Rect();
+    /**
+     * With hardware acceleration the parent scroll view replays this view's recorded drawing instead of calling
+     * onDraw, and the canvas clip is the whole view. So draw against the viewport and re-record once the
+     * viewport leaves the area that was drawn.
+     */
+    private final ViewTreeObserver.OnScrollChangedListener scrollListener = new ViewTreeObserver.OnScrollChangedListener() {
+        @Override
+        public void onScrollChanged() {
+            if (grid != null && getLocalVisibleRect(visible) && !drawnWindow.contains(visible)) {
+                invalidate();
+            }
+        }
+    };
+    private final Rect iconBounds = new Rect();
+
+    /** Upper bound on cached fitted texts; a festival's names and times across all widths stay well below it. */
+    private static final int MAX_FITTED_TEXTS = 4096;
+
+    /** Fitted text by width, paint and content, least recently used dropped first. */
+    private final Map<String, String> fittedText = new LinkedHashMap<String, String>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > MAX_FITTED_TEXTS;
+        }
+    };
+    private final SparseArray<Drawable> drawables = new SparseArray<>();
+
+    private final float density;
+    private final int cornerRadius;
+    private final int iconSize;
+    private final int priorityCircleSize;
+
+    ScheduleGridView(Context context) {
+        super(context);
+        setWillNotDraw(false);
+        setBackgroundColor(Color.BLACK);
+        density = getResources().getDisplayMetrics().density;
+        cornerRadius = dp(4);
+        iconSize = dp(14);
+        priorityCircleSize = dp(18);
+
+        linePaint.setColor(GRID_LINE_COLOR);
+        strokePaint.setStyle(Paint.Style.STROKE);
+        strokePaint.setStrokeWidth(1);
+        titlePaint.setTextSize(sp(11));
+        titlePaint.setTypeface(Typeface.DEFAULT_BOLD);
+        compactTitlePaint.setTextSize(sp(9));
+        compactTitlePaint.setTypeface(Typeface.DEFAULT_BOLD);
+        timePaint.setTextSize(sp(9));
+        slotPaint.setTextSize(sp(12));
+        slashPaint.setTextSize(sp(10));
+        typePaint.setTextSize(sp(8));
+
+        menuAnchor = new View(context);
+        menuAnchor.setVisibility(View.INVISIBLE);
+        addView(menuAnchor, new FrameLayout.LayoutParams(1, 1));
+
+        accessibility = new BlockAccessibility(this);
+        ViewCompat.setAccessibilityDelegate(this, accessibility);
+
+        gestureDetector = new GestureDetector(context, new GestureDetector.SimpleOnGestureListener() {
+            @Override
+            public boolean onDown(MotionEvent e) {
+                return blockAt(e.getX(), e.getY()) >= 0;
+            }
+
+            @Override
+            public boolean onSingleTapUp(MotionEvent e) {
+                int index = blockAt(e.getX(), e.getY());
+                if (index < 0 || gestureListener == null) {
+                    return false;
+                }
+                gestureListener.onBlockTapped(grid.blocks[index].event);
+                return true;
+            }
+
+            @Override
+            public void onLongPress(MotionEvent e) {
+                int index = blockAt(e.getX(), e.getY());
+                if (index < 0 || gestureListener == null) {
+                    return;
+                }
+                performHapticFeedback(android.view.HapticFeedbackConstants.LONG_PRESS);
+                moveAnchorTo(index);
+                gestureListener.onBlockLongPressed(menuAnchor, grid.blocks[index].event);
+            }
+        });
+    }
+
+    void setOnBlockGestureListener(OnBlockGestureListener listener) {
+        this.gestureListener = listener;
+    }
+
+    /** Shows {@code layout}. Only re-measures when the size changed; otherwise this is a redraw. */
+    void setGridLayout(GridLayout layout) {
+        boolean sizeChanged = grid == null || grid.width != layout.width || grid.height != layout.height;
+        this.grid = layout;
+        Log.d(TAG, "setGridLayout: " + layout.blockCount() + " blocks, " + layout.width + "x" + layout.height
+                + ", fitted texts cached=" + fittedText.size());
+        if (sizeChanged) {
+            requestLayout();
+        }
+        invalidate();
+        accessibility.invalidateRoot();
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        getViewTreeObserver().addOnScrollChangedListener(scrollListener);
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        getViewTreeObserver().removeOnScrollChangedListener(scrollListener);
+        super.onDetachedFromWindow();
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        int width = grid != null ? grid.width : 0;
+        int height = grid != null ? grid.height : 0;
+        measureChildren(MeasureSpec.makeMeasureSpec(0, MeasureSpec.UNSPECIFIED),
+                MeasureSpec.makeMeasureSpec(0, MeasureSpec.UNSPECIFIED));
+        setMeasuredDimension(resolveSize(width, widthMeasureSpec), height);
+    }
+
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        return gestureDetector.onTouchEvent(event) || super.onTouchEvent(event);
+    }
+
+    @Override
+    protected boolean dispatchHoverEvent(MotionEvent event) {
+        return accessibility.dispatchHoverEvent(event) || super.dispatchHoverEvent(event);
+    }
+
+    @Override
+    public boolean dispatchKeyEvent(KeyEvent event) {
+        return accessibility.dispatchKeyEvent(event) || super.dispatchKeyEvent(event);
+    }
+
+    @Override
+    protected void onFocusChanged(boolean gainFocus, int direction, Rect previouslyFocusedRect) {
+        super.onFocusChanged(gainFocus, direction, previouslyFocusedRect);
+        accessibility.onFocusChanged(gainFocus, direction, previouslyFocusedRect);
+    }
+
+    /** Index of the block under (x, y), or -1. */
+    int blockAt(float x, float y) {
+        if (grid == null) {
+            return -1;
+        }
+        float[] b = grid.bounds;
+        for (int i = grid.blockCount() - 1; i >= 0; i--) {
+            int o = i * 4;
+            if (x >= b[o] && x < b[o + 2] && y >= b[o + 1] && y < b[o + 3]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void moveAnchorTo(int index) {
+        float[] b = grid.bounds;
+        int o = index * 4;
+        FrameLayout.LayoutParams params = (FrameLayout.LayoutParams) menuAnchor.getLayoutParams();
+        params.width = Math.max(1, (int) (b[o + 2] - b[o]));
+        params.height = Math.max(1, (int) (b[o + 3] - b[o + 1]));
+        params.leftMargin = (int) b[o];
+        params.topMargin = (int) b[o + 1];
+        menuAnchor.setLayoutParams(params);
+        // The popup reads the anchor position right away, so lay it out now rather than on the next pass.
+        menuAnchor.measure(MeasureSpec.makeMeasureSpec(params.width, MeasureSpec.EXACTLY),
+                MeasureSpec.makeMeasureSpec(params.height, MeasureSpec.EXACTLY));
+        menuAnchor.layout(params.leftMargin, params.topMargin,
+                params.leftMargin + params.width, params.topMargin + params.height);
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
+        if (grid == null) {
+            return;
+        }
+        if (!canvas.getClipBounds(clip)) {
+            return;
+        }
+        if (!getLocalVisibleRect(visible)) {
+            // Off screen; the scroll listener redraws once any of it comes into view
+            drawnWindow.setEmpty();
+            return;
+        }
+        drawnWindow.set(visible.left - visible.width(), visible.top - visible.height(),
+                visible.right + visible.width(), visible.bottom + visible.height());
+        if (!clip.intersect(drawnWindow)) {
+            return;
+        }
+        drawTimeColumn(canvas);
+        drawGridLines(canvas);
+
+        int drawn = 0;
+        float[] b = grid.bounds;
+        for (int i = 0; i < grid.blockCount(); i++) {
+            int o = i * 4;
+            if (b[o + 3] < clip.top || b[o + 1] > clip.bottom || b[o + 2] < clip.left || b[o] > clip.right) {
+                continue;
+            }
+            drawBlock(canvas, grid.blocks[i], b[o], b[o + 1], b[o + 2], b[o + 3]);
+            drawn++;
+        }
+        if (Log.isLoggable(TAG, Log.VERBOSE)) {
+            Log.v(TAG, "Drew " + drawn + "/" + grid.blockCount() + " blocks in clip " + clip);
+        }
+    }
+
+    private void drawTimeColumn(Canvas canvas) {
+        slotPaint.getFontMetricsInt(metrics);
+        int left = dp(4);
+        for (int i = 0; i < grid.slotLabels.length; i++) {
+            int top = grid.headerHeight + i * grid.slotHeight;
+            if (top > clip.bottom || top + grid.slotHeight < clip.top) {
+                continue;
+            }
+            String label = grid.slotLabels[i];
+            // Hour labels ("7:00pm") are white, the quarter-hour labels in between grey.
+            slotPaint.setColor(label.contains("m") ? Color.WHITE : Color.GRAY);
+            canvas.drawText(label, left, top - metrics.ascent, slotPaint);
+        }
+    }
+
+    private void drawGridLines(Canvas canvas) {
+        for (int y : grid.gridLineY) {
+            if (y >= clip.top && y <= clip.bottom) {
+                canvas.drawRect(grid.venueLeft, y, grid.width, y + 1, linePaint);
+            }
+        }
+        // Half-pixel separators centered in their 1px slot, as the old scaled divider views drew them.
+        for (int x : grid.separatorX) {
+            canvas.drawRect(x + 0.25f, 0, x + 0.75f, grid.height, linePaint);
+        }
+    }
+
+    private void drawBlock(Canvas canvas, BlockContent block, float left, float top, float right, float bottom) {
+        blockRect.set(left, top, right, bottom);
+        fillPaint.setColor(block.fillColor);
+        canvas.drawRoundRect(blockRect, cornerRadius, cornerRadius, fillPaint);
+        strokePaint.setColor(block.borderColor);
+        blockRect.inset(0.5f, 0.5f);
+        canvas.drawRoundRect(blockRect, cornerRadius, cornerRadius, strokePaint);
+
+        int padH = block.compact ? dp(2) : dp(4);
+        int padV = block.compact ? dp(1) : dp(4);
+        int x = (int) left + padH;
+        int textWidth = Math.max(0, (int) (right - left) - 2 * padH);
+        float y = top + padV;
+
+        canvas.save();
+        canvas.clipRect(left, top, right, bottom);
+        TextPaint title = block.compact ? compactTitlePaint : titlePaint;
+        for (String line : block.titleLines) {
+            y = drawLine(canvas, title, fit(title, line, textWidth, block.ellipsizeTitle), x, y, block.textColor);
+        }
+        if (block.startLine != null) {
+            y = drawLine(canvas, timePaint, fit(timePaint, block.startLine, textWidth, false), x, y, block.textColor);
+        }
+        if (block.endLine != null) {
+            y = drawLine(canvas, timePaint, fit(timePaint, block.endLine, textWidth, false), x, y, block.textColor);
+        }
+        if (block.iconRows != null) {
+            for (IconRow row : block.iconRows) {
+                y = drawIconRow(canvas, row, block, x, y + dp(2));
+            }
+        }
+        if (block.eventTypeText != null) {
+            y = drawEventTypeRow(canvas, block, x, y, textWidth);
+        }
+        canvas.restore();
+    }
+
+    /** Draws one line with the TextView default font padding and returns the y below it. */
+    private float drawLine(Canvas canvas, TextPaint paint, String text, float x, float y, int color) {
+        paint.getFontMetricsInt(metrics);
+        if (!text.isEmpty()) {
+            paint.setColor(color);
+            canvas.drawText(text, x, y - metrics.top, paint);
+        }
+        return y + metrics.bottom - metrics.top;
+    }
+
+    private float drawIconRow(Canvas canvas, IconRow row, BlockContent block, int x, float top) {
+        float rowHeight = 0;
+        for (int kind : row.kinds) {
+            rowHeight = Math.max(rowHeight, kind == IconRow.PRIORITY ? priorityCircleSize : iconSize);
+        }
+        int alpha = block.dimmed ? 102 : 255;
+        for (int i = 0; i < row.kinds.length; i++) {
+            switch (row.kinds[i]) {
+                case IconRow.PRIORITY: {
+                    int priority = row.values[i];
+                    float grey = (priority == 3) ? 0.75f : 0.2f;
+                    if (block.dimmed) {
+                        grey *= 0.5f;
+                    }
+                    int g = (int) (grey * 255);
+                    fillPaint.setColor(Color.rgb(g, g, g));
+                    float radius = priorityCircleSize / 2f;
+                    canvas.drawCircle(x + radius, top + radius, radius, fillPaint);
+                    int inset = (priorityCircleSize - iconSize) / 2;
+                    drawIcon(canvas, priorityResource(priority), x + inset, (int) top + inset, iconSize, alpha);
+                    x += priorityCircleSize;
+                    break;
+                }
+                case IconRow.ATTENDED:
+                    drawIcon(canvas, row.values[i], x, (int) top, iconSize, alpha);
+                    x += iconSize;
+                    break;
+                case IconRow.SLASH: {
+                    slashPaint.getFontMetricsInt(metrics);
+                    slashPaint.setColor(block.textColor);
+                    x += dp(2);
+                    canvas.drawText("/", x, top - metrics.top, slashPaint);
+                    x += (int) slashPaint.measureText("/") + dp(2);
+                    rowHeight = Math.max(rowHeight, metrics.bottom - metrics.top);
+                    break;
+                }
+                default:
+                    x += dp(3);
+                    break;
+            }
+        }
+        return top + rowHeight;
+    }
+
+    private float drawEventTypeRow(Canvas canvas, BlockContent block, int x, float top, int textWidth) {
+        typePaint.getFontMetricsInt(metrics);
+        int textHeight = metrics.bottom - metrics.top;
+        String text = fit(typePaint, block.eventTypeText, textWidth, false);
+        typePaint.setColor(block.textColor);
+        canvas.drawText(text, x, top - metrics.top, typePaint);
+        float rowHeight = textHeight;
+        if (block.eventTypeIconRes != 0) {
+            // 14dp box with 4dp left padding, as the old ImageView drew it.
+            int boxLeft = x + (int) typePaint.measureText(text) + dp(4);
+            int side = iconSize - dp(4);
+            drawIcon(canvas, block.eventTypeIconRes, boxLeft, (int) top + (iconSize - side) / 2, side,
+                    block.dimmed ? 102 : 255);
+            rowHeight = Math.max(rowHeight, iconSize);
+        }
+        return top + rowHeight;
+    }
+
+    private void drawIcon(Canvas canvas, int resId, int left, int top, int size, int alpha) {
+        Drawable drawable = drawable(resId);
+        if (drawable == null) {
+            return;
+        }
+        iconBounds.set(left, top, left + size, top + size);
+        drawable.setBounds(iconBounds);
+        drawable.setAlpha(alpha);
+        drawable.draw(canvas);
+    }
+
+    private Drawable drawable(int resId) {
+        if (resId == 0) {
+            return null;
+        }
+        Drawable drawable = drawables.get(resId);
+        if (drawable == null) {
+            drawable = AppCompatResources.getDrawable(getContext(), resId);
+            if (drawable != null) {
+                drawable = drawable.mutate();
+                drawables.put(resId, drawable);
+            }
+        }
+        return drawable;
+    }
+
+    private static int priorityResource(int priority) {
+        if (priority == 1) {
+            return staticVariables.graphicMustSee;
+        } else if (priority == 2) {
+            return staticVariables.graphicMightSee;
+        } else if (priority == 3) {
+            return staticVariables.graphicWontSee;
+        }
+        return 0;
+    }
+
+    /**
+     * The part of {@code text} that fits one line of {@code width}: ellipsized, or the first wrapped line
+     * like a maxLines=1 TextView. Cached, since the same names and times come back on every day and filter.
+     */
+    private String fit(TextPaint paint, String text, int width, boolean ellipsize) {
+        if (text == null || text.isEmpty() || width <= 0) {
+            return "";
+        }
+        String key = width + ":" + paint.getTextSize() + (ellipsize ? "e" : "w") + text;
+        String fitted = fittedText.get(key);
+        if (fitted != null) {
+            return fitted;
+        }
+        if (paint.measureText(text) <= width) {
+            fitted = text;
+        } else if (ellipsize) {
+            fitted = TextUtils.ellipsize(text, paint, width, TextUtils.TruncateAt.END).toString();
+        } else {
+            StaticLayout layout = StaticLayout.Builder.obtain(text, 0, text.length(), paint, width)
+                    .setAlignment(Layout.Alignment.ALIGN_NORMAL)
+                    .setIncludePad(true)
+                    .build();
+            fitted = text.substring(0, layout.getLineEnd(0)).trim();
+        }
+        fittedText.put(key, fitted);
+        return fitted;
+    }
+
+    /** What TalkBack reads for a block: the band, venue, times and event type. */
+    private static String describe(BlockContent block) {
+        LandscapeScheduleView.ScheduleBlock event = block.event;
+        StringBuilder text = new StringBuilder();
+        appendPart(text, event != null ? event.bandName : null);
+        appendPart(text, event != null ? event.location : null);
+        if (block.startLine != null || block.endLine != null) {
+            appendPart(text, block.startLine);
+            appendPart(text, block.endLine);
+        } else if (event != null) {
+            appendPart(text, event.startTimeString);
+        }
+        appendPart(text, block.eventTypeText != null ? block.eventTypeText : (event != null ? event.eventType : null));
+        return text.toString();
+    }
+
+    private static void appendPart(StringBuilder text, String part) {
+        if (part == null || part.isEmpty()) {
+            return;
+        }
+        if (text.length() > 0) {
+            text.append(", ");
+        }
+        text.append(part);
+    }
+
+    /** One virtual view per block, with the same tap and long-press actions as touch. */
+    private final class BlockAccessibility extends ExploreByTouchHelper {
+
+        BlockAccessibility(View host) {
+            super(host);
+        }
+
+        @Override
+        protected int getVirtualViewAt(float x, float y) {
+            int index = blockAt(x, y);
+            return index >= 0 ? index : INVALID_ID;
+        }
+
+        @Override
+        protected void getVisibleVirtualViews(List<Integer> virtualViewIds) {
+            int count = grid != null ? grid.blockCount() : 0;
+            for (int i = 0; i < count; i++) {
+                virtualViewIds.add(i);
+            }
+        }
+
+        @Override
+        protected void onPopulateNodeForVirtualView(int virtualViewId, @NonNull AccessibilityNodeInfoCompat node) {
+            if (grid == null || virtualViewId >= grid.blockCount()) {
+                // Stale id from before a new layout; the helper still needs non-empty bounds and text.
+                node.setContentDescription("");
+                node.setBoundsInParent(new Rect(0, 0, 1, 1));
+                return;
+            }
+            float[] b = grid.bounds;
+            int o = virtualViewId * 4;
+            node.setContentDescription(describe(grid.blocks[virtualViewId]));
+            node.setBoundsInParent(new Rect((int) b[o], (int) b[o + 1],
+                    Math.max((int) b[o] + 1, (int) b[o + 2]), Math.max((int) b[o + 1] + 1, (int) b[o + 3])));
+            node.setClickable(true);
+            node.setLongClickable(true);
+            node.addAction(AccessibilityNodeInfoCompat.ACTION_CLICK);
+            node.addAction(AccessibilityNodeInfoCompat.ACTION_LONG_CLICK);
+        }
+
+        @Override
+        protected boolean onPerformActionForVirtualView(int virtualViewId, int action, Bundle arguments) {
+            if (grid == null || virtualViewId >= grid.blockCount() || gestureListener == null) {
+                return false;
+            }
+            LandscapeScheduleView.ScheduleBlock event = grid.blocks[virtualViewId].event;
+            if (action == AccessibilityNodeInfoCompat.ACTION_CLICK) {
+                gestureListener.onBlockTapped(event);
+                return true;
+            }
+            if (action == AccessibilityNodeInfoCompat.ACTION_LONG_CLICK) {
+                moveAnchorTo(virtualViewId);
+                gestureListener.onBlockLongPressed(menuAnchor, event);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private int dp(int value) {
+        return (int) (value * density);
+    }
+
+    private float sp(float value) {
+        return TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP, value, getResources().getDisplayMetrics());
+    }
+}
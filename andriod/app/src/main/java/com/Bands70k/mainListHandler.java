@@ -1,6 +1,5 @@
 package com.Bands70k;
 
-import android.content.Context;
 import android.util.Log;
 import android.widget.ArrayAdapter;
 import android.widget.ListAdapter;
@@ -12,9 +11,7 @@ import androidx.collection.ArraySet;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 
@@ -27,8 +24,8 @@ public class mainListHandler {
     private final String TAG = "mainListHandler";
 
     public String sortedBy;
-    public List<String> sortableBandNames = new ArrayList<String>();
-    public List<String> bandNamesIndex = new ArrayList<String>();
+    public List<MainListRow> sortableBandNames = new ArrayList<MainListRow>();
+    public List<MainListRow> bandNamesIndex = new ArrayList<MainListRow>();
 
     public ListAdapter arrayAdapter;
     public showBands showBands;
@@ -46,6 +43,9 @@ public class mainListHandler {
      */
     public int scheduleUnfilteredRowBaseline = 0;
 
+    /** Filter preferences compiled for the last {@link #populateBandInfo} run. */
+    public ScheduleFilterProgram filterProgram;
+
     /**
      * Default constructor for mainListHandler.
      */
@@ -61,13 +61,11 @@ public class mainListHandler {
 
     private showsAttended attendedHandler = new showsAttended();
 
-    private Map<Integer,String> attendedListMap = new HashMap<Integer,String>();
-
     /**
-     * Gets the list of sortable band names.
-     * @return The list of sortable band names.
+     * Gets the sorted list rows.
+     * @return The list of sorted rows.
      */
-    public List<String> getSortableBandNames(){
+    public List<MainListRow> getSortableBandNames(){
 
         Log.d("CRITICAL_DEBUG", "🎯 GET_SORTABLE: getSortableBandNames() called, returning " + 
               (this.sortableBandNames != null ? this.sortableBandNames.size() : "NULL") + " items");
@@ -91,9 +89,9 @@ public class mainListHandler {
      * Populates band info and applies filters, returning the sorted list.
      * @param bandInfo The BandInfo instance.
      * @param bandList The list of band names.
-     * @return The sorted and filtered list of band names.
+     * @return The sorted and filtered list rows.
      */
-    public List<String> populateBandInfo(BandInfo bandInfo, ArrayList<String> bandList){
+    public List<MainListRow> populateBandInfo(BandInfo bandInfo, ArrayList<String> bandList){
 
         Log.d("FILTER_TRACE", "populateBandInfo START inBands=" + bandList.size()
                 + " sortByTime=" + staticVariables.preferences.getSortByTime()
@@ -119,88 +117,63 @@ public class mainListHandler {
         scheduleUnfilteredRowBaseline = 0;
         sortableBandNames.clear();
 
-        List<String> bandPresent = new ArrayList<String>();
         staticVariables.showsIwillAttend = 0;
 
-        Set<String> allBands = new ArraySet<>();
+        ScheduleEventIndex index = ScheduleEventIndex.forRecords(BandInfo.scheduleRecords);
+        filterProgram = ScheduleFilterProgram.compile(index);
 
         if (BandInfo.scheduleRecords != null && !BandInfo.scheduleRecords.isEmpty()) {
-            Set<String> bandsWithAtLeastOneUpcomingSlot = new ArraySet<>();
-            Log.d("FILTER_DEBUG", "🔍 BandInfo.scheduleRecords has " + bandInfo.scheduleRecords.keySet().size() + " bands");
-            for (String bandName : bandInfo.scheduleRecords.keySet()) {
-                Log.d("FILTER_DEBUG", "🔍 Processing band: " + bandName);
-                if ( staticVariables.searchCriteria.isEmpty() == false) {
-                    Log.d("searchCriteria", "Doing lookup using " + staticVariables.searchCriteria);
-                    if (bandName.toUpperCase().contains(staticVariables.searchCriteria.toUpperCase()) == false) {
-                        Log.d("searchCriteria", "Skipping " + bandName);
-                        continue;
-                    } else {
-                        Log.d("searchCriteria", "Allowing " + bandName);
-                    }
+            // Single linear scan over the columnar schedule index (built once per ParseScheduleCSV), evaluated
+            // against the compiled filter program: no preference reads or string compares per event.
+            ScheduleFilterProgram program = filterProgram;
+            boolean sortByTimeValue = staticVariables.preferences.getSortByTime();
+            boolean[] bandMatchesSearch = matchSearchCriteria(index.bandNames);
+            boolean[] bandHasUpcomingSlot = new boolean[index.bandNames.length];
+            boolean[] bandPresent = new boolean[index.bandNames.length];
+            int[] passingSlots = new int[index.size];
+            int passingCount = 0;
+            int droppedByRank = 0;
+            int droppedByType = 0;
+            int droppedByVenue = 0;
+            int droppedByWillAttend = 0;
+            Log.d("FILTER_DEBUG", "🔍 Schedule index has " + index.size + " events for " + index.bandNames.length + " bands");
+
+            for (int slot = 0; slot < index.size; slot++) {
+                int band = index.bandId[slot];
+                if (!bandMatchesSearch[band]) {
+                    continue;
                 }
-
-                Log.d("FILTER_DEBUG", "🔍 Band " + bandName + " has " + BandInfo.scheduleRecords.get(bandName).scheduleByTime.keySet().size() + " time slots");
-                for (Long timeIndex : BandInfo.scheduleRecords.get(bandName).scheduleByTime.keySet()) {
-                    if (staticVariables.preferences.getSortByTime() == true) {
-
-                        Long endTime = BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(timeIndex).getEpochEnd();
-                        Log.d("scheduleInfo","Start time is " + String.valueOf(timeIndex) + " EndTime is " + String.valueOf(endTime));
-                        Log.d("FILTER_DEBUG", "⏰ TIME CHECK for " + bandName + ": timeIndex=" + timeIndex + ", endTime=" + endTime + ", currentTime=" + System.currentTimeMillis());
-                        if (timeIndex > endTime){
-                            endTime = endTime + (3600000 * 24);
-                            Log.d("FILTER_DEBUG", "⏰ TIME ADJUSTED for " + bandName + ": new endTime=" + endTime);
-                        }
-                        // Add 10-minute buffer (600000 milliseconds) before expiration
-                        Long bufferEndTime = endTime + 600000;
-                        Log.d("FILTER_DEBUG", "⏰ getHideExpiredEvents: " + staticVariables.preferences.getHideExpiredEvents());
-                        boolean timeCondition = bufferEndTime > System.currentTimeMillis() || staticVariables.preferences.getHideExpiredEvents() == false;
-                        Log.d("FILTER_DEBUG", "⏰ TIME CONDITION for " + bandName + ": " + timeCondition + " (buffer end time: " + bufferEndTime + ")");
-                        if (timeCondition){
-                            bandsWithAtLeastOneUpcomingSlot.add(bandName);
-                            allUpcomingEvents++;
-                            Log.d("FILTER_DEBUG", "📞 SORTBYTIME: Calling applyFilters for band: " + bandName + ", timeIndex: " + timeIndex);
-                            if (applyFilters(bandName, timeIndex) == true) {
-                                sortableBandNames.add(String.valueOf(timeIndex) + ":" + bandName);
-                                bandPresent.add(bandName);
-                                numberOfEvents++;
-                                Log.d("countInfo", "eventType is  " + BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(timeIndex).getShowType());
-                                if (BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(timeIndex).getShowType().equals(staticVariables.unofficalEvent) ||
-                                        BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(timeIndex).getShowType().equals(staticVariables.unofficalEventOld)){
-                                    numberOfUnofficalEvents = numberOfUnofficalEvents + 1;
-                                }
-                            }
-                        }
-                    } else {
-                        Log.d("scheduleInfo", "Sort alphbetically, bandname is " + bandName);
-                        Long endTime = BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(timeIndex).getEpochEnd();
-                        Log.d("FILTER_DEBUG", "⏰ ALPHA TIME CHECK for " + bandName + ": timeIndex=" + timeIndex + ", endTime=" + endTime + ", currentTime=" + System.currentTimeMillis());
-                        if (timeIndex > endTime){
-                            endTime = endTime + (3600000 * 24);
-                            Log.d("FILTER_DEBUG", "⏰ ALPHA TIME ADJUSTED for " + bandName + ": new endTime=" + endTime);
-                        }
-                        // Add 10-minute buffer (600000 milliseconds) before expiration
-                        Long bufferEndTime = endTime + 600000;
-                        Log.d("FILTER_DEBUG", "⏰ ALPHA getHideExpiredEvents: " + staticVariables.preferences.getHideExpiredEvents());
-                        boolean timeCondition = bufferEndTime > System.currentTimeMillis() || staticVariables.preferences.getHideExpiredEvents() == false;
-                        Log.d("FILTER_DEBUG", "⏰ ALPHA TIME CONDITION for " + bandName + ": " + timeCondition + " (buffer end time: " + bufferEndTime + ")");
-                        if (timeCondition) {
-                            bandsWithAtLeastOneUpcomingSlot.add(bandName);
-                            allUpcomingEvents++;
-                            Log.d("FILTER_DEBUG", "📞 SORTALPHA: Calling applyFilters for band: " + bandName + ", timeIndex: " + timeIndex);
-                            if (applyFilters(bandName, timeIndex) == true) {
-                                sortableBandNames.add(bandName + ":" + String.valueOf(timeIndex));
-                                bandPresent.add(bandName);
-                                numberOfEvents++;
-                                Log.d("countInfo", "bandName is " + bandName + " eventType is  " + BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(timeIndex).getShowType());
-                                if (BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(timeIndex).getShowType().equals(staticVariables.unofficalEvent) ||
-                                        BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(timeIndex).getShowType().equals(staticVariables.unofficalEventOld)){
-                                    numberOfUnofficalEvents = numberOfUnofficalEvents + 1;
-                                }
-                            }
-                        }
+                if (!program.isCurrent(slot)) {
+                    continue;
+                }
+                bandHasUpcomingSlot[band] = true;
+                allUpcomingEvents++;
+                if (program.isAttended(slot)) {
+                    staticVariables.showsIwillAttend = staticVariables.showsIwillAttend + 1;
+                }
+                if (program.eventVisible(slot)) {
+                    bandPresent[band] = true;
+                    numberOfEvents++;
+                    if (index.isUnofficial(slot)) {
+                        numberOfUnofficalEvents = numberOfUnofficalEvents + 1;
                     }
+                    if (index.startEpoch[slot] > 0) {
+                        passingSlots[passingCount++] = slot;
+                    }
+                } else if (program.willAttendOnly) {
+                    droppedByWillAttend++;
+                } else if (!program.rankVisible(slot)) {
+                    droppedByRank++;
+                } else if (!program.typeVisible(slot)) {
+                    droppedByType++;
+                } else {
+                    droppedByVenue++;
                 }
             }
+            // Per-event drop reasons are diagnostics only; the filter badge counts hidden lineup bands
+            // (showBands.computeFilterBadgeHiddenCount) to match iOS.
+            Log.d("FILTER_TRACE", "populateBandInfo dropped willAttend=" + droppedByWillAttend + " rank=" + droppedByRank
+                    + " eventType=" + droppedByType + " venue=" + droppedByVenue);
             int bandOnlyUnfilteredRows = 0;
             for (String bandName : bandList) {
                 if (staticVariables.searchCriteria.isEmpty() == false) {
@@ -208,7 +181,8 @@ public class mainListHandler {
                         continue;
                     }
                 }
-                if (!bandsWithAtLeastOneUpcomingSlot.contains(bandName)) {
+                int band = index.bandIdOf(bandName);
+                if (band < 0 || !bandHasUpcomingSlot[band]) {
                     bandOnlyUnfilteredRows++;
                 }
             }
@@ -216,83 +190,26 @@ public class mainListHandler {
             Log.d("FILTER_DEBUG", "📊 scheduleUnfilteredRowBaseline=" + scheduleUnfilteredRowBaseline
                     + " (slots=" + allUpcomingEvents + " + bandOnly=" + bandOnlyUnfilteredRows + ")");
 
-            // Separate events and bands for proper mixed display
-            List<String> eventsList = new ArrayList<String>();
-            List<String> bandsList = new ArrayList<String>();
-            
-            // Separate events from bands
-            // Events can have two formats:
-            // - Sort by time: "timeIndex:bandName" (timeIndex > 0)
-            // - Sort alphabetically: "bandName:timeIndex" (timeIndex > 0)
-            // Bands with zero events: "bandName:" (no timeIndex or timeIndex = 0)
-            for (String item : sortableBandNames) {
-                String[] parts = item.split(":");
-                boolean isEvent = false;
-                
-                if (parts.length >= 2) {
-                    // Check if first part is a timeIndex (sort by time format)
-                    try {
-                        Long timeIndex = Long.valueOf(parts[0]);
-                        if (timeIndex > 0) {
-                            eventsList.add(item);
-                            isEvent = true;
-                            Log.d("FILTER_DEBUG", "📅 Found EVENT (time format): " + item);
-                        }
-                    } catch (NumberFormatException e) {
-                        // First part is not a number, check if second part is a timeIndex (alphabetical sort format)
-                        try {
-                            Long timeIndex = Long.valueOf(parts[1]);
-                            if (timeIndex > 0) {
-                                eventsList.add(item);
-                                isEvent = true;
-                                Log.d("FILTER_DEBUG", "📅 Found EVENT (alpha format): " + item);
-                            }
-                        } catch (NumberFormatException e2) {
-                            // Neither part is a valid timeIndex > 0, this is a band with zero events
-                            Log.d("FILTER_DEBUG", "🎵 Item has no valid timeIndex: " + item);
-                        }
-                    }
-                } else {
-                    Log.d("FILTER_DEBUG", "🎵 Item has insufficient parts: " + item);
+            // Slots are already ordered by (start, band), so time order needs no sort. Alphabetical order sorts
+            // primitive (bandAlphaRank << 32 | slot) keys; slot ids keep each band's events in time order.
+            if (!sortByTimeValue) {
+                long[] keys = new long[passingCount];
+                for (int i = 0; i < passingCount; i++) {
+                    int slot = passingSlots[i];
+                    keys[i] = ((long) index.bandAlphaRank[index.bandId[slot]] << 32) | slot;
                 }
-                
-                if (!isEvent) {
-                    bandsList.add(item);
-                    Log.d("FILTER_DEBUG", "🎵 Added to BANDS list: " + item);
+                java.util.Arrays.sort(keys);
+                for (int i = 0; i < passingCount; i++) {
+                    passingSlots[i] = (int) keys[i];
                 }
             }
-            
-            // Sort events according to user preference (time or alphabetical)
-            // DEBUG: Check the exact preference value at branching point
-        boolean sortByTimeValue = staticVariables.preferences.getSortByTime();
-        Log.d("CRITICAL_DEBUG", "🔍 BRANCHING POINT: getSortByTime() = " + sortByTimeValue);
-        Log.d("CRITICAL_DEBUG", "🔍 PREFERENCE OBJECT: " + (staticVariables.preferences != null ? "NOT NULL" : "NULL"));
-        if (staticVariables.preferences != null) {
-            Log.d("CRITICAL_DEBUG", "🔍 PREFERENCE CLASS: " + staticVariables.preferences.getClass().getSimpleName());
-        }
-        
-        if (sortByTimeValue) {
-                // Events are already sorted by time due to the timeIndex prefix (e.g., "1234567890:BandName")
-                Collections.sort(eventsList);
-                Log.d("FILTER_DEBUG", "🕐 Sorting events by TIME");
-            } else {
-                // For alphabetical sorting, we need to sort by band name, not time
-                Log.d("CRITICAL_DEBUG", "🔤 BEFORE alphabetical sort: eventsList.size() = " + eventsList.size());
-                Log.d("CRITICAL_DEBUG", "🔤 BEFORE sort - first 3 entries: " + (eventsList.size() > 0 ? eventsList.get(0) : "none") + ", " + (eventsList.size() > 1 ? eventsList.get(1) : "none") + ", " + (eventsList.size() > 2 ? eventsList.get(2) : "none"));
-                Collections.sort(eventsList, (a, b) -> {
-                    String bandA = getBandNameFromIndex(a);
-                    String bandB = getBandNameFromIndex(b);
-                    Log.d("CRITICAL_DEBUG", "🔤 Comparing: '" + bandA + "' vs '" + bandB + "'");
-                    return bandA.compareToIgnoreCase(bandB);
-                });
-                Log.d("CRITICAL_DEBUG", "🔤 AFTER alphabetical sort: eventsList.size() = " + eventsList.size());
-                Log.d("CRITICAL_DEBUG", "🔤 AFTER sort - first 3 entries: " + (eventsList.size() > 0 ? eventsList.get(0) : "none") + ", " + (eventsList.size() > 1 ? eventsList.get(1) : "none") + ", " + (eventsList.size() > 2 ? eventsList.get(2) : "none"));
-                Log.d("FILTER_DEBUG", "🔤 Sorting events ALPHABETICALLY");
+            Log.d("FILTER_DEBUG", "🔤 Events ordered by " + (sortByTimeValue ? "TIME" : "ALPHABET"));
+
+            List<MainListRow> eventsList = new ArrayList<MainListRow>(passingCount);
+            for (int i = 0; i < passingCount; i++) {
+                eventsList.add(MainListRow.forSlot(index, passingSlots[i]));
             }
-            
-            // Always sort bands alphabetically
-            Collections.sort(bandsList);
-            
+
             // Clear and rebuild sortableBandNames with proper order: events first, then bands
             sortableBandNames.clear();
             sortableBandNames.addAll(eventsList);
@@ -313,11 +230,12 @@ public class mainListHandler {
                         Log.d("searchCriteria", "2 Allowing " + bandName);
                     }
                 }
-                if (staticVariables.preferences.getShowWillAttend() == false) {
-                    if (bandPresent.contains(bandName) == false) {
+                if (program.willAttendOnly == false) {
+                    int band = index.bandIdOf(bandName);
+                    if (band < 0 || bandPresent[band] == false) {
                         // Check if band passes current filters (ranking, etc.)
-                        if (applyFilters(bandName, null)) {
-                            bandsWithZeroEvents.add(bandName + ":");
+                        if (program.bandRowVisible(bandName)) {
+                            bandsWithZeroEvents.add(bandName);
                             if (numberOfEvents == 0) {
                                 numberOfBands++;
                             }
@@ -332,7 +250,9 @@ public class mainListHandler {
             Collections.sort(bandsWithZeroEvents);
             
             // Add bands with zero events after the scheduled events
-            sortableBandNames.addAll(bandsWithZeroEvents);
+            for (String bandName : bandsWithZeroEvents) {
+                sortableBandNames.add(MainListRow.forBand(bandName));
+            }
             
             // FIX: When schedule exists but is empty (0 events), ensure numberOfBands is set correctly
             // This handles the case where schedule file exists but has no records
@@ -351,22 +271,26 @@ public class mainListHandler {
             Log.d("FILTER_DEBUG", "🚨 BandInfo.scheduleRecords is NULL or EMPTY! Using raw bandList with " + bandList.size() + " bands (no schedule released yet)");
             
             // SEARCH FIX: Apply search filtering even when there's no schedule
+            List<String> matchingBands = new ArrayList<String>();
             if (staticVariables.searchCriteria.isEmpty() == false) {
                 Log.d("searchCriteria", "Filtering bands-only view with: " + staticVariables.searchCriteria);
                 for (String bandName : bandList) {
                     if (bandName.toUpperCase().contains(staticVariables.searchCriteria.toUpperCase())) {
-                        sortableBandNames.add(bandName);
+                        matchingBands.add(bandName);
                         Log.d("searchCriteria", "Including band: " + bandName);
                     } else {
                         Log.d("searchCriteria", "Filtering out band: " + bandName);
                     }
                 }
             } else {
-                sortableBandNames = bandList;
+                matchingBands.addAll(bandList);
+            }
+
+            Collections.sort(matchingBands);
+            for (String bandName : matchingBands) {
+                sortableBandNames.add(MainListRow.forBand(bandName));
             }
-            
             numberOfBands = sortableBandNames.size();
-            Collections.sort(sortableBandNames);
             Log.d("FILTER_DEBUG", "🔍 After search filtering: " + sortableBandNames.size() + " bands remaining");
         }
 
@@ -409,7 +333,7 @@ public class mainListHandler {
             String emptyDataMessage = ufc > 0
                     ? staticVariables.context.getString(R.string.data_filter_issue)
                     : staticVariables.context.getString(R.string.waiting_for_data);
-            sortableBandNames.add(emptyDataMessage);
+            sortableBandNames.add(MainListRow.message(emptyDataMessage));
             Log.d("FILTER_DEBUG", "🚨 NO BANDS passed filtering! Adding empty data message: " + emptyDataMessage);
         }
 
@@ -448,7 +372,7 @@ public class mainListHandler {
      * Distinct <em>lineup</em> bands on the list (names present in {@link BandInfo#getLineupBandNameSet()}), from any
      * row shape. Excludes schedule-only keys like preparty titles so hidden count matches {@code unfilteredBandCount}.
      */
-    public int countUniqueLineupBandsRepresentedInSortableList(List<String> sortableBandNames) {
+    public int countUniqueLineupBandsRepresentedInSortableList(List<MainListRow> sortableBandNames) {
         Set<String> lineup = BandInfo.getLineupBandNameSet();
         if (lineup.isEmpty()) {
             return countUniqueBandsRepresentedInSortableList(sortableBandNames);
@@ -457,13 +381,12 @@ public class mainListHandler {
             return 0;
         }
         Set<String> bands = new ArraySet<>();
-        for (String item : sortableBandNames) {
-            if (item == null || item.isEmpty() || isPlaceholderMainListEntry(item)) {
+        for (MainListRow row : sortableBandNames) {
+            if (row == null || row.placeholder || row.bandName == null || row.bandName.isEmpty()) {
                 continue;
             }
-            String name = getBandNameFromIndex(item);
-            if (name != null && !name.isEmpty() && !isPlaceholderMainListEntry(name) && lineup.contains(name)) {
-                bands.add(name);
+            if (lineup.contains(row.bandName)) {
+                bands.add(row.bandName);
             }
         }
         return bands.size();
@@ -473,56 +396,32 @@ public class mainListHandler {
      * Distinct band names on the list from any row shape (includes schedule-only keys — prefer
      * {@link #countUniqueLineupBandsRepresentedInSortableList(List)} for filter badge vs {@code unfilteredBandCount}).
      */
-    public int countUniqueBandsRepresentedInSortableList(List<String> sortableBandNames) {
+    public int countUniqueBandsRepresentedInSortableList(List<MainListRow> sortableBandNames) {
         if (sortableBandNames == null || sortableBandNames.isEmpty()) {
             return 0;
         }
         Set<String> bands = new ArraySet<>();
-        for (String item : sortableBandNames) {
-            if (item == null || item.isEmpty() || isPlaceholderMainListEntry(item)) {
+        for (MainListRow row : sortableBandNames) {
+            if (row == null || row.placeholder || row.bandName == null || row.bandName.isEmpty()) {
                 continue;
             }
-            String name = getBandNameFromIndex(item);
-            if (name != null && !name.isEmpty() && !isPlaceholderMainListEntry(name)) {
-                bands.add(name);
-            }
+            bands.add(row.bandName);
         }
         return bands.size();
     }
 
-    private boolean isPlaceholderMainListEntry(String item) {
-        if (item == null || item.isEmpty()) {
-            return false;
-        }
-        Context ctx = showBands != null ? showBands : staticVariables.context;
-        if (ctx == null) {
-            return false;
-        }
-        return item.equals(ctx.getString(R.string.data_filter_issue))
-                || item.equals(ctx.getString(R.string.waiting_for_data));
-    }
-
-    /**
-     * Plain band rows on the list (excludes time-keyed schedule rows). Used for unofficial-only header
-     * "{@code N Bands}"; unofficial/cruiser event lines are not included in {@code N}.
-     */
     /**
      * Band-name rows in {@code sortableBandNames} for unofficial-only header counts.
-     * Excludes time-keyed schedule lines and empty-state placeholders (filter / waiting messages).
+     * Excludes schedule event rows and empty-state placeholders (filter / waiting messages);
+     * unofficial/cruiser event lines are not included in "{@code N Bands}".
      */
-    public int countVisibleBandSlotRowsInSortableList(List<String> sortableBandNames) {
+    public int countVisibleBandSlotRowsInSortableList(List<MainListRow> sortableBandNames) {
         if (sortableBandNames == null || sortableBandNames.isEmpty()) {
             return 0;
         }
         int n = 0;
-        for (String item : sortableBandNames) {
-            if (item == null || item.isEmpty()) {
-                continue;
-            }
-            if (isPlaceholderMainListEntry(item)) {
-                continue;
-            }
-            if (BandInfo.isScheduleEventRowListIndex(item)) {
+        for (MainListRow row : sortableBandNames) {
+            if (row == null || row.placeholder || row.isEvent()) {
                 continue;
             }
             n++;
@@ -531,195 +430,48 @@ public class mainListHandler {
     }
 
     /**
-     * Applies all filters to a band at a given time index.
-     * @param bandName The band name.
-     * @param timeIndex The time index.
-     * @return True if the band passes all filters, false otherwise.
+     * Upper-cased search match per band id, computed once per list rebuild instead of per event slot.
      */
-    private boolean applyFilters(String bandName, Long timeIndex) {
-
-        boolean status = true;
-        String filterTraceDropReason = null;
-
-        Log.d("FILTER_DEBUG", "🔍 applyFilters() called for band: " + bandName + ", timeIndex: " + (timeIndex != null ? timeIndex.toString() : "null"));
-        Log.d("FILTER_DEBUG", "🔍 getShowWillAttend: " + staticVariables.preferences.getShowWillAttend());
-
-        if (filterByWillAttend(bandName, timeIndex) == true){
-            staticVariables.showsIwillAttend = staticVariables.showsIwillAttend + 1;
-        }
-
-        if (staticVariables.preferences.getShowWillAttend() == true) {
-            status = filterByWillAttend(bandName, timeIndex);
-            if (!status) {
-                filterTraceDropReason = "willAttend";
-            }
-            Log.d("FILTER_DEBUG", "🔍 Will Attend filtering: " + status);
-
-        } else if (timeIndex == null){
-            // This is the path for "Current" view when bands have no events
-            boolean rankingResult = checkFiltering(bandName);
-            if (rankingResult == true) {
-                status = true;
-            } else {
-                status = false;
-                filterTraceDropReason = "rank_band_only";
-            }
-            Log.d("FILTER_DEBUG", "🔍 NO EVENT path - Band: " + bandName + ", ranking result: " + rankingResult + ", final status: " + status);
-        } else {
-
-            status = false;
-
-            boolean rankingResult = checkFiltering(bandName);
-            Log.d("FILTER_DEBUG", "🔍 HAS EVENT path - Band: " + bandName + ", ranking result: " + rankingResult);
-
-            if (rankingResult == true){
-                String eventType = BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(timeIndex).getShowType();
-                boolean eventTypeResult = filterByEventType(eventType);
-                Log.d("FILTER_DEBUG", "🔍 Event type: '" + eventType + "', event type result: " + eventTypeResult);
-
-                if (eventTypeResult == true) {
-                    String venue = BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(timeIndex).getShowLocation();
-                    boolean venueResult = filterByVenue(venue);
-                    Log.d("FILTER_DEBUG", "🔍 Venue: '" + venue + "', venue result: " + venueResult);
-
-                    if (venueResult == true) {
-                        status = true;
-                    } else {
-                        filterTraceDropReason = "venue location=" + venue;
-                    }
-                } else {
-                    filterTraceDropReason = "eventType=" + eventType + " showUnofficial=" + staticVariables.preferences.getShowUnofficalEvents();
-                }
+    private boolean[] matchSearchCriteria(String[] bandNames) {
+        boolean[] matches = new boolean[bandNames.length];
+        String criteria = staticVariables.searchCriteria;
+        boolean searching = criteria != null && criteria.isEmpty() == false;
+        String upperCriteria = searching ? criteria.toUpperCase() : "";
+        for (int b = 0; b < bandNames.length; b++) {
+            if (!searching) {
+                matches[b] = true;
             } else {
-                filterTraceDropReason = "rank_with_event";
+                matches[b] = bandNames[b].toUpperCase().contains(upperCriteria);
+                Log.d("searchCriteria", (matches[b] ? "Allowing " : "Skipping ") + bandNames[b]);
             }
         }
-        if (!status && filterTraceDropReason != null) {
-            String raw = rankStore.getBandRankings().get(bandName);
-            String rawDesc = raw == null ? "null" : ("len=" + raw.length() + " hash=" + raw.hashCode());
-            Log.d("FILTER_TRACE", "applyFilters DROP band=" + bandName + " timeIndex=" + timeIndex
-                    + " reason=" + filterTraceDropReason
-                    + " rawRankMap=" + rawDesc
-                    + " normRankIconLen=" + rankStore.getRankForBand(bandName).length());
-        }
-        Log.d("FILTER_DEBUG", "🔍 FINAL RESULT for " + bandName + ": " + status);
-        Log.d("applyFilter", "bandName = " + bandName + " timeIndex = " + (timeIndex != null ? timeIndex.toString() : "null") + " status = " + status);
-        return status;
-    }
-
-    private boolean filterByWillAttend(String bandName, Long timeIndex){
-
-        boolean status = true;
-
-        String eventYear = String.valueOf(staticVariables.eventYear);
-        if (timeIndex == null){
-            status = false;
-        } else {
-            String showType = BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(timeIndex).getShowType();
-            String location = BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(timeIndex).getShowLocation();
-            String startTime = BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(timeIndex).getStartTimeString();
-            String scheduleDay = BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(timeIndex).getShowDay();
-            String attendedStatus = staticVariables.attendedHandler.getShowAttendedStatus(bandName, location, startTime, showType, eventYear, scheduleDay);
-
-            if (attendedStatus.equals(staticVariables.sawNoneStatus)) {
-                status = false;
-            }
-        }
-
-        return status;
-    }
-
-    private boolean filterByVenue(String venue){
-        // Per-venue state: configured (prefix match) or discovered (full location as key)
-        FestivalConfig festivalConfig = FestivalConfig.getInstance();
-        List<String> configuredVenues = festivalConfig.getAllVenueNames();
-        String venueNameToCheck = null;
-        for (String v : configuredVenues) {
-            if (venue.toLowerCase(java.util.Locale.ROOT).startsWith(v.toLowerCase(java.util.Locale.ROOT))) {
-                venueNameToCheck = v;
-                break;
-            }
-        }
-        if (venueNameToCheck == null) venueNameToCheck = venue;
-        return getVenueShowState(venueNameToCheck);
-    }
-    
-    /**
-     * Get the show state for a specific venue using the dynamic preference system
-     */
-    private boolean getVenueShowState(String venueName) {
-        return staticVariables.preferences.getShowVenueEvents(venueName);
-    }
-
-    private boolean filterByEventType(String eventType){
-
-        Boolean showEvent = false;
-        Log.d("EventFilter", "EventType is " + eventType);
-
-        if (EventTypeConfig.isSpecial(eventType) && staticVariables.preferences.getShowSpecialEvents() == true){
-            Log.d("EventFilter", "preferences.getHideSpecialEvents() is true");
-            showEvent = true;
-
-        } else if (EventTypeConfig.isMeetAndGreet(eventType) && staticVariables.preferences.getShowMeetAndGreet() == true){
-            Log.d("EventFilter", "preferences.getHideMeetAndGreet() is true");
-            showEvent = true;
-
-        } else if (EventTypeConfig.isClinic(eventType) && staticVariables.preferences.getShowClinicEvents() == true){
-            Log.d("EventFilter", "preferences.getHideClinicEvents() is true");
-            showEvent = true;
-
-        } else if (eventType.equals(staticVariables.listeningEvent) && staticVariables.preferences.getShowAlbumListen() == true){
-            Log.d("EventFilter", "preferences.getHideAlbumListen() is true");
-            showEvent = true;
-
-        } else if (EventTypeConfig.isUnofficial(eventType) && staticVariables.preferences.getShowUnofficalEvents() == true){
-            Log.d("EventFilter", "preferences.getShowUnofficalEvents() is true");
-            showEvent = true;
-
-        } else if (EventTypeConfig.isShow(eventType)) {
-            showEvent = true;
-
-        } else {
-            Log.d("EventFilter", "No hide preferences are set");
-        }
-
-        return showEvent;
-    }
-
-    public String getAttendedListMap(Integer index){
-        return attendedListMap.get(index);
+        return matches;
     }
 
     private void turnSortedListIntoArrayAdapter(){
 
         ArrayList<String> displayableBandList = new ArrayList<String>();
         
-        // CRITICAL FIX: Clear bandNamesIndex and attendedListMap before repopulating to prevent accumulation of old data
-        // This ensures these lists stay in sync with the displayed adapter list
+        // CRITICAL FIX: Clear bandNamesIndex before repopulating to prevent accumulation of old data
+        // This ensures the index stays in sync with the displayed adapter list
         bandNamesIndex.clear();
-        attendedListMap.clear();
-        Log.d("CRITICAL_DEBUG", "🎯 ADAPTER: Cleared bandNamesIndex and attendedListMap before repopulating");
+        Log.d("CRITICAL_DEBUG", "🎯 ADAPTER: Cleared bandNamesIndex before repopulating");
 
         Log.d("CRITICAL_DEBUG", "🎯 ADAPTER: Starting turnSortedListIntoArrayAdapter()");
         Log.d("CRITICAL_DEBUG", "🎯 ADAPTER: sortableBandNames.size() = " + sortableBandNames.size());
 
-        Integer counter = 0;
-        for (String bandIndex: sortableBandNames){
-            Log.d(TAG, "bandIndex=" + bandIndex);
-            String bandName = getBandNameFromIndex(bandIndex);
-            Long timeIndex = getBandTimeFromIndex(bandIndex);
-
-            attendedListMap.put(counter, bandName + ":" + timeIndex);
-            String line = buildLines(timeIndex, bandName);
+        for (MainListRow row : sortableBandNames){
+            Log.d(TAG, "row=" + row);
+            String bandName = row.bandName;
+            String line = buildLines(row);
 
-            boolean filterResult = checkFiltering(bandName);
-            boolean showWillAttend = staticVariables.preferences.getShowWillAttend();
+            boolean filterResult = filterProgram.rankVisible(bandName);
+            boolean showWillAttend = filterProgram.willAttendOnly;
             Log.d("CRITICAL_DEBUG", "🎯 ADAPTER: Band '" + bandName + "' - filterResult=" + filterResult + ", showWillAttend=" + showWillAttend);
 
-            if (checkFiltering(bandName) == true || staticVariables.preferences.getShowWillAttend() == true) {
+            if (filterResult == true || showWillAttend == true) {
                 displayableBandList.add(line);
-                bandNamesIndex.add(bandName);
-                counter = counter + 1;
+                bandNamesIndex.add(row);
                 Log.d("CRITICAL_DEBUG", "🎯 ADAPTER: Added band '" + bandName + "' to displayableBandList");
             } else {
                 Log.d("CRITICAL_DEBUG", "🎯 ADAPTER: FILTERED OUT band '" + bandName + "'");
@@ -734,86 +486,6 @@ public class mainListHandler {
         Log.d("CRITICAL_DEBUG", "🎯 ADAPTER: Created ArrayAdapter with " + displayableBandList.size() + " items");
     }
 
-    public String getBandNameFromIndex(String value){
-
-        Log.d("getBandNameFromIndex", "getBandNameFromIndex value is " + value);
-        String[] indexData = value.split(":");
-
-        if (indexData.length >= 2) {
-            // Use timestamp detection to identify format
-            boolean firstPartIsTimestamp = isTimestamp(indexData[0]);
-            boolean secondPartIsTimestamp = isTimestamp(indexData[1]);
-            
-            String result;
-            if (firstPartIsTimestamp && !secondPartIsTimestamp) {
-                // Format: "timeIndex:bandName" -> return second part (band name)
-                result = indexData[1];
-                Log.d("getBandNameFromIndex", "🔍 TIME FORMAT detected, returning band name: '" + result + "'");
-            } else if (!firstPartIsTimestamp && secondPartIsTimestamp) {
-                // Format: "bandName:timeIndex" -> return first part (band name)
-                result = indexData[0];
-                Log.d("getBandNameFromIndex", "🔍 ALPHA FORMAT detected, returning band name: '" + result + "'");
-            } else {
-                // Fallback: use sort mode
-                if (staticVariables.preferences.getSortByTime()) {
-                    result = indexData[1]; // Time mode: second part is band name
-                    Log.d("getBandNameFromIndex", "🔍 FALLBACK TIME MODE, returning band name: '" + result + "'");
-                } else {
-                    result = indexData[0]; // Alphabetical mode: first part is band name
-                    Log.d("getBandNameFromIndex", "🔍 FALLBACK ALPHA MODE, returning band name: '" + result + "'");
-                }
-            }
-            return result;
-        } else if (indexData.length == 1) {
-            // Single part, assume it's the band name
-            Log.d("getBandNameFromIndex", "🔍 SINGLE PART, returning: '" + indexData[0] + "'");
-            return indexData[0];
-        }
-        Log.d("getBandNameFromIndex", "🔍 FALLBACK, returning original value: '" + value + "'");
-        return value;
-    }
-
-    private Long getBandTimeFromIndex(String value){
-
-        Log.d("getBandTimeFromIndex", "🔍 Processing value: " + value);
-        String[] indexData = value.split(":");
-
-        if (indexData.length >= 2) {
-            // Use timestamp detection to identify format
-            boolean firstPartIsTimestamp = isTimestamp(indexData[0]);
-            boolean secondPartIsTimestamp = isTimestamp(indexData[1]);
-            
-            try {
-                Long result;
-                if (firstPartIsTimestamp && !secondPartIsTimestamp) {
-                    // Format: "timeIndex:bandName" -> return first part (time index)
-                    result = Long.valueOf(indexData[0]);
-                    Log.d("getBandTimeFromIndex", "🔍 TIME FORMAT detected, returning time index: " + result);
-                } else if (!firstPartIsTimestamp && secondPartIsTimestamp) {
-                    // Format: "bandName:timeIndex" -> return second part (time index)
-                    result = Long.valueOf(indexData[1]);
-                    Log.d("getBandTimeFromIndex", "🔍 ALPHA FORMAT detected, returning time index: " + result);
-                } else {
-                    // Fallback: use sort mode
-                    if (staticVariables.preferences.getSortByTime()) {
-                        result = Long.valueOf(indexData[0]); // Time mode: first part is time index
-                        Log.d("getBandTimeFromIndex", "🔍 FALLBACK TIME MODE, returning time index: " + result);
-                    } else {
-                        result = Long.valueOf(indexData[1]); // Alphabetical mode: second part is time index
-                        Log.d("getBandTimeFromIndex", "🔍 FALLBACK ALPHA MODE, returning time index: " + result);
-                    }
-                }
-                return result;
-            } catch (NumberFormatException e) {
-                Log.e("getBandTimeFromIndex", "🚨 Failed to parse time index from: " + value, e);
-                return Long.valueOf(0);
-            }
-        }
-        
-        Log.d("getBandTimeFromIndex", "🔍 FALLBACK, returning 0");
-        return Long.valueOf(0);
-    }
-
     /**
      * Returns true if any real filter (not just search) is active.
      */
@@ -843,95 +515,6 @@ public class mainListHandler {
         return !(statusFiltersDefault && eventTypeFiltersDefault && venueFiltersDefault);
     }
     
-    /**
-     * Determines if an artist should be shown at the bottom of the list due to having expired events.
-     * This should ONLY happen when:
-     * 1. The artist has events that have passed (expired events)
-     * 2. The user has "Hide Expired Events" set to true
-     * 3. The filtering is NOT filtering out those expired records (meaning if expired events were shown, they would pass the current filters)
-     */
-    private boolean shouldShowArtistWithExpiredEvents(String bandName) {
-        // Only proceed if Hide Expired Events is enabled
-        if (!staticVariables.preferences.getHideExpiredEvents()) {
-            return false;
-        }
-        
-        // Check if this artist has any expired events
-        boolean hasExpiredEvents = false;
-        boolean expiredEventsWouldPassFilters = false;
-        
-        if (BandInfo.scheduleRecords.containsKey(bandName)) {
-            for (Long timeIndex : BandInfo.scheduleRecords.get(bandName).scheduleByTime.keySet()) {
-                Long endTime = BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(timeIndex).getEpochEnd();
-                if (timeIndex > endTime) {
-                    endTime = endTime + (3600000 * 24);
-                }
-                
-                // Add 10-minute buffer (600000 milliseconds) before considering expired
-                Long bufferEndTime = endTime + 600000;
-                
-                // Check if this is an expired event (after 10-minute buffer)
-                if (bufferEndTime <= System.currentTimeMillis()) {
-                    hasExpiredEvents = true;
-                    
-                    // Check if this expired event would pass the current filters (ignoring the expiration check)
-                    if (applyFiltersIgnoringExpiration(bandName, timeIndex)) {
-                        expiredEventsWouldPassFilters = true;
-                        break; // Found at least one expired event that would pass filters
-                    }
-                }
-            }
-        }
-        
-        // Only show at bottom if artist has expired events AND those events would have passed current filters
-        boolean result = hasExpiredEvents && expiredEventsWouldPassFilters;
-        
-        if (result) {
-            Log.d("ExpiredArtists", "Adding " + bandName + " to bottom - has expired events that would pass current filters");
-        }
-        
-        return result;
-    }
-    
-    /**
-     * Applies all current filters except the expiration check.
-     * This is used to determine if expired events would have passed the current filtering criteria.
-     * Replicates the logic from applyFilters() but ignores the "will attend" filter since we're checking expired events.
-     */
-    private boolean applyFiltersIgnoringExpiration(String bandName, Long timeIndex) {
-        // Apply search criteria first
-        if (staticVariables.searchCriteria.isEmpty() == false) {
-            if (bandName.toUpperCase().contains(staticVariables.searchCriteria.toUpperCase()) == false) {
-                return false;
-            }
-        }
-        
-        // If showing only attended events, skip this check for expired events
-        // (we're trying to see if the event would have been shown if it wasn't expired)
-        if (staticVariables.preferences.getShowWillAttend() == true) {
-            // For expired events, we assume they would pass the "will attend" filter 
-            // since we're checking if they should be shown at the bottom
-            return true;
-        }
-        
-        // Apply the same logic as applyFilters() but for expired events
-        if (timeIndex == null) {
-            // For bands with no schedule, just check ranking filters
-            return checkFiltering(bandName);
-        } else {
-            // For scheduled events, check ranking, event type, and venue filters
-            if (checkFiltering(bandName)) {
-                if (filterByEventType(BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(timeIndex).getShowType())) {
-                    if (filterByVenue(BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(timeIndex).getShowLocation())) {
-                        return true;
-                    }
-                }
-            }
-        }
-        
-        return false;
-    }
-
     public String getSizeDisplay() {
 
         staticVariables.filteringInPlace = isAnyFilterActive();
@@ -969,8 +552,8 @@ public class mainListHandler {
         // Do not treat data_filter_issue / waiting_for_data as a band.
         if (numberOfBands == 0 && numberOfEvents == 0 && sortableBandNames != null && !sortableBandNames.isEmpty()) {
             int nonPlaceholderRows = 0;
-            for (String item : sortableBandNames) {
-                if (item != null && !item.isEmpty() && !isPlaceholderMainListEntry(item)) {
+            for (MainListRow row : sortableBandNames) {
+                if (row != null && !row.placeholder) {
                     nonPlaceholderRows++;
                 }
             }
@@ -1037,48 +620,36 @@ public class mainListHandler {
         return BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(timeIndex).getShowType();
     }
 
-    private String buildLines(Long timeIndex,String bandName){
+    private String buildLines(MainListRow row){
         //attendedHandler.loadShowsAttended();
         String line = null;
-        Log.d(TAG, "buildLines - timeIndex = " + String.valueOf(timeIndex) + " bandName of " +  bandName);
+        String bandName = row.bandName;
+        Log.d(TAG, "buildLines - row = " + row);
         String eventYear = String.valueOf(staticVariables.eventYear);
-        if (timeIndex > 0){
+        if (row.isEvent()){
             String rankIcon = rankStore.getRankForBand(bandName);
-            line = rankIcon;
 
-            if (!rankStore.getRankForBand(bandName).equals("")) {
-                line += " - ";
-            }
-            if (BandInfo.scheduleRecords == null){
-                return("");
-            }
-            if (BandInfo.scheduleRecords.get(bandName) == null){
-                return("");
-            }
-
-            if (BandInfo.scheduleRecords.get(bandName) != null && BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(timeIndex) != null) {
-
-                String location = BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(timeIndex).getShowLocation();
-                String startTime = BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(timeIndex).getStartTimeString();
-                String eventType = BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(timeIndex).getShowType();
-                String scheduleDay = BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(timeIndex).getShowDay();
-                showsAttended handler = staticVariables.attendedHandler != null ? staticVariables.attendedHandler : attendedHandler;
-                String attendedIcon = handler.getShowAttendedIcon(bandName, location, startTime, eventType, eventYear, scheduleDay);
+            scheduleHandler event = row.event;
+            String location = event.getShowLocation();
+            String startTime = event.getStartTimeString();
+            String eventType = event.getShowType();
+            String scheduleDay = event.getShowDay();
+            showsAttended handler = staticVariables.attendedHandler != null ? staticVariables.attendedHandler : attendedHandler;
+            String attendedIcon = handler.getShowAttendedIcon(bandName, location, startTime, eventType, eventYear, scheduleDay);
 
-                line = attendedIcon + " " + rankIcon;
-                if (!rankStore.getRankForBand(bandName).equals("")) {
-                    line += " - ";
-                }
-                line += bandName + " - ";
-                line += dateTimeFormatter.formatScheduleTime(startTime) + " ";
-                line += location  + " - ";
-                line += BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(timeIndex).getShowDay() + " ";
-                line += " " + staticVariables.getEventTypeIcon(eventType);
+            line = attendedIcon + " " + rankIcon;
+            if (!rankIcon.equals("")) {
+                line += " - ";
             }
+            line += bandName + " - ";
+            line += dateTimeFormatter.formatScheduleTime(startTime) + " ";
+            line += location  + " - ";
+            line += scheduleDay + " ";
+            line += " " + staticVariables.getEventTypeIcon(eventType);
         } else {
 
             line = rankStore.getRankForBand(bandName);
-            if (!rankStore.getRankForBand(bandName).equals("")) {
+            if (!line.equals("")) {
                 line += " - ";
             }
             line += bandName;
@@ -1087,70 +658,12 @@ public class mainListHandler {
         return line;
     }
 
-    private boolean checkFiltering(String bandName){
-
-        Boolean returnValue = true;
-        
-        String bandRank = rankStore.getRankForBand(bandName);
-        Log.d("FILTER_DEBUG", "🎯 checkFiltering() for band: " + bandName + ", rank: " + bandRank);
-        Log.d("FILTER_DEBUG", "🎯 Rank settings - Must:" + staticVariables.preferences.getShowMust() + 
-              ", Might:" + staticVariables.preferences.getShowMight() + 
-              ", Wont:" + staticVariables.preferences.getShowWont() + 
-              ", Unknown:" + staticVariables.preferences.getShowUnknown());
-
-        if (bandRank.equals(staticVariables.mustSeeIcon)){
-            if (staticVariables.preferences.getShowMust() == true){
-                returnValue = true;
-            } else {
-                returnValue = false;
-            }
-            Log.d("FILTER_DEBUG", "🎯 MUST SEE band - show setting: " + staticVariables.preferences.getShowMust() + ", result: " + returnValue);
-
-        } else if (bandRank.equals(staticVariables.mightSeeIcon)){
-            if (staticVariables.preferences.getShowMight() == true){
-                returnValue = true;
-            } else {
-                returnValue = false;
-            }
-            Log.d("FILTER_DEBUG", "🎯 MIGHT SEE band - show setting: " + staticVariables.preferences.getShowMight() + ", result: " + returnValue);
-        } else if (bandRank.equals(staticVariables.wontSeeIcon)){
-            if (staticVariables.preferences.getShowWont() == true){
-                returnValue = true;
-            } else {
-                returnValue = false;
-            }
-            Log.d("FILTER_DEBUG", "🎯 WONT SEE band - show setting: " + staticVariables.preferences.getShowWont() + ", result: " + returnValue);
-        } else {
-            if (staticVariables.preferences.getShowUnknown() == true) {
-                returnValue = true;
-            } else {
-                returnValue = false;
-            }
-            Log.d("FILTER_DEBUG", "🎯 UNKNOWN rank band - show setting: " + staticVariables.preferences.getShowUnknown() + ", result: " + returnValue);
-        }
-
-        Log.d("FILTER_DEBUG", "🎯 checkFiltering() RESULT for " + bandName + ": " + returnValue);
-        Log.d(TAG, "FILTERING - " + rankStore.getRankForBand(bandName) + " " + staticVariables.mustSeeIcon + " " + String.valueOf(returnValue));
-        return returnValue;
-    }
-
     /**
-     * Helper method to detect if a string represents a timestamp
-     * Timestamps are typically very large numbers (> 1000000)
-     * Band names like "1914" will be < 1000000
+     * True if the band's priority (Must / Might / Wont / Unknown) is currently shown.
      */
-    private boolean isTimestamp(String value) {
-        try {
-            Long number = Long.valueOf(value);
-            // Timestamps are typically very large numbers (> 1000000)
-            // Band names like "1914" will be < 1000000
-            boolean result = number > 1000000;
-            Log.d("TIMESTAMP_DEBUG", "🔢 isTimestamp('" + value + "') -> number=" + number + ", result=" + result);
-            return result;
-        } catch (NumberFormatException e) {
-            Log.d("TIMESTAMP_DEBUG", "🔢 isTimestamp('" + value + "') -> NOT A NUMBER, result=false");
-            return false;
-        }
+    boolean checkFiltering(String bandName){
+        int rank = ScheduleFilterProgram.rankBitFor(rankStore.getRankForBand(bandName));
+        return (ScheduleFilterProgram.currentRankMask() & rank) != 0;
     }
 
 }
@@ -13,6 +13,9 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Created by rdorn on 7/29/15.
@@ -20,18 +23,30 @@ import java.util.Map;
  * PROFILE-AWARE: This class now supports multiple profiles
  * - Default profile uses: 70kBands/bandRankings.txt
  * - Other profiles use: profiles/{profileId}/bandRankings.txt
+ *
+ * Changes are kept in memory and written on the file executor; a burst of changes is saved by a single
+ * write (temp file + rename) of the main file and the backup.
  */
 public class rankStore {
 
-    private static Map<String, String> bandRankings = new HashMap<String, String>();
+    // Concurrent so the background writer can iterate while the UI thread records changes. It rejects null keys
+    // and values, so the public lookups and saveBandRanking guard against them.
+    private static final Map<String, String> bandRankings = new ConcurrentHashMap<String, String>();
     private static File bandRankingsFile = FileHandler70k.bandRankings;
     private static File bandRankingsFileBackup = FileHandler70k.bandRankingsBk;
-    private static String currentLoadedProfile = null;  // Track which profile is currently loaded
+    private static volatile String currentLoadedProfile = null;  // Track which profile is currently loaded
+    private static volatile String activeProfileKey = null;  // Cached SharedPreferencesManager active source
+
+    // Bands changed since the last write; one queued write on the file executor saves them all.
+    private static final Set<String> dirtyBands = ConcurrentHashMap.newKeySet();
+    private static final AtomicBoolean writeQueued = new AtomicBoolean(false);
+    private static final Object writeLock = new Object();
 
     /**
      * Returns priority for AI schedule builder: 1=Must, 2=Might, 3=Wont, 0=unknown.
      */
     public static int getPriorityForBand(String bandName) {
+        if (bandName == null) return 0;
         String ranking = getBandRankings().get(bandName);
         if (ranking == null || ranking.isEmpty()) return 0;
         if (ranking.equals(staticVariables.mustSeeIcon)) return 1;
@@ -43,11 +58,12 @@ public class rankStore {
     public static String getRankForBand (String bandName){
 
         String icon;
-        if (bandRankings.get(bandName) == null){
+        String ranking = bandName != null ? bandRankings.get(bandName) : null;
+        if (ranking == null){
             icon = "";
         } else {
-            Log.d("Returning rank of ", bandRankings.get(bandName));
-            icon = staticVariables.getRankIcon(bandRankings.get(bandName));
+            Log.d("Returning rank of ", ranking);
+            icon = staticVariables.getRankIcon(ranking);
         }
 
         return icon;
@@ -57,7 +73,7 @@ public class rankStore {
 
         Integer imageId = R.drawable.icon_empty;
 
-        String ranking = bandRankings.get(bandName);
+        String ranking = bandName != null ? bandRankings.get(bandName) : null;
 
         Log.d("ReturningRankOf ", "Returning Rank Of " + ranking + " for " + bandName);
 
@@ -78,18 +94,40 @@ public class rankStore {
         return imageId;
     }
 
+    /**
+     * Returns the active profile key, querying SharedPreferences only when the cached key was invalidated.
+     */
+    private static String getActiveProfile() {
+        String profile = activeProfileKey;
+        if (profile == null) {
+            profile = SharedPreferencesManager.getInstance().getActivePreferenceSource();
+            activeProfileKey = profile;
+        }
+        return profile;
+    }
+
+    /**
+     * Called by SharedPreferencesManager when the active profile changes; the next lookup reloads
+     * rankings for the new profile.
+     */
+    static void onActiveProfileChanged(String profile) {
+        activeProfileKey = profile;
+    }
+
     /**
      * Gets the correct file paths based on active profile
      */
     private static File[] getFilesForActiveProfile() {
-        String activeProfile = SharedPreferencesManager.getInstance().getActivePreferenceSource();
-        
-        if ("Default".equals(activeProfile)) {
+        return getFilesForProfile(getActiveProfile());
+    }
+
+    private static File[] getFilesForProfile(String profile) {
+        if ("Default".equals(profile)) {
             // Use standard files for Default profile
             return new File[]{FileHandler70k.bandRankings, FileHandler70k.bandRankingsBk};
         } else {
             // Use profile-specific files
-            File profileDir = new File(Bands70k.getAppContext().getFilesDir(), "profiles/" + activeProfile);
+            File profileDir = new File(Bands70k.getAppContext().getFilesDir(), "profiles/" + profile);
             File prioritiesFile = new File(profileDir, "bandRankings.txt");
             File prioritiesBackup = new File(profileDir, "bandRankings.bk");
             return new File[]{prioritiesFile, prioritiesBackup};
@@ -101,22 +139,44 @@ public class rankStore {
      * Called when user switches profiles
      */
     public static void reloadForActiveProfile() {
-        String activeProfile = SharedPreferencesManager.getInstance().getActivePreferenceSource();
+        activeProfileKey = null;
+        String activeProfile = getActiveProfile();
         Log.d("rankStore", "🔄 [PROFILE_RELOAD] Reloading rankings for profile: " + activeProfile);
-        
-        // Clear current data
-        bandRankings.clear();
-        currentLoadedProfile = null;
-        
-        // Reload from correct profile
-        loadBandRankingFromFile();
+
+        synchronized (writeLock) {
+            // Pending changes belong to the profile that is still loaded; write them there before clearing.
+            flushPendingWrites();
+
+            // Clear current data
+            bandRankings.clear();
+            currentLoadedProfile = null;
+
+            // Reload from correct profile
+            loadBandRankingFromFile();
+        }
+    }
+
+    /**
+     * Reloads after an import replaced {@code importedProfile}'s rankings file. Pending changes to that profile
+     * were made against the copy the import replaced, so they are dropped rather than written over the imported
+     * file; pending changes to any other loaded profile are still saved.
+     */
+    public static void reloadAfterImport(String importedProfile) {
+        synchronized (writeLock) {
+            if (importedProfile != null && importedProfile.equals(currentLoadedProfile) && !dirtyBands.isEmpty()) {
+                Log.d("rankStore", "🔄 [PROFILE_RELOAD] Dropping " + dirtyBands.size()
+                        + " pending ranking change(s) replaced by the import of " + importedProfile);
+                dirtyBands.clear();
+            }
+        }
+        reloadForActiveProfile();
     }
 
     public static Map<String, String> getBandRankings (){
-        String activeProfile = SharedPreferencesManager.getInstance().getActivePreferenceSource();
+        String activeProfile = getActiveProfile();
         
         // Reload if profile changed or not loaded yet
-        if (bandRankings.isEmpty() || !activeProfile.equals(currentLoadedProfile)){
+        if (!activeProfile.equals(currentLoadedProfile)){
             Log.d("rankStore", "🔄 [PROFILE_CHECK] Profile changed or not loaded. Current: " + currentLoadedProfile + ", Active: " + activeProfile);
             reloadForActiveProfile();
         }
@@ -125,36 +185,78 @@ public class rankStore {
 
     }
 
+    /**
+     * Updates the ranking in memory and schedules a background write. Any further changes made before
+     * that write runs (swipe menu, wizard bulk edits) are saved by the same write.
+     */
     public static void saveBandRanking (String bandName, String ranking){
         Log.d("Adding a band ranking", bandName + "-" + ranking);
-        bandRankings.put(bandName, ranking);
+        if (bandName == null || ranking == null) {
+            // e.g. details screen with no selected band; nothing sensible to store
+            Log.w("Adding a band ranking", "Ignoring ranking with no band or value");
+            return;
+        }
+        // Make sure the active profile is loaded so the write does not replace its file with just this band.
+        getBandRankings().put(bandName, ranking);
+        dirtyBands.add(bandName);
 
-        saveBandRankingToFile();
+        scheduleWrite();
 
-        if ("Default".equals(SharedPreferencesManager.getInstance().getActivePreferenceSource())) {
+        if ("Default".equals(getActiveProfile())) {
             FirebaseWriteMonitor.markLocalChangePendingSync("priority:" + bandName);
         }
     }
 
-    public static void saveBandRankingToFile(){
-        String activeProfile = SharedPreferencesManager.getInstance().getActivePreferenceSource();
+    private static void scheduleWrite() {
+        if (!writeQueued.compareAndSet(false, true)) {
+            return;
+        }
+        ThreadManager.getInstance().executeFile(new Runnable() {
+            @Override
+            public void run() {
+                // Cleared before writing so a change made during the write queues another one.
+                writeQueued.set(false);
+                synchronized (writeLock) {
+                    flushPendingWrites();
+                }
+            }
+        });
+    }
 
-        String rankingDataString = "";
+    /** Writes the loaded profile's rankings if anything changed since the last write. Caller holds writeLock. */
+    private static void flushPendingWrites() {
+        if (dirtyBands.isEmpty() || currentLoadedProfile == null) {
+            return;
+        }
+        int changed = dirtyBands.size();
+        dirtyBands.clear();
+        Log.d("writingBandRankings", "Coalesced " + changed + " ranking change(s) into one write");
+        writeRankings(currentLoadedProfile);
+    }
 
+    /**
+     * Writes all rankings of the active profile now, on the calling thread.
+     */
+    public static void saveBandRankingToFile(){
+        synchronized (writeLock) {
+            dirtyBands.clear();
+            writeRankings(getActiveProfile());
+        }
+    }
+
+    private static void writeRankings(String profile) {
         if (bandRankings.size() == 0){
             return;
         }
 
+        StringBuilder rankingData = new StringBuilder(bandRankings.size() * 32);
         for (Map.Entry<String,String> entry : bandRankings.entrySet()) {
-            String band = entry.getKey();
-            String ranking = entry.getValue();
-            rankingDataString += band + ':' + ranking + "\n";
+            rankingData.append(entry.getKey()).append(':').append(entry.getValue()).append('\n');
         }
+        byte[] rankingBytes = rankingData.toString().getBytes();
 
-        FileOutputStream stream;
-        
-        // Get correct files for active profile
-        File[] files = getFilesForActiveProfile();
+        // Get correct files for the profile
+        File[] files = getFilesForProfile(profile);
         File mainFile = files[0];
         File backupFile = files[1];
         
@@ -165,25 +267,39 @@ public class rankStore {
         }
 
         try {
-            stream = new FileOutputStream(mainFile);
-            stream.write(rankingDataString.getBytes());
-            stream.close();
-
-            stream = new FileOutputStream(backupFile);
-            stream.write(rankingDataString.getBytes());
-            stream.close();
+            writeAtomically(mainFile, rankingBytes);
+            writeAtomically(backupFile, rankingBytes);
             
-            Log.d("writingBandRankings", "💾 [PROFILE_SAVE] Saved to profile '" + activeProfile + "': " + mainFile.getPath());
+            Log.d("writingBandRankings", "💾 [PROFILE_SAVE] Saved " + bandRankings.size() + " rankings to profile '" + profile + "': " + mainFile.getPath());
+            ProfileDataCache.invalidate(profile);
+            FestivalDataStore.getInstance().syncRankingsAsync(profile, new HashMap<String, String>(bandRankings));
 
         } catch (Exception error) {
             Log.e("writingBandRankings", error.getMessage());
         }
+    }
 
-        Log.d("writingBandRankings", rankingDataString);
+    /** Writes to a temp file and renames it over {@code target}, so readers never see a partial file. */
+    private static void writeAtomically(File target, byte[] data) throws IOException {
+        File temp = new File(target.getPath() + ".tmp");
+        FileOutputStream stream = new FileOutputStream(temp);
+        try {
+            stream.write(data);
+            stream.getFD().sync();
+        } finally {
+            stream.close();
+        }
+        if (!temp.renameTo(target)) {
+            target.delete();
+            if (!temp.renameTo(target)) {
+                temp.delete();
+                throw new IOException("Could not move " + temp.getName() + " into place");
+            }
+        }
     }
 
     public static void loadBandRankingFromFileBackup(){
-        String activeProfile = SharedPreferencesManager.getInstance().getActivePreferenceSource();
+        String activeProfile = getActiveProfile();
         File[] files = getFilesForActiveProfile();
         File backupFile = files[1];
         
@@ -198,8 +314,10 @@ public class rankStore {
 
             while ((line = br.readLine()) != null) {
                 String[] RowData = line.split(":");
-                Log.d("loading band from file", RowData[0] + ":" + RowData[1]);
-                bandRankings.put(RowData[0], RowData[1]);
+                if (RowData.length >= 2) {
+                    Log.d("loading band from file", RowData[0] + ":" + RowData[1]);
+                    bandRankings.put(RowData[0], RowData[1]);
+                }
             }
             br.close();
 
@@ -212,7 +330,7 @@ public class rankStore {
     }
 
     public static void loadBandRankingFromFile(){
-        String activeProfile = SharedPreferencesManager.getInstance().getActivePreferenceSource();
+        String activeProfile = getActiveProfile();
         File[] files = getFilesForActiveProfile();
         File mainFile = files[0];
         
@@ -239,6 +357,7 @@ public class rankStore {
             
             currentLoadedProfile = activeProfile;
             Log.d("rankStore", "✅ [PROFILE_LOAD] Loaded " + bandRankings.size() + " rankings for profile '" + activeProfile + "'");
+            FestivalDataStore.getInstance().syncRankingsAsync(activeProfile, new HashMap<String, String>(bandRankings));
 
             if (bandRankings == null) {
                 loadBandRankingFromFileBackup();
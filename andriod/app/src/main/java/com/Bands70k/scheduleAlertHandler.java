@@ -25,7 +25,7 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.TimeZone;
 
@@ -38,6 +38,8 @@ import static com.Bands70k.staticVariables.context;
 public class scheduleAlertHandler {
 
     private static String staticBandName;
+    /** Rolling window: alerts further out are registered by a later pass, once they come within range. */
+    private static final int ALERT_WINDOW_SECONDS = 604800;
     private Map<Integer, String> alarmStorageStringHash = new HashMap<Integer, String>();
 
     /**
@@ -91,94 +93,143 @@ public class scheduleAlertHandler {
     }
 
     /**
-     * Schedules alerts for all upcoming events based on user preferences.
+     * Brings the registered alerts in line with the current schedule, ranks and preferences.
+     * Only the difference against the alerts registered by the previous pass is applied: alerts that are
+     * no longer wanted are cancelled, new ones are added, and everything else is left alone.
      */
     public void scheduleAlerts(){
 
         if (staticVariables.schedulingAlert == false) {
             staticVariables.schedulingAlert = true;
-            clearAlerts();
-
-            Calendar cal = Calendar.getInstance();
-            long currentEpoch = cal.getTime().getTime();
-            currentEpoch = currentEpoch / 1000;
+            try {
+                if (BandInfo.scheduleRecords == null) {
+                    // Not loaded yet (as opposed to an empty schedule); keep whatever is registered.
+                    Log.d("SchedNotications", "Schedule not loaded, leaving registered alerts unchanged");
+                    return;
+                }
 
-            if (BandInfo.scheduleRecords != null) {
-                if (BandInfo.scheduleRecords.keySet().size() > 0) {
-                    for (String bandName : BandInfo.scheduleRecords.keySet()) {
+                Map<String, AlertPlanner.Alert> desired = planAlerts();
+                Map<Integer, String> registered = loadAlarmStringStorage();
+                AlertPlanner.Diff diff = AlertPlanner.diff(registered, desired.keySet(), this::isAlarmRegistered);
 
-                        Iterator entries = BandInfo.scheduleRecords.get(bandName).scheduleByTime.entrySet().iterator();
-                        while (entries.hasNext()) {
-                            Map.Entry thisEntry = (Map.Entry) entries.next();
-                            Object key = thisEntry.getKey();
+                Log.d("SchedNotications", "Alert plan: " + desired.size() + " wanted, " + diff.keep.size() + " unchanged, "
+                        + diff.cancel.size() + " to cancel, " + diff.add.size() + " to add");
 
-                            scheduleHandler scheduleDetails = BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(key);
-                            shipNotifications.unuiqueNumber++;
+                AlarmManager alarmManager = (AlarmManager) context.getSystemService(Context.ALARM_SERVICE);
+                for (Map.Entry<Integer, String> entry : diff.cancel.entrySet()) {
+                    Log.d("clearLocalAlerts", "Clearing alert " + entry.getKey() + " " + entry.getValue());
+                    alarmManager.cancel(buildAlarmPendingIntent(entry.getKey(), entry.getValue(), 0));
+                }
 
-                            Long alertTime = Long.valueOf(key.toString());// - (Long.valueOf(preferences.getMinBeforeToAlert())) * 60 * 100);
+                alarmStorageStringHash = new HashMap<Integer, String>(diff.keep);
+                staticVariables.alertMessages.clear();
+                staticVariables.alertMessages.addAll(diff.keep.values());
+                int requestCode = 0;
+                for (String key : diff.add) {
+                    AlertPlanner.Alert alert = desired.get(key);
+                    requestCode = AlertPlanner.nextFreeRequestCode(requestCode, alarmStorageStringHash.keySet());
+                    Log.e("SendLocalAlert", "alertMessage = " + alert.message + " delay = " + alert.delaySeconds + " requestCode = " + requestCode + " alertKey=" + key);
+                    staticVariables.alertMessages.add(key);
+                    scheduleNotification(getNotification(alert.message), alert.delaySeconds * 1000, requestCode, alert.message, key);
+                }
+                staticVariables.alertTracker = maxRequestCode(alarmStorageStringHash);
 
-                            boolean showAlerts = scheduleAlertHandler.showAlert(scheduleDetails, bandName);
-                            if (alertTime > 0 && showAlerts == true) {
+                if (!diff.isEmpty()) {
+                    saveAlarmStrings(alarmStorageStringHash);
+                }
+            } catch (Exception error) {
+                Log.e("SchedNotications", "Unable to update alerts " + error.getMessage());
+            } finally {
+                staticVariables.schedulingAlert = false;
+            }
+        }
+    }
 
-                                String alertMessage = bandName + " has a " + scheduleDetails.getShowType() + " in " + staticVariables.preferences.getMinBeforeToAlert() + " min at the " + scheduleDetails.getShowLocation();
-                                // Stable per-event key avoids collisions for same band/location across different days/times.
-                                String alertKey = bandName
-                                        + "|" + scheduleDetails.getShowDay()
-                                        + "|" + scheduleDetails.getShowType()
-                                        + "|" + scheduleDetails.getShowLocation()
-                                        + "|" + scheduleDetails.getEpochStart();
+    /**
+     * Every alert the current data calls for within the next {@link #ALERT_WINDOW_SECONDS}, keyed by
+     * {@link AlertPlanner#registeredKey}.
+     */
+    private Map<String, AlertPlanner.Alert> planAlerts() {
 
-                                SimpleDateFormat alertDateTime = new SimpleDateFormat("MM/dd/yyyy HH:mm:ss");
-                                alertDateTime.setTimeZone(TimeZone.getTimeZone("PST8PDT"));
-                                String alertDateTimeText = alertDateTime.format(new Date(alertTime));
+        Map<String, AlertPlanner.Alert> desired = new LinkedHashMap<String, AlertPlanner.Alert>();
 
-                                Log.d("SchedNotications", "Current Epoch in miliseconds = " + currentEpoch);
-                                //convert time from mili second
+        long currentEpoch = System.currentTimeMillis() / 1000;
+        int minutesBefore = staticVariables.preferences.getMinBeforeToAlert();
 
-                                alertTime = alertTime / 1000;
+        SimpleDateFormat alertDateTime = new SimpleDateFormat("MM/dd/yyyy HH:mm:ss");
+        alertDateTime.setTimeZone(TimeZone.getTimeZone("PST8PDT"));
 
-                                Log.d("SchedNotications", "Current Epoch in seconds = " + currentEpoch);
+        for (String bandName : BandInfo.scheduleRecords.keySet()) {
 
-                                //if (alertTime > currentEpoch) {
-                                    int delay = (int) (alertTime - currentEpoch) - (((staticVariables.preferences.getMinBeforeToAlert()) * 60));
-                                    //int delayInseconds = (delay / 1000);
+            for (Map.Entry<Long, scheduleHandler> thisEntry : BandInfo.scheduleRecords.get(bandName).scheduleByTime.entrySet()) {
 
-                                    Log.d("SchedNotications", bandName + " Alerttime of Epoch is " + String.valueOf(alertTime) + " - " + currentEpoch + " delay is " + delay);
+                scheduleHandler scheduleDetails = thisEntry.getValue();
+                shipNotifications.unuiqueNumber++;
 
-                                    // If we're slightly late (<= 5 min), fire immediately; otherwise drop stale alert.
-                                    if (delay <= 0) {
-                                        int latenessSeconds = -delay;
-                                        if (latenessSeconds <= 300) {
-                                            Log.d("SchedNotications", "Late-window alert (" + latenessSeconds + "s late) for " + bandName + " - scheduling immediate fire");
-                                            delay = 1;
-                                        } else {
-                                            Log.d("SchedNotications", bandName + " alert skipped - stale by " + latenessSeconds + "s (>300s)");
-                                            delay = -1;
-                                        }
-                                    }
+                Long alertTime = thisEntry.getKey();
 
-                                    if (delay > 0 && delay < 604800) {
-                                        Log.d("SchedNotications", "!Timing1 " + String.valueOf(delay) + " - " + bandName + " perferences returned " + showAlerts + ":" + alertDateTimeText);
+                boolean showAlerts = scheduleAlertHandler.showAlert(scheduleDetails, bandName);
+                if (alertTime > 0 && showAlerts == true) {
 
-                                        sendLocalAlert(alertMessage, delay, alertKey);
+                    String alertMessage = bandName + " has a " + scheduleDetails.getShowType() + " in " + minutesBefore + " min at the " + scheduleDetails.getShowLocation();
+                    // Stable per-event key avoids collisions for same band/location across different days/times.
+                    String alertKey = bandName
+                            + "|" + scheduleDetails.getShowDay()
+                            + "|" + scheduleDetails.getShowType()
+                            + "|" + scheduleDetails.getShowLocation()
+                            + "|" + scheduleDetails.getEpochStart();
 
-                                    } else {
-                                        Log.d("SchedNotications", bandName + " delay is too long or short " + String.valueOf(delay));
+                    //convert time from mili second
+                    alertTime = alertTime / 1000;
 
-                                    }
-                                //} else {
-                                //    Log.d("SchedNotications", bandName + " Not adding  Alerttime of Epoch is " + String.valueOf(alertTime) + " - " + currentEpoch);
+                    int delay = (int) (alertTime - currentEpoch) - (minutesBefore * 60);
 
-                                //}
+                    Log.d("SchedNotications", bandName + " Alerttime of Epoch is " + String.valueOf(alertTime) + " - " + currentEpoch + " delay is " + delay);
 
-                            }
+                    // If we're slightly late (<= 5 min), fire immediately; otherwise drop stale alert.
+                    if (delay <= 0) {
+                        int latenessSeconds = -delay;
+                        if (latenessSeconds <= 300) {
+                            Log.d("SchedNotications", "Late-window alert (" + latenessSeconds + "s late) for " + bandName + " - scheduling immediate fire");
+                            delay = 1;
+                        } else {
+                            Log.d("SchedNotications", bandName + " alert skipped - stale by " + latenessSeconds + "s (>300s)");
+                            delay = -1;
                         }
                     }
+
+                    if (delay > 0 && delay < ALERT_WINDOW_SECONDS) {
+                        Log.d("SchedNotications", "!Timing1 " + String.valueOf(delay) + " - " + bandName + " perferences returned " + showAlerts + ":" + alertDateTime.format(new Date(thisEntry.getKey())));
+                        String key = AlertPlanner.registeredKey(alertKey, minutesBefore);
+                        desired.put(key, new AlertPlanner.Alert(key, alertMessage, delay));
+
+                    } else {
+                        Log.d("SchedNotications", bandName + " delay is too long or short " + String.valueOf(delay));
+                    }
                 }
             }
-            saveAlarmStrings(alarmStorageStringHash);
-            staticVariables.schedulingAlert = false;
         }
+        return desired;
+    }
+
+    private static int maxRequestCode(Map<Integer, String> alarms) {
+        int max = 0;
+        for (Integer id : alarms.keySet()) {
+            max = Math.max(max, id);
+        }
+        return max;
+    }
+
+    /** The broadcast an alert is registered with; request code and action (the alert key) identify it. */
+    private PendingIntent buildAlarmPendingIntent(int requestCode, String alertKey, int extraFlags) {
+        Intent notificationIntent = new Intent(context, NotificationPublisher.class);
+        notificationIntent.setAction(alertKey);
+        return PendingIntent.getBroadcast(context, requestCode, notificationIntent, PendingIntent.FLAG_IMMUTABLE | extraFlags);
+    }
+
+    /** Whether the alarm recorded under {@code requestCode} still exists; reboots and force stops drop alarms. */
+    private boolean isAlarmRegistered(int requestCode, String alertKey) {
+        return buildAlarmPendingIntent(requestCode, alertKey, PendingIntent.FLAG_NO_CREATE) != null;
     }
 
     /**
@@ -398,17 +449,8 @@ public class scheduleAlertHandler {
             for (Integer id : alarmStorageStringHash.keySet()) {
 
                 String alertKey = alarmStorageStringHash.get(id);
-                Notification tempNotification = getNotification(context.getString(R.string.app_name));
-
-                Intent notificationIntent = new Intent(context, NotificationPublisher.class);
-                notificationIntent.putExtra(NotificationPublisher.NOTIFICATION, tempNotification);
-                notificationIntent.putExtra("messageText", context.getString(R.string.app_name));
-                notificationIntent.setAction(alertKey);
-
-                PendingIntent pendingIntent = PendingIntent.getBroadcast(context, id, notificationIntent, PendingIntent.FLAG_IMMUTABLE);
-
                 Log.d("clearLocalAlerts", "Clearing alert " + id.toString());
-                clearAlarm.cancel(pendingIntent);
+                clearAlarm.cancel(buildAlarmPendingIntent(id, alertKey, 0));
             }
 
             staticVariables.alertMessages.clear();
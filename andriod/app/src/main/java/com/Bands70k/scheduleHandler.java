@@ -2,10 +2,7 @@ package com.Bands70k;
 
 import android.util.Log;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.Locale;
 
 /**
  * Represents a scheduled event for a band, including location, time, and type.
@@ -13,30 +10,6 @@ import java.util.Locale;
  */
 public class scheduleHandler {
 
-    /** Match iOS ScheduleCSVImporter.calculateTimeIndex date/time patterns. */
-    private static final String[] SCHEDULE_DATE_TIME_PATTERNS = {
-            "yyyy-MM-dd HH:mm",
-            "yyyy-MM-dd H:mm",
-            "yyyy-M-d HH:mm",
-            "yyyy-M-d H:mm",
-            "yyyy-MM-dd HH:mm:ss",
-            "yyyy-MM-dd H:mm:ss",
-            "M/d/yyyy HH:mm",
-            "MM/dd/yyyy HH:mm",
-            "M/d/yyyy H:mm",
-            "MM/dd/yyyy H:mm",
-            "M/d/yyyy h:mm a",
-            "MM/dd/yyyy h:mm a",
-            "MM/dd/yyyy HH:mm:ss",
-            "MM/dd/yyyy H:mm:ss",
-            "M/d/yyyy HH:mm:ss",
-            "M/d/yyyy H:mm:ss",
-            "MM/dd/yy HH:mm",
-            "MM/dd/yy H:mm",
-            "M/d/yy HH:mm",
-            "M/d/yy H:mm",
-    };
-
     private String showLocation;
     private String showDay;
     private String bandName;
@@ -106,6 +79,12 @@ public class scheduleHandler {
         return endTime.getTime();
     }
 
+    /** Restores already-parsed start/end times (schedule snapshot load). */
+    void setEpochTimes(long start, long end) {
+        startTime = new Date(start);
+        endTime = new Date(end);
+    }
+
     /**
      * Sets the show location.
      * @param value The show location string.
@@ -193,10 +172,21 @@ public class scheduleHandler {
      * @param startTimeValue The start time string.
      */
     public void setStartTime(String dateValue, String startTimeValue){
+        setStartTime(dateValue, startTimeValue, null);
+    }
+
+    /**
+     * Sets the start time, parsing with the given per-file parser (null uses the shared one).
+     * @param dateValue The date string.
+     * @param startTimeValue The start time string.
+     * @param parser The parser for the file being loaded, or null.
+     */
+    public void setStartTime(String dateValue, String startTimeValue, ScheduleDateTimeParser parser){
         if (dateValue != null && !dateValue.trim().isEmpty()) {
             setShowDate(dateValue);
         }
-        Date parsed = parseScheduleDateTime(dateValue, startTimeValue);
+        Date parsed = parser != null ? parser.parse(dateValue, startTimeValue)
+                : parseScheduleDateTime(dateValue, startTimeValue);
         if (parsed != null) {
             startTime = parsed;
             Log.d("startTime", "starttime is " + startTime + " " + dateValue + " " + startTimeValue);
@@ -216,7 +206,18 @@ public class scheduleHandler {
      * @param endTimeValue The end time string.
      */
     public void setEndTime(String dateValue, String endTimeValue){
-        Date parsed = parseScheduleDateTime(dateValue, endTimeValue);
+        setEndTime(dateValue, endTimeValue, null);
+    }
+
+    /**
+     * Sets the end time, parsing with the given per-file parser (null uses the shared one).
+     * @param dateValue The date string.
+     * @param endTimeValue The end time string.
+     * @param parser The parser for the file being loaded, or null.
+     */
+    public void setEndTime(String dateValue, String endTimeValue, ScheduleDateTimeParser parser){
+        Date parsed = parser != null ? parser.parse(dateValue, endTimeValue)
+                : parseScheduleDateTime(dateValue, endTimeValue);
         if (parsed != null) {
             endTime = parsed;
         }
@@ -224,25 +225,7 @@ public class scheduleHandler {
 
     /** Parses a schedule date/time pair. Package-visible for unit tests. */
     static Date parseScheduleDateTime(String dateValue, String timeValue) {
-        if (dateValue == null || timeValue == null) {
-            return null;
-        }
-        String date = dateValue.trim();
-        String time = timeValue.trim();
-        if (date.isEmpty() || time.isEmpty()) {
-            return null;
-        }
-        String dateTime = date + ' ' + time;
-        for (String pattern : SCHEDULE_DATE_TIME_PATTERNS) {
-            try {
-                SimpleDateFormat dateFormat = new SimpleDateFormat(pattern, Locale.US);
-                dateFormat.setLenient(false);
-                return dateFormat.parse(dateTime);
-            } catch (ParseException ignored) {
-            }
-        }
-        Log.w("scheduleHandler", "Unable to parse schedule date/time: '" + dateTime + "'");
-        return null;
+        return ScheduleDateTimeParser.parseShared(dateValue, timeValue);
     }
     /**
      * Gets the end time as a Date object.
@@ -5,15 +5,11 @@ import android.os.Looper;
 import android.util.Log;
 
 import java.io.BufferedReader;
-import java.io.DataInputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.MalformedURLException;
-import java.net.URL;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -58,42 +54,18 @@ public class scheduleInfo {
                 return new HashMap<String, scheduleTimeTracker>(); // Return empty map
             }
                 
-            CacheHashManager cacheManager = CacheHashManager.getInstance();
-            // Create temp file for hash comparison
-            File tempSchedule = new File(showBands.newRootDir + FileHandler70k.directoryName + "70kScheduleInfo.csv.temp");
-            boolean downloadSuccessful = false;
-            
             try {
                 Log.d("ScheduleLine", "DownloadScheduleFile - 2 URL=" + scheduleUrl);
-                // Append cache-busting param so same URL with updated content (e.g. Dropbox file replaced) returns fresh response.
-                String urlWithBust = scheduleUrl + (scheduleUrl.contains("?") ? "&" : "?") + "_t=" + System.currentTimeMillis();
-                URL u = new URL(urlWithBust);
-                java.net.HttpURLConnection connection = (java.net.HttpURLConnection) u.openConnection();
-                connection.setInstanceFollowRedirects(true);
-                HttpConnectionHelper.applyTimeouts(connection);
-                connection.setUseCaches(false);
-                connection.setRequestProperty("Cache-Control", "no-cache, no-store, must-revalidate");
-                connection.setRequestProperty("Pragma", "no-cache");
-                InputStream is = connection.getInputStream();
-
-                DataInputStream dis = new DataInputStream(is);
-
-                byte[] buffer = new byte[1024];
-                int length;
-
-                // Download to temp file first
-                FileOutputStream fos = new FileOutputStream(tempSchedule);
-                while ((length = dis.read(buffer)) > 0) {
-                    fos.write(buffer, 0, length);
+                // The schedule is replaced in place under the same URL (e.g. Dropbox), so ask caches to revalidate;
+                // the conditional request turns an unchanged file into a 304 instead of a full download.
+                boolean dataChanged = ConditionalDownloader.fetchIfChanged(scheduleUrl, FileHandler70k.schedule, "scheduleInfo", true);
+                lastScheduleDataChanged = dataChanged;
+                Log.d("ScheduleLine", "DownloadScheduleFile - 3");
+                if (dataChanged) {
+                    Log.i("ScheduleInfo", "Schedule data has changed, processed new file");
+                } else {
+                    Log.i("ScheduleInfo", "Schedule data unchanged, using cached version");
                 }
-                fos.close();
-                dis.close();
-                is.close();
-                try { connection.disconnect(); } catch (Exception ignored) {}
-                
-                downloadSuccessful = true;
-                Log.d("ScheduleLine", "DownloadScheduleFile - 3 - Downloaded to temp file");
-                
             } catch (MalformedURLException mue) {
                 Log.e("SYNC getUpdate", "DownloadScheduleFile malformed url error", mue);
             } catch (IOException ioe) {
@@ -103,22 +75,6 @@ public class scheduleInfo {
             } catch (Exception generalError) {
                 Log.e("General Exception", "DownloadScheduleFile Downloading bandData", generalError);
             }
-            
-            // Process temp file only if download was successful and content changed
-            if (downloadSuccessful) {
-                boolean dataChanged = cacheManager.processIfChanged(tempSchedule, FileHandler70k.schedule, "scheduleInfo");
-                lastScheduleDataChanged = dataChanged;
-                if (dataChanged) {
-                    Log.i("ScheduleInfo", "Schedule data has changed, processed new file");
-                } else {
-                    Log.i("ScheduleInfo", "Schedule data unchanged, using cached version");
-                }
-            } else {
-                // Clean up temp file on download failure
-                if (tempSchedule.exists()) {
-                    tempSchedule.delete();
-                }
-            }
         }
 
         Log.d("ScheduleLine", "DownloadScheduleFile - 4");
@@ -181,118 +137,129 @@ public class scheduleInfo {
                 return bandSchedule;
             }
 
-            BufferedReader br = new BufferedReader(new FileReader(file));
-            String line;
-
-            boolean labelRow = true;
-            Map<String, Integer> labelKeys = new HashMap<>();
-            int lineCount = 0;
-
-            Log.d("ParseScheduleCSV", "ParseScheduleCSV - 2");
-            while ((line = br.readLine()) != null) {
-                lineCount++;
-                try {
-                    List<String> rowFields = ScheduleQRCompression.parseCSVLine(line.trim());
-                    if (rowFields.isEmpty()) {
-                        continue;
-                    }
-                    if (labelRow == true){
-                        Integer subCounter = 0;
-                        for (String row : rowFields){
-                            labelKeys.put(normalizeScheduleHeader(row), subCounter);
-                            subCounter = subCounter + 1;
-                        }
-                        labelRow = false;
-                    } else {
-                        scheduleHandler scheduleLine = new scheduleHandler();
-
-                        if (labelKeys.containsKey(staticVariables.schedLocationRow)) {
-                            int locIdx = labelKeys.get(staticVariables.schedLocationRow);
-                            if (locIdx < rowFields.size()) {
-                                String location = rowFields.get(locIdx);
-                                if (location != null && !location.isEmpty()) {
-                                    locationsInCSVOrder.add(location);
+            final String sourceHash = CacheHashManager.getInstance().getCachedHash("scheduleInfo");
+            if (ScheduleSnapshot.load(file, sourceHash, bandSchedule, locationsInCSVOrder)) {
+                Log.d("ScheduleInfo", "Loaded schedule snapshot: " + bandSchedule.size() + " bands");
+            } else {
+                BufferedReader br = new BufferedReader(new FileReader(file));
+
+                final Map<String, Integer> labelKeys = new HashMap<>();
+                final ScheduleDateTimeParser timeParser = new ScheduleDateTimeParser();
+                final ScheduleSnapshot snapshot = new ScheduleSnapshot();
+
+                Log.d("ParseScheduleCSV", "ParseScheduleCSV - 2");
+                new CSVTokenizer(br).parse(new CSVTokenizer.RowCollector() {
+                    @Override
+                    void onRow(int lineCount, List<String> rowFields) {
+                        try {
+                            if (rowFields.size() == 1 && rowFields.get(0).trim().isEmpty()) {
+                                return;
+                            }
+                            if (labelKeys.isEmpty()){
+                                Integer subCounter = 0;
+                                for (String row : rowFields){
+                                    labelKeys.put(normalizeScheduleHeader(row), subCounter);
+                                    subCounter = subCounter + 1;
+                                }
+                                return;
+                            }
+                            scheduleHandler scheduleLine = new scheduleHandler();
+                            String rowDescUrl = null;
+                            String rowImageUrl = null;
+                            String rowImageDate = null;
+
+                            if (labelKeys.containsKey(staticVariables.schedLocationRow)) {
+                                int locIdx = labelKeys.get(staticVariables.schedLocationRow);
+                                if (locIdx < rowFields.size()) {
+                                    String location = rowFields.get(locIdx);
+                                    if (location != null && !location.isEmpty()) {
+                                        locationsInCSVOrder.add(location);
+                                    }
                                 }
                             }
-                        }
 
-                        if (!labelKeys.containsKey(staticVariables.schedBandRow)) {
-                            continue;
-                        }
-                        String bandName = getScheduleField(rowFields, labelKeys, staticVariables.schedBandRow);
-                        if (bandName.isEmpty()) {
-                            continue;
-                        }
+                            if (!labelKeys.containsKey(staticVariables.schedBandRow)) {
+                                return;
+                            }
+                            String bandName = getScheduleField(rowFields, labelKeys, staticVariables.schedBandRow);
+                            if (bandName.isEmpty()) {
+                                return;
+                            }
 
-                        if (hasScheduleColumn(labelKeys, staticVariables.schedStartTimeRow)) {
-                            staticVariables.schedulePresent = true;
-                            scheduleLine.setBandName(bandName);
-                            scheduleLine.setShowLocation(getScheduleField(rowFields, labelKeys, staticVariables.schedLocationRow));
-                            scheduleLine.setShowDay(getScheduleField(rowFields, labelKeys, staticVariables.schedDayRow));
-                            scheduleLine.setShowType(getScheduleField(rowFields, labelKeys, staticVariables.schedTypeRow));
+                            if (hasScheduleColumn(labelKeys, staticVariables.schedStartTimeRow)) {
+                                staticVariables.schedulePresent = true;
+                                snapshot.schedulePresent = true;
+                                scheduleLine.setBandName(bandName);
+                                scheduleLine.setShowLocation(getScheduleField(rowFields, labelKeys, staticVariables.schedLocationRow));
+                                scheduleLine.setShowDay(getScheduleField(rowFields, labelKeys, staticVariables.schedDayRow));
+                                scheduleLine.setShowType(getScheduleField(rowFields, labelKeys, staticVariables.schedTypeRow));
 
-                            String dateValue = getScheduleField(rowFields, labelKeys, staticVariables.schedDateRow);
-                            String startTimeValue = getScheduleField(rowFields, labelKeys, staticVariables.schedStartTimeRow);
-                            String endTimeValue = getScheduleField(rowFields, labelKeys, staticVariables.schedEndTimeRow);
+                                String dateValue = getScheduleField(rowFields, labelKeys, staticVariables.schedDateRow);
+                                String startTimeValue = getScheduleField(rowFields, labelKeys, staticVariables.schedStartTimeRow);
+                                String endTimeValue = getScheduleField(rowFields, labelKeys, staticVariables.schedEndTimeRow);
 
-                            scheduleLine.setStartTimeString(startTimeValue);
-                            scheduleLine.setEndTimeString(endTimeValue);
+                                scheduleLine.setStartTimeString(startTimeValue);
+                                scheduleLine.setEndTimeString(endTimeValue);
 
-                            scheduleLine.setStartTime(dateValue, startTimeValue);
-                            scheduleLine.setEndTime(dateValue, endTimeValue);
-                        }
+                                scheduleLine.setStartTime(dateValue, startTimeValue, timeParser);
+                                scheduleLine.setEndTime(dateValue, endTimeValue, timeParser);
+                            }
 
-                        if (labelKeys.containsKey(staticVariables.schedDescriptionURLRow)) {
-                            int descIdx = labelKeys.get(staticVariables.schedDescriptionURLRow);
-                            if (descIdx < rowFields.size()) {
-                                String descUrl = rowFields.get(descIdx);
-                                if (descUrl != null && descUrl.length() > 5) {
-                                    staticVariables.showNotesMap.put(bandName, descUrl);
+                            if (labelKeys.containsKey(staticVariables.schedDescriptionURLRow)) {
+                                int descIdx = labelKeys.get(staticVariables.schedDescriptionURLRow);
+                                if (descIdx < rowFields.size()) {
+                                    String descUrl = rowFields.get(descIdx);
+                                    if (descUrl != null && descUrl.length() > 5) {
+                                        staticVariables.showNotesMap.put(bandName, descUrl);
+                                        rowDescUrl = descUrl;
+                                    }
                                 }
                             }
-                        }
 
-                        if (labelKeys.containsKey(staticVariables.schedNotesRow)) {
-                            scheduleLine.setShowNotes(getScheduleField(rowFields, labelKeys, staticVariables.schedNotesRow));
-                        }
+                            if (labelKeys.containsKey(staticVariables.schedNotesRow)) {
+                                scheduleLine.setShowNotes(getScheduleField(rowFields, labelKeys, staticVariables.schedNotesRow));
+                            }
 
-                        if (labelKeys.containsKey(staticVariables.schedImageURLRow)) {
-                            int imageIdx = labelKeys.get(staticVariables.schedImageURLRow);
-                            if (imageIdx < rowFields.size()) {
-                                String imageUrl = rowFields.get(imageIdx);
-                                if (imageUrl != null && imageUrl.length() > 5) {
-                                    staticVariables.imageUrlMap.put(bandName, imageUrl);
-
-                                    if (labelKeys.containsKey(staticVariables.schedImageDateRow)) {
-                                        String imageDate = getScheduleField(rowFields, labelKeys, staticVariables.schedImageDateRow);
-                                        if (!imageDate.isEmpty()) {
-                                            staticVariables.imageDateMap.put(bandName, imageDate.trim());
-                                            Log.d("ScheduleImageDate", "Parsed ImageDate '" + imageDate.trim() + "' for band '" + bandName + "'");
+                            if (labelKeys.containsKey(staticVariables.schedImageURLRow)) {
+                                int imageIdx = labelKeys.get(staticVariables.schedImageURLRow);
+                                if (imageIdx < rowFields.size()) {
+                                    String imageUrl = rowFields.get(imageIdx);
+                                    if (imageUrl != null && imageUrl.length() > 5) {
+                                        staticVariables.imageUrlMap.put(bandName, imageUrl);
+                                        rowImageUrl = imageUrl;
+
+                                        if (labelKeys.containsKey(staticVariables.schedImageDateRow)) {
+                                            String imageDate = getScheduleField(rowFields, labelKeys, staticVariables.schedImageDateRow);
+                                            if (!imageDate.isEmpty()) {
+                                                staticVariables.imageDateMap.put(bandName, imageDate.trim());
+                                                rowImageDate = imageDate.trim();
+                                                Log.d("ScheduleImageDate", "Parsed ImageDate '" + imageDate.trim() + "' for band '" + bandName + "'");
+                                            }
                                         }
                                     }
                                 }
                             }
-                        }
 
-                        if (bandSchedule.get(bandName) == null){
-                            scheduleTimeTracker timeTrack = new scheduleTimeTracker();
-                            timeTrack.addToscheduleByTime(scheduleLine.getEpochStart(), scheduleLine);
-                            bandSchedule.put(bandName, timeTrack);
-                        } else {
-                            bandSchedule.get(bandName).addToscheduleByTime(scheduleLine.getEpochStart(), scheduleLine);
-                        }
+                            if (bandSchedule.get(bandName) == null){
+                                scheduleTimeTracker timeTrack = new scheduleTimeTracker();
+                                timeTrack.addToscheduleByTime(scheduleLine.getEpochStart(), scheduleLine);
+                                bandSchedule.put(bandName, timeTrack);
+                            } else {
+                                bandSchedule.get(bandName).addToscheduleByTime(scheduleLine.getEpochStart(), scheduleLine);
+                            }
+                            snapshot.add(bandName, scheduleLine, rowDescUrl, rowImageUrl, rowImageDate);
 
 
+                        } catch (Exception error) {
+                            Log.d("ParseScheduleCSV", "ParseScheduleCSV - 5 line=" + lineCount);
+                            Log.d("ScheduleLine", "Error" + error.toString() + "-" + error.getMessage());
+                            //just keep going
+                        }
                     }
-
-                } catch (Exception error) {
-                    Log.d("ParseScheduleCSV", "ParseScheduleCSV - 5 line=" + lineCount);
-                    Log.d("ScheduleLine", "Error" + error.toString() + "-" + error.getMessage());
-                    //just keep going
-                }
-
+                });
+                try { br.close(); } catch (Exception ignored) {}
+                snapshot.write(file, sourceHash, locationsInCSVOrder);
             }
-            try { br.close(); } catch (Exception ignored) {}
 
         } catch (Exception e) {
             Log.d("ParseScheduleCSV", "ParseScheduleCSV - 6");
@@ -307,6 +274,7 @@ public class scheduleInfo {
             VenueColorAssignment.getInstance().updateFromCsvLocations(
                     staticVariables.context, locationsInCSVOrder, staticVariables.eventYear);
         }
+        ScheduleEventIndex.publish(bandSchedule);
         showsAttended.invalidateAttendanceCollisionCache();
         return bandSchedule;
     }
@@ -13,7 +13,6 @@ import android.content.Intent;
 import android.content.res.Configuration;
 import android.content.res.Resources;
 import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
 import android.graphics.Color;
 import android.graphics.Rect;
 
@@ -70,8 +69,10 @@ import android.os.VibrationEffect;
 import android.os.Vibrator;
 import android.content.Context;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.io.File;
@@ -266,6 +267,7 @@ public class showBandDetails extends Activity {
 
                     // PHASE 2: Load and display cached image
                     loadAndDisplayCachedImage(loadId, loadingBand);
+                    prefetchNeighbourImages();
 
                     if (isStaleProgressiveLoad(loadId, loadingBand) || isFinishing() || isDestroyed()) {
                         return;
@@ -297,8 +299,8 @@ public class showBandDetails extends Activity {
                     
                 } catch (OutOfMemoryError oom) {
                     Log.e("ProgressiveLoading", "OutOfMemoryError in progressive loading for " + bandName, oom);
-                    // Force garbage collection to try to recover
-                    System.gc();
+                    // Drop decoded images to recover
+                    BandImageCache.clearMemory();
                     // CRASH PREVENTION: Safe cleanup
                     if (!isFinishing() && !isDestroyed()) {
                         runOnUiThread(new Runnable() {
@@ -543,71 +545,64 @@ public class showBandDetails extends Activity {
             if (imageURI != null) {
                 Log.d("ProgressiveLoading", "Phase 2: Cached image found for " + bandName);
                 java.io.File imageFile = new java.io.File(imageURI);
-                if (imageFile.exists() && imageFile.length() > 0) {
-                    // CRASH PREVENTION: Use safe bitmap decoding with memory limits
-                    BitmapFactory.Options options = new BitmapFactory.Options();
-                    options.inJustDecodeBounds = true;
-                    BitmapFactory.decodeFile(imageFile.getAbsolutePath(), options);
-                    
-                    // Check if image dimensions are valid and calculate appropriate sample size
-                    if (options.outWidth > 0 && options.outHeight > 0) {
-                        
-                        // Calculate sample size to fit within memory constraints (max 2048x2048)
-                        int maxDimension = 2048;
-                        int sampleSize = 1;
-                        
-                        if (options.outWidth > maxDimension || options.outHeight > maxDimension) {
-                            int widthRatio = options.outWidth / maxDimension;
-                            int heightRatio = options.outHeight / maxDimension;
-                            sampleSize = Math.max(widthRatio, heightRatio);
-                            Log.d("ProgressiveLoading", "Phase 2: Scaling down large image for " + bandName + 
-                                  " (" + options.outWidth + "x" + options.outHeight + ") with sample size " + sampleSize);
-                        }
-                        
-                        options.inJustDecodeBounds = false;
-                        options.inSampleSize = sampleSize;
-                        options.inPreferredConfig = Bitmap.Config.RGB_565; // Use less memory
-                        
-                        Bitmap bitmap = BitmapFactory.decodeFile(imageFile.getAbsolutePath(), options);
-                        if (bitmap != null && !bitmap.isRecycled()) {
-                            // CRASH PREVENTION: Check activity state before UI update
-                            if (!isFinishing() && !isDestroyed()) {
-                                runOnUiThread(() -> {
-                                    try {
-                                        if (isStaleProgressiveLoad(loadId, loadingBand) || isFinishing()
-                                                || isDestroyed() || bandLogoImage == null) {
-                                            if (!bitmap.isRecycled()) {
-                                                bitmap.recycle();
-                                            }
-                                            return;
-                                        }
-                                        displayBandImage(bitmap);
-                                    } catch (Exception e) {
-                                        Log.e("ProgressiveLoading", "Phase 2: Error updating UI for "
-                                                + loadingBand, e);
-                                    }
-                                });
-                            } else {
-                                bitmap.recycle();
+                // Memory hit when prefetched or already shown; otherwise one decode of the downsampled copy
+                Bitmap bitmap = BandImageCache.load(imageFile);
+                if (bitmap != null && !isFinishing() && !isDestroyed()) {
+                    runOnUiThread(() -> {
+                        try {
+                            if (isStaleProgressiveLoad(loadId, loadingBand) || isFinishing()
+                                    || isDestroyed() || bandLogoImage == null) {
+                                return;
                             }
+                            displayBandImage(bitmap);
+                        } catch (Exception e) {
+                            Log.e("ProgressiveLoading", "Phase 2: Error updating UI for "
+                                    + loadingBand, e);
                         }
-                    } else {
-                        Log.w("ProgressiveLoading", "Phase 2: Invalid image dimensions for " + loadingBand
-                                + " (" + options.outWidth + "x" + options.outHeight + ")");
-                    }
+                    });
                 }
             } else {
                 Log.d("ProgressiveLoading", "Phase 2: No cached image for " + loadingBand);
             }
         } catch (OutOfMemoryError oom) {
             Log.e("ProgressiveLoading", "Phase 2: OutOfMemoryError loading image for " + loadingBand, oom);
-            // Force garbage collection to try to recover
-            System.gc();
+            // Drop decoded images to recover
+            BandImageCache.clearMemory();
         } catch (Exception e) {
             Log.e("ProgressiveLoading", "Phase 2: Error loading cached image for " + bandName, e);
         }
     }
     
+    /**
+     * Decodes the cached images of the previous and next bands in the details list into memory,
+     * so a swipe shows them without waiting for a decode.
+     */
+    private void prefetchNeighbourImages() {
+        try {
+            List<MainListRow> rows = staticVariables.currentListForDetails;
+            int position = staticVariables.currentListPosition;
+            if (rows == null || position < 0 || position >= rows.size()) {
+                return;
+            }
+            List<String> neighbours = new ArrayList<>(2);
+            String current = navigationDisplayName(rows.get(position));
+            for (int step : new int[]{1, -1}) {
+                for (int i = position + step; i >= 0 && i < rows.size(); i += step) {
+                    MainListRow row = rows.get(i);
+                    String name = navigationDisplayName(row);
+                    if (!row.placeholder && !name.isEmpty() && !name.equals(current)) {
+                        neighbours.add(name);
+                        break;
+                    }
+                }
+            }
+            BandImageCache.prefetch(neighbours);
+        } catch (Exception e) {
+            // The list can be rebuilt by a filter refresh while we read it; prefetch is best effort
+            Log.d("ProgressiveLoading", "Neighbour image prefetch skipped: " + e.getMessage());
+        }
+    }
+
     /**
      * PHASE 3: Populate schedule, links, and other static data (CRASH-SAFE with lifecycle checks)
      */
@@ -711,7 +706,7 @@ public class showBandDetails extends Activity {
                 downloadedImage = imageHandler.getImageImmediate();
             } catch (OutOfMemoryError oom) {
                 Log.e("ProgressiveLoading", "Phase 5: OutOfMemoryError during image download for " + loadingBand, oom);
-                System.gc();
+                BandImageCache.clearMemory();
                 return;
             } catch (Exception e) {
                 Log.e("ProgressiveLoading", "Phase 5: Exception during image download for " + loadingBand, e);
@@ -723,68 +718,29 @@ public class showBandDetails extends Activity {
             }
 
             if (downloadedImage != null) {
-                    java.io.File imageFile = new java.io.File(downloadedImage);
-                    if (imageFile.exists() && imageFile.length() > 0) {
-                        // CRASH PREVENTION: Use safe bitmap decoding with memory limits
-                        BitmapFactory.Options options = new BitmapFactory.Options();
-                        options.inJustDecodeBounds = true;
-                        BitmapFactory.decodeFile(imageFile.getAbsolutePath(), options);
-                        
-                        // Check if image dimensions are valid and calculate appropriate sample size
-                        if (options.outWidth > 0 && options.outHeight > 0) {
-                            
-                            // Calculate sample size to fit within memory constraints (max 2048x2048)
-                            int maxDimension = 2048;
-                            int sampleSize = 1;
-                            
-                            if (options.outWidth > maxDimension || options.outHeight > maxDimension) {
-                                int widthRatio = options.outWidth / maxDimension;
-                                int heightRatio = options.outHeight / maxDimension;
-                                sampleSize = Math.max(widthRatio, heightRatio);
-                                Log.d("ProgressiveLoading", "Phase 5: Scaling down large downloaded image for " + bandName + 
-                                      " (" + options.outWidth + "x" + options.outHeight + ") with sample size " + sampleSize);
-                            }
-                            
-                            options.inJustDecodeBounds = false;
-                            options.inSampleSize = sampleSize;
-                            options.inPreferredConfig = Bitmap.Config.RGB_565; // Use less memory
-                            
-                            Bitmap bitmap = BitmapFactory.decodeFile(imageFile.getAbsolutePath(), options);
-                            if (bitmap != null && !bitmap.isRecycled()) {
-                                // CRASH PREVENTION: Check activity state before UI update
-                                if (!isFinishing() && !isDestroyed()) {
-                                    runOnUiThread(() -> {
-                                        try {
-                                            if (isStaleProgressiveLoad(loadId, loadingBand) || isFinishing()
-                                                    || isDestroyed() || bandLogoImage == null) {
-                                                if (!bitmap.isRecycled()) {
-                                                    bitmap.recycle();
-                                                }
-                                                return;
-                                            }
-                                            displayBandImage(bitmap);
-                                            Log.d("ProgressiveLoading", "Phase 5: Image UI updated for "
-                                                    + loadingBand);
-                                        } catch (Exception e) {
-                                            Log.e("ProgressiveLoading", "Phase 5: Error updating UI for "
-                                                    + loadingBand, e);
-                                        }
-                                    });
-                                } else {
-                                    bitmap.recycle();
-                                }
+                Bitmap bitmap = BandImageCache.load(new java.io.File(downloadedImage));
+                if (bitmap != null && !isFinishing() && !isDestroyed()) {
+                    runOnUiThread(() -> {
+                        try {
+                            if (isStaleProgressiveLoad(loadId, loadingBand) || isFinishing()
+                                    || isDestroyed() || bandLogoImage == null) {
+                                return;
                             }
-                        } else {
-                            Log.w("ProgressiveLoading", "Phase 5: Invalid downloaded image dimensions for "
-                                    + loadingBand + " (" + options.outWidth + "x" + options.outHeight + ")");
+                            displayBandImage(bitmap);
+                            Log.d("ProgressiveLoading", "Phase 5: Image UI updated for "
+                                    + loadingBand);
+                        } catch (Exception e) {
+                            Log.e("ProgressiveLoading", "Phase 5: Error updating UI for "
+                                    + loadingBand, e);
                         }
-                    }
+                    });
+                }
             } else {
                 Log.d("ProgressiveLoading", "Phase 5: Image download failed for " + loadingBand + " — no retry");
             }
         } catch (OutOfMemoryError oom) {
             Log.e("ProgressiveLoading", "Phase 5: OutOfMemoryError downloading image for " + loadingBand, oom);
-            System.gc();
+            BandImageCache.clearMemory();
         } catch (Exception e) {
             Log.e("ProgressiveLoading", "Phase 5: Error downloading image for " + loadingBand, e);
         }
@@ -854,10 +810,7 @@ public class showBandDetails extends Activity {
             Log.d("displayBandImage", "Image displayed successfully for " + bandName);
         } catch (Exception e) {
             Log.e("displayBandImage", "Error displaying image for " + bandName, e);
-            // CRASH PREVENTION: Recycle bitmap if there's an error to prevent memory leaks
-            if (bitmap != null && !bitmap.isRecycled()) {
-                bitmap.recycle();
-            }
+            // Bitmaps come from BandImageCache and may be shown again; never recycle them here
         }
     }
     
@@ -877,39 +830,12 @@ public class showBandDetails extends Activity {
                 java.io.File imageFile = new java.io.File(imageURI);
                 if (imageFile.exists() && imageFile.length() > 0) {
                     Log.d("WebViewImageFix", "Found cached image file, loading immediately");
-                    
-                    // Use safe bitmap decoding with memory limits (same as progressive loading)
-                    BitmapFactory.Options options = new BitmapFactory.Options();
-                    options.inJustDecodeBounds = true;
-                    BitmapFactory.decodeFile(imageFile.getAbsolutePath(), options);
-                    
-                    // Check if image dimensions are valid and calculate appropriate sample size
-                    if (options.outWidth > 0 && options.outHeight > 0) {
-                        
-                        // Calculate sample size to fit within memory constraints (max 2048x2048)
-                        int maxDimension = 2048;
-                        int sampleSize = 1;
-                        
-                        if (options.outWidth > maxDimension || options.outHeight > maxDimension) {
-                            int widthRatio = options.outWidth / maxDimension;
-                            int heightRatio = options.outHeight / maxDimension;
-                            sampleSize = Math.max(widthRatio, heightRatio);
-                            Log.d("WebViewImageFix", "Scaling down large cached image for " + bandName + 
-                                  " (" + options.outWidth + "x" + options.outHeight + ") with sample size " + sampleSize);
-                        }
-                        
-                        options.inJustDecodeBounds = false;
-                        options.inSampleSize = sampleSize;
-                        options.inPreferredConfig = Bitmap.Config.RGB_565; // Use less memory
-                        
-                        Bitmap bitmap = BitmapFactory.decodeFile(imageFile.getAbsolutePath(), options);
-                        if (bitmap != null && !bitmap.isRecycled() && bandLogoImage != null) {
-                            displayBandImage(bitmap);
-                            Log.d("WebViewImageFix", "Cached image restored successfully for " + bandName);
-                        }
-                    } else {
-                        Log.w("WebViewImageFix", "Invalid cached image dimensions for " + bandName + 
-                              " (" + options.outWidth + "x" + options.outHeight + ")");
+
+                    // Usually still in memory from progressive loading, so no decode happens here
+                    Bitmap bitmap = BandImageCache.load(imageFile);
+                    if (bitmap != null && bandLogoImage != null) {
+                        displayBandImage(bitmap);
+                        Log.d("WebViewImageFix", "Cached image restored successfully for " + bandName);
                     }
                 } else {
                     Log.d("WebViewImageFix", "No cached image file found for " + bandName);
@@ -919,7 +845,7 @@ public class showBandDetails extends Activity {
             }
         } catch (OutOfMemoryError oom) {
             Log.e("WebViewImageFix", "OutOfMemoryError restoring cached image for " + bandName, oom);
-            System.gc(); // Request garbage collection
+            BandImageCache.clearMemory();
         } catch (Exception e) {
             Log.e("WebViewImageFix", "Error restoring cached image for " + bandName, e);
         }
@@ -949,17 +875,11 @@ public class showBandDetails extends Activity {
         }
     }
 
-    private void changeBand(String currentBand, String direction){
-        mainListHandler resolver = new mainListHandler();
-        String resolvedBand = resolver.getBandNameFromIndex(currentBand);
-        if (resolvedBand == null || resolvedBand.isEmpty()) {
-            resolvedBand = currentBand;
-        }
-
-        BandInfo.setSelectedBand(resolvedBand);
+    private void changeBand(String newBandName, String direction){
+        BandInfo.setSelectedBand(newBandName);
         
         // Update the band name and refresh content with slide animation
-        bandName = resolvedBand;
+        bandName = newBandName;
         bandNote = "";
         cacheCleanupAttempted = false;
 
@@ -1048,8 +968,6 @@ public class showBandDetails extends Activity {
             return;
         }
 
-        mainListHandler indexResolver = new mainListHandler();
-
         // On the first swipe after opening from the main list, trust the row index we launched with
         // (intent) if it still matches the band on screen. Avoids wrong "already at start" when static
         // position or closest-index realign disagrees with the actual tapped row (filters, duplicates).
@@ -1058,7 +976,7 @@ public class showBandDetails extends Activity {
             String anchorBand = BandInfo.getSelectedBand();
             if (detailsListAnchorFromIntent >= 0 && detailsListAnchorFromIntent < listSize
                     && anchorBand != null && !anchorBand.isEmpty()
-                    && navigationRowMatchesBand(detailsListAnchorFromIntent, anchorBand, indexResolver, listSize)) {
+                    && navigationRowMatchesBand(detailsListAnchorFromIntent, anchorBand, listSize)) {
                 staticVariables.currentListPosition = detailsListAnchorFromIntent;
                 Log.d("SwipeNavigation", "First navigation: anchored to intent list index " + detailsListAnchorFromIntent);
             }
@@ -1071,8 +989,8 @@ public class showBandDetails extends Activity {
         String selectedBand = BandInfo.getSelectedBand();
         if (selectedBand != null && !selectedBand.isEmpty()) {
             int pos = staticVariables.currentListPosition;
-            if (!navigationRowMatchesBand(pos, selectedBand, indexResolver, listSize)) {
-                int best = findNavigationIndexClosestToBand(selectedBand, pos, listSize, indexResolver);
+            if (!navigationRowMatchesBand(pos, selectedBand, listSize)) {
+                int best = findNavigationIndexClosestToBand(selectedBand, pos, listSize);
                 if (best >= 0) {
                     staticVariables.currentListPosition = best;
                 } else {
@@ -1090,10 +1008,10 @@ public class showBandDetails extends Activity {
         }
 
         String directionMessage = "";
-        String currentBand = "";
-        String oldBandValue = staticVariables.currentListForDetails.get(staticVariables.currentListPosition);
+        MainListRow currentRow = null;
+        MainListRow oldRow = staticVariables.currentListForDetails.get(staticVariables.currentListPosition);
         final int positionBeforeSwipe = staticVariables.currentListPosition;
-        final String anchorDisplayName = navigationDisplayNameForRawRow(oldBandValue, indexResolver);
+        final String anchorDisplayName = navigationDisplayName(oldRow);
 
         if (staticVariables.currentListPosition == 0 && direction.equals("Previous")){
             Log.d("SwipeNavigation", "Already at start of list");
@@ -1110,13 +1028,13 @@ public class showBandDetails extends Activity {
             staticVariables.currentListPosition = staticVariables.currentListPosition + 1;
             // Skip additional list rows that are the same band (multiple events); one swipe → next distinct band.
             while (staticVariables.currentListPosition < listSize - 1
-                    && anchorDisplayName.equals(navigationDisplayNameForRawRow(
-                            staticVariables.currentListForDetails.get(staticVariables.currentListPosition), indexResolver))) {
+                    && anchorDisplayName.equals(navigationDisplayName(
+                            staticVariables.currentListForDetails.get(staticVariables.currentListPosition)))) {
                 staticVariables.currentListPosition++;
             }
             directionMessage = getResources().getString(R.string.Next);
-            String atNext = staticVariables.currentListForDetails.get(staticVariables.currentListPosition);
-            if (anchorDisplayName.equals(navigationDisplayNameForRawRow(atNext, indexResolver))) {
+            MainListRow atNext = staticVariables.currentListForDetails.get(staticVariables.currentListPosition);
+            if (anchorDisplayName.equals(navigationDisplayName(atNext))) {
                 staticVariables.currentListPosition = positionBeforeSwipe;
                 Log.d("SwipeNavigation", "Next: no distinct band ahead (same display through end of list)");
                 HelpMessageHandler.showMessage(getResources().getString(R.string.EndofList));
@@ -1126,13 +1044,13 @@ public class showBandDetails extends Activity {
         } else {
             staticVariables.currentListPosition = staticVariables.currentListPosition - 1;
             while (staticVariables.currentListPosition > 0
-                    && anchorDisplayName.equals(navigationDisplayNameForRawRow(
-                            staticVariables.currentListForDetails.get(staticVariables.currentListPosition), indexResolver))) {
+                    && anchorDisplayName.equals(navigationDisplayName(
+                            staticVariables.currentListForDetails.get(staticVariables.currentListPosition)))) {
                 staticVariables.currentListPosition--;
             }
             directionMessage = getResources().getString(R.string.Previous);
-            String atPrev = staticVariables.currentListForDetails.get(staticVariables.currentListPosition);
-            if (anchorDisplayName.equals(navigationDisplayNameForRawRow(atPrev, indexResolver))) {
+            MainListRow atPrev = staticVariables.currentListForDetails.get(staticVariables.currentListPosition);
+            if (anchorDisplayName.equals(navigationDisplayName(atPrev))) {
                 staticVariables.currentListPosition = positionBeforeSwipe;
                 Log.d("SwipeNavigation", "Previous: no distinct band behind (same display through start of list)");
                 HelpMessageHandler.showMessage(getResources().getString(R.string.AlreadyAtStart));
@@ -1142,54 +1060,46 @@ public class showBandDetails extends Activity {
 
         //sometime the list is not as long as is advertised
         try {
-            currentBand = staticVariables.currentListForDetails.get(staticVariables.currentListPosition);
-            Log.d("NextRecord", "Old Record is " + oldBandValue + " new record is " + currentBand);
+            currentRow = staticVariables.currentListForDetails.get(staticVariables.currentListPosition);
+            Log.d("NextRecord", "Old Record is " + oldRow + " new record is " + currentRow);
         } catch (Exception error){
             staticVariables.currentListPosition = positionBeforeSwipe;
             HelpMessageHandler.showMessage(getResources().getString(R.string.EndofList));
             return;
         }
 
-        String navLabel = indexResolver.getBandNameFromIndex(currentBand);
-        if (navLabel == null || navLabel.isEmpty()) {
-            navLabel = currentBand;
-        }
+        String navLabel = navigationDisplayName(currentRow);
         Log.d("SwipeNavigation", "Navigation successful to: " + navLabel + " at position: " + staticVariables.currentListPosition);
         HelpMessageHandler.showMessage(directionMessage + " " + navLabel);
-        changeBand(currentBand, direction);
+        changeBand(navLabel, direction);
 
     }
 
     /**
-     * Display band name for a raw list row (matches toast / {@link #navigationRowMatchesBand} resolution).
+     * Display band name for a list row (matches toast / {@link #navigationRowMatchesBand} resolution).
      */
-    private String navigationDisplayNameForRawRow(String raw, mainListHandler resolver) {
-        if (raw == null) {
+    private String navigationDisplayName(MainListRow row) {
+        if (row == null || row.bandName == null) {
             return "";
         }
-        String name = resolver.getBandNameFromIndex(raw);
-        if (name == null || name.isEmpty()) {
-            return raw;
-        }
-        return name;
+        return row.bandName;
     }
 
-    private boolean navigationRowMatchesBand(int index, String selectedBand, mainListHandler resolver, int listSize) {
+    private boolean navigationRowMatchesBand(int index, String selectedBand, int listSize) {
         if (index < 0 || index >= listSize || selectedBand == null || selectedBand.isEmpty()) {
             return false;
         }
-        String raw = staticVariables.currentListForDetails.get(index);
-        return selectedBand.equals(raw) || selectedBand.equals(resolver.getBandNameFromIndex(raw));
+        return selectedBand.equals(navigationDisplayName(staticVariables.currentListForDetails.get(index)));
     }
 
     /**
      * When several rows resolve to the same band (multiple slots), prefer the row nearest {@code preferredIndex}.
      */
-    private int findNavigationIndexClosestToBand(String selectedBand, int preferredIndex, int listSize, mainListHandler resolver) {
+    private int findNavigationIndexClosestToBand(String selectedBand, int preferredIndex, int listSize) {
         int best = -1;
         int bestDist = Integer.MAX_VALUE;
         for (int i = 0; i < listSize; i++) {
-            if (!navigationRowMatchesBand(i, selectedBand, resolver, listSize)) {
+            if (!navigationRowMatchesBand(i, selectedBand, listSize)) {
                 continue;
             }
             int d = Math.abs(i - preferredIndex);
@@ -101,7 +101,7 @@ public class showBands extends Activity implements MediaPlayer.OnPreparedListene
     public static String newRootDir = Bands70k.getAppContext().getFilesDir().getPath();
 
     ArrayList<String> bandNames;
-    public List<String> scheduleSortedBandNames = new ArrayList<String>();
+    public List<MainListRow> scheduleSortedBandNames = new ArrayList<MainListRow>();
 
     SwipeMenuListView bandNamesList;
     private SwipeRefreshLayout bandNamesPullRefresh;
@@ -728,17 +728,19 @@ public class showBands extends Activity implements MediaPlayer.OnPreparedListene
                             Log.d("PullToRefresh", "Offline detected (enhanced check). Using cached data if present: " + hasCachedData);
                         }
 
-                        // Strict ordering requirement:
+                        // Ordering requirement:
                         // 1) pointer file
-                        // 2) bandInfo.csv
-                        // 3) schedule.csv
-                        // 4) descriptionMap.csv
+                        // 2) bandInfo.csv, schedule.csv and descriptionMap.csv (concurrently, once the pointer is resolved)
+                        long refreshStartMs = SystemClock.elapsedRealtime();
                         if (!staticVariables.ensurePointerFileAvailable()) {
                             Log.e("PullToRefresh", "Pointer file unavailable — aborting pull-to-refresh download");
                             return;
                         }
+                        long pointerMs = SystemClock.elapsedRealtime() - refreshStartMs;
 
                         staticVariables.downloadCoreCsvFiles();
+                        Log.i("PullToRefresh", "Pull-to-refresh download took " + (SystemClock.elapsedRealtime() - refreshStartMs)
+                                + "ms (pointer " + pointerMs + "ms; " + CoreCsvDownloadPipeline.getLastRunSummary() + ")");
                     } finally {
                         staticVariables.loadingBands = false;
                         SynchronizationManager.signalBandLoadingComplete();
@@ -831,7 +833,7 @@ public class showBands extends Activity implements MediaPlayer.OnPreparedListene
                         }
                         
                         searchCriteriaObject.clearFocus();
-                        listHandler.sortableBandNames = new ArrayList<String>();
+                        listHandler.sortableBandNames = new ArrayList<MainListRow>();
                         listHandler.sortableBandNames = listHandler.getSortableBandNames();
                         refreshData();
                         return false;
@@ -857,7 +859,7 @@ public class showBands extends Activity implements MediaPlayer.OnPreparedListene
                             startPupaPartyEasterEgg();
                         }
                         
-                        listHandler.sortableBandNames = new ArrayList<String>();
+                        listHandler.sortableBandNames = new ArrayList<MainListRow>();
                         listHandler.sortableBandNames = listHandler.getSortableBandNames();
                         refreshData();
                         return false;
@@ -1178,13 +1180,13 @@ public class showBands extends Activity implements MediaPlayer.OnPreparedListene
     }
 
     /**
-     * Raw index string for the visible row at {@code position} (time:band, band:time, or plain name).
+     * List row for the visible row at {@code position}.
      * Must come from {@link mainListHandler#bandNamesIndex}, which is filled in lockstep with the
      * adapter in {@code displayBandDataWithSchedule} / {@code displayBandDataWithoutSchedule}.
      * Do not use {@link #scheduleSortedBandNames}{@code .get(position)} alone — populateBandInfo can
      * list slots that are skipped when building rows ({@code continue}), which desyncs positions.
      */
-    private String getBandIndexAtListPosition(int position) {
+    private MainListRow getBandIndexAtListPosition(int position) {
         if (listHandler != null && listHandler.bandNamesIndex != null
                 && position >= 0 && position < listHandler.bandNamesIndex.size()) {
             return listHandler.bandNamesIndex.get(position);
@@ -1249,41 +1251,22 @@ public class showBands extends Activity implements MediaPlayer.OnPreparedListene
                     if (listHandler == null) {
                         return false;
                     }
-                    String bandIndex = getBandIndexAtListPosition(position);
-                    if (bandIndex == null) {
+                    MainListRow row = getBandIndexAtListPosition(position);
+                    if (row == null || row.placeholder) {
                         return false;
                     }
-                    String bandName = getBandNameFromIndex(bandIndex);
-                    Long timeIndex = null;
-                    if (adapter != null && position >= 0 && position < adapter.getCount()) {
-                        bandListItem rowItem = adapter.getItem(position);
-                        if (rowItem != null && rowItem.getScheduleSlotTimeIndex() != null
-                                && rowItem.getScheduleSlotTimeIndex() > 0) {
-                            timeIndex = rowItem.getScheduleSlotTimeIndex();
-                            String rowBand = rowItem.getBandName();
-                            if (rowBand != null && !rowBand.isEmpty()) {
-                                bandName = rowBand;
-                            }
-                        }
-                    }
-                    if (timeIndex == null || timeIndex == 0) {
-                        timeIndex = getTimeIndexFromIndex(bandIndex);
-                    }
                     String location = null;
                     String rawStartTime = null;
                     String eventType = null;
                     String scheduleDay = null;
-                    if (timeIndex != null && timeIndex != 0 && BandInfo.scheduleRecords != null && BandInfo.scheduleRecords.get(bandName) != null) {
-                        scheduleHandler evt = BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(timeIndex);
-                        if (evt != null) {
-                            rawStartTime = evt.getStartTimeString();
-                            location = listHandler.getLocation(bandName, timeIndex);
-                            eventType = listHandler.getEventType(bandName, timeIndex);
-                            scheduleDay = evt.getShowDay();
-                        }
+                    if (row.isEvent()) {
+                        rawStartTime = row.event.getStartTimeString();
+                        location = row.event.getShowLocation();
+                        eventType = row.event.getShowType();
+                        scheduleDay = row.event.getShowDay();
                     }
                     lastLongPressTime = System.currentTimeMillis();
-                    showLongPressMenu(bandName, position, location, rawStartTime, eventType, scheduleDay);
+                    showLongPressMenu(row.bandName, position, location, rawStartTime, eventType, scheduleDay);
                     return true;
                 }
             });
@@ -1294,19 +1277,6 @@ public class showBands extends Activity implements MediaPlayer.OnPreparedListene
 
     private void setupSwipeList() {
 
-        List<String> sortedList = new ArrayList<>();
-
-        if (scheduleSortedBandNames != null) {
-            if (scheduleSortedBandNames.size() > 0) {
-                sortedList = scheduleSortedBandNames;
-
-            } else {
-                sortedList = bandNames;
-            }
-        } else {
-            sortedList = bandNames;
-        }
-
         Integer screenWidth = Resources.getSystem().getDisplayMetrics().widthPixels;
         final Integer menuWidth = screenWidth / 6;
 
@@ -1461,17 +1431,16 @@ public class showBands extends Activity implements MediaPlayer.OnPreparedListene
             @Override
             public boolean onMenuItemClick(int position, SwipeMenu menu, int index) {
 
-                String bandIndex = getBandIndexAtListPosition(position);
-                if (bandIndex == null) {
+                MainListRow row = getBandIndexAtListPosition(position);
+                if (row == null || row.placeholder) {
                     return false;
                 }
 
-                String bandName = getBandNameFromIndex(bandIndex);
-                Long timeIndex = getTimeIndexFromIndex(bandIndex);
+                String bandName = row.bandName;
 
                 listState = bandNamesList.onSaveInstanceState();
 
-                Log.d("setupOnSwipeListener", "Index of " + index + " working on band = " + bandName + " and timeindex of " + String.valueOf(timeIndex));
+                Log.d("setupOnSwipeListener", "Index of " + index + " working on row " + row);
                 switch (index) {
                     case 0:
                         rankStore.saveBandRanking(bandName, mustSeeIcon);
@@ -1492,14 +1461,12 @@ public class showBands extends Activity implements MediaPlayer.OnPreparedListene
                     case 4:
 
                         String message = "";
-                        String attendedValue = listHandler.getAttendedListMap(position);
-                        Log.d("attendedValue", "attendedValue = " + attendedValue);
 
-                        if (timeIndex != 0) {
-                            String location = listHandler.getLocation(bandName, timeIndex);
-                            scheduleHandler swipeEvt = BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(timeIndex);
+                        if (row.isEvent()) {
+                            scheduleHandler swipeEvt = row.event;
+                            String location = swipeEvt.getShowLocation();
                             String rawStartTime = swipeEvt.getStartTimeString();
-                            String eventType = listHandler.getEventType(bandName, timeIndex);
+                            String eventType = swipeEvt.getShowType();
                             String scheduleDay = swipeEvt.getShowDay();
 
                             if (staticVariables.attendedHandler == null) staticVariables.attendedHandler = new showsAttended();
@@ -1512,9 +1479,12 @@ public class showBands extends Activity implements MediaPlayer.OnPreparedListene
                         break;
                 }
 
-                // SWIPE MENU FIX: Save position before refresh, it will be restored automatically
-                saveScrollPosition();
-                refreshData();
+                // Priority / attended changes that keep the same rows only touch this band's rows.
+                if (!refreshBandRowsInPlace(bandName)) {
+                    // SWIPE MENU FIX: Save position before refresh, it will be restored automatically
+                    saveScrollPosition();
+                    refreshData();
+                }
 
                 return false;
             }
@@ -1847,10 +1817,7 @@ public class showBands extends Activity implements MediaPlayer.OnPreparedListene
                 // Copy attendance
                 File attendanceFile = new File(profileDir, "showsAttended.data");
                 if (attendanceFile.exists()) {
-                    java.io.FileInputStream fis = new java.io.FileInputStream(attendanceFile);
-                    java.io.ObjectInputStream ois = new java.io.ObjectInputStream(fis);
-                    java.util.Map<String, String> attendanceMap = (java.util.Map<String, String>) ois.readObject();
-                    ois.close();
+                    java.util.Map<String, String> attendanceMap = AttendanceStore.forFile(attendanceFile).load();
                     
                     int attendanceCount = 0;
                     for (java.util.Map.Entry<String, String> entry : attendanceMap.entrySet()) {
@@ -2711,106 +2678,6 @@ public class showBands extends Activity implements MediaPlayer.OnPreparedListene
     }
 
 
-    private String getBandNameFromIndex(String index) {
-
-        Log.d("showBands.getBandNameFromIndex", "🔍 Processing index: " + index);
-        String[] indexSplit = index.split(":");
-
-        if (indexSplit.length >= 2) {
-            // Use timestamp detection to identify format
-            boolean firstPartIsTimestamp = isTimestamp(indexSplit[0]);
-            boolean secondPartIsTimestamp = isTimestamp(indexSplit[1]);
-            
-            String result;
-            if (firstPartIsTimestamp && !secondPartIsTimestamp) {
-                // Format: "timeIndex:bandName" -> return second part (band name)
-                result = indexSplit[1];
-                Log.d("showBands.getBandNameFromIndex", "🔍 TIME FORMAT detected, returning band name: '" + result + "'");
-            } else if (!firstPartIsTimestamp && secondPartIsTimestamp) {
-                // Format: "bandName:timeIndex" -> return first part (band name)
-                result = indexSplit[0];
-                Log.d("showBands.getBandNameFromIndex", "🔍 ALPHA FORMAT detected, returning band name: '" + result + "'");
-            } else {
-                // Fallback: use sort mode
-                if (staticVariables.preferences.getSortByTime()) {
-                    result = indexSplit[1]; // Time mode: second part is band name
-                    Log.d("showBands.getBandNameFromIndex", "🔍 FALLBACK TIME MODE, returning band name: '" + result + "'");
-                } else {
-                    result = indexSplit[0]; // Alphabetical mode: first part is band name
-                    Log.d("showBands.getBandNameFromIndex", "🔍 FALLBACK ALPHA MODE, returning band name: '" + result + "'");
-                }
-            }
-            return result;
-        } else if (indexSplit.length == 1) {
-            // Single part, assume it's the band name
-            Log.d("showBands.getBandNameFromIndex", "🔍 SINGLE PART, returning: '" + indexSplit[0] + "'");
-            return indexSplit[0];
-        }
-        
-        Log.d("showBands.getBandNameFromIndex", "🔍 FALLBACK, returning original index: '" + index + "'");
-        return index;
-    }
-
-    Long getTimeIndexFromIndex(String index) {
-
-        Log.d("showBands.getTimeIndexFromIndex", "🔍 Processing index: " + index);
-        String[] indexSplit = index.split(":");
-
-        if (indexSplit.length >= 2) {
-            // Use timestamp detection to identify format
-            boolean firstPartIsTimestamp = isTimestamp(indexSplit[0]);
-            boolean secondPartIsTimestamp = isTimestamp(indexSplit[1]);
-            
-            try {
-                Long result;
-                if (firstPartIsTimestamp && !secondPartIsTimestamp) {
-                    // Format: "timeIndex:bandName" -> return first part (time index)
-                    result = Long.valueOf(indexSplit[0]);
-                    Log.d("showBands.getTimeIndexFromIndex", "🔍 TIME FORMAT detected, returning time index: " + result);
-                } else if (!firstPartIsTimestamp && secondPartIsTimestamp) {
-                    // Format: "bandName:timeIndex" -> return second part (time index)
-                    result = Long.valueOf(indexSplit[1]);
-                    Log.d("showBands.getTimeIndexFromIndex", "🔍 ALPHA FORMAT detected, returning time index: " + result);
-                } else {
-                    // Fallback: use sort mode
-                    if (staticVariables.preferences.getSortByTime()) {
-                        result = Long.valueOf(indexSplit[0]); // Time mode: first part is time index
-                        Log.d("showBands.getTimeIndexFromIndex", "🔍 FALLBACK TIME MODE, returning time index: " + result);
-                    } else {
-                        result = Long.valueOf(indexSplit[1]); // Alphabetical mode: second part is time index
-                        Log.d("showBands.getTimeIndexFromIndex", "🔍 FALLBACK ALPHA MODE, returning time index: " + result);
-                    }
-                }
-                return result;
-            } catch (NumberFormatException e) {
-                Log.e("showBands.getTimeIndexFromIndex", "🚨 Failed to parse time index from: " + index, e);
-                return Long.valueOf(0);
-            }
-        }
-        
-        Log.d("showBands.getTimeIndexFromIndex", "🔍 FALLBACK, returning 0");
-        return Long.valueOf(0);
-    }
-    
-    /**
-     * Helper method to detect if a string represents a timestamp
-     * Timestamps are typically very large numbers (> 1000000)
-     * Band names like "1914" will be < 1000000
-     */
-    private boolean isTimestamp(String value) {
-        try {
-            Long number = Long.valueOf(value);
-            // Timestamps are typically very large numbers (> 1000000)
-            // Band names like "1914" will be < 1000000
-            boolean result = number > 1000000;
-            Log.d("showBands.isTimestamp", "🔢 isTimestamp('" + value + "') -> number=" + number + ", result=" + result);
-            return result;
-        } catch (NumberFormatException e) {
-            Log.d("showBands.isTimestamp", "🔢 isTimestamp('" + value + "') -> NOT A NUMBER, result=false");
-            return false;
-        }
-    }
-
     /**
      * Updates the filter badge (hidden records count) to match iOS.
      * Shows in both list and schedule view when filters are hiding records.
@@ -2978,7 +2845,7 @@ public class showBands extends Activity implements MediaPlayer.OnPreparedListene
                     listHandler = new mainListHandler(showBands.this);
                 }
                 listHandler.sortableBandNames = new ArrayList<>();
-                listHandler.sortableBandNames.add(waiting);
+                listHandler.sortableBandNames.add(MainListRow.message(waiting));
             } catch (Exception e) {
                 Log.e("FRESH_INSTALL", "Error showing waiting placeholder", e);
             }
@@ -3025,15 +2892,16 @@ public class showBands extends Activity implements MediaPlayer.OnPreparedListene
         
         // FLASHING FIX: Build the new list of items FIRST (without modifying adapter)
         List<bandListItem> newItems = new ArrayList<>();
-        List<String> newBandNamesIndex = new ArrayList<>();
-        List<String> newScheduleSortedBandNames = new ArrayList<>();
+        List<MainListRow> newBandNamesIndex = new ArrayList<>();
+        List<MainListRow> newScheduleSortedBandNames = new ArrayList<>();
         
         if (bandNames.size() == 0) {
             String emptyDataMessage = emptyBandListPlaceholderMessage();
             bandListItem bandItem = new bandListItem(emptyDataMessage);
             newItems.add(bandItem);
-            newBandNamesIndex.add(emptyDataMessage);
-            newScheduleSortedBandNames.add(emptyDataMessage);
+            MainListRow placeholderRow = MainListRow.message(emptyDataMessage);
+            newBandNamesIndex.add(placeholderRow);
+            newScheduleSortedBandNames.add(placeholderRow);
         } else {
             // Sort bands alphabetically for bands-only view
             Collections.sort(bandNames);
@@ -3056,9 +2924,10 @@ public class showBands extends Activity implements MediaPlayer.OnPreparedListene
                 bandListItem bandItem = new bandListItem(bandName);
                 bandItem.setRankImg(rankStore.getRankImageForBand(bandName));
                 newItems.add(bandItem);
-                // CRITICAL FIX: Add band name to both lists to keep in sync with adapter
-                newBandNamesIndex.add(bandName);
-                newScheduleSortedBandNames.add(bandName);
+                // CRITICAL FIX: Add the row to both lists to keep in sync with adapter
+                MainListRow bandRow = MainListRow.forBand(bandName);
+                newBandNamesIndex.add(bandRow);
+                newScheduleSortedBandNames.add(bandRow);
                 counter++;
             }
 
@@ -3066,8 +2935,9 @@ public class showBands extends Activity implements MediaPlayer.OnPreparedListene
                 String filterIssueMessage = getResources().getString(R.string.data_filter_issue);
                 bandListItem bandItem = new bandListItem(filterIssueMessage);
                 newItems.add(bandItem);
-                newBandNamesIndex.add(filterIssueMessage);
-                newScheduleSortedBandNames.add(filterIssueMessage);
+                MainListRow placeholderRow = MainListRow.message(filterIssueMessage);
+                newBandNamesIndex.add(placeholderRow);
+                newScheduleSortedBandNames.add(placeholderRow);
                 Log.d("searchCriteria", "Bands-only search: no matches, showing filter issue message");
             }
 
@@ -3458,8 +3328,8 @@ public class showBands extends Activity implements MediaPlayer.OnPreparedListene
             Log.w("MDF_DEBUG", "📅 displayBandDataWithSchedule() - WARNING: scheduleSortedBandNames is null or empty!");
         } else {
             Log.d("MDF_DEBUG", "📅 displayBandDataWithSchedule() - scheduleSortedBandNames has " + scheduleSortedBandNames.size() + " items");
-            if (scheduleSortedBandNames.get(0).contains(":") == false) {
-                Log.d("MDF_DEBUG", "📅 displayBandDataWithSchedule() - First item doesn't contain ':', refreshing band names");
+            if (scheduleSortedBandNames.get(0).placeholder) {
+                Log.d("MDF_DEBUG", "📅 displayBandDataWithSchedule() - First item is a placeholder, refreshing band names");
                 //Log.d("displayBandDataWithSchedule", "displayBandDataWithSchedule - 7");
                 //Log.d("DisplayListData", "starting file download ");
                 //bandInfoNames.DownloadBandFile();
@@ -3476,7 +3346,7 @@ public class showBands extends Activity implements MediaPlayer.OnPreparedListene
         Log.d("MDF_DEBUG", "📅 displayBandDataWithSchedule() - Step 7: Building new items list");
         // FLASHING FIX: Build new list of items FIRST (without modifying adapter)
         List<bandListItem> newItems = new ArrayList<>();
-        List<String> newBandNamesIndex = new ArrayList<>();
+        List<MainListRow> newBandNamesIndex = new ArrayList<>();
         
         Integer counter = 0;
         Log.d("MDF_DEBUG", "📅 displayBandDataWithSchedule() - Loading shows attended");
@@ -3500,125 +3370,86 @@ public class showBands extends Activity implements MediaPlayer.OnPreparedListene
         Log.d("MDF_DEBUG", "📅 displayBandDataWithSchedule() - Iterating over " + scheduleSortedBandNames.size() + " items");
         int totalItems = scheduleSortedBandNames.size();
         int loopIteration = 0;
-        for (String bandIndex : scheduleSortedBandNames) {
+        for (MainListRow row : scheduleSortedBandNames) {
             loopIteration++;
             if (loopIteration % 10 == 0 || loopIteration == 1 || loopIteration == totalItems) {
-                Log.d("MDF_DEBUG", "📅 displayBandDataWithSchedule() - Processing iteration " + loopIteration + "/" + totalItems + ": " + bandIndex);
+                Log.d("MDF_DEBUG", "📅 displayBandDataWithSchedule() - Processing iteration " + loopIteration + "/" + totalItems + ": " + row);
             }
 
-            Log.d("WorkingOnScheduleIndex", "WorkingOnScheduleIndex " + bandIndex + "-" + String.valueOf(staticVariables.eventYear));
+            Log.d("WorkingOnScheduleIndex", "WorkingOnScheduleIndex " + row + "-" + String.valueOf(staticVariables.eventYear));
 
-            String[] indexSplit = bandIndex.split(":");
+            try {
+                String bandName = row.bandName;
 
-            if (indexSplit.length == 2) {
-                try {
-                    String bandName = getBandNameFromIndex(bandIndex);
-                    Long timeIndex = getTimeIndexFromIndex(bandIndex);
+                // Ensure eventYear is set before using it
+                if (staticVariables.eventYear == 0) {
+                    staticVariables.ensureEventYearIsSet();
+                }
+                String eventYear = String.valueOf(staticVariables.eventYear);
 
-                    // Ensure eventYear is set before using it
-                    if (staticVariables.eventYear == 0) {
-                        staticVariables.ensureEventYearIsSet();
+                bandListItem bandItem = new bandListItem(bandName);
+                loadOnceStopper = false;
+
+                if (row.isEvent()) {
+                    Long timeIndex = row.timeIndex;
+                    scheduleHandler scheduleHandle = row.event;
+                    String location = scheduleHandle.getShowLocation();
+                    String startTime = scheduleHandle.getStartTimeString();
+                    String endTime = scheduleHandle.getEndTimeString();
+                    String eventType = scheduleHandle.getShowType();
+                    String day = scheduleHandle.getShowDay();  // Raw day from scheduleHandler
+                    String note = scheduleHandle.getShowNotes();
+
+                    // Store raw day BEFORE formatting - this is what we'll use for matching!
+                    bandItem.setRawDay(day);
+                    Log.d("LANDSCAPE_SCHEDULE", "Stored raw day in bandListItem: '" + day + "' for " + bandName);
+
+                    String attendedIcon = attendedHandler.getShowAttendedIcon(bandName, location, startTime, eventType, eventYear, day);
+                    if (day.contains("Day")) {
+                        day = " " + day.replaceAll("Day", "");
                     }
-                    String eventYear = String.valueOf(staticVariables.eventYear);
-
-                    bandListItem bandItem = new bandListItem(bandName);
-                    loadOnceStopper = false;
-
-                    if (timeIndex > 0) {
-
-                        // Never abort the entire render because of a single bad/missing record.
-                        if (bandName == null || timeIndex == null || BandInfo.scheduleRecords == null) {
-                            Log.d("FILTER_TRACE", "render SKIP index=" + bandIndex + " reason=null_band_or_time_or_records bn=" + bandName + " t=" + timeIndex);
-                            continue;
-                        }
-                        if (BandInfo.scheduleRecords.containsKey(bandName) == false) {
-                            Log.d("WorkingOnScheduleIndex", "WorkingOnScheduleIndex No bandname " + bandName + " - " + timeIndex);
-                            bandName = bandNames.get(0);
-                            if (BandInfo.scheduleRecords.containsKey(bandName) == false) {
-                                Log.d("WorkingOnScheduleIndex", "WorkingOnScheduleIndex No bandname 1 " + bandName + " - " + timeIndex);
-                            }
-                        }
-                        if (BandInfo.scheduleRecords.get(bandName) == null){
-                            Log.d("FILTER_TRACE", "render SKIP index=" + bandIndex + " band=" + bandName + " t=" + timeIndex + " reason=no_schedule_record");
-                            continue;
-                        }
-                        if (BandInfo.scheduleRecords.get(bandName).scheduleByTime.containsKey(timeIndex) == false) {
-                            Log.d("FILTER_TRACE", "render SKIP index=" + bandIndex + " band=" + bandName + " t=" + timeIndex + " reason=missing_timeKey keysSample=" + BandInfo.scheduleRecords.get(bandName).scheduleByTime.keySet().toString());
-                            continue;
-                        }
-
-                        Log.d("WorkingOnScheduleIndex", "WorkingOnScheduleIndex No bandname 1 " + bandName + " - " + timeIndex);
-                        if (BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(timeIndex) != null) {
-
-                            scheduleHandler scheduleHandle = BandInfo.scheduleRecords.get(bandName).scheduleByTime.get(timeIndex);
-                            String location = scheduleHandle.getShowLocation();
-                            String startTime = scheduleHandle.getStartTimeString();
-                            String endTime = scheduleHandle.getEndTimeString();
-                            String eventType = scheduleHandle.getShowType();
-                            String day = scheduleHandle.getShowDay();  // Raw day from scheduleHandler
-                            String note = scheduleHandle.getShowNotes();
 
-                            // Store raw day BEFORE formatting - this is what we'll use for matching!
-                            bandItem.setRawDay(day);
-                            Log.d("LANDSCAPE_SCHEDULE", "Stored raw day in bandListItem: '" + day + "' for " + bandName);
-
-                            String attendedIcon = attendedHandler.getShowAttendedIcon(bandName, location, startTime, eventType, eventYear, day);
-                            if (day.contains("Day")) {
-                                day = " " + day.replaceAll("Day", "");
-                            }
-
-                            if (day.contains("/") == false) {
-                                day = day + "  ";
-                            }
-
-                            Log.d("PopulatingDayValue", "Day = " + day);
-                            startTime = dateTimeFormatter.formatScheduleTime(startTime);
-                            endTime = dateTimeFormatter.formatScheduleTime(endTime);
-
-                            bandItem.setLocationColor(iconResolve.getLocationColor(location));
+                    if (day.contains("/") == false) {
+                        day = day + "  ";
+                    }
 
-                            if (venueLocation.containsKey(location)) {
-                                location += " " + venueLocation.get(location);
-                            }
+                    Log.d("PopulatingDayValue", "Day = " + day);
+                    startTime = dateTimeFormatter.formatScheduleTime(startTime);
+                    endTime = dateTimeFormatter.formatScheduleTime(endTime);
 
-                            Log.d("settingEvent", " for " + bandName + " note of " + note);
-                            bandItem.setEventNote(note);
+                    bandItem.setLocationColor(iconResolve.getLocationColor(location));
 
-                            Integer eventImage = iconResolve.getEventIcon(eventType, bandName);
+                    if (venueLocation.containsKey(location)) {
+                        location += " " + venueLocation.get(location);
+                    }
 
-                            bandItem.setLocation(location);
-                            bandItem.setStartTime(startTime);
-                            bandItem.setEndTime(endTime);
-                            bandItem.setDay(day);  // This formats the day for display
+                    Log.d("settingEvent", " for " + bandName + " note of " + note);
+                    bandItem.setEventNote(note);
 
-                            if (eventImage != 0) {
-                                bandItem.setEventTypeImage(eventImage);
-                            }
+                    Integer eventImage = iconResolve.getEventIcon(eventType, bandName);
 
-                            bandItem.setAttendedImage(iconResolve.getAttendedIcon(attendedIcon));
+                    bandItem.setLocation(location);
+                    bandItem.setStartTime(startTime);
+                    bandItem.setEndTime(endTime);
+                    bandItem.setDay(day);  // This formats the day for display
 
-                            Log.d("settingEvent", " for " + bandName + " eventType of " + eventType + "returned image " + eventImage);
-                            bandItem.setScheduleSlotTimeIndex(timeIndex);
-                        }
+                    if (eventImage != 0) {
+                        bandItem.setEventTypeImage(eventImage);
                     }
 
-                    bandItem.setRankImg(rankStore.getRankImageForBand(bandName));
-                    counter = counter + 1;
-                    newItems.add(bandItem);
-                    // CRITICAL FIX: Add band name to index to keep in sync with adapter
-                    newBandNamesIndex.add(bandIndex);
-                } catch (Exception e) {
-                    Log.e("MDF_DEBUG", "📅 displayBandDataWithSchedule() - ERROR processing iteration " + loopIteration + ": " + e.getMessage(), e);
+                    bandItem.setAttendedImage(iconResolve.getAttendedIcon(attendedIcon));
+
+                    Log.d("settingEvent", " for " + bandName + " eventType of " + eventType + "returned image " + eventImage);
+                    bandItem.setScheduleSlotTimeIndex(timeIndex);
                 }
-            } else {
-                Log.w("MDF_DEBUG", "📅 displayBandDataWithSchedule() - WARNING: bandIndex doesn't contain ':', adding as-is: " + bandIndex);
-                bandIndex = bandIndex.replaceAll(":", "");
-                bandListItem bandItem = new bandListItem(bandIndex);
-                bandItem.setRankImg(rankStore.getRankImageForBand(bandIndex));
+
+                bandItem.setRankImg(rankStore.getRankImageForBand(bandName));
                 counter = counter + 1;
                 newItems.add(bandItem);
-                // CRITICAL FIX: Add band name to index to keep in sync with adapter
-                newBandNamesIndex.add(bandIndex);
+                // CRITICAL FIX: Add the row to index to keep in sync with adapter
+                newBandNamesIndex.add(row);
+            } catch (Exception e) {
+                Log.e("MDF_DEBUG", "📅 displayBandDataWithSchedule() - ERROR processing iteration " + loopIteration + ": " + e.getMessage(), e);
             }
 
         }
@@ -3632,7 +3463,7 @@ public class showBands extends Activity implements MediaPlayer.OnPreparedListene
             String emptyDataMessage = emptyBandListPlaceholderMessage();
             bandListItem bandItem = new bandListItem(emptyDataMessage);
             newItems.add(bandItem);
-            newBandNamesIndex.add(emptyDataMessage);
+            newBandNamesIndex.add(MainListRow.message(emptyDataMessage));
         }
         
         // FLASHING FIX: Now replace adapter data atomically (adapter never goes to 0 items)
@@ -4164,6 +3995,80 @@ public class showBands extends Activity implements MediaPlayer.OnPreparedListene
         }
     }
 
+    /**
+     * Applies a priority or attended change for one band to the rows already in the list, instead of
+     * re-running populateBandInfo and rebuilding every row. Only used when the change cannot add or remove
+     * rows: the band's priority must still pass the priority filters and the "will attend" filter must be off.
+     * @return false when a full {@link #refreshData()} is needed instead.
+     */
+    private boolean refreshBandRowsInPlace(final String bandName) {
+        if (adapter == null || listHandler == null || bandName == null || adapter.getCount() == 0) {
+            return false;
+        }
+        if (staticVariables.preferences.getShowWillAttend() || !listHandler.checkFiltering(bandName)) {
+            return false;
+        }
+
+        final ScheduleEventIndex index = ScheduleEventIndex.current();
+        ScheduleFilterProgram program = listHandler.filterProgram;
+        if (program == null || program.index != index) {
+            return false;
+        }
+
+        final int rankImg = rankStore.getRankImageForBand(bandName);
+        final showsAttended attendedHandler;
+        if (staticVariables.attendedHandler != null) {
+            attendedHandler = staticVariables.attendedHandler;
+        } else {
+            attendedHandler = new showsAttended();
+            attendedHandler.loadShowsAttended();
+        }
+        if (staticVariables.eventYear == 0) {
+            staticVariables.ensureEventYearIsSet();
+        }
+        final String eventYear = String.valueOf(staticVariables.eventYear);
+
+        // Keep the flagged-events count (menu gate, calendar) and the compiled program in step with the stores
+        int attendedDelta = program.refreshBand(bandName);
+        if (attendedDelta != 0) {
+            staticVariables.showsIwillAttend = Math.max(0, staticVariables.showsIwillAttend + attendedDelta);
+            Log.d("showsIwillAttend", "In-place update for " + bandName + ": showsIwillAttend is "
+                    + staticVariables.showsIwillAttend);
+        }
+
+        int changed = adapter.updateRowsForBand(bandName, new bandListView.RowUpdater() {
+            @Override
+            public boolean update(bandListItem item) {
+                boolean rowChanged = false;
+                if (item.getRankImg() != rankImg) {
+                    item.setRankImg(rankImg);
+                    rowChanged = true;
+                }
+                Long timeIndex = item.getScheduleSlotTimeIndex();
+                int slot = timeIndex != null ? index.findSlot(bandName, timeIndex) : -1;
+                if (slot >= 0) {
+                    scheduleHandler evt = index.handlers[slot];
+                    String attendedIcon = attendedHandler.getShowAttendedIcon(bandName, evt.getShowLocation(),
+                            evt.getStartTimeString(), evt.getShowType(), eventYear, evt.getShowDay());
+                    int attendedImg = iconResolve.getAttendedIcon(attendedIcon);
+                    if (item.getAttendedImage() != attendedImg) {
+                        item.setAttendedImage(attendedImg);
+                        rowChanged = true;
+                    }
+                }
+                return rowChanged;
+            }
+        });
+
+        if (changed > 0) {
+            adapter.notifyDataSetChanged();
+        }
+        updateFilterBadge();
+        landscapeSchedule.updateCalendarButtonVisibility();
+        Log.d("AdapterUpdate", "In-place update for " + bandName + ": " + changed + " row(s) changed");
+        return true;
+    }
+
     public void refreshData() {
         refreshData(false);  // Default: check for data changes
     }
@@ -4725,19 +4630,15 @@ public class showBands extends Activity implements MediaPlayer.OnPreparedListene
             Log.e("CLICK_DEBUG", "List position out of range: " + position);
             return;
         }
-        // In schedule view bandNamesIndex holds raw indices (e.g. "1769540400000:Tue-Everglades Tour");
-        // details screen needs the band name, so resolve from schedule index.
-        String bandIndex = getBandIndexAtListPosition(position);
-        if (bandIndex == null) {
-            Log.e("CLICK_DEBUG", "No band index for list position: " + position);
+        MainListRow row = getBandIndexAtListPosition(position);
+        if (row == null) {
+            Log.e("CLICK_DEBUG", "No list row for list position: " + position);
             return;
         }
-        String filterIssue = getString(R.string.data_filter_issue);
-        String waiting = getString(R.string.waiting_for_data);
-        if (filterIssue.equals(bandIndex) || waiting.equals(bandIndex)) {
+        if (row.placeholder) {
             return;
         }
-        final String selectedBand = getBandNameFromIndex(bandIndex);
+        final String selectedBand = row.bandName;
         currentListForDetails = listHandler.bandNamesIndex;
         currentListPosition = position;
         showDetailsScreen(position, selectedBand);
@@ -4752,18 +4653,23 @@ public class showBands extends Activity implements MediaPlayer.OnPreparedListene
                                   final String scheduleDayFromDatabase) {
         String currentAttended = null;
         if (location != null && rawStartTime != null && eventType != null && listHandler != null && listPosition >= 0) {
-            String rowIndex = getBandIndexAtListPosition(listPosition);
-            if (rowIndex != null) {
+            MainListRow row = getBandIndexAtListPosition(listPosition);
+            if (row != null) {
                 // Prefer raw CSV start (matches list/attendance indexing) when long-press already resolved the slot.
                 String startTime = rawStartTime;
-                if (startTime == null || startTime.isEmpty()) {
-                    startTime = listHandler.getStartTime(bandName, getTimeIndexFromIndex(rowIndex));
+                if ((startTime == null || startTime.isEmpty()) && row.isEvent()) {
+                    startTime = row.event.getStartTimeString();
                 }
                 showsAttended handler = staticVariables.attendedHandler != null ? staticVariables.attendedHandler : new showsAttended();
                 currentAttended = handler.getShowAttendedStatus(bandName, location, startTime, eventType, String.valueOf(eventYear), scheduleDayFromDatabase);
             }
         }
-        final Runnable onRefresh = listPosition >= 0 ? new Runnable() { @Override public void run() { saveScrollPosition(); refreshData(); } } : null;
+        final Runnable onRefresh = listPosition >= 0 ? new Runnable() { @Override public void run() {
+            if (!refreshBandRowsInPlace(bandName)) {
+                saveScrollPosition();
+                refreshData();
+            }
+        } } : null;
         ignoreNextListClickUntilMenuDismissed = true;
         LongPressMenuHelper.show(this, bandName, currentAttended, location, rawStartTime, eventType, scheduleDayFromDatabase, onRefresh, new Runnable() {
             @Override public void run() { ignoreNextListClickUntilMenuDismissed = false; }
@@ -4975,7 +4881,7 @@ public class showBands extends Activity implements MediaPlayer.OnPreparedListene
                     }
                     Log.d("AsyncTask", "Pointer ready — downloading band, schedule, and descriptionMap");
 
-                    // 2–4) Core CSV downloads (same pipeline as pull-to-refresh).
+                    // 2–4) Core CSV downloads, in parallel (same pipeline as pull-to-refresh).
                     staticVariables.downloadCoreCsvFiles();
                 } catch (Exception error) {
                     Log.e("bandInfo", "Error during startup data download: " + error.getMessage(), error);
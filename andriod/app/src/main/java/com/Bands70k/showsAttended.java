@@ -5,8 +5,6 @@ import android.util.Log;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -20,6 +18,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * PROFILE-AWARE: This class now supports multiple profiles
  * - Default profile uses: 70kBands/showsAttended.data
  * - Other profiles use: profiles/{profileId}/showsAttended.data
+ * Each file is an {@link AttendanceStore} snapshot with a ".journal" of per-tap changes next to it.
  */
 public class showsAttended {
 
@@ -123,7 +122,8 @@ public class showsAttended {
     private volatile String currentLoadedProfile = null;  // Track which profile is currently loaded
 
     private final AtomicBoolean loadScheduled = new AtomicBoolean(false);
-    private final AtomicBoolean saveScheduled = new AtomicBoolean(false);
+    // Set while a journal fsync is queued on the file executor; taps queued before it share that fsync.
+    private final AtomicBoolean syncQueued = new AtomicBoolean(false);
     private final AtomicBoolean migrationScheduled = new AtomicBoolean(false);
 
     public showsAttended(){
@@ -219,7 +219,7 @@ public class showsAttended {
 
     /**
      * Set all attendance for a single year to Not Attended (sawNone). Keeps records so sync/restore does not bring data back.
-     * Used when starting "Build my schedule automatically". Persists synchronously.
+     * Used when starting "Build my schedule automatically". Persists on the file executor.
      */
     public void clearAttendanceForYear(int year) {
         String ys = String.valueOf(year);
@@ -231,12 +231,12 @@ public class showsAttended {
             }
         }
         showsAttendedHash = current;
-        saveShowsAttendedSync(current);
+        saveReplacedShowsAttended(current);
         markDirtyIfDefaultProfile("attendance_clear_year:" + year);
     }
 
     /** Set all attendance data for the active profile to Not Attended (sawNone). Keeps records so sync does not bring data back.
-     * Use with confirmation (e.g. preferences "Clear all attendance data"). Persists synchronously. */
+     * Use with confirmation (e.g. preferences "Clear all attendance data"). Persists on the file executor. */
     public void clearAllAttendance() {
         String sawNoneValue = staticVariables.sawNoneStatus + ":" + String.format("%.0f", System.currentTimeMillis() / 1000.0);
         Map<String, String> current = new HashMap<>(getShowsAttended());
@@ -247,10 +247,14 @@ public class showsAttended {
         }
         showsAttendedHash = current;
         currentLoadedProfile = SharedPreferencesManager.getInstance().getActivePreferenceSource();
-        saveShowsAttendedSync(current);
+        saveReplacedShowsAttended(current);
         markDirtyIfDefaultProfile("attendance_clear_all");
     }
 
+    /**
+     * Replaces the stored map for the active profile with {@code showsAttendedHash} (on the file executor).
+     * Single-key changes should use {@link #saveAttendanceChange} instead, which only appends to the journal.
+     */
     public void saveShowsAttended(Map<String,String> showsAttendedHash){
         final String activeProfile = SharedPreferencesManager.getInstance().getActivePreferenceSource();
 
@@ -261,74 +265,88 @@ public class showsAttended {
         // Snapshot to avoid concurrent modification while writing.
         final Map<String,String> snapshot = new HashMap<String,String>(showsAttendedHash);
 
-        // Avoid hammering the file I/O thread with many rapid saves.
-        if (!saveScheduled.compareAndSet(false, true)) {
-            return;
-        }
-
         ThreadManager.getInstance().executeFile(() -> {
             try {
-                File fileToSave = getFileForActiveProfile();
-
-                // Ensure directory exists for profile-specific files
-                File parentDir = fileToSave.getParentFile();
-                if (parentDir != null && !parentDir.exists()) {
-                    //noinspection ResultOfMethodCallIgnored
-                    parentDir.mkdirs();
-                }
-
-                // Migrate legacy typo file to corrected name on successful save for Default profile.
-                if ("Default".equals(activeProfile)) {
-                    File correct = new File(showBands.newRootDir + FileHandler70k.directoryName + "showsAttended.data");
-                    File legacyTypo = FileHandler70k.showsAttendedFile;
-                    if (!correct.equals(fileToSave) && legacyTypo.exists() && !correct.exists()) {
-                        // Best-effort copy; keep the original as backup.
-                        copyFile(legacyTypo, correct);
-                        fileToSave = correct; // local to this background task
-                    }
-                }
-
-                FileOutputStream file = new FileOutputStream(fileToSave);
-                ObjectOutputStream out = new ObjectOutputStream(file);
-                out.writeObject(snapshot);
-                out.close();
-                file.close();
+                AttendanceStore.forFile(resolveSaveFile(activeProfile)).replaceAll(snapshot);
+                FestivalDataStore.getInstance().syncAttendanceAsync(activeProfile, snapshot);
             } catch (Exception error) {
                 Log.e(TAG, "Unable to save attended tracking data: " + error.getMessage());
-            } finally {
-                saveScheduled.set(false);
             }
         });
     }
 
     /**
-     * Writes the given map to disk synchronously. Used by clearAllAttendance so the cleared state
-     * is persisted before return; avoids a race where an async load could repopulate from stale file.
+     * Persists one attendance change as a journal record (on the file executor, in tap order).
+     * The fsync is batched: one queued sync covers every change queued before it.
      */
-    private void saveShowsAttendedSync(Map<String, String> snapshot) {
-        if (snapshot == null) return;
-        try {
-            String activeProfile = SharedPreferencesManager.getInstance().getActivePreferenceSource();
-            File fileToSave = getFileForActiveProfile();
-            File parentDir = fileToSave.getParentFile();
-            if (parentDir != null && !parentDir.exists()) {
-                parentDir.mkdirs();
-            }
-            if ("Default".equals(activeProfile)) {
-                File correct = new File(showBands.newRootDir + FileHandler70k.directoryName + "showsAttended.data");
-                File legacyTypo = FileHandler70k.showsAttendedFile;
-                if (!correct.equals(fileToSave) && legacyTypo.exists() && !correct.exists()) {
-                    copyFile(legacyTypo, correct);
-                    fileToSave = correct;
+    private void saveAttendanceChange(final String index, final String value) {
+        final String activeProfile = SharedPreferencesManager.getInstance().getActivePreferenceSource();
+        final ThreadManager threadManager = ThreadManager.getInstance();
+        threadManager.executeFile(() -> {
+            try {
+                final AttendanceStore store = AttendanceStore.forFile(resolveSaveFile(activeProfile));
+                store.put(index, value);
+                FestivalDataStore.getInstance().putAttendanceAsync(activeProfile, index, value);
+                if (syncQueued.compareAndSet(false, true)) {
+                    threadManager.executeFile(() -> {
+                        syncQueued.set(false);
+                        store.sync();
+                    });
                 }
+            } catch (Exception error) {
+                Log.e(TAG, "Unable to save attended tracking change: " + error.getMessage());
             }
-            try (FileOutputStream file = new FileOutputStream(fileToSave);
-                 ObjectOutputStream out = new ObjectOutputStream(file)) {
-                out.writeObject(new HashMap<>(snapshot));
+        });
+    }
+
+    /**
+     * File that saves for {@code activeProfile} go to. For Default, migrates the legacy typo file to the
+     * corrected name on first save (best-effort copy; the original is kept as a backup).
+     */
+    private File resolveSaveFile(String activeProfile) throws Exception {
+        File fileToSave = getFileForActiveProfile();
+
+        // Ensure directory exists for profile-specific files
+        File parentDir = fileToSave.getParentFile();
+        if (parentDir != null && !parentDir.exists()) {
+            //noinspection ResultOfMethodCallIgnored
+            parentDir.mkdirs();
+        }
+
+        if ("Default".equals(activeProfile)) {
+            File correct = new File(showBands.newRootDir + FileHandler70k.directoryName + "showsAttended.data");
+            File legacyTypo = FileHandler70k.showsAttendedFile;
+            if (!correct.equals(fileToSave) && legacyTypo.exists() && !correct.exists()) {
+                copyFile(legacyTypo, correct);
+                fileToSave = correct;
             }
-        } catch (Exception error) {
-            Log.e(TAG, "Unable to save attended tracking data (sync): " + error.getMessage());
         }
+        return fileToSave;
+    }
+
+    /**
+     * Replaces the stored map with {@code current} (already set as the in-memory map) on the file executor,
+     * without blocking the caller. Used by the clear actions. The file executor runs tasks in order, so later taps
+     * are journaled on top of the cleared snapshot. A load queued before this save may have replaced the in-memory
+     * map with the old file contents in the meantime, so the cleared map is put back afterwards.
+     */
+    private void saveReplacedShowsAttended(final Map<String, String> current) {
+        if (current == null) return;
+        final String activeProfile = SharedPreferencesManager.getInstance().getActivePreferenceSource();
+        final Map<String, String> copy = new HashMap<>(current);
+        ThreadManager.getInstance().executeFile(() -> {
+            try {
+                AttendanceStore.forFile(resolveSaveFile(activeProfile)).replaceAll(copy);
+                FestivalDataStore.getInstance().syncAttendanceAsync(activeProfile, copy);
+                if (showsAttendedHash != current
+                        && activeProfile.equals(SharedPreferencesManager.getInstance().getActivePreferenceSource())) {
+                    showsAttendedHash = current;
+                    currentLoadedProfile = activeProfile;
+                }
+            } catch (Exception error) {
+                Log.e(TAG, "Unable to save replaced attended tracking data: " + error.getMessage());
+            }
+        });
     }
 
     public Map<String,String>  loadShowsAttended() {
@@ -340,31 +358,40 @@ public class showsAttended {
 
     private Map<String,String> loadShowsAttendedForProfile(String profileKey) {
         File fileToLoad = getFileForActiveProfile();
+        File journalToLoad = new File(fileToLoad.getPath() + AttendanceStore.JOURNAL_SUFFIX);
         Map<String, String> loaded = new HashMap<String, String>();
 
         try {
-            if (!fileToLoad.exists()) {
+            // Early taps live only in the journal until the first compaction writes a snapshot
+            if (!fileToLoad.exists() && !journalToLoad.exists()) {
                 currentLoadedProfile = profileKey;
                 return loaded;
             }
 
-            FileInputStream file = new FileInputStream(fileToLoad);
-            ObjectInputStream in = new ObjectInputStream(file);
-            // Method for deserialization of object
-            //noinspection unchecked
-            loaded = (Map<String, String>) in.readObject();
-            in.close();
-            file.close();
+            loaded = AttendanceStore.forFile(fileToLoad).load();
+            FestivalDataStore.getInstance().syncAttendanceAsync(profileKey, new HashMap<String, String>(loaded));
 
             currentLoadedProfile = profileKey;
-        } catch (Exception error) {
-            // Defensive: if the file is corrupted or incompatible, back it up so we don't lose it.
+        } catch (AttendanceStore.CorruptSnapshotException error) {
+            // The snapshot cannot be parsed: keep a copy of both files, then start over from an empty store
+            long stamp = System.currentTimeMillis();
             try {
-                File backup = new File(fileToLoad.getParentFile(),
-                        fileToLoad.getName() + ".corrupt." + System.currentTimeMillis());
-                copyFile(fileToLoad, backup);
-            } catch (Exception ignored) {
+                copyFile(fileToLoad, new File(fileToLoad.getParentFile(), fileToLoad.getName() + ".corrupt." + stamp));
+                if (journalToLoad.exists()) {
+                    copyFile(journalToLoad, new File(journalToLoad.getParentFile(),
+                            journalToLoad.getName() + ".corrupt." + stamp));
+                }
+                AttendanceStore.forFile(fileToLoad).replaceAll(new HashMap<String, String>());
+            } catch (Exception backupError) {
+                Log.e(TAG, "Unable to back up corrupt attended tracking data: " + backupError.getMessage());
             }
+            Log.e(TAG, "Corrupt attended tracking data: " + error.getMessage());
+            StartupTracker.markError(Bands70k.getAppContext(), TAG, "load failed (corrupt): " + error.getMessage());
+            currentLoadedProfile = profileKey;
+            return new HashMap<String, String>();
+        } catch (Exception error) {
+            // Possibly transient (I/O error, storage not ready): leave the files alone. The store reads them again
+            // on its next access, so later changes are applied on top of the saved data rather than replacing it.
             Log.e(TAG, "Unable to load attended tracking data: " + error.getMessage());
             StartupTracker.markError(Bands70k.getAppContext(), TAG, "load failed: " + error.getClass().getSimpleName() + " " + error.getMessage());
             currentLoadedProfile = profileKey;
@@ -494,11 +521,7 @@ public class showsAttended {
             //noinspection ResultOfMethodCallIgnored
             parentDir.mkdirs();
         }
-        FileOutputStream file = new FileOutputStream(fileToSave);
-        ObjectOutputStream out = new ObjectOutputStream(file);
-        out.writeObject(data != null ? data : new HashMap<String, String>());
-        out.close();
-        file.close();
+        AttendanceStore.forFile(fileToSave).replaceAll(data != null ? data : new HashMap<String, String>());
     }
 
     private static void copyFile(File src, File dst) throws Exception {
@@ -599,7 +622,7 @@ public class showsAttended {
         }
         this.showsAttendedHash.put(index, value);
 
-        this.saveShowsAttended(showsAttendedHash);
+        this.saveAttendanceChange(index, value);
 
         markDirtyIfDefaultProfile("attendance:" + index);
 
@@ -630,30 +653,16 @@ public class showsAttended {
      */
     private void clearOverlappingShowAttendance(String band, String location, String startTime, String eventType,
                                                 String eventYearString, String scheduleDayFromDatabase,
-                                                String currentIndex, java.util.List<EventData> allEvents) {
-        if (allEvents == null) return;
-        String normStart = normalizeTimeForIndex(startTime);
-        java.util.List<EventData> matches = new ArrayList<>();
-        for (EventData e : allEvents) {
-            if (e.bandName != null && e.bandName.equals(band) && e.location != null && e.location.equals(location)
-                    && e.startTime != null && normalizeTimeForIndex(e.startTime).equals(normStart) && eventTypeMatchesStatic(e.eventType, eventType)
-                    && String.valueOf(e.eventYear).equals(eventYearString)) {
-                matches.add(e);
-            }
-        }
-        if (matches.isEmpty()) return;
-        EventData thisEvent = null;
-        if (scheduleDayFromDatabase != null && !scheduleDayFromDatabase.trim().isEmpty()) {
-            for (EventData e : matches) {
-                if (scheduleDayFromDatabase.equals(e.day)) {
-                    thisEvent = e;
-                    break;
-                }
-            }
-        }
-        if (thisEvent == null) {
-            thisEvent = matches.get(0);
-        }
+                                                String currentIndex, EventOverlapIndex eventIndex) {
+        if (eventIndex == null) return;
+        EventData thisEvent = eventIndex.findEvent(band, location, startTime, eventType, eventYearString,
+                scheduleDayFromDatabase);
+        if (thisEvent == null) return;
+
+        // Nothing overlaps in time: no attended entry can conflict, skip parsing the attendance keys.
+        java.util.Set<EventData> overlappingEvents = java.util.Collections.newSetFromMap(new java.util.IdentityHashMap<EventData, Boolean>());
+        overlappingEvents.addAll(eventIndex.overlapping(thisEvent));
+        if (overlappingEvents.isEmpty()) return;
 
         String thisDay = normalizedCalendarDay(thisEvent.date);
         double thisEnd = thisEvent.endTimeIndex;
@@ -676,8 +685,9 @@ public class showsAttended {
             ParsedAttendanceKey other = parseAttendanceStorageKey(index);
             if (other == null || !staticVariables.show.equals(other.eventType)) continue;
 
-            EventData otherEvent = findMatchingEventData(allEvents, other);
-            if (otherEvent == null) continue;
+            EventData otherEvent = eventIndex.findEvent(other.band, other.location, other.startTime, other.eventType,
+                    other.yearPlain, other.scheduleDaySuffix);
+            if (otherEvent == null || !overlappingEvents.contains(otherEvent)) continue;
             if (!thisDay.equals(normalizedCalendarDay(otherEvent.date))) continue;
 
             double otherEnd = otherEvent.endTimeIndex;
@@ -694,55 +704,14 @@ public class showsAttended {
         }
     }
 
-    private static EventData findMatchingEventData(java.util.List<EventData> allEvents, ParsedAttendanceKey other) {
-        java.util.List<EventData> cands = new ArrayList<>();
-        for (EventData e : allEvents) {
-            if (e.bandName != null && e.bandName.equals(other.band) && e.location != null && e.location.equals(other.location)
-                    && e.startTime != null
-                    && normalizeTimeForIndex(e.startTime).equals(normalizeTimeForIndex(other.startTime))
-                    && eventTypeMatchesStatic(e.eventType, other.eventType)
-                    && String.valueOf(e.eventYear).equals(other.yearPlain)) {
-                cands.add(e);
-            }
-        }
-        if (cands.isEmpty()) return null;
-        if (other.scheduleDaySuffix != null && !other.scheduleDaySuffix.isEmpty()) {
-            for (EventData e : cands) {
-                if (other.scheduleDaySuffix.equals(e.day)) {
-                    return e;
-                }
-            }
-        }
-        return cands.get(0);
-    }
-
-    private static boolean eventTypeMatchesStatic(String eventType, String stored) {
-        if (eventType == null) eventType = "";
-        if (stored == null) stored = "";
-        if (eventType.equals(stored)) return true;
-        return staticVariables.unofficalEventOld.equals(eventType) && staticVariables.unofficalEvent.equals(stored);
-    }
-
     private String normalizedCalendarDay(String dateString) {
-        if (dateString == null || dateString.isEmpty()) return "";
-        try {
-            java.text.SimpleDateFormat in = new java.text.SimpleDateFormat("M/d/yyyy", java.util.Locale.US);
-            java.util.Date d = in.parse(dateString);
-            if (d == null) {
-                in = new java.text.SimpleDateFormat("MM/dd/yyyy", java.util.Locale.US);
-                d = in.parse(dateString);
-            }
-            if (d != null) {
-                java.text.SimpleDateFormat out = new java.text.SimpleDateFormat("yyyy-MM-dd", java.util.Locale.US);
-                return out.format(d);
-            }
-        } catch (Exception ignored) { }
-        return dateString;
+        String day = EventOverlapIndex.normalizedDay(dateString);
+        return day != null ? day : "";
     }
 
     private void changeShowAttendedStatus(String index, String status) {
         showsAttendedHash.put(index, status);
-        saveShowsAttended(showsAttendedHash);
+        saveAttendanceChange(index, status);
         markDirtyIfDefaultProfile("attendance:" + index);
     }
 
@@ -779,12 +748,23 @@ public class showsAttended {
     public String addShowsAttendedWithStatus(String band, String location, String startTime, String eventType,
                                              String eventYearString, String status, String scheduleDayFromDatabase,
                                              java.util.List<EventData> allEventsForYear) {
+        return addShowsAttendedWithStatus(band, location, startTime, eventType, eventYearString, status,
+                scheduleDayFromDatabase, allEventsForYear != null ? new EventOverlapIndex(allEventsForYear) : null);
+    }
+
+    /**
+     * Same as above with an index the caller built once over the year's events, for callers marking many events
+     * in a row (the schedule wizard). The caller owns it and builds a new one when its event list changes.
+     */
+    public String addShowsAttendedWithStatus(String band, String location, String startTime, String eventType,
+                                             String eventYearString, String status, String scheduleDayFromDatabase,
+                                             EventOverlapIndex eventsForYear) {
         if (staticVariables.unofficalEventOld.equals(eventType)) eventType = staticVariables.unofficalEvent;
         String index = resolveStorageIndex(band, location, startTime, eventType, eventYearString, scheduleDayFromDatabase);
-        if (allEventsForYear != null && staticVariables.show.equals(eventType)
+        if (eventsForYear != null && staticVariables.show.equals(eventType)
                 && (staticVariables.sawAllStatus.equals(status) || staticVariables.sawSomeStatus.equals(status))) {
             clearOverlappingShowAttendance(band, location, startTime, eventType, eventYearString, scheduleDayFromDatabase,
-                    index, allEventsForYear);
+                    index, eventsForYear);
         }
         return addShowsAttended(index, status);
     }
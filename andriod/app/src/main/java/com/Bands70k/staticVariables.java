@@ -14,10 +14,7 @@ import androidx.core.app.ActivityCompat;
 import android.util.Log;
 
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.InputStreamReader;
-import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -26,7 +23,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Locale;
-import java.net.HttpURLConnection;
 
 /**
  * Holds global static variables and utility methods for the 70K Bands app.
@@ -260,7 +256,7 @@ public class staticVariables {
     public static Integer  lastRefreshCount = 0;
 
     public static Integer currentListPosition = 0;
-    public static List<String> currentListForDetails = new ArrayList<String>();
+    public static List<MainListRow> currentListForDetails = new ArrayList<MainListRow>();
 
     public static Map<String, String> venueLocation = new HashMap<String, String>();
 
@@ -890,31 +886,17 @@ public class staticVariables {
             Log.d("70K_NOTE_DEBUG", "User selected eventYearIndex: " + eventYearIndex);
             Log.d("70K_NOTE_DEBUG", "Available years in pointer file: " + eventYearArray.toString());
 
-            String data = "";
-            String line;
-
-            URL url = new URL(pointerUrl);
-            
-            // Handle HTTP redirects properly for Dropbox URLs
-            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-            connection.setInstanceFollowRedirects(true);
-            HttpConnectionHelper.applyTimeouts(connection);
-            
-            BufferedReader in = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-            while ((line = in.readLine()) != null) {
-                data += line + "\n";
-            }
-            in.close();
-
             // Persist the pointer contents so year changes can re-parse without re-downloading.
+            // A 304 / unchanged hash leaves the cached copy as is and it is parsed from disk.
+            boolean changed = ConditionalDownloader.fetchIfChanged(pointerUrl, FileHandler70k.pointerCacheFile, "pointerInfo", false);
+            Log.d("lookupUrls", (changed ? "Saved pointer cache to " : "Pointer unchanged, using ") + FileHandler70k.pointerCacheFile.getAbsolutePath());
             try {
-                FileHandler70k.saveData(data.trim(), FileHandler70k.pointerCacheFile);
-                Log.d("lookupUrls", "Saved pointer cache to " + FileHandler70k.pointerCacheFile.getAbsolutePath());
                 SharedCommentsSettings.loadEnableSharedComments();
             } catch (Exception e) {
-                Log.w("lookupUrls", "Failed to save pointer cache: " + e.getMessage());
+                Log.w("lookupUrls", "Failed to load shared comments setting: " + e.getMessage());
             }
 
+            String data = FileHandler70k.loadData(FileHandler70k.pointerCacheFile);
             String[] records = data.split("\\n");
             // Do not log the full pointer file contents (can be large/noisy).
             Log.d("lookupUrls", "Pointer downloaded: " + records.length + " lines (eventYearIndex=" + eventYearIndex + ")");
@@ -1559,9 +1541,10 @@ public class staticVariables {
     }
 
     /**
-     * Downloads core CSV files in strict order: bandInfo, schedule, descriptionMap.
+     * Downloads and parses the core CSV files (bandInfo, schedule, descriptionMap) concurrently.
+     * The parsed schedule is published to {@link BandInfo#scheduleRecords} when its stage finishes.
      * Caller must have already ensured the pointer file is available.
-     * Must be called from a background thread.
+     * Must be called from a background thread; returns once all three files are done.
      */
     public static void downloadCoreCsvFiles() {
         boolean isMainThread = Looper.myLooper() == Looper.getMainLooper();
@@ -1571,27 +1554,6 @@ public class staticVariables {
         }
 
         Log.d("CORE_CSV", "Starting core CSV download pipeline");
-        lookupUrls();
-
-        BandInfo bandInfo = new BandInfo();
-        bandInfo.DownloadBandFile();
-
-        String scheduleUrl = scheduleURL;
-        if (scheduleUrl == null || scheduleUrl.trim().isEmpty()) {
-            bandInfo.getDownloadtUrls();
-            scheduleUrl = scheduleURL;
-        }
-        if (scheduleUrl != null && !scheduleUrl.trim().isEmpty()) {
-            scheduleInfo scheduleData = new scheduleInfo();
-            scheduleData.DownloadScheduleFile(scheduleUrl);
-        } else {
-            Log.w("CORE_CSV", "Schedule URL empty — skipping schedule download");
-        }
-
-        CustomerDescriptionHandler descHandler = CustomerDescriptionHandler.getInstance();
-        descHandler.getDescriptionMapFile();
-        descHandler.getDescriptionMap();
-
-        Log.d("CORE_CSV", "Core CSV download pipeline complete");
+        CoreCsvDownloadPipeline.run();
     }
 }
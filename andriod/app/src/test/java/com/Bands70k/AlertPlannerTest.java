@@ -0,0 +1,71 @@
+package com.Bands70k;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * AlertPlanner: only the delta between registered and wanted alerts is cancelled or added.
+ */
+public class AlertPlannerTest {
+
+    private static final String EXODUS = AlertPlanner.registeredKey("Exodus|Day 1|Show|Pool|1800997200000", 10);
+    private static final String TYR = AlertPlanner.registeredKey("Tyr|Day 2|Show|Theater|1801083600000", 10);
+    private static final String SKILTRON = AlertPlanner.registeredKey("Skiltron|Day 2|Show|Lounge|1801090800000", 10);
+
+    @Test
+    public void oneNewMustSeeAddsOneAlert() {
+        Map<Integer, String> registered = new HashMap<>();
+        registered.put(1, EXODUS);
+        registered.put(2, TYR);
+
+        AlertPlanner.Diff diff = AlertPlanner.diff(registered, Arrays.asList(EXODUS, TYR, SKILTRON), null);
+
+        assertTrue(diff.cancel.isEmpty());
+        assertEquals(Collections.singletonList(SKILTRON), diff.add);
+        assertEquals(registered, diff.keep);
+        assertEquals(3, AlertPlanner.nextFreeRequestCode(0, diff.keep.keySet()));
+    }
+
+    @Test
+    public void droppedRankCancelsOnlyThatAlert() {
+        Map<Integer, String> registered = new HashMap<>();
+        registered.put(1, EXODUS);
+        registered.put(2, TYR);
+        registered.put(5, TYR); // duplicate left by an interrupted pass
+
+        AlertPlanner.Diff diff = AlertPlanner.diff(registered, Collections.singletonList(TYR), null);
+
+        assertEquals(2, diff.cancel.size());
+        assertEquals(EXODUS, diff.cancel.get(1));
+        assertEquals(1, diff.keep.size());
+        assertTrue(diff.add.isEmpty());
+    }
+
+    @Test
+    public void lostAlarmsAndLeadTimeChangesAreRegisteredAgain() {
+        Map<Integer, String> registered = new HashMap<>();
+        registered.put(1, EXODUS);
+        registered.put(2, TYR);
+
+        // After a reboot nothing is registered any more.
+        AlertPlanner.Diff afterReboot = AlertPlanner.diff(registered, Arrays.asList(EXODUS, TYR),
+                (requestCode, key) -> false);
+        assertEquals(2, afterReboot.cancel.size());
+        assertEquals(Arrays.asList(EXODUS, TYR), afterReboot.add);
+
+        // A new minutes-before preference changes every key.
+        String exodus15 = AlertPlanner.registeredKey("Exodus|Day 1|Show|Pool|1800997200000", 15);
+        AlertPlanner.Diff leadTime = AlertPlanner.diff(registered, Collections.singletonList(exodus15), null);
+        assertEquals(2, leadTime.cancel.size());
+        assertEquals(Collections.singletonList(exodus15), leadTime.add);
+        assertEquals(2, AlertPlanner.nextFreeRequestCode(1, new HashSet<>(Arrays.asList(1, 3))));
+    }
+}
@@ -0,0 +1,185 @@
+package com.Bands70k;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * AttendanceStore: journal replay, compaction, torn tails, stale journals, legacy and corrupt snapshots.
+ */
+public class AttendanceStoreTest {
+
+    private File dir;
+    private File snapshot;
+    private File journal;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = File.createTempFile("attendance", "");
+        dir.delete();
+        dir.mkdirs();
+        snapshot = new File(dir, "showsAttended.data");
+        journal = new File(snapshot.getPath() + AttendanceStore.JOURNAL_SUFFIX);
+    }
+
+    @After
+    public void tearDown() {
+        AttendanceStore.evict(snapshot);
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    /** A fresh process: drops the cached instance so the next load reads the files. */
+    private Map<String, String> reload() throws IOException {
+        AttendanceStore.evict(snapshot);
+        return AttendanceStore.forFile(snapshot).load();
+    }
+
+    @Test
+    public void putsAreJournaledAndReplayed() throws IOException {
+        AttendanceStore store = AttendanceStore.forFile(snapshot);
+        store.put("Exodus:Theater:17:00:Show:2025", "sawAll:1700000000");
+        store.put("Exodus:Theater:17:00:Show:2025", "sawSome:1700000001");
+        store.put("Tyr:Pool:12:00:Show:2025", "sawAll:1700000002");
+        store.sync();
+
+        assertFalse(snapshot.exists());
+        assertTrue(journal.exists());
+
+        Map<String, String> loaded = reload();
+        assertEquals(2, loaded.size());
+        assertEquals("sawSome:1700000001", loaded.get("Exodus:Theater:17:00:Show:2025"));
+        assertEquals(3, AttendanceStore.forFile(snapshot).getJournalRecordCount());
+    }
+
+    @Test
+    public void compactsIntoSnapshotAfterThreshold() throws IOException {
+        AttendanceStore store = AttendanceStore.forFile(snapshot);
+        for (int i = 0; i <= AttendanceStore.COMPACT_AFTER_RECORDS; i++) {
+            store.put("band" + (i % 10), "sawAll:" + i);
+        }
+        assertTrue(snapshot.exists());
+        assertFalse(journal.exists());
+        store.put("band0", "sawNone:1");
+
+        Map<String, String> loaded = reload();
+        assertEquals(10, loaded.size());
+        assertEquals("sawNone:1", loaded.get("band0"));
+        assertEquals("sawAll:" + AttendanceStore.COMPACT_AFTER_RECORDS, loaded.get("band2"));
+    }
+
+    @Test
+    public void ignoresTornTailRecord() throws IOException {
+        AttendanceStore store = AttendanceStore.forFile(snapshot);
+        store.put("a", "sawAll:1");
+        store.put("b", "sawAll:2");
+        AttendanceStore.evict(snapshot);
+
+        RandomAccessFile raf = new RandomAccessFile(journal, "rw");
+        raf.setLength(raf.length() - 3);
+        raf.close();
+
+        Map<String, String> loaded = reload();
+        assertEquals(1, loaded.size());
+        assertEquals("sawAll:1", loaded.get("a"));
+
+        // Appends continue after the valid prefix.
+        AttendanceStore.forFile(snapshot).put("c", "sawSome:3");
+        loaded = reload();
+        assertEquals(2, loaded.size());
+        assertEquals("sawSome:3", loaded.get("c"));
+    }
+
+    @Test
+    public void replaceAllDiscardsEarlierJournal() throws IOException {
+        AttendanceStore store = AttendanceStore.forFile(snapshot);
+        store.put("a", "sawAll:1");
+        Map<String, String> cleared = new HashMap<>();
+        cleared.put("a", "sawNone:2");
+        store.replaceAll(cleared);
+
+        Map<String, String> loaded = reload();
+        assertEquals("sawNone:2", loaded.get("a"));
+    }
+
+    @Test
+    public void journalFromOlderEpochIsNotReplayed() throws IOException {
+        AttendanceStore store = AttendanceStore.forFile(snapshot);
+        store.put("a", "sawAll:1");
+        AttendanceStore.evict(snapshot);
+        File oldJournal = new File(dir, "old.journal");
+        assertTrue(journal.renameTo(oldJournal));
+
+        Map<String, String> newer = new HashMap<>();
+        newer.put("a", "sawNone:2");
+        AttendanceStore.forFile(snapshot).replaceAll(newer);
+        // Simulate a crash after the snapshot rename but before the old journal was deleted.
+        AttendanceStore.evict(snapshot);
+        assertTrue(oldJournal.renameTo(journal));
+
+        assertEquals("sawNone:2", reload().get("a"));
+    }
+
+    @Test
+    public void readsLegacySerializedSnapshot() throws IOException {
+        HashMap<String, String> legacy = new HashMap<>();
+        legacy.put("Exodus:Theater:17:00:Show:2024", "sawAll:1600000000");
+        ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(snapshot));
+        out.writeObject(legacy);
+        out.close();
+
+        AttendanceStore store = AttendanceStore.forFile(snapshot);
+        assertEquals(legacy, store.load());
+        store.put("Tyr:Pool:12:00:Show:2025", "sawSome:1700000000");
+
+        Map<String, String> loaded = reload();
+        assertEquals(2, loaded.size());
+        assertEquals("sawAll:1600000000", loaded.get("Exodus:Theater:17:00:Show:2024"));
+    }
+
+    @Test
+    public void journalWithoutSnapshotIsReplayed() throws IOException {
+        AttendanceStore.forFile(snapshot).put("Tyr:Pool:12:00:Show:2025", "sawAll:1700000000");
+        AttendanceStore.forFile(snapshot).sync();
+        assertFalse(snapshot.exists());
+
+        assertEquals("sawAll:1700000000", reload().get("Tyr:Pool:12:00:Show:2025"));
+    }
+
+    @Test
+    public void truncatedSnapshotIsReportedAsCorruptAndLeftInPlace() throws IOException {
+        Map<String, String> data = new HashMap<>();
+        data.put("Exodus:Theater:17:00:Show:2025", "sawAll:1700000000");
+        AttendanceStore.forFile(snapshot).replaceAll(data);
+        long length = snapshot.length();
+        RandomAccessFile file = new RandomAccessFile(snapshot, "rw");
+        file.setLength(length - 4);
+        file.close();
+
+        try {
+            reload();
+            fail("expected CorruptSnapshotException");
+        } catch (AttendanceStore.CorruptSnapshotException expected) {
+            // The store does not touch the file; the caller backs it up before replacing it
+        }
+        assertEquals(length - 4, snapshot.length());
+    }
+}
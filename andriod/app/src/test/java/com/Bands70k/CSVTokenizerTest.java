@@ -0,0 +1,65 @@
+package com.Bands70k;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * CSVTokenizer: RFC 4180 quoting, line endings and blank rows.
+ */
+public class CSVTokenizerTest {
+
+    private static List<List<String>> parse(String csv) throws IOException {
+        final List<List<String>> rows = new ArrayList<>();
+        new CSVTokenizer(new StringReader(csv)).parse(new CSVTokenizer.RowCollector() {
+            @Override
+            void onRow(int row, List<String> fields) {
+                rows.add(new ArrayList<>(fields));
+            }
+        });
+        return rows;
+    }
+
+    @Test
+    public void splitsPlainRows() throws IOException {
+        List<List<String>> rows = parse("Band,Location,Date\nExodus,Theater,01/24/2011\n");
+        assertEquals(2, rows.size());
+        assertEquals(Arrays.asList("Band", "Location", "Date"), rows.get(0));
+        assertEquals(Arrays.asList("Exodus", "Theater", "01/24/2011"), rows.get(1));
+    }
+
+    @Test
+    public void handlesQuotedCommasQuotesAndLineBreaks() throws IOException {
+        List<List<String>> rows = parse("\"Ale & Anchor, Pub\",\"say \"\"hi\"\"\",\"two\nlines\"\n");
+        assertEquals(1, rows.size());
+        assertEquals(Arrays.asList("Ale & Anchor, Pub", "say \"hi\"", "two\nlines"), rows.get(0));
+    }
+
+    @Test
+    public void keepsTrailingAndEmptyFields() throws IOException {
+        List<List<String>> rows = parse("a,,c,\n\"\",b");
+        assertEquals(Arrays.asList("a", "", "c", ""), rows.get(0));
+        assertEquals(Arrays.asList("", "b"), rows.get(1));
+    }
+
+    @Test
+    public void acceptsCrLfAndCrLineEndings() throws IOException {
+        List<List<String>> rows = parse("a,b\r\nc,d\re,f");
+        assertEquals(3, rows.size());
+        assertEquals(Arrays.asList("c", "d"), rows.get(1));
+        assertEquals(Arrays.asList("e", "f"), rows.get(2));
+    }
+
+    @Test
+    public void reportsBlankLinesAsOneEmptyField() throws IOException {
+        List<List<String>> rows = parse("a\n\nb\n");
+        assertEquals(3, rows.size());
+        assertEquals(Arrays.asList(""), rows.get(1));
+    }
+}
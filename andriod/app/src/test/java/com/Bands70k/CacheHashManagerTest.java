@@ -0,0 +1,125 @@
+package com.Bands70k;
+
+import android.content.SharedPreferences;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * CacheHashManager.processIfChanged: replace on a new hash, skip an unchanged one, and always write a
+ * missing destination even when its old hash is still cached.
+ */
+public class CacheHashManagerTest {
+
+    private static final String DATA_TYPE = "pointerInfo";
+
+    private File dir;
+    private File temp;
+    private File target;
+    private CacheHashManager manager;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = File.createTempFile("cachehash", "");
+        dir.delete();
+        dir.mkdirs();
+        temp = new File(dir, "pointer.txt.temp");
+        target = new File(dir, "pointer.txt");
+        manager = new CacheHashManager(new MemoryPreferences());
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    @Test
+    public void replacesOnNewContentAndSkipsUnchanged() throws IOException {
+        write(temp, "Current::2026\n");
+        assertTrue(manager.processIfChanged(temp, target, DATA_TYPE));
+        assertTrue(target.exists());
+
+        write(temp, "Current::2026\n");
+        assertFalse(manager.processIfChanged(temp, target, DATA_TYPE));
+        assertFalse(temp.exists());
+    }
+
+    @Test
+    public void writesMissingTargetEvenWhenHashIsCached() throws IOException {
+        write(temp, "Current::2026\n");
+        assertTrue(manager.processIfChanged(temp, target, DATA_TYPE));
+        target.delete();
+
+        write(temp, "Current::2026\n");
+        assertTrue(manager.processIfChanged(temp, target, DATA_TYPE));
+        assertTrue(target.exists());
+        assertEquals(manager.calculateFileHash(target), manager.getCachedHash(DATA_TYPE));
+    }
+
+    private static void write(File file, String text) throws IOException {
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(text.getBytes("UTF-8"));
+        }
+    }
+
+    /** Just enough of SharedPreferences for the string entries CacheHashManager keeps. */
+    private static final class MemoryPreferences implements SharedPreferences {
+        private final Map<String, Object> values = new HashMap<>();
+
+        @Override public Map<String, ?> getAll() { return new HashMap<>(values); }
+        @Override public String getString(String key, String defValue) {
+            Object value = values.get(key);
+            return value != null ? (String) value : defValue;
+        }
+        @Override public Set<String> getStringSet(String key, Set<String> defValues) { return defValues; }
+        @Override public int getInt(String key, int defValue) { return defValue; }
+        @Override public long getLong(String key, long defValue) { return defValue; }
+        @Override public float getFloat(String key, float defValue) { return defValue; }
+        @Override public boolean getBoolean(String key, boolean defValue) { return defValue; }
+        @Override public boolean contains(String key) { return values.containsKey(key); }
+        @Override public void registerOnSharedPreferenceChangeListener(OnSharedPreferenceChangeListener listener) {}
+        @Override public void unregisterOnSharedPreferenceChangeListener(OnSharedPreferenceChangeListener listener) {}
+
+        @Override public Editor edit() {
+            return new Editor() {
+                @Override public Editor putString(String key, String value) { return put(key, value); }
+                @Override public Editor putStringSet(String key, Set<String> value) { return put(key, value); }
+                @Override public Editor putInt(String key, int value) { return put(key, value); }
+                @Override public Editor putLong(String key, long value) { return put(key, value); }
+                @Override public Editor putFloat(String key, float value) { return put(key, value); }
+                @Override public Editor putBoolean(String key, boolean value) { return put(key, value); }
+                @Override public Editor remove(String key) { values.remove(key); return this; }
+                @Override public Editor clear() { values.clear(); return this; }
+                @Override public boolean commit() { return true; }
+                @Override public void apply() {}
+
+                private Editor put(String key, Object value) {
+                    if (value == null) {
+                        values.remove(key);
+                    } else {
+                        values.put(key, value);
+                    }
+                    return this;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.Bands70k;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * EventOverlapIndex: parity with a pairwise scan over a synthetic 2,000-event schedule, overnight events,
+ * attendance lookups, and a conflict query timing report (printed, not asserted).
+ */
+public class EventOverlapIndexTest {
+
+    private static final double DAY_ONE = 1800997200; // 2027-01-26 13:00 local, in seconds
+
+    private static EventData event(String band, String location, String date, String day, String startTime,
+                                   double start, double end) {
+        EventData e = new EventData();
+        e.bandName = band;
+        e.location = location;
+        e.date = date;
+        e.day = day;
+        e.startTime = startTime;
+        e.eventType = staticVariables.show;
+        e.timeIndex = start;
+        e.endTimeIndex = end;
+        e.eventYear = 2027;
+        return e;
+    }
+
+    /** Five days, eight stages, back-to-back sets of 30–90 minutes with gaps; 2,000 events total. */
+    private static List<EventData> syntheticSchedule(Random random) {
+        List<EventData> events = new ArrayList<>();
+        int perStage = 50;
+        for (int day = 0; day < 5; day++) {
+            for (int stage = 0; stage < 8; stage++) {
+                double t = DAY_ONE + day * 86400 + random.nextInt(60) * 60;
+                for (int i = 0; i < perStage; i++) {
+                    double length = (30 + random.nextInt(61)) * 60;
+                    events.add(event("Band " + day + "-" + stage + "-" + i, "Stage " + stage, "2027-01-2" + (6 + day),
+                            "Day " + (day + 1), (i % 24) + ":00", t, t + length));
+                    t += length + random.nextInt(4) * 300;
+                }
+            }
+        }
+        return events;
+    }
+
+    /** The check AIScheduleBuilder did against every chosen event before the index. */
+    private static boolean overlapsPairwise(EventData a, EventData b) {
+        if (!a.date.equals(b.date)) return false;
+        double endA = a.endTimeIndex;
+        if (a.timeIndex > endA) endA += 86400;
+        double endB = b.endTimeIndex;
+        if (b.timeIndex > endB) endB += 86400;
+        return a.timeIndex < endB && b.timeIndex < endA;
+    }
+
+    @Test
+    public void matchesPairwiseScan() {
+        List<EventData> events = syntheticSchedule(new Random(70));
+        assertEquals(2000, events.size());
+        EventOverlapIndex index = new EventOverlapIndex(events);
+
+        for (EventData query : events) {
+            Set<EventData> expected = new HashSet<>();
+            for (EventData other : events) {
+                if (other != query && overlapsPairwise(query, other)) expected.add(other);
+            }
+            List<EventData> actual = index.overlapping(query);
+            assertEquals(query.bandName, expected.size(), actual.size());
+            assertTrue(query.bandName, expected.containsAll(actual));
+        }
+    }
+
+    @Test
+    public void overnightEventsWrapToNextDay() {
+        EventData late = event("Late", "Pool", "2027-01-26", "Day 1", "23:45", DAY_ONE + 38700, DAY_ONE + 38700 - 80100);
+        EventData after = event("After", "Lounge", "2027-01-26", "Day 1", "00:30", DAY_ONE + 41400, DAY_ONE + 45000);
+        EventData otherDay = event("Other", "Lounge", "2027-01-27", "Day 2", "00:30", DAY_ONE + 41400, DAY_ONE + 45000);
+        List<EventData> events = new ArrayList<>();
+        events.add(late);
+        events.add(after);
+        events.add(otherDay);
+        EventOverlapIndex index = new EventOverlapIndex(events);
+
+        List<EventData> found = index.overlapping(late);
+        assertEquals(1, found.size());
+        assertSame(after, found.get(0));
+    }
+
+    @Test
+    public void findsAttendanceEventByIdentityAndDay() {
+        EventData dayOne = event("Exodus", "Theater", "2027-01-26", "Day 1", "17:00", DAY_ONE, DAY_ONE + 3600);
+        EventData dayThree = event("Exodus", "Theater", "2027-01-28", "Day 3", "17:00", DAY_ONE + 172800, DAY_ONE + 176400);
+        EventData unofficial = event("Tyr", "Deck", "2027-01-26", "Day 1", "9:00", DAY_ONE - 14400, DAY_ONE - 10800);
+        unofficial.eventType = staticVariables.unofficalEventOld;
+        List<EventData> events = new ArrayList<>();
+        events.add(dayOne);
+        events.add(dayThree);
+        events.add(unofficial);
+        EventOverlapIndex index = new EventOverlapIndex(events);
+
+        assertSame(dayOne, index.findEvent("Exodus", "Theater", "17:00", staticVariables.show, "2027", null));
+        assertSame(dayThree, index.findEvent("Exodus", "Theater", "17:00", staticVariables.show, "2027", "Day 3"));
+        assertSame(unofficial, index.findEvent("Tyr", "Deck", "09:00", staticVariables.unofficalEvent, "2027", null));
+        assertNull(index.findEvent("Exodus", "Theater", "17:00", staticVariables.show, "2026", null));
+    }
+
+    @Test
+    public void benchmarkConflictQueries() {
+        List<EventData> events = syntheticSchedule(new Random(2027));
+        EventOverlapIndex index = new EventOverlapIndex(events);
+        int warmupOverlaps = 0;
+        for (EventData query : events) {
+            warmupOverlaps += index.overlapping(query).size();
+        }
+        assumeTrue("synthetic schedule has no conflicts to time", warmupOverlaps > 0);
+
+        long bestNanos = Long.MAX_VALUE;
+        for (int run = 0; run < 5; run++) {
+            long start = System.nanoTime();
+            for (EventData query : events) {
+                index.overlapping(query);
+                index.findEvent(query.bandName, query.location, query.startTime, query.eventType, "2027", query.day);
+            }
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+        System.out.println(String.format("[OverlapBenchmark] events=%d overlaps=%d %.2fus per conflict query",
+                events.size(), warmupOverlaps, bestNanos / 1000.0 / events.size()));
+    }
+}
@@ -0,0 +1,66 @@
+package com.Bands70k;
+
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Festival table import: a changed schedule becomes only the inserts, updates and deletes it needs.
+ */
+public class FestivalCsvRowsTest {
+
+    private static final String HEADER = "Band,Location,Date,Day,Start Time,End Time,Type,Description URL,Notes,ImageURL\n";
+
+    @Test
+    public void changedScheduleOnlyTouchesChangedRows() throws Exception {
+        List<FestivalCsvRows.EventRow> before = FestivalCsvRows.readSchedule(new StringReader(HEADER
+                + "Tyr,Rink,01/26/2027,Day 1,13:00,13:45,Show,,,\n"
+                + "Exhumed,Pool,01/27/2027,Day 2,23:30,00:15,Show,,,\n"
+                + "Exhumed,Pool,01/27/2027,Day 2,23:30,00:15,Show,,,\n"
+                + "Skipper's Thank You,Deck 11,TBD,Day 3,,,Special Event,,,\n"));
+        assertEquals(4, before.size());
+        assertEquals(before.get(1).key + "#2", before.get(2).key);
+        assertEquals(0L, before.get(3).startEpoch);
+        assertTrue(before.get(0).startEpoch < before.get(1).startEpoch);
+        assertEquals(45 * 60 * 1000L, before.get(1).endEpoch - before.get(1).startEpoch);
+        assertEquals(0L, before.get(3).endEpoch);
+
+        Map<String, String> stored = new HashMap<>();
+        for (FestivalCsvRows.EventRow row : before) {
+            stored.put(row.key, row.signature);
+        }
+        assertTrue(FestivalCsvRows.delta(stored, before).isEmpty());
+
+        List<FestivalCsvRows.EventRow> after = FestivalCsvRows.readSchedule(new StringReader(HEADER
+                + "Tyr,Rink,01/26/2027,Day 1,13:00,14:00,Show,,Encore added,\n"
+                + "Exhumed,Pool,01/27/2027,Day 2,23:30,00:15,Show,,,\n"
+                + "Skipper's Thank You,Deck 11,TBD,Day 3,,,Special Event,,,\n"
+                + "Tyr,Theater,01/28/2027,Day 3,18:00,19:00,Meet and Greet,,,\n"));
+        FestivalCsvRows.Delta<FestivalCsvRows.EventRow> delta = FestivalCsvRows.delta(stored, after);
+
+        assertEquals(1, delta.inserts.size());
+        assertEquals("Theater", delta.inserts.get(0).location);
+        assertEquals(1, delta.updates.size());
+        assertEquals("Encore added", delta.updates.get(0).notes);
+        assertEquals(1, delta.deletes.size());
+        assertEquals(before.get(2).key, delta.deletes.get(0));
+    }
+
+    @Test
+    public void lineupKeepsTheFirstRowForARepeatedBand() throws Exception {
+        List<FestivalCsvRows.BandRow> bands = FestivalCsvRows.readBands(new StringReader(
+                "bandName,officalSite,imageUrl,youtube,metalArchives,wikipedia,country,genre,noteworthy,priorYears\n"
+                        + "Tyr,tyr.fo,,,,,Faroe Islands,Folk Metal,,2019 2023\n"
+                        + "\n"
+                        + "Tyr,tyr.fo,,,,,Denmark,Folk Metal,,\n"));
+        assertEquals(1, bands.size());
+        assertEquals("Faroe Islands", bands.get(0).country);
+        assertEquals("2019 2023", bands.get(0).priorYears);
+    }
+}
@@ -0,0 +1,97 @@
+package com.Bands70k;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * FirebaseChangeJournal: baselines per user and year, delta acknowledgement, and changes made while a
+ * write is in flight.
+ */
+public class FirebaseChangeJournalTest {
+
+    private static final String SCOPE_2026 = FirebaseChangeJournal.scopeFor("user-1", "2026");
+    private static final String SCOPE_2027 = FirebaseChangeJournal.scopeFor("user-1", "2027");
+
+    @Test
+    public void firstSyncIsFullThenDeltasFollow() {
+        FirebaseChangeJournal journal = new FirebaseChangeJournal(FirebaseChangeJournal.BANDS, null);
+        journal.recordChange("Exodus");
+
+        FirebaseChangeJournal.Snapshot first = journal.snapshot(SCOPE_2026);
+        assertTrue(first.fullUpload);
+        journal.acknowledge(first, SCOPE_2026);
+        assertFalse(journal.hasPendingChanges());
+
+        journal.recordChange("Tyr");
+        journal.recordChange("Skiltron");
+        FirebaseChangeJournal.Snapshot delta = journal.snapshot(SCOPE_2026);
+        assertFalse(delta.fullUpload);
+        assertEquals(new HashSet<>(Arrays.asList("Tyr", "Skiltron")), delta.keys.keySet());
+
+        // A new year has no baseline yet.
+        assertTrue(journal.needsFullUpload(SCOPE_2027));
+    }
+
+    @Test
+    public void changesDuringAnUploadStayPending() {
+        FirebaseChangeJournal journal = new FirebaseChangeJournal(FirebaseChangeJournal.SHOWS, null);
+        journal.acknowledge(journal.snapshot(SCOPE_2026), SCOPE_2026);
+
+        journal.recordChange("Exodus:Pool:17:00:Show:2026");
+        journal.recordChange("Tyr:Theater:20:00:Show:2026");
+        FirebaseChangeJournal.Snapshot inFlight = journal.snapshot(SCOPE_2026);
+
+        // Changed again before the write is acknowledged, plus a brand new key.
+        journal.recordChange("Tyr:Theater:20:00:Show:2026");
+        journal.recordChange("Skiltron:Lounge:22:00:Show:2026");
+        journal.acknowledge(inFlight, SCOPE_2026);
+
+        FirebaseChangeJournal.Snapshot next = journal.snapshot(SCOPE_2026);
+        assertFalse(next.fullUpload);
+        assertEquals(new HashSet<>(Arrays.asList("Tyr:Theater:20:00:Show:2026", "Skiltron:Lounge:22:00:Show:2026")),
+                next.keys.keySet());
+    }
+
+    @Test
+    public void clearingForcesOneFullUpload() {
+        FirebaseChangeJournal journal = new FirebaseChangeJournal(FirebaseChangeJournal.SHOWS, null);
+        journal.acknowledge(journal.snapshot(SCOPE_2026), SCOPE_2026);
+
+        journal.recordChange("Exodus:Pool:17:00:Show:2026");
+        journal.requireFullUpload();
+        FirebaseChangeJournal.Snapshot full = journal.snapshot(SCOPE_2026);
+        assertTrue(full.fullUpload);
+
+        journal.acknowledge(full, SCOPE_2026);
+        assertFalse(journal.hasPendingChanges());
+        assertFalse(journal.needsFullUpload(SCOPE_2026));
+    }
+
+    @Test
+    public void fullUploadWithNothingToSendIsSettledByAcknowledging() {
+        FirebaseChangeJournal journal = new FirebaseChangeJournal(FirebaseChangeJournal.SHOWS, null);
+        journal.acknowledge(journal.snapshot(SCOPE_2026), SCOPE_2026);
+
+        // Clearing all attendance when nothing for this year is left to send
+        journal.requireFullUpload();
+        assertTrue(journal.hasPendingChanges());
+        FirebaseChangeJournal.Snapshot full = journal.snapshot(SCOPE_2026);
+        assertTrue(full.fullUpload);
+        assertTrue(full.keys.isEmpty());
+
+        // A clear made while that sync ran still needs its own full upload
+        journal.requireFullUpload();
+        journal.acknowledge(full, SCOPE_2026);
+        assertTrue(journal.needsFullUpload(SCOPE_2026));
+
+        journal.acknowledge(journal.snapshot(SCOPE_2026), SCOPE_2026);
+        assertFalse(journal.hasPendingChanges());
+        assertFalse(journal.needsFullUpload(SCOPE_2026));
+    }
+}
@@ -0,0 +1,65 @@
+package com.Bands70k;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * NetworkQuality: the level derived from probe results, download latencies and failures.
+ */
+public class NetworkQualityTest {
+
+    @Test
+    public void goodUntilSomethingIsObserved() {
+        NetworkQuality quality = new NetworkQuality();
+        assertEquals(NetworkQuality.Level.GOOD, quality.level());
+        assertEquals(4, quality.parallelism(4));
+        assertFalse(quality.hasRecentSuccess(15_000L, 1_000L));
+    }
+
+    @Test
+    public void probeFailureIsOfflineOrCaptiveUntilADownloadSucceeds() {
+        NetworkQuality quality = new NetworkQuality();
+        quality.recordProbeFailure(false);
+        assertEquals(NetworkQuality.Level.OFFLINE, quality.level());
+        assertEquals(0, quality.parallelism(4));
+
+        quality.recordProbeFailure(true);
+        assertEquals(NetworkQuality.Level.CAPTIVE, quality.level());
+        assertFalse(quality.hasRecentSuccess(15_000L, 1_000L));
+
+        quality.recordDownloadSuccess(200, 1_000L);
+        assertEquals(NetworkQuality.Level.GOOD, quality.level());
+        assertTrue(quality.hasRecentSuccess(15_000L, 10_000L));
+        assertFalse(quality.hasRecentSuccess(15_000L, 20_000L));
+    }
+
+    @Test
+    public void failureStreakAndHighLatencyAreSlow() {
+        NetworkQuality quality = new NetworkQuality();
+        quality.recordDownloadFailure();
+        assertEquals(NetworkQuality.Level.GOOD, quality.level());
+        quality.recordDownloadFailure();
+        assertEquals(NetworkQuality.Level.SLOW, quality.level());
+        assertEquals(1, quality.parallelism(4));
+
+        quality.recordDownloadSuccess(100, 1_000L);
+        assertEquals(NetworkQuality.Level.GOOD, quality.level());
+
+        // Smoothed, so one slow response after fast ones is not enough
+        quality.recordDownloadSuccess(8_000, 2_000L);
+        assertEquals(NetworkQuality.Level.GOOD, quality.level());
+        quality.recordDownloadSuccess(8_000, 3_000L);
+        assertEquals(NetworkQuality.Level.SLOW, quality.level());
+    }
+
+    @Test
+    public void resetForgetsObservations() {
+        NetworkQuality quality = new NetworkQuality();
+        quality.recordProbeFailure(false);
+        quality.reset();
+        assertEquals(NetworkQuality.Level.GOOD, quality.level());
+    }
+}
@@ -0,0 +1,92 @@
+package com.Bands70k;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * NoteCacheIndex: the BandNotes file naming rules answered from one directory listing.
+ */
+public class NoteCacheIndexTest {
+
+    private File dir;
+    private final Map<String, String> modDates = new HashMap<>();
+
+    @Before
+    public void setUp() throws IOException {
+        dir = File.createTempFile("notes", "");
+        dir.delete();
+        dir.mkdirs();
+        modDates.put("Exodus", "2025-01-10");
+        modDates.put("Tyr", "2025-01-12");
+        modDates.put("Skiltron", "2025-01-12");
+        modDates.put("Gone", "null");
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    private void touch(String name) throws IOException {
+        assertTrue(new File(dir, name).createNewFile());
+    }
+
+    @Test
+    public void findsBandsWithoutCurrentNotes() throws IOException {
+        touch("Exodus.note-2025-01-10");
+        touch("Tyr.note-2024-12-01");
+        touch("Skiltron.note_cust");
+        touch("Gone.note_new");
+
+        NoteCacheIndex index = new NoteCacheIndex(dir);
+        List<String> stale = index.bandsNeedingNotes(Arrays.asList("Exodus", "Tyr", "Skiltron", "Gone", "New"), modDates);
+
+        assertEquals(Arrays.asList("Tyr", "New"), stale);
+        assertTrue(index.hasCurrentNote("Exodus", modDates));
+        assertTrue(index.hasCurrentNote("Gone", modDates));
+        assertTrue(index.hasCustomNote("Skiltron"));
+    }
+
+    @Test
+    public void removesNotesFromOlderDatesOnly() throws IOException {
+        touch("Exodus.note-2025-01-10");
+        touch("Exodus.note-2024-06-01");
+        touch("Exodus.note_new");
+        touch("Tyr.note-2024-12-01");
+        touch("Skiltron.note_cust");
+        touch("Gone.note_new");
+        touch("Other.note-2020-01-01");
+
+        NoteCacheIndex index = new NoteCacheIndex(dir);
+        int deleted = index.removeObsoleteNotes(modDates.keySet(), modDates);
+
+        assertEquals(3, deleted);
+        assertTrue(new File(dir, "Exodus.note-2025-01-10").exists());
+        assertFalse(new File(dir, "Exodus.note-2024-06-01").exists());
+        assertFalse(new File(dir, "Exodus.note_new").exists());
+        assertFalse(new File(dir, "Tyr.note-2024-12-01").exists());
+        // Custom notes, undated bands and bands not in the description map are left alone.
+        assertTrue(new File(dir, "Skiltron.note_cust").exists());
+        assertTrue(new File(dir, "Gone.note_new").exists());
+        assertTrue(new File(dir, "Other.note-2020-01-01").exists());
+        assertFalse(index.hasCurrentNote("Tyr", modDates));
+    }
+}
@@ -0,0 +1,84 @@
+package com.Bands70k;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * ParsedDataSnapshot: round trip, and rejection when the source or the device time zone changed.
+ */
+public class ParsedDataSnapshotTest {
+
+    private TimeZone originalZone;
+    private File dir;
+    private File source;
+    private File snapshot;
+
+    @Before
+    public void setUp() throws IOException {
+        originalZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+        dir = File.createTempFile("snapshot", "");
+        dir.delete();
+        dir.mkdirs();
+        source = new File(dir, "schedule.csv");
+        try (FileOutputStream out = new FileOutputStream(source)) {
+            out.write("Band,Date\nA,01/26/2027\n".getBytes("UTF-8"));
+        }
+        snapshot = new File(dir, "schedule.snapshot");
+    }
+
+    @After
+    public void tearDown() {
+        TimeZone.setDefault(originalZone);
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    @Test
+    public void roundTripsBody() throws IOException {
+        writeSnapshot("hash");
+        ParsedDataSnapshot.Reader reader = ParsedDataSnapshot.Reader.open(snapshot, source, "hash");
+        assertNotNull(reader);
+        assertEquals(1800997200000L, reader.readLong());
+        assertEquals("Pool", reader.readString());
+        assertEquals("Pool", reader.readString());
+        assertTrue(reader.isAtEnd());
+    }
+
+    @Test
+    public void rejectsChangedSourceHash() throws IOException {
+        writeSnapshot("hash");
+        assertNull(ParsedDataSnapshot.Reader.open(snapshot, source, "other"));
+    }
+
+    @Test
+    public void rejectsSnapshotFromAnotherTimeZone() throws IOException {
+        writeSnapshot("hash");
+        TimeZone.setDefault(TimeZone.getTimeZone("America/Los_Angeles"));
+        assertNull(ParsedDataSnapshot.Reader.open(snapshot, source, "hash"));
+    }
+
+    private void writeSnapshot(String hash) throws IOException {
+        ParsedDataSnapshot.Writer writer = new ParsedDataSnapshot.Writer();
+        writer.writeLong(1800997200000L);
+        writer.writeString("Pool");
+        writer.writeString("Pool");
+        assertTrue(writer.commit(snapshot, source, hash));
+    }
+}
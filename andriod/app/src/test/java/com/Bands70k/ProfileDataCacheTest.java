@@ -0,0 +1,45 @@
+package com.Bands70k;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Cached views of imported profiles: same answers as the old per-lookup file scan, and fresh after invalidation.
+ */
+public class ProfileDataCacheTest {
+
+    @Test
+    public void rankingsMatchTheLineScanAndReloadAfterInvalidate() throws Exception {
+        File root = Files.createTempDirectory("profiles").toFile();
+        File profileDir = new File(root, "sender1");
+        profileDir.mkdirs();
+        File rankings = new File(profileDir, ProfileDataCache.RANKINGS_FILE);
+        write(rankings, "Tyr:Must\nExhumed:Might\nTyr:Wont\nbroken line\nA:B:C\n");
+
+        ProfileDataCache.ProfileView view = ProfileDataCache.forProfile(root, "sender1");
+        assertEquals("Must", view.getRanking("Tyr"));
+        assertEquals("Might", view.getRanking("Exhumed"));
+        assertNull(view.getRanking("broken line"));
+        assertNull(view.getRanking("A"));
+        assertEquals("sawNone", view.getAttendance("Tyr:Rink:1300:Show:2027", "sawNone"));
+
+        write(rankings, "Tyr:Wont\n");
+        assertEquals("Must", ProfileDataCache.forProfile(root, "sender1").getRanking("Tyr"));
+        ProfileDataCache.invalidate("sender1");
+        assertEquals("Wont", ProfileDataCache.forProfile(root, "sender1").getRanking("Tyr"));
+        ProfileDataCache.invalidate("sender1");
+    }
+
+    private static void write(File file, String text) throws Exception {
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.Bands70k;
+
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Schedule date/time parser: parity with the original pattern list over the bundled 70K schedule files, the
+ * edge cases the scanner handles itself, and a timing report against the pattern list (printed, not asserted).
+ * MDF / MMF schedules are only downloaded at runtime (nothing is bundled in dataFiles), so only the 70K files
+ * are compared.
+ */
+public class ScheduleDateTimeParserTest {
+
+    /** 2027-01-26 13:00 in the default time zone, which the parser uses. */
+    private static final long JAN_26_2027_1300 = localMillis(2027, Calendar.JANUARY, 26, 13, 0);
+
+    @Test
+    public void parsesSlashAndIsoDates() {
+        ScheduleDateTimeParser parser = new ScheduleDateTimeParser();
+        assertEquals(JAN_26_2027_1300, parser.parse("01/26/2027", "13:00").getTime());
+        assertEquals(JAN_26_2027_1300, parser.parse("1/26/2027", "13:00").getTime());
+        assertEquals(JAN_26_2027_1300, parser.parse("2027-01-26", "13:00").getTime());
+        assertEquals(JAN_26_2027_1300, parser.parse(" 2027-1-26 ", "13:00:00").getTime());
+        assertEquals(JAN_26_2027_1300, parser.parse("01/26/2027", "1:00 PM").getTime());
+        assertEquals(0, parser.getFallbackCount());
+    }
+
+    @Test
+    public void twoDigitYearsAreThisCentury() {
+        Date parsed = new ScheduleDateTimeParser().parse("02/4/16", "17:15");
+        assertNotNull(parsed);
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTime(parsed);
+        assertEquals(2016, calendar.get(Calendar.YEAR));
+        assertEquals(Calendar.FEBRUARY, calendar.get(Calendar.MONTH));
+        assertEquals(4, calendar.get(Calendar.DAY_OF_MONTH));
+        assertEquals(17, calendar.get(Calendar.HOUR_OF_DAY));
+    }
+
+    @Test
+    public void rejectsInvalidValues() {
+        ScheduleDateTimeParser parser = new ScheduleDateTimeParser();
+        assertNull(parser.parse("", "13:00"));
+        assertNull(parser.parse("01/26/2027", " "));
+        assertNull(parser.parse(null, "13:00"));
+        assertNull(parser.parse("02/30/2027", "13:00"));
+        assertNull(parser.parse("01/26/2027", "100:00"));
+        assertNull(parser.parse("01/26/2027", "24:00"));
+        assertNull(parser.parse("TBD", "13:00"));
+    }
+
+    @Test
+    public void sharedParserFollowsTimeZoneChanges() {
+        TimeZone original = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+            long eastern = ScheduleDateTimeParser.parseShared("01/26/2027", "13:00").getTime();
+            TimeZone.setDefault(TimeZone.getTimeZone("America/Los_Angeles"));
+            long pacific = ScheduleDateTimeParser.parseShared("01/26/2027", "13:00").getTime();
+            assertEquals(3 * 60 * 60 * 1000L, pacific - eastern);
+        } finally {
+            TimeZone.setDefault(original);
+        }
+    }
+
+    @Test
+    public void matchesPatternListOnBundledSchedules() throws IOException {
+        List<String[]> rows = loadBundledScheduleRows();
+        assumeTrue("bundled schedule files not found", !rows.isEmpty());
+
+        ScheduleDateTimeParser parser = new ScheduleDateTimeParser();
+        int compared = 0;
+        for (String[] row : rows) {
+            if (hasTwoDigitYear(row[0])) {
+                // The pattern list reads these as year 16 AD ("M/d/yyyy" is tried before "M/d/yy").
+                continue;
+            }
+            for (int t = 1; t <= 2; t++) {
+                Date expected = ScheduleDateTimeParser.parseWithPatterns(row[0].trim(), row[t].trim());
+                Date actual = parser.parse(row[0], row[t]);
+                assertEquals(row[0] + " " + row[t], expected, actual);
+                compared++;
+            }
+        }
+        assertTrue(compared > 1000);
+    }
+
+    @Test
+    public void benchmarkAgainstPatternListOnBundledSchedules() throws IOException {
+        List<String[]> rows = loadBundledScheduleRows();
+        assumeTrue("bundled schedule files not found", !rows.isEmpty());
+
+        // Warm up both paths before timing.
+        parseAllWithPatterns(rows);
+        parseAllWithParser(rows);
+
+        long patternNanos = Long.MAX_VALUE;
+        long parserNanos = Long.MAX_VALUE;
+        for (int run = 0; run < 5; run++) {
+            long start = System.nanoTime();
+            parseAllWithPatterns(rows);
+            patternNanos = Math.min(patternNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            parseAllWithParser(rows);
+            parserNanos = Math.min(parserNanos, System.nanoTime() - start);
+        }
+        System.out.println(String.format("[DateParseBenchmark] rows=%d pattern list=%dus parser=%dus speedup=%.1fx",
+                rows.size(), patternNanos / 1000, parserNanos / 1000, patternNanos / (double) Math.max(1, parserNanos)));
+    }
+
+    private static void parseAllWithPatterns(List<String[]> rows) {
+        for (String[] row : rows) {
+            ScheduleDateTimeParser.parseWithPatterns(row[0].trim(), row[1].trim());
+            ScheduleDateTimeParser.parseWithPatterns(row[0].trim(), row[2].trim());
+        }
+    }
+
+    private static void parseAllWithParser(List<String[]> rows) {
+        // One parser per load, as scheduleInfo does.
+        ScheduleDateTimeParser parser = new ScheduleDateTimeParser();
+        for (String[] row : rows) {
+            parser.parse(row[0], row[1]);
+            parser.parse(row[0], row[2]);
+        }
+    }
+
+    private static long localMillis(int year, int month, int day, int hour, int minute) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(year, month, day, hour, minute);
+        return calendar.getTimeInMillis();
+    }
+
+    private static boolean hasTwoDigitYear(String date) {
+        String trimmed = date.trim();
+        int slash = trimmed.lastIndexOf('/');
+        return slash >= 0 && trimmed.length() - slash - 1 == 2;
+    }
+
+    /** (Date, Start Time, End Time) for every row of dataFiles/artistSchedule*.csv that has all three. */
+    private static List<String[]> loadBundledScheduleRows() throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        File dataDir = findDataFiles();
+        if (dataDir == null) {
+            return rows;
+        }
+        File[] files = dataDir.listFiles();
+        if (files == null) {
+            return rows;
+        }
+        for (File file : files) {
+            String name = file.getName();
+            if (!name.endsWith(".csv") || !name.contains("Schedule")) {
+                continue;
+            }
+            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+                String line = reader.readLine();
+                if (line == null) {
+                    continue;
+                }
+                List<String> header = ScheduleQRCompression.parseCSVLine(line.trim());
+                int dateIdx = header.indexOf("Date");
+                int startIdx = header.indexOf("Start Time");
+                int endIdx = header.indexOf("End Time");
+                if (dateIdx < 0 || startIdx < 0 || endIdx < 0) {
+                    continue;
+                }
+                while ((line = reader.readLine()) != null) {
+                    List<String> fields = ScheduleQRCompression.parseCSVLine(line.trim());
+                    if (fields.size() <= Math.max(dateIdx, Math.max(startIdx, endIdx))) {
+                        continue;
+                    }
+                    String date = fields.get(dateIdx);
+                    String start = fields.get(startIdx);
+                    String end = fields.get(endIdx);
+                    if (date.trim().isEmpty() || start.trim().isEmpty() || end.trim().isEmpty()) {
+                        continue;
+                    }
+                    rows.add(new String[]{date, start, end});
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static File findDataFiles() {
+        String[] candidates = {"../../dataFiles", "../dataFiles", "dataFiles"};
+        for (String candidate : candidates) {
+            File dir = new File(candidate);
+            if (dir.isDirectory()) {
+                return dir;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,116 @@
+package com.Bands70k;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * ScheduleEventIndex: slot order, interned id tables, per-band slot lookups and overnight expiry.
+ */
+public class ScheduleEventIndexTest {
+
+    private static final long HOUR = 3600000L;
+    private static final long DAY_ONE = 1800997200000L; // 2027-01-26 13:00 UTC
+
+    private static void add(Map<String, scheduleTimeTracker> records, String band, long start, long end,
+                            String venue, String type, String day) {
+        scheduleHandler handler = new scheduleHandler();
+        handler.setEpochTimes(start, end);
+        handler.setShowLocation(venue);
+        handler.setShowType(type);
+        handler.setShowDay(day);
+        scheduleTimeTracker tracker = records.get(band);
+        if (tracker == null) {
+            tracker = new scheduleTimeTracker();
+            records.put(band, tracker);
+        }
+        tracker.addToscheduleByTime(start, handler);
+    }
+
+    private static Map<String, scheduleTimeTracker> schedule() {
+        Map<String, scheduleTimeTracker> records = new HashMap<>();
+        add(records, "Tyr", DAY_ONE + 2 * HOUR, DAY_ONE + 3 * HOUR, "Pool", "Show", "Day 1");
+        add(records, "Tyr", DAY_ONE, DAY_ONE + HOUR, "Rink", "Show", "Day 1 ");
+        add(records, "Exhumed", DAY_ONE, DAY_ONE + HOUR, "Pool", "Show", "Day 1");
+        add(records, "alestorm", DAY_ONE + 24 * HOUR, DAY_ONE + 25 * HOUR, "Rink", "Meet and Greet", "Day 2");
+        // 23:30 to 00:30, written with the end on the start's date as the CSV does
+        add(records, "Exhumed", DAY_ONE + 10 * HOUR + HOUR / 2, DAY_ONE - 12 * HOUR - HOUR / 2, "Lounge",
+                "Unofficial Event", "Day 1");
+        return records;
+    }
+
+    @Test
+    public void slotsAreOrderedByStartThenBand() {
+        ScheduleEventIndex index = ScheduleEventIndex.build(schedule());
+        assertEquals(5, index.size);
+        String[] expectedBands = {"Exhumed", "Tyr", "Tyr", "Exhumed", "alestorm"};
+        for (int slot = 0; slot < index.size; slot++) {
+            assertEquals(expectedBands[slot], index.bandName(slot));
+            if (slot > 0) {
+                assertTrue(index.startEpoch[slot - 1] <= index.startEpoch[slot]);
+            }
+        }
+    }
+
+    @Test
+    public void repeatedStringsShareOneId() {
+        ScheduleEventIndex index = ScheduleEventIndex.build(schedule());
+        assertEquals(3, index.bandNames.length);
+        assertEquals(3, index.venueNames.length);
+        assertEquals(3, index.typeNames.length);
+        // "Day 1 " is trimmed, so it does not become a day of its own
+        assertEquals(2, index.dayNames.length);
+        assertEquals(index.dayId[0], index.dayId[1]);
+        assertEquals(index.venueId[0], index.venueId[2]);
+        assertSame(index.bandName(1), index.bandName(2));
+
+        int unofficial = index.size - 2;
+        assertEquals("Unofficial Event", index.eventType(unofficial));
+        assertTrue(index.isUnofficial(unofficial));
+        assertTrue(index.hasUnofficialEvents());
+        assertTrue(index.typeIsFilterableNonShow[index.typeId[index.size - 1]]);
+        assertFalse(index.typeIsFilterableNonShow[index.typeId[0]]);
+
+        // Case-insensitive alphabetical rank: alestorm, Exhumed, Tyr
+        assertEquals(0, index.bandAlphaRank[index.bandIdOf("alestorm")]);
+        assertEquals(1, index.bandAlphaRank[index.bandIdOf("Exhumed")]);
+        assertEquals(2, index.bandAlphaRank[index.bandIdOf("Tyr")]);
+    }
+
+    @Test
+    public void slotsForBandAndFindSlot() {
+        ScheduleEventIndex index = ScheduleEventIndex.build(schedule());
+        assertArrayEquals(new int[]{1, 2}, index.slotsForBand("Tyr"));
+        assertArrayEquals(new int[]{0, 3}, index.slotsForBand("Exhumed"));
+        assertEquals(0, index.slotsForBand("Unknown").length);
+        assertEquals(0, index.slotsForBand(null).length);
+
+        assertEquals(2, index.findSlot("Tyr", DAY_ONE + 2 * HOUR));
+        assertEquals(-1, index.findSlot("Tyr", DAY_ONE + HOUR));
+        assertEquals(-1, index.findSlot("Unknown", DAY_ONE));
+        assertEquals(-1, index.bandIdOf(null));
+    }
+
+    @Test
+    public void overnightEventsExpireTheNextDay() {
+        ScheduleEventIndex index = ScheduleEventIndex.build(schedule());
+        int overnight = index.size - 2;
+        long endNextDay = DAY_ONE + 11 * HOUR + HOUR / 2;
+        assertEquals(endNextDay + 600000L, index.expiryEpoch[overnight]);
+        assertTrue(index.isUpcoming(overnight, endNextDay));
+        assertFalse(index.isUpcoming(overnight, endNextDay + 600000L));
+    }
+
+    @Test
+    public void missingScheduleIsEmpty() {
+        assertTrue(ScheduleEventIndex.build(null).isEmpty());
+        assertTrue(ScheduleEventIndex.build(new HashMap<String, scheduleTimeTracker>()).isEmpty());
+    }
+}
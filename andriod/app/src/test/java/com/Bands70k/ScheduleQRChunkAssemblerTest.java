@@ -0,0 +1,140 @@
+package com.Bands70k;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Type 6 multi-code schedule QRs: any scan order, repeats, codes from another share, misread codes and
+ * streaming inflate.
+ */
+public class ScheduleQRChunkAssemblerTest {
+
+    private static final List<String> VENUES = Arrays.asList("Rink", "Pool", "Theater", "Lounge");
+
+    @Test
+    public void largeScheduleReassemblesFromShuffledCodes() throws Exception {
+        List<String> bands = bands();
+        String csv = largeSchedule(bands, 3000);
+        try {
+            ScheduleQRCompression.compressScheduleForOneOrTwoQRs(csv, 2027, bands, VENUES);
+            fail("expected the schedule not to fit two codes");
+        } catch (IOException expected) {
+            assertTrue(expected.getMessage().contains("too large"));
+        }
+
+        List<byte[]> payloads = ScheduleQRCompression.compressScheduleForQRs(csv, 2027, bands, VENUES);
+        assertTrue(payloads.size() > 2);
+        for (byte[] payload : payloads) {
+            assertEquals(ScheduleQRCompression.SCHEDULE_QR_TYPE_MULTI_CHUNK, payload[0]);
+            assertTrue(payload.length <= 2953);
+        }
+
+        List<byte[]> shuffled = new ArrayList<>(payloads);
+        Collections.shuffle(shuffled, new Random(7));
+        shuffled.add(shuffled.get(0));
+        String restored = ScheduleQRCompression.decompressAndMergePayloads(shuffled, 2027, bands, VENUES);
+
+        byte[] single = ScheduleQRCompression.compressPackedScheduleForQRData(csv, bands, VENUES);
+        assertEquals(ScheduleQRCompression.decompressPackedScheduleFromQR(single, true, bands, VENUES), restored);
+        assertEquals(3001, restored.split("\n").length);
+    }
+
+    @Test
+    public void reportsMissingCodesAndRestartsOnAnotherShare() throws Exception {
+        List<String> bands = bands();
+        byte[] dictionary = ScheduleQRCompression.packedDictionary(bands, VENUES);
+        List<byte[]> first = ScheduleQRCompression.compressScheduleForQRs(largeSchedule(bands, 3000), 2027, bands, VENUES);
+        List<byte[]> other = ScheduleQRCompression.compressScheduleForQRs(largeSchedule(bands, 2500), 2027, bands, VENUES);
+
+        ScheduleQRChunkAssembler assembler = new ScheduleQRChunkAssembler(dictionary);
+        assertEquals(ScheduleQRChunkAssembler.AddResult.ADDED, assembler.add(first.get(2)));
+        assertEquals(ScheduleQRChunkAssembler.AddResult.DUPLICATE, assembler.add(first.get(2)));
+        assertEquals(first.size() - 1, assembler.missingChunks().size());
+        assertFalse(assembler.missingChunks().contains(3));
+
+        assertEquals(ScheduleQRChunkAssembler.AddResult.NEW_SET, assembler.add(other.get(0)));
+        assertEquals(1, assembler.receivedCount());
+        assertEquals(other.size(), assembler.totalCount());
+        for (int i = other.size() - 1; i > 0; i--) {
+            assembler.add(other.get(i));
+        }
+        assertTrue(assembler.isComplete());
+        assertNull(assembler.streamFailure());
+        assertNotNull(ScheduleQRCompression.decompressAssembledSchedule(assembler, bands, VENUES));
+    }
+
+    @Test
+    public void misreadCodeIsRejectedAndCanBeRescanned() throws Exception {
+        List<String> bands = bands();
+        List<byte[]> payloads = ScheduleQRCompression.compressScheduleForQRs(largeSchedule(bands, 3000), 2027, bands, VENUES);
+        byte[] good = payloads.get(1);
+        byte[] truncated = Arrays.copyOf(good, good.length - 40);
+        byte[] flipped = good.clone();
+        flipped[good.length / 2] ^= 0x10;
+
+        assertTrue(ScheduleQRCompression.isScheduleQRBinaryPayloadIncomplete(truncated));
+        assertFalse(ScheduleQRCompression.isScheduleQRBinaryPayloadIncomplete(good));
+
+        ScheduleQRChunkAssembler assembler = new ScheduleQRChunkAssembler(ScheduleQRCompression.packedDictionary(bands, VENUES));
+        assertEquals(ScheduleQRChunkAssembler.AddResult.INVALID, assembler.add(truncated));
+        assertEquals(ScheduleQRChunkAssembler.AddResult.INVALID, assembler.add(flipped));
+        assertEquals(ScheduleQRChunkAssembler.AddResult.ADDED, assembler.add(good));
+        for (byte[] payload : payloads) {
+            assembler.add(payload);
+        }
+        assertTrue(assembler.isComplete());
+        assertNotNull(ScheduleQRCompression.decompressAssembledSchedule(assembler, bands, VENUES));
+    }
+
+    @Test
+    public void differentBandListFailsOnTheFirstCode() throws Exception {
+        List<String> bands = bands();
+        List<byte[]> payloads = ScheduleQRCompression.compressScheduleForQRs(largeSchedule(bands, 3000), 2027, bands, VENUES);
+
+        List<String> otherBands = new ArrayList<>(bands);
+        otherBands.remove(0);
+        ScheduleQRChunkAssembler assembler = new ScheduleQRChunkAssembler(
+                ScheduleQRCompression.packedDictionary(otherBands, VENUES));
+        assembler.add(payloads.get(0));
+
+        assertNotNull(assembler.streamFailure());
+        assertTrue(assembler.streamFailure().getMessage().contains("band list"));
+    }
+
+    private static List<String> bands() {
+        List<String> bands = new ArrayList<>();
+        for (int i = 0; i < 120; i++) bands.add("Band " + i);
+        return bands;
+    }
+
+    /** Random notes keep the stream from compressing away, so it needs several codes. */
+    private static String largeSchedule(List<String> bands, int events) {
+        Random random = new Random(events);
+        StringBuilder csv = new StringBuilder("Band,Location,Date,Day,Start Time,End Time,Type,Description URL,Notes,ImageURL\n");
+        for (int i = 0; i < events; i++) {
+            int day = i / 600;
+            int minute = (i % 96) * 15;
+            StringBuilder notes = new StringBuilder();
+            for (int c = 0; c < 6; c++) notes.append((char) ('a' + random.nextInt(26)));
+            csv.append(bands.get(random.nextInt(bands.size()))).append(',').append(VENUES.get(i % VENUES.size()))
+                    .append(",02/0").append(1 + day).append("/2027,Day ").append(day + 1).append(',')
+                    .append(String.format("%02d:%02d", minute / 60, minute % 60)).append(',')
+                    .append(String.format("%02d:%02d", (minute / 60 + 1) % 24, minute % 60)).append(",Show,,")
+                    .append(notes).append(",\n");
+        }
+        return csv.toString();
+    }
+}
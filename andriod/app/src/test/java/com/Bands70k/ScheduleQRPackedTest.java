@@ -0,0 +1,171 @@
+package com.Bands70k;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeNotNull;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Packed schedule QR payloads (types 3-5): same decoded CSV as types 0-2, vocabulary mismatch detection, and
+ * a bytes-per-event comparison over the bundled schedules in dataFiles.
+ */
+public class ScheduleQRPackedTest {
+
+    private static final List<String> BANDS = Arrays.asList("Absolute Darkness", "Exhumed", "Tyr");
+    private static final List<String> VENUES = Arrays.asList("Rink", "Pool", "Theater", "Ale & Anchor Pub");
+
+    private static final String CSV = ""
+            + "Band,Location,Date,Day,Start Time,End Time,Type,Description URL,Notes,ImageURL\n"
+            + "Absolute Darkness,Rink,01/26/2027,Day 1,13:00,13:45,Show,,,\n"
+            + "exhumed,Pool,2027-01-27,2,23:30,00:15,Meet and Greet,,Bring a \"sharpie\",\n"
+            + "Skipper's Thank You,Deck 11,01/28/2027,1/28,09:05,10:00,Special Event,,,\n"
+            + "Tyr,Theater,TBD,Day 3,,,Show,,,\n"
+            + "Tyr,Rink,01/25/2027,Day 0,18:00,,Clinic,,Drums, bass,\n";
+
+    @Test
+    public void packedDecodesToTheSameCsvAsLegacy() throws Exception {
+        assertEquals(legacyRoundTrip(CSV, BANDS, VENUES), packedRoundTrip(CSV, BANDS, VENUES));
+    }
+
+    @Test
+    public void differentBandListIsRejected() throws Exception {
+        byte[] body = ScheduleQRCompression.compressPackedScheduleForQRData(CSV, BANDS, VENUES);
+        try {
+            ScheduleQRCompression.decompressPackedScheduleFromQR(body, true, Arrays.asList("Exhumed", "Tyr"), VENUES);
+            fail("expected the vocabulary mismatch to be detected");
+        } catch (IOException expected) {
+            assertTrue(expected.getMessage().contains("band list"));
+        }
+    }
+
+    @Test
+    public void scheduleTooLargeForTwoLegacyQRsFallsBackToPacked() throws Exception {
+        List<String> bands = new ArrayList<>();
+        for (int i = 0; i < 90; i++) bands.add("Band Number " + i);
+        StringBuilder csv = new StringBuilder("Band,Location,Date,Day,Start Time,End Time,Type,Description URL,Notes,ImageURL\n");
+        for (int i = 0; i < 1400; i++) {
+            int day = i / 280;
+            int minute = 10 * 60 + (i % 280) * 15;
+            csv.append(bands.get((i * 37) % bands.size())).append(',').append(VENUES.get(i % VENUES.size()))
+                    .append(",01/").append(25 + day).append("/2027,Day ").append(day + 1).append(',')
+                    .append(String.format("%02d:%02d", (minute / 60) % 24, minute % 60)).append(',')
+                    .append(String.format("%02d:%02d", (minute / 60 + 1) % 24, minute % 60)).append(",Show,,,\n");
+        }
+
+        List<byte[]> payloads = ScheduleQRCompression.compressScheduleForOneOrTwoQRs(csv.toString(), 2027, bands, VENUES);
+
+        assertTrue(payloads.get(0)[0] == ScheduleQRCompression.SCHEDULE_QR_TYPE_PACKED_FULL
+                || payloads.get(0)[0] == ScheduleQRCompression.SCHEDULE_QR_TYPE_PACKED_CHUNK1);
+        for (byte[] payload : payloads) assertTrue(payload.length <= 2953);
+        String restored = ScheduleQRCompression.decompressAndMergeOneOrTwoPayloads(payloads, 2027, bands, VENUES);
+        assertEquals(1401, restored.split("\n").length);
+        assertTrue(restored.contains("Band Number 37,Pool,01/25/2027,Day 1,10:15,11:15,Show"));
+    }
+
+    @Test
+    public void bundledSchedulesBytesPerEvent() throws Exception {
+        File dataFiles = findDataFiles();
+        assumeNotNull(dataFiles);
+        File[] schedules = dataFiles.listFiles((dir, name) -> name.matches("artists?Schedule_?\\d{4}\\.csv"));
+        assumeTrue("no bundled schedule files", schedules != null && schedules.length > 0);
+        Arrays.sort(schedules);
+        for (File schedule : schedules) {
+            String csv = new String(Files.readAllBytes(schedule.toPath()), StandardCharsets.UTF_8).replace("\r", "");
+            List<String> lines = nonEmptyDataLines(csv);
+            if (lines.size() < 2) continue;
+            List<String> bands = bandVocabulary(dataFiles, schedule.getName(), lines);
+            List<String> venues = firstColumnValues(lines, 1);
+
+            int legacy = ScheduleQRCompression.compressScheduleForQRData(csv, 0, bands, venues).length + 1;
+            int packed = ScheduleQRCompression.compressPackedScheduleForQRData(csv, bands, venues).length + 1;
+            System.out.println(String.format("[QRBenchmark] %-26s events=%3d legacy=%5dB %5.2fB/event packed=%5dB %5.2fB/event",
+                    schedule.getName(), lines.size(), legacy, legacy / (double) lines.size(),
+                    packed, packed / (double) lines.size()));
+
+            assertEquals(schedule.getName(), legacyRoundTrip(csv, bands, venues), packedRoundTrip(csv, bands, venues));
+            assertTrue(schedule.getName(), packed < legacy);
+        }
+    }
+
+    private static String legacyRoundTrip(String csv, List<String> bands, List<String> venues) throws IOException {
+        byte[] body = ScheduleQRCompression.compressScheduleForQRData(csv, 2027, bands, venues);
+        return ScheduleQRCompression.decompressAndMergeOneOrTwoPayloads(
+                wrap(ScheduleQRCompression.SCHEDULE_QR_TYPE_FULL, body), 2027, bands, venues);
+    }
+
+    private static String packedRoundTrip(String csv, List<String> bands, List<String> venues) throws IOException {
+        byte[] body = ScheduleQRCompression.compressPackedScheduleForQRData(csv, bands, venues);
+        return ScheduleQRCompression.decompressAndMergeOneOrTwoPayloads(
+                wrap(ScheduleQRCompression.SCHEDULE_QR_TYPE_PACKED_FULL, body), 2027, bands, venues);
+    }
+
+    private static List<byte[]> wrap(byte type, byte[] body) {
+        byte[] payload = new byte[body.length + 1];
+        payload[0] = type;
+        System.arraycopy(body, 0, payload, 1, body.length);
+        List<byte[]> payloads = new ArrayList<>();
+        payloads.add(payload);
+        return payloads;
+    }
+
+    private static File findDataFiles() {
+        for (String candidate : new String[]{"../../dataFiles", "../dataFiles", "dataFiles"}) {
+            File dir = new File(candidate);
+            if (dir.isDirectory()) return dir;
+        }
+        return null;
+    }
+
+    private static List<String> nonEmptyDataLines(String csv) {
+        List<String> lines = new ArrayList<>();
+        for (String line : csv.split("\n")) {
+            if (!line.trim().isEmpty() && !line.toLowerCase().startsWith("band,")) lines.add(line.trim());
+        }
+        return lines;
+    }
+
+    /** The year's lineup file when bundled (what the app uses), else the schedule's own band column. */
+    private static List<String> bandVocabulary(File dataFiles, String scheduleName, List<String> lines) throws IOException {
+        Matcher year = Pattern.compile("(\\d{4})").matcher(scheduleName);
+        if (year.find()) {
+            for (String name : new String[]{"artistLineup_" + year.group(1) + ".csv", "artistLineup" + year.group(1) + ".csv"}) {
+                File lineup = new File(dataFiles, name);
+                if (lineup.isFile()) {
+                    String text = new String(Files.readAllBytes(lineup.toPath()), StandardCharsets.UTF_8).replace("\r", "");
+                    List<String> bands = new ArrayList<>();
+                    for (String line : text.split("\n")) {
+                        if (line.trim().isEmpty() || line.startsWith("bandName")) continue;
+                        bands.add(ScheduleQRCompression.parseCSVLine(line).get(0).trim());
+                    }
+                    if (!bands.isEmpty()) return bands;
+                }
+            }
+        }
+        return firstColumnValues(lines, 0);
+    }
+
+    /** Distinct values of one column in first-seen order, capped at the 99 two-digit codes of types 0-2. */
+    private static List<String> firstColumnValues(List<String> lines, int column) {
+        Set<String> values = new LinkedHashSet<>();
+        for (String line : lines) {
+            List<String> fields = ScheduleQRCompression.parseCSVLine(line);
+            if (fields.size() > column && values.size() < 99) values.add(fields.get(column).trim());
+        }
+        return new ArrayList<>(values);
+    }
+}
@@ -0,0 +1,174 @@
+package com.Bands70k;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * TranslationCache and TranslationBatch: paragraph reuse across bands and edits, the in-flight bound,
+ * cancellation, LRU eviction and the on-disk round trip.
+ */
+public class TranslationCacheTest {
+
+    private File file;
+
+    /** Answers on demand so tests can observe how many requests are outstanding. */
+    private static class FakeEngine implements TranslationBatch.Engine {
+        final List<String> sent = new ArrayList<>();
+        final List<TranslationBatch.ParagraphCallback> pending = new ArrayList<>();
+        final List<String> pendingSources = new ArrayList<>();
+        int maxOutstanding;
+
+        @Override
+        public void translate(String paragraph, TranslationBatch.ParagraphCallback callback) {
+            sent.add(paragraph);
+            pending.add(callback);
+            pendingSources.add(paragraph);
+            maxOutstanding = Math.max(maxOutstanding, pending.size());
+        }
+
+        void answerAll() {
+            while (!pending.isEmpty()) {
+                TranslationBatch.ParagraphCallback callback = pending.remove(0);
+                String source = pendingSources.remove(0);
+                callback.onParagraphTranslated(source.startsWith("FAIL") ? null : "de:" + source);
+            }
+        }
+    }
+
+    private static class RecordingListener implements TranslationBatch.Listener {
+        final Map<String, List<String>> bands = new HashMap<>();
+        int lastCompleted;
+        int finishedCalls;
+        boolean cancelled;
+
+        @Override
+        public void onBandTranslated(String bandName, List<String> translatedParagraphs, int failures) {
+            bands.put(bandName, translatedParagraphs);
+        }
+
+        @Override
+        public void onProgress(int completedBands, int totalBands) {
+            lastCompleted = completedBands;
+        }
+
+        @Override
+        public void onFinished(boolean wasCancelled) {
+            finishedCalls++;
+            cancelled = wasCancelled;
+        }
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        file = File.createTempFile("paragraphs_de", ".cache");
+        file.delete();
+    }
+
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Test
+    public void sharedAndEditedParagraphsAreTranslatedOnce() {
+        TranslationCache cache = new TranslationCache(file, TranslationCache.MAX_CHARS);
+        FakeEngine engine = new FakeEngine();
+        RecordingListener listener = new RecordingListener();
+        TranslationBatch batch = new TranslationBatch(cache, engine, 2, null, listener);
+        batch.add("Exodus", Arrays.asList("Thrash from the Bay Area.", "Playing the Pool Deck."));
+        batch.add("Tyr", Arrays.asList("Folk metal from the Faroe Islands.", "Playing the Pool Deck."));
+        batch.start();
+        assertEquals(2, engine.maxOutstanding);
+        engine.answerAll();
+
+        assertEquals(3, engine.sent.size());
+        assertEquals(Arrays.asList("de:Thrash from the Bay Area.", "de:Playing the Pool Deck."), listener.bands.get("Exodus"));
+        assertEquals(Arrays.asList("de:Folk metal from the Faroe Islands.", "de:Playing the Pool Deck."), listener.bands.get("Tyr"));
+        assertEquals(2, listener.lastCompleted);
+        assertEquals(1, listener.finishedCalls);
+        assertFalse(listener.cancelled);
+
+        // A tweak to one paragraph only sends that paragraph.
+        FakeEngine second = new FakeEngine();
+        RecordingListener secondListener = new RecordingListener();
+        TranslationBatch edited = new TranslationBatch(cache, second, 2, null, secondListener);
+        edited.add("Exodus", Arrays.asList("Thrash from the Bay Area.", "Playing the Theater."));
+        edited.start();
+        second.answerAll();
+        assertEquals(Arrays.asList("Playing the Theater."), second.sent);
+        assertEquals(Arrays.asList("de:Thrash from the Bay Area.", "de:Playing the Theater."), secondListener.bands.get("Exodus"));
+    }
+
+    @Test
+    public void failuresStayInEnglishAndAreRetriedNextTime() {
+        TranslationCache cache = new TranslationCache(file, TranslationCache.MAX_CHARS);
+        FakeEngine engine = new FakeEngine();
+        RecordingListener listener = new RecordingListener();
+        TranslationBatch batch = new TranslationBatch(cache, engine, 4, null, listener);
+        batch.add("Skiltron", Arrays.asList("FAIL once", "Bagpipes."));
+        batch.start();
+        engine.answerAll();
+
+        assertEquals(Arrays.asList("FAIL once", "de:Bagpipes."), listener.bands.get("Skiltron"));
+        assertNull(cache.get(TranslationCache.keyFor("FAIL once")));
+    }
+
+    @Test
+    public void cancellationStopsNewRequestsAndStillFinishes() {
+        TranslationCache cache = new TranslationCache(file, TranslationCache.MAX_CHARS);
+        FakeEngine engine = new FakeEngine();
+        RecordingListener listener = new RecordingListener();
+        final boolean[] background = {true};
+        TranslationBatch batch = new TranslationBatch(cache, engine, 2, () -> background[0], listener);
+        for (int i = 0; i < 10; i++) {
+            batch.add("Band " + i, Arrays.asList("Paragraph " + i));
+        }
+        batch.start();
+        assertEquals(2, engine.sent.size());
+
+        background[0] = false;
+        engine.answerAll();
+
+        assertEquals(2, engine.sent.size());
+        assertEquals(2, listener.bands.size());
+        assertEquals(1, listener.finishedCalls);
+        assertTrue(listener.cancelled);
+        assertEquals("de:Paragraph 0", cache.get(TranslationCache.keyFor("Paragraph 0")));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedAndSurvivesRestart() {
+        TranslationCache cache = new TranslationCache(file, 30);
+        cache.put(TranslationCache.keyFor("one"), "0123456789");
+        cache.put(TranslationCache.keyFor("two"), "0123456789");
+        cache.get(TranslationCache.keyFor("one"));
+        cache.put(TranslationCache.keyFor("three"), "0123456789");
+        cache.put(TranslationCache.keyFor("four"), "0123456789");
+
+        assertEquals(3, cache.size());
+        assertNull(cache.get(TranslationCache.keyFor("two")));
+        cache.flush();
+
+        TranslationCache reloaded = new TranslationCache(file, 30);
+        assertEquals(3, reloaded.size());
+        assertEquals("0123456789", reloaded.get(TranslationCache.keyFor("  one  ")));
+        // "three" is now the eldest after reading "one", so it goes first.
+        reloaded.put(TranslationCache.keyFor("five"), "0123456789");
+        assertNull(reloaded.get(TranslationCache.keyFor("three")));
+        assertEquals("0123456789", reloaded.get(TranslationCache.keyFor("four")));
+    }
+}